@@ -0,0 +1,99 @@
+package com.flasharena.order.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flasharena.global.event.OrderEventCodec;
+import com.flasharena.global.event.OrderEventMessage;
+import com.flasharena.global.event.OrderEventType;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 구매 트랜잭션 안에서 도는 아웃박스 payload 인코딩: {@link OrderEventCodec#encode}(v1 바이너리) 와
+ * V10 이전의 Map → JSON 직렬화 비교, 그리고 릴레이어가 XADD 직전에 하는 {@link OrderEventCodec#toStreamFields}.
+ * 트랜잭션이 커넥션을 쥔 채 수행하는 CPU 구간이라, 이 시간이 늘면 커넥션 점유 시간도 그대로 는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class OutboxPayloadBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UUID runId;
+    private UUID orderId;
+    private UUID userId;
+    private UUID productId;
+    private UUID eventId;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        runId = UUID.randomUUID();
+        orderId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        productId = UUID.randomUUID();
+        eventId = UUID.randomUUID();
+        encoded = binary();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] binary_1() {
+        return binary();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public byte[] binary_64() {
+        return binary();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String json_1() throws JsonProcessingException {
+        return json();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String json_64() throws JsonProcessingException {
+        return json();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Map<byte[], byte[]> streamFields_1() {
+        return OrderEventCodec.toStreamFields(eventId, encoded);
+    }
+
+    private byte[] binary() {
+        return OrderEventCodec.encode(new OrderEventMessage(OrderEventType.ORDER_COMPLETED, orderId, runId,
+                userId, productId, 1, 129_000L, Instant.now()));
+    }
+
+    /** V10 이전 OrderProcessor 의 payload 직렬화와 같은 모양. */
+    private String json() throws JsonProcessingException {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", orderId.toString());
+        payload.put("runId", runId.toString());
+        payload.put("userId", userId.toString());
+        payload.put("productId", productId.toString());
+        payload.put("quantity", 1);
+        payload.put("amount", 129_000L);
+        payload.put("occurredAt", OffsetDateTime.now().toString());
+        return objectMapper.writeValueAsString(payload);
+    }
+}
@@ -0,0 +1,113 @@
+package com.flasharena.order.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 구매 전략의 JVM 내부 구간 — 재고 게이트와 적응형 제한기 — 를 1~64 스레드 경합으로 잰다.
+ * <ul>
+ *   <li>decrementGate — REDIS_COUNTER/REDIS_HOLD 의 DECR 게이트를 JVM 안으로 옮긴 형태. 음수로 내려가도 막지 않는다
+ *       (Redis DECR 과 같은 의미: 잔여 &lt; 0 이면 낙첨).</li>
+ *   <li>casGate — 0 아래로 내려가지 않는 CAS 루프. 경합이 심할수록 재시도 비용이 decrementGate 와 벌어진다.</li>
+ *   <li>limiter — {@link AdaptiveConcurrencyLimiter#execute} 의 점유/반납 + RTT 표본 반영(빈 작업 기준).</li>
+ * </ul>
+ * 재고는 반복마다 충분히 크게 채워 "매진 후 읽기만 하는" 구간이 섞이지 않게 한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PurchaseGateBenchmark {
+
+    private static final long STOCK = Long.MAX_VALUE / 2;
+
+    private final AtomicLong decrementStock = new AtomicLong();
+    private final AtomicLong casStock = new AtomicLong();
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Setup(Level.Iteration)
+    public void refill() {
+        decrementStock.set(STOCK);
+        casStock.set(STOCK);
+        // 하한을 최대 스레드 수보다 크게 둬 거절 경로가 아니라 점유/반납 경로를 잰다.
+        limiter = new AdaptiveConcurrencyLimiter(128, 128, 256, 1.5, 0.2, 600, 0.9);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean decrementGate_1() {
+        return decrement();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean decrementGate_8() {
+        return decrement();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean decrementGate_64() {
+        return decrement();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean casGate_1() {
+        return cas();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean casGate_8() {
+        return cas();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean casGate_64() {
+        return cas();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Boolean limiter_1() {
+        return limiter.execute(() -> Boolean.TRUE);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Boolean limiter_8() {
+        return limiter.execute(() -> Boolean.TRUE);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Boolean limiter_64() {
+        return limiter.execute(() -> Boolean.TRUE);
+    }
+
+    private boolean decrement() {
+        return decrementStock.decrementAndGet() >= 0;
+    }
+
+    private boolean cas() {
+        while (true) {
+            long current = casStock.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (casStock.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.flasharena.order.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 시뮬레이터 SSE 로그 한 줄의 경로: 샘플 라인 포맷(String.format) → {@code event: log} 프레임 조립,
+ * 그리고 워커들이 동시에 적재하는 {@link SimulationLogRegistry#append}(버퍼 + 허브 push, 구독자 없음).
+ * 적재는 워커 스레드에서 일어나므로 경합 버전(64 스레드)을 같이 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SseLineBenchmark {
+
+    private final AtomicInteger seq = new AtomicInteger();
+    private SimulationLogRegistry registry;
+
+    @Setup
+    public void setUp() {
+        registry = new SimulationLogRegistry(new SimulationStreamHub(new ObjectMapper()));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Set<ResponseBodyEmitter.DataWithMediaType> formatLogEvent() {
+        String line = String.format("✅ 구매 성공 seq=%d", seq.incrementAndGet());
+        return SseEmitter.event().name("log").data(line).build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void appendLine_1() {
+        registry.append("bench", String.format("✅ 구매 성공 seq=%d", seq.incrementAndGet()));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void appendLine_8() {
+        registry.append("bench", String.format("✅ 구매 성공 seq=%d", seq.incrementAndGet()));
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void appendLine_64() {
+        registry.append("bench", String.format("✅ 구매 성공 seq=%d", seq.incrementAndGet()));
+    }
+}
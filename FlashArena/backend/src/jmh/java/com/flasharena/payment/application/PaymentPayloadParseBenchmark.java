@@ -0,0 +1,87 @@
+package com.flasharena.payment.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flasharena.global.event.OrderEventCodec;
+import com.flasharena.global.event.OrderEventMessage;
+import com.flasharena.global.event.OrderEventType;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * {@link PaymentConsumer#decode} — 스트림 메시지 1건당 한 번 도는 payload 해석.
+ * 바이너리 엔트리(고정 오프셋 디코드)와 V10 이전 JSON 엔트리(readTree)를 같은 내용으로 비교한다.
+ * 리포지토리/발행기/데드레터는 쓰지 않으므로 null 로 둔다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PaymentPayloadParseBenchmark {
+
+    private static final String PAYLOAD = """
+            {"orderId":"0192f0a3-5c1e-7a10-8b2f-3c4d5e6f7a8b",\
+            "runId":"0192f0a3-4b00-7000-9a1b-2c3d4e5f6a7b",\
+            "userId":"6f1c2b3a-4d5e-4f60-8a7b-9c0d1e2f3a4b",\
+            "productId":"1a2b3c4d-5e6f-4a7b-8c9d-0e1f2a3b4c5d",\
+            "quantity":1,"amount":129000,"occurredAt":"2026-10-19T12:00:00.123456+09:00"}""";
+
+    private PaymentConsumer consumer;
+    private Map<String, byte[]> jsonFields;
+    private Map<String, byte[]> binaryFields;
+
+    @Setup
+    public void setUp() {
+        consumer = new PaymentConsumer(null, null, null, new ObjectMapper());
+
+        jsonFields = new LinkedHashMap<>();
+        jsonFields.put("eventType", "ORDER_COMPLETED".getBytes(StandardCharsets.UTF_8));
+        jsonFields.put("payload", PAYLOAD.getBytes(StandardCharsets.UTF_8));
+
+        OrderEventMessage message = new OrderEventMessage(OrderEventType.ORDER_COMPLETED,
+                UUID.fromString("0192f0a3-5c1e-7a10-8b2f-3c4d5e6f7a8b"),
+                UUID.fromString("0192f0a3-4b00-7000-9a1b-2c3d4e5f6a7b"),
+                UUID.fromString("6f1c2b3a-4d5e-4f60-8a7b-9c0d1e2f3a4b"),
+                UUID.fromString("1a2b3c4d-5e6f-4a7b-8c9d-0e1f2a3b4c5d"),
+                1, 129_000L, Instant.parse("2026-10-19T03:00:00.123456Z"));
+        // 리스너 컨테이너가 넘기는 모양(필드 이름 String, 값 byte[])으로 맞춘다.
+        binaryFields = new LinkedHashMap<>();
+        OrderEventCodec.toStreamFields(UUID.randomUUID(), OrderEventCodec.encode(message))
+                .forEach((name, value) -> binaryFields.put(new String(name, StandardCharsets.US_ASCII), value));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PaymentConsumer.ParsedPayload json_1() throws JsonProcessingException {
+        return consumer.decode(jsonFields);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public PaymentConsumer.ParsedPayload json_64() throws JsonProcessingException {
+        return consumer.decode(jsonFields);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PaymentConsumer.ParsedPayload binary_1() throws JsonProcessingException {
+        return consumer.decode(binaryFields);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public PaymentConsumer.ParsedPayload binary_64() throws JsonProcessingException {
+        return consumer.decode(binaryFields);
+    }
+}
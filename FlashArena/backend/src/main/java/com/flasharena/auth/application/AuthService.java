@@ -5,6 +5,8 @@ import com.flasharena.auth.infrastructure.UserRepository;
 import com.flasharena.auth.presentation.dto.LoginRequest;
 import com.flasharena.auth.presentation.dto.LoginResponse;
 import com.flasharena.global.jwt.JwtProvider;
+import com.flasharena.global.jwt.VerifiedTokenCache;
+import java.util.UUID;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,11 +17,14 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache tokenCache;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtProvider jwtProvider) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtProvider jwtProvider,
+            VerifiedTokenCache tokenCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtProvider = jwtProvider;
+        this.tokenCache = tokenCache;
     }
 
     /** username 조회 → BCrypt 매칭 → JWT 발급. 실패 시 InvalidCredentialsException(401). */
@@ -37,6 +42,16 @@ public class AuthService {
                 jwtProvider.getExpirationSeconds());
     }
 
+    /** 로그아웃 — 토큰을 만료 시각까지 폐기 목록에 올린다 (이 인스턴스 기준). */
+    public void logout(String token) {
+        tokenCache.revoke(token);
+    }
+
+    /** 전체 로그아웃 — 이 사용자에게 지금까지 발급된 토큰을 모두 폐기한다 (이 인스턴스 기준). */
+    public void logoutAll(UUID userId) {
+        tokenCache.revokeUser(userId);
+    }
+
     /** 인증 실패 예외. 핸들러에서 401 로 매핑. */
     public static class InvalidCredentialsException extends RuntimeException {
         public InvalidCredentialsException(String message) {
@@ -6,9 +6,12 @@ import com.flasharena.auth.presentation.dto.LoginResponse;
 import com.flasharena.auth.presentation.dto.MeResponse;
 import com.flasharena.global.context.UserContext;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,6 +31,20 @@ public class AuthController {
         return authService.login(request);
     }
 
+    /** 로그아웃 — 보호 경로라 인터셉터가 이미 토큰을 검증했다. 이후 같은 토큰은 401. */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        authService.logout(authorization.substring("Bearer ".length()).trim());
+        return ResponseEntity.noContent().build();
+    }
+
+    /** 전체 로그아웃 — 다른 기기/탭에서 받은 토큰까지 이 시각 이전 발급분을 모두 401 로 만든다. */
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll() {
+        authService.logoutAll(UserContext.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+
     /** 보호 프로브 — 유효한 Bearer 토큰이 있어야만 도달. UserContext 에서 사용자 정보를 읽는다. */
     @GetMapping("/me")
     public MeResponse me() {
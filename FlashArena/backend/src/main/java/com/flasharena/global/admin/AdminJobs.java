@@ -0,0 +1,153 @@
+package com.flasharena.global.admin;
+
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 일괄 작업(DLQ 재큐잉/스트림 리플레이 등) 실행기. 요청은 즉시 jobId 를 받고, 진행률은 조회 API 로 본다.
+ * <p>작업은 단일 스레드에서 하나씩 돈다 — 여러 작업이 겹쳐 DB/Redis 에 몰리지 않게 하는 것 자체가 속도 제어의 일부.
+ * 종료된 작업 기록은 최근 {@value #MAX_FINISHED} 개만 남긴다.
+ */
+@Component
+public class AdminJobs {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminJobs.class);
+
+    private static final int MAX_FINISHED = 50;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "admin-job");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    /** 작업 본문. 처리 건수를 {@link Progress#add} 로 보고하고, 배치 사이마다 {@link Progress#cancelled()} 를 확인한다. */
+    @FunctionalInterface
+    public interface Work {
+        void run(Progress progress) throws Exception;
+    }
+
+    /** 작업 진행 상태 (작업 스레드가 쓰고 조회 스레드가 읽는다). */
+    public static final class Progress {
+        private final AtomicLong processed = new AtomicLong();
+        private volatile boolean cancelled;
+
+        public void add(long count) {
+            processed.addAndGet(count);
+        }
+
+        public boolean cancelled() {
+            return cancelled;
+        }
+
+        /** 취소되지 않았으면 millis 만큼 쉰다. 인터럽트/취소면 false. */
+        public boolean pause(long millis) {
+            if (cancelled) {
+                return false;
+            }
+            if (millis <= 0) {
+                return true;
+            }
+            try {
+                Thread.sleep(millis);
+                return !cancelled;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /** 조회 응답. state = QUEUED | RUNNING | DONE | CANCELLED | FAILED. */
+    public record Snapshot(String jobId, String kind, String state, long processed, String error,
+                           OffsetDateTime submittedAt, OffsetDateTime finishedAt) {
+    }
+
+    public Snapshot submit(String kind, Work work) {
+        evictFinished();
+        Job job = new Job(UUID.randomUUID().toString(), kind);
+        jobs.put(job.id, job);
+        executor.submit(() -> execute(job, work));
+        return job.snapshot();
+    }
+
+    /** @return 작업 상태. 없거나 기록에서 밀려났으면 null */
+    public Snapshot get(String jobId) {
+        Job job = jobs.get(jobId);
+        return job == null ? null : job.snapshot();
+    }
+
+    /** 취소 요청. 작업은 현재 배치를 마친 뒤 멈춘다. @return 작업이 있으면 true */
+    public boolean cancel(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            return false;
+        }
+        job.progress.cancelled = true;
+        return true;
+    }
+
+    private void execute(Job job, Work work) {
+        if (job.progress.cancelled) {
+            job.finish("CANCELLED", null);
+            return;
+        }
+        job.state = "RUNNING";
+        try {
+            work.run(job.progress);
+            job.finish(job.progress.cancelled ? "CANCELLED" : "DONE", null);
+            log.info("[admin-job {}] {} 종료: {}건", job.id, job.kind, job.progress.processed.get());
+        } catch (Exception e) {
+            job.finish("FAILED", e.getMessage());
+            log.warn("[admin-job {}] {} 실패 ({}건 처리 후): {}", job.id, job.kind, job.progress.processed.get(),
+                    e.getMessage());
+        }
+    }
+
+    private void evictFinished() {
+        long finished = jobs.values().stream().filter(job -> job.finishedAt != null).count();
+        Iterator<Job> it = jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted((a, b) -> a.finishedAt.compareTo(b.finishedAt))
+                .iterator();
+        while (finished >= MAX_FINISHED && it.hasNext()) {
+            jobs.remove(it.next().id);
+            finished--;
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final String kind;
+        private final OffsetDateTime submittedAt = OffsetDateTime.now();
+        private final Progress progress = new Progress();
+        private volatile String state = "QUEUED";
+        private volatile String error;
+        private volatile OffsetDateTime finishedAt;
+
+        private Job(String id, String kind) {
+            this.id = id;
+            this.kind = kind;
+        }
+
+        private void finish(String state, String error) {
+            this.error = error;
+            this.state = state;
+            this.finishedAt = OffsetDateTime.now();
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(id, kind, state, progress.processed.get(), error, submittedAt, finishedAt);
+        }
+    }
+}
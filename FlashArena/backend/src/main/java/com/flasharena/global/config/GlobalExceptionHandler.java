@@ -2,6 +2,7 @@ package com.flasharena.global.config;
 
 import com.flasharena.auth.application.AuthService;
 import com.flasharena.global.jwt.JwtProvider;
+import com.flasharena.order.application.PurchaseService;
 import java.util.Map;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -9,7 +10,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-/** 검증 오류(400) / 인증 오류(401) 를 깔끔한 JSON 으로 변환. */
+/** 검증 오류(400) / 인증 오류(401) / 대상 없음(404) 을 깔끔한 JSON 으로 변환. */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -28,4 +29,10 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of("error", "UNAUTHORIZED", "message", e.getMessage()));
     }
+
+    @ExceptionHandler(PurchaseService.ProductNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "NOT_FOUND", "message", e.getMessage()));
+    }
 }
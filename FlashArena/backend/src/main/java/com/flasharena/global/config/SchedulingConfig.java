@@ -4,7 +4,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
- * @Scheduled 활성화. OutboxRelayer 가 주기적으로 READY 이벤트를 Redis Stream 으로 발행하기 위함.
+ * @Scheduled 활성화. OutboxRelayer 가 주기적으로 READY 이벤트를 Redis Stream 으로 발행하기 위함 (보존 정리/선점 스위퍼도 여기서 돈다).
  */
 @Configuration
 @EnableScheduling
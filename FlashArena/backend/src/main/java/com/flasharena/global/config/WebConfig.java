@@ -1,5 +1,6 @@
 package com.flasharena.global.config;
 
+import com.flasharena.global.security.AdminInterceptor;
 import com.flasharena.global.security.AuthInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -9,18 +10,21 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * 인가 인터셉터 등록 + CORS 설정.
- * /api/** 를 보호하되 로그인/헬스 경로는 제외한다.
+ * /api/** 를 보호하되 로그인/헬스 경로는 제외한다. /api/admin/** 는 인증 뒤 관리자 role 까지 확인한다.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     private final AuthInterceptor authInterceptor;
+    private final AdminInterceptor adminInterceptor;
     /** 허용 origin 패턴(콤마 구분). 기본은 개발용 localhost, 배포 시 CORS_ALLOWED_ORIGINS 로 override. */
     private final String[] allowedOriginPatterns;
 
     public WebConfig(AuthInterceptor authInterceptor,
+            AdminInterceptor adminInterceptor,
             @Value("${app.cors.allowed-origin-patterns}") String[] allowedOriginPatterns) {
         this.authInterceptor = authInterceptor;
+        this.adminInterceptor = adminInterceptor;
         this.allowedOriginPatterns = allowedOriginPatterns;
     }
 
@@ -28,8 +32,13 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(authInterceptor)
                 .addPathPatterns("/api/**")
-                // /simulator/stream/** 은 EventSource 라 Bearer 헤더를 못 보낸다 → ?token 쿼리로 컨트롤러에서 직접 검증.
-                .excludePathPatterns("/api/auth/login", "/api/simulator/stream/**", "/actuator/**", "/health");
+                // SSE 경로(/simulator/stream/**, /orders/purchase/*/stream)는 EventSource 라 Bearer 헤더를 못 보낸다
+                // → ?token 쿼리로 컨트롤러에서 직접 검증.
+                .excludePathPatterns("/api/auth/login", "/api/simulator/stream/**", "/api/orders/purchase/*/stream",
+                        "/actuator/**", "/health");
+        // 등록 순서대로 실행된다 — 인증(UserContext 채움) 다음에 관리자 role 확인.
+        registry.addInterceptor(adminInterceptor)
+                .addPathPatterns("/api/admin/**");
     }
 
     @Override
@@ -0,0 +1,208 @@
+package com.flasharena.global.event;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문 이벤트의 버전 있는 고정 길이 바이너리 코덱 (생산자 order / 소비자 payment 공용, 상태 없음·스레드 안전).
+ * <p>아웃박스 {@code payload_bin} 레이아웃 v1 (빅엔디언, 86바이트 — 같은 내용의 JSON 은 약 300바이트):
+ * <pre>
+ *  off  len  field
+ *    0    1  version (=1)
+ *    1    1  type    ({@link OrderEventType#code()})
+ *    2   16  orderId
+ *   18   16  runId
+ *   34   16  userId
+ *   50   16  productId
+ *   66    4  quantity
+ *   70    8  amount
+ *   78    8  occurredAt (epoch µs)
+ * </pre>
+ * 스트림에는 이 블롭을 그대로 싣지 않고 필드별 XADD 엔트리 필드로 나눠 싣는다({@link #toStreamFields}).
+ * 필드 구성이 항상 같아 Redis 가 필드 이름을 스트림 마스터 엔트리와 공유하므로 엔트리당 값 바이트만 남는다.
+ * 블롭 → 스트림 필드 변환은 오프셋 복사뿐이라 릴레이어는 payload 를 해석하지 않는다.
+ * <p>버전 규칙: 레이아웃을 바꿀 땐 version 을 올리고, 소비자는 아는 버전만 디코드한다(모르는 버전 = 형식 불량).
+ * JSON 은 디버깅용({@link #toDebugJson})으로만 남는다.
+ */
+public final class OrderEventCodec {
+
+    public static final byte VERSION = 1;
+    public static final int ENCODED_LENGTH = 86;
+
+    // 스트림 엔트리 필드 이름. 짧게 둔다 (마스터 엔트리와 필드 구성이 다를 때는 엔트리마다 이름이 실린다).
+    public static final String F_VERSION = "v";
+    public static final String F_TYPE = "t";
+    public static final String F_EVENT_ID = "id";
+    public static final String F_ORDER_ID = "o";
+    public static final String F_RUN_ID = "r";
+    public static final String F_USER_ID = "u";
+    public static final String F_PRODUCT_ID = "p";
+    public static final String F_QUANTITY = "q";
+    public static final String F_AMOUNT = "a";
+    public static final String F_OCCURRED_AT = "ts";
+
+    // XADD 때마다 이름 바이트를 새로 만들지 않도록 미리 인코딩해 둔다 (읽기 전용으로만 쓴다).
+    private static final byte[] N_VERSION = name(F_VERSION);
+    private static final byte[] N_TYPE = name(F_TYPE);
+    private static final byte[] N_EVENT_ID = name(F_EVENT_ID);
+    private static final byte[] N_ORDER_ID = name(F_ORDER_ID);
+    private static final byte[] N_RUN_ID = name(F_RUN_ID);
+    private static final byte[] N_USER_ID = name(F_USER_ID);
+    private static final byte[] N_PRODUCT_ID = name(F_PRODUCT_ID);
+    private static final byte[] N_QUANTITY = name(F_QUANTITY);
+    private static final byte[] N_AMOUNT = name(F_AMOUNT);
+    private static final byte[] N_OCCURRED_AT = name(F_OCCURRED_AT);
+
+    private static final int OFF_TYPE = 1;
+    private static final int OFF_ORDER_ID = 2;
+    private static final int OFF_RUN_ID = 18;
+    private static final int OFF_USER_ID = 34;
+    private static final int OFF_PRODUCT_ID = 50;
+    private static final int OFF_QUANTITY = 66;
+    private static final int OFF_AMOUNT = 70;
+    private static final int OFF_OCCURRED_AT = 78;
+
+    private OrderEventCodec() {
+    }
+
+    /** 메시지 → v1 블롭 (아웃박스 payload_bin). */
+    public static byte[] encode(OrderEventMessage message) {
+        ByteBuffer buf = ByteBuffer.allocate(ENCODED_LENGTH);
+        buf.put(VERSION);
+        buf.put(message.type().code());
+        putUuid(buf, message.orderId());
+        putUuid(buf, message.runId());
+        putUuid(buf, message.userId());
+        putUuid(buf, message.productId());
+        buf.putInt(message.quantity());
+        buf.putLong(message.amount());
+        buf.putLong(toEpochMicros(message.occurredAt()));
+        return buf.array();
+    }
+
+    /**
+     * v1 블롭 → 메시지.
+     *
+     * @throws IllegalArgumentException 길이/버전/이벤트 코드가 맞지 않는 경우
+     */
+    public static OrderEventMessage decode(byte[] encoded) {
+        if (encoded == null || encoded.length != ENCODED_LENGTH || encoded[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 인코딩 (len="
+                    + (encoded == null ? -1 : encoded.length) + ")");
+        }
+        ByteBuffer buf = ByteBuffer.wrap(encoded);
+        return new OrderEventMessage(
+                OrderEventType.fromCode(buf.get(OFF_TYPE)),
+                getUuid(buf, OFF_ORDER_ID),
+                getUuid(buf, OFF_RUN_ID),
+                getUuid(buf, OFF_USER_ID),
+                getUuid(buf, OFF_PRODUCT_ID),
+                buf.getInt(OFF_QUANTITY),
+                buf.getLong(OFF_AMOUNT),
+                fromEpochMicros(buf.getLong(OFF_OCCURRED_AT)));
+    }
+
+    /**
+     * v1 블롭 + 아웃박스 이벤트 id → XADD 엔트리 필드 (바이너리 값). 해석 없이 오프셋 구간만 잘라 담는다.
+     *
+     * @throws IllegalArgumentException 블롭이 v1 이 아닌 경우
+     */
+    public static Map<byte[], byte[]> toStreamFields(UUID eventId, byte[] encoded) {
+        if (encoded == null || encoded.length != ENCODED_LENGTH || encoded[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 인코딩");
+        }
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(N_VERSION, new byte[] {VERSION});
+        fields.put(N_TYPE, new byte[] {encoded[OFF_TYPE]});
+        fields.put(N_EVENT_ID, uuidBytes(eventId));
+        fields.put(N_ORDER_ID, Arrays.copyOfRange(encoded, OFF_ORDER_ID, OFF_RUN_ID));
+        fields.put(N_RUN_ID, Arrays.copyOfRange(encoded, OFF_RUN_ID, OFF_USER_ID));
+        fields.put(N_USER_ID, Arrays.copyOfRange(encoded, OFF_USER_ID, OFF_PRODUCT_ID));
+        fields.put(N_PRODUCT_ID, Arrays.copyOfRange(encoded, OFF_PRODUCT_ID, OFF_QUANTITY));
+        fields.put(N_QUANTITY, Arrays.copyOfRange(encoded, OFF_QUANTITY, OFF_AMOUNT));
+        fields.put(N_AMOUNT, Arrays.copyOfRange(encoded, OFF_AMOUNT, OFF_OCCURRED_AT));
+        fields.put(N_OCCURRED_AT, Arrays.copyOfRange(encoded, OFF_OCCURRED_AT, ENCODED_LENGTH));
+        return fields;
+    }
+
+    /** 바이너리 엔트리인지 (버전 필드 유무). 아니면 V10 이전의 JSON payload 엔트리다. */
+    public static boolean isBinary(Map<String, byte[]> fields) {
+        return fields.containsKey(F_VERSION);
+    }
+
+    /**
+     * XADD 엔트리 필드 → 메시지.
+     *
+     * @throws IllegalArgumentException 버전이 다르거나 필드가 빠졌거나 길이가 맞지 않는 경우
+     */
+    public static OrderEventMessage fromStreamFields(Map<String, byte[]> fields) {
+        byte[] version = fields.get(F_VERSION);
+        if (version == null || version.length != 1 || version[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 버전");
+        }
+        return new OrderEventMessage(
+                OrderEventType.fromCode(required(fields, F_TYPE, 1)[0]),
+                getUuid(ByteBuffer.wrap(required(fields, F_ORDER_ID, 16)), 0),
+                getUuid(ByteBuffer.wrap(required(fields, F_RUN_ID, 16)), 0),
+                getUuid(ByteBuffer.wrap(required(fields, F_USER_ID, 16)), 0),
+                getUuid(ByteBuffer.wrap(required(fields, F_PRODUCT_ID, 16)), 0),
+                ByteBuffer.wrap(required(fields, F_QUANTITY, 4)).getInt(),
+                ByteBuffer.wrap(required(fields, F_AMOUNT, 8)).getLong(),
+                fromEpochMicros(ByteBuffer.wrap(required(fields, F_OCCURRED_AT, 8)).getLong()));
+    }
+
+    /** 사람이 읽는 JSON (디버깅/관리 화면용). 핫패스에서는 쓰지 않는다. */
+    public static String toDebugJson(OrderEventMessage message) {
+        return "{\"v\":" + VERSION
+                + ",\"eventType\":\"" + message.type().name()
+                + "\",\"orderId\":\"" + message.orderId()
+                + "\",\"runId\":\"" + message.runId()
+                + "\",\"userId\":\"" + message.userId()
+                + "\",\"productId\":\"" + message.productId()
+                + "\",\"quantity\":" + message.quantity()
+                + ",\"amount\":" + message.amount()
+                + ",\"occurredAt\":\"" + message.occurredAt() + "\"}";
+    }
+
+    public static byte[] uuidBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static byte[] required(Map<String, byte[]> fields, String name, int length) {
+        byte[] value = fields.get(name);
+        if (value == null || value.length != length) {
+            throw new IllegalArgumentException("필드 누락/길이 불일치: " + name);
+        }
+        return value;
+    }
+
+    private static byte[] name(String field) {
+        return field.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static void putUuid(ByteBuffer buf, UUID uuid) {
+        buf.putLong(uuid.getMostSignificantBits());
+        buf.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buf, int offset) {
+        return new UUID(buf.getLong(offset), buf.getLong(offset + 8));
+    }
+
+    private static long toEpochMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromEpochMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,19 @@
+package com.flasharena.global.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 주문 이벤트 스트림 메시지 (ORDER_COMPLETED / ORDER_HELD). 생산자(order)와 소비자(payment)가 공유하는 스키마.
+ * 와이어 형식은 {@link OrderEventCodec} 가 정한다.
+ */
+public record OrderEventMessage(
+        OrderEventType type,
+        UUID orderId,
+        UUID runId,
+        UUID userId,
+        UUID productId,
+        int quantity,
+        long amount,
+        Instant occurredAt) {
+}
@@ -0,0 +1,32 @@
+package com.flasharena.global.event;
+
+/**
+ * 주문 이벤트 스트림의 이벤트 종류. 바이너리 인코딩에서는 이름 대신 1바이트 코드로 실린다.
+ * ⚠️ 코드는 한 번 배포되면 바꾸지 않는다 (스트림/아웃박스에 남은 메시지가 옛 코드로 읽힌다). 새 종류는 새 코드로만 추가.
+ */
+public enum OrderEventType {
+
+    /** 주문 성공 → 결제. */
+    ORDER_COMPLETED((byte) 1),
+    /** 재고 선점(REDIS_HOLD) → 결제 요청, 결제 후 PAYMENT_COMPLETED 로 확정. */
+    ORDER_HELD((byte) 2);
+
+    private final byte code;
+
+    OrderEventType(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static OrderEventType fromCode(byte code) {
+        for (OrderEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 이벤트 코드: " + code);
+    }
+}
@@ -0,0 +1,17 @@
+package com.flasharena.global.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 id 를 애플리케이션에서 {@link UuidV7} 로 채우게 하는 Hibernate 식별자 생성 애노테이션.
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)}(랜덤 v4) 대신 {@code @Id} 필드에 붙인다.
+ */
+@IdGeneratorType(UuidV7IdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7Id {
+}
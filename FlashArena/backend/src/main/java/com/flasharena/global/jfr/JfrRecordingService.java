@@ -0,0 +1,83 @@
+package com.flasharena.global.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * runId 범위 JFR 녹화 관리자. 관리자 API 가 run 단위로 녹화를 켜고 끈 뒤 .jfr 파일을 받아 간다.
+ * <p>녹화 설정은 JDK 기본 프로파일({@code default}, 상시 운영용 저오버헤드) + FlashArena 커스텀 이벤트.
+ * 녹화가 켜져 있는 동안 커스텀 이벤트는 {@link JfrScope} 로 해당 runId 것만 커밋된다.
+ * 잊힌 녹화가 디스크/RAM 을 잡아먹지 않도록 최대 녹화 시간을 두고, 지나면 JFR 이 스스로 멈춘다(덤프는 가능).
+ */
+@Component
+public class JfrRecordingService {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingService.class);
+
+    private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+    private final Duration maxDuration;
+
+    public JfrRecordingService(@Value("${app.jfr.max-duration:10m}") Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * runId 녹화 시작.
+     *
+     * @return 새로 시작했으면 true, 이미 녹화 중이면 false
+     */
+    public boolean start(String runId) throws IOException, ParseException {
+        Recording recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName("flasharena-run-" + runId);
+        recording.setDuration(maxDuration);
+        recording.setToDisk(true);
+        recording.enable(PurchaseAttemptEvent.class);
+        recording.enable(LockEvent.class);
+        recording.enable(OutboxRelayEvent.class);
+        recording.enable(PaymentHandleEvent.class);
+        if (recordings.putIfAbsent(runId, recording) != null) {
+            recording.close();
+            return false;
+        }
+        JfrScope.activate(runId);
+        recording.start();
+        log.info("[jfr {}] 녹화 시작 (최대 {})", runId, maxDuration);
+        return true;
+    }
+
+    /**
+     * runId 녹화를 멈추고 임시 .jfr 파일로 덤프한다. 파일 삭제는 호출부 책임.
+     *
+     * @return 덤프 파일. 해당 runId 녹화가 없으면 null
+     */
+    public Path stop(String runId) throws IOException {
+        Recording recording = recordings.remove(runId);
+        if (recording == null) {
+            return null;
+        }
+        JfrScope.deactivate(runId);
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile("flasharena-run-" + runId + "-", ".jfr");
+            recording.dump(file);
+            log.info("[jfr {}] 녹화 종료 → {} ({} bytes)", runId, file, Files.size(file));
+            return file;
+        } finally {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.flasharena.global.jfr;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * runId 범위 녹화 필터. 이벤트는 {@code shouldCommit()} 이 참일 때(=어떤 녹화든 켜져 있을 때)만 여기를 묻는다.
+ * <ul>
+ *   <li>run 범위 녹화가 하나도 없으면 모두 통과 — JVM 전역 녹화(-XX:StartFlightRecording 등)는 모든 이벤트를 받는다.</li>
+ *   <li>run 범위 녹화가 있으면 그 runId 의 이벤트와 run 에 묶이지 않는 이벤트(runId null: 릴레이 배치 등)만 통과.</li>
+ * </ul>
+ * 이벤트가 꺼져 있을 때는 호출되지 않으므로 핫패스 비용에 들어가지 않는다.
+ */
+public final class JfrScope {
+
+    private static final Set<String> ACTIVE_RUNS = ConcurrentHashMap.newKeySet();
+
+    private JfrScope() {
+    }
+
+    static void activate(String runId) {
+        ACTIVE_RUNS.add(runId);
+    }
+
+    static void deactivate(String runId) {
+        ACTIVE_RUNS.remove(runId);
+    }
+
+    /** 이 runId 의 이벤트를 커밋해야 하는지. */
+    public static boolean covers(String runId) {
+        return runId == null || ACTIVE_RUNS.isEmpty() || ACTIVE_RUNS.contains(runId);
+    }
+}
@@ -0,0 +1,59 @@
+package com.flasharena.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** REDIS_LOCK 분산 락 1회: 획득 대기 + 보유 시간. 이벤트 구간 = tryLock 시작 ~ unlock. */
+@Name("flasharena.DistributedLock")
+@Label("Distributed Lock")
+@Category({"FlashArena", "Simulator"})
+@Description("Redisson 분산 락 대기/보유")
+@StackTrace(false)
+public class LockEvent extends Event {
+
+    @Label("Run Id")
+    String runId;
+
+    @Label("Lock Key")
+    String lockKey;
+
+    @Label("Acquired")
+    boolean acquired;
+
+    @Label("Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long waitNanos;
+
+    @Label("Hold")
+    @Timespan(Timespan.NANOSECONDS)
+    long holdNanos;
+
+    /** 이벤트가 켜져 있을 때만 현재 시각, 아니면 0. */
+    public long mark() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 구간을 닫고, 녹화 중이며 run 범위에 들면 커밋한다.
+     * 대기 시작 시점에 녹화가 꺼져 있었으면(waitStart == 0) 시간을 나눌 수 없으므로 버린다.
+     *
+     * @param waitStart  tryLock 직전 {@link #mark()}
+     * @param acquiredAt tryLock 직후 {@link #mark()}
+     */
+    public void finish(String runId, String lockKey, boolean acquired, long waitStart, long acquiredAt) {
+        end();
+        if (waitStart != 0L && shouldCommit() && JfrScope.covers(runId)) {
+            this.runId = runId;
+            this.lockKey = lockKey;
+            this.acquired = acquired;
+            this.waitNanos = acquiredAt - waitStart;
+            this.holdNanos = acquired ? System.nanoTime() - acquiredAt : 0L;
+            commit();
+        }
+    }
+}
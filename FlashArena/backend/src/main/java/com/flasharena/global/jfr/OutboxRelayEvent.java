@@ -0,0 +1,36 @@
+package com.flasharena.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 아웃박스 릴레이 1틱(비어 있지 않은 배치만). 이벤트 구간 = 잠금 조회 ~ 마킹 완료(커밋 전). run 에 묶이지 않는다. */
+@Name("flasharena.OutboxRelay")
+@Label("Outbox Relay Batch")
+@Category({"FlashArena", "Messaging"})
+@Description("READY 아웃박스 배치 XADD 발행")
+@StackTrace(false)
+public class OutboxRelayEvent extends Event {
+
+    @Label("Batch Size")
+    int batchSize;
+
+    @Label("Published")
+    int published;
+
+    @Label("Failed")
+    int failed;
+
+    public void finish(int batchSize, int published, int failed) {
+        end();
+        if (shouldCommit()) {
+            this.batchSize = batchSize;
+            this.published = published;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.flasharena.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 결제 소비자의 메시지 1건 처리 (트랜잭션 본문). runId 는 payload 에서 읽은 값. */
+@Name("flasharena.PaymentHandle")
+@Label("Payment Handle")
+@Category({"FlashArena", "Messaging"})
+@Description("스트림 메시지 1건 멱등 결제 처리")
+@StackTrace(false)
+public class PaymentHandleEvent extends Event {
+
+    @Label("Run Id")
+    String runId;
+
+    @Label("Order Id")
+    String orderId;
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Outcome")
+    @Description("PAID / DUPLICATE / MALFORMED / ERROR")
+    String outcome;
+
+    public void finish(String runId, String orderId, String eventType, String outcome) {
+        end();
+        if (shouldCommit() && JfrScope.covers(runId)) {
+            this.runId = runId;
+            this.orderId = orderId;
+            this.eventType = eventType;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
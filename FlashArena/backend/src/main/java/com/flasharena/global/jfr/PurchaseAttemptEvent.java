@@ -0,0 +1,92 @@
+package com.flasharena.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 시뮬레이터 워커의 구매 시도 1건. 이벤트 구간 = 시도 전체, 단계별 시간은 필드로 나눠 담는다.
+ * 단계 시간은 {@link #isEnabled()} 일 때만 재므로(호출부 책임) 녹화가 없으면 System.nanoTime() 조차 부르지 않는다.
+ */
+@Name("flasharena.PurchaseAttempt")
+@Label("Purchase Attempt")
+@Category({"FlashArena", "Simulator"})
+@Description("시뮬레이터 구매 시도 1건 (모드, 결과, 단계별 소요)")
+@StackTrace(false)
+public class PurchaseAttemptEvent extends Event {
+
+    @Label("Run Id")
+    String runId;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Sequence")
+    int seq;
+
+    @Label("Outcome")
+    @Description("SUCCESS / FAIL / REJECTED / ERROR")
+    String outcome;
+
+    @Label("Gate")
+    @Description("Redis DECR 게이트 (REDIS_COUNTER / REDIS_HOLD)")
+    @Timespan(Timespan.NANOSECONDS)
+    long gateNanos;
+
+    @Label("Lock Wait")
+    @Description("분산 락 획득 대기 (REDIS_LOCK)")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockWaitNanos;
+
+    @Label("Transaction")
+    @Description("OrderProcessor REQUIRES_NEW 트랜잭션")
+    @Timespan(Timespan.NANOSECONDS)
+    long transactionNanos;
+
+    @Label("Hold Registration")
+    @Description("커밋 후 Redis 선점 등록 (REDIS_HOLD)")
+    @Timespan(Timespan.NANOSECONDS)
+    long holdNanos;
+
+    public void gate(long nanos) {
+        gateNanos = nanos;
+    }
+
+    public void lockWait(long nanos) {
+        lockWaitNanos = nanos;
+    }
+
+    public void transaction(long nanos) {
+        transactionNanos = nanos;
+    }
+
+    public void hold(long nanos) {
+        holdNanos = nanos;
+    }
+
+    /** 구간을 닫고, 녹화 중이며 run 범위에 들면 커밋한다. */
+    public void finish(String runId, String mode, int seq, String outcome) {
+        end();
+        if (shouldCommit() && JfrScope.covers(runId)) {
+            this.runId = runId;
+            this.mode = mode;
+            this.seq = seq;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+    /** 이벤트가 켜져 있을 때만 현재 시각, 아니면 0 (단계 측정 생략). */
+    public long mark() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /** {@link #mark()} 이후 경과 시간. 측정을 생략했으면 0. */
+    public long since(long mark) {
+        return mark == 0L ? 0L : System.nanoTime() - mark;
+    }
+}
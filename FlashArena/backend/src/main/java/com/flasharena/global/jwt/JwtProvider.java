@@ -5,6 +5,7 @@ import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
 import javax.crypto.SecretKey;
@@ -47,6 +48,14 @@ public class JwtProvider {
 
     /** 토큰 검증 후 userId/role 추출. 유효하지 않거나 만료 시 InvalidTokenException. */
     public AuthPayload parse(String token) {
+        return verify(token).payload();
+    }
+
+    /**
+     * 서명·issuer·만료를 검증하고 iat/exp 까지 돌려준다 ({@link VerifiedTokenCache} 가 exp 까지 결과를 캐시하는 데 쓴다).
+     * 매 호출마다 파서 생성 + HMAC 검증 + 클레임 파싱을 하므로 요청 경로에서는 캐시를 거친다.
+     */
+    public VerifiedToken verify(String token) {
         try {
             Claims claims = Jwts.parser()
                     .verifyWith(key)
@@ -56,7 +65,9 @@ public class JwtProvider {
                     .getPayload();
             UUID userId = UUID.fromString(claims.getSubject());
             String role = claims.get(CLAIM_ROLE, String.class);
-            return new AuthPayload(userId, role);
+            Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+            Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+            return new VerifiedToken(new AuthPayload(userId, role), issuedAt, expiresAt);
         } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException("유효하지 않거나 만료된 토큰입니다.", e);
         }
@@ -70,10 +81,18 @@ public class JwtProvider {
     public record AuthPayload(UUID userId, String role) {
     }
 
+    /** 검증된 토큰: 인증 주체 + 발급/만료 시각 (이 서비스가 발급한 토큰엔 항상 있지만 클레임이 없으면 null). */
+    public record VerifiedToken(AuthPayload payload, Instant issuedAt, Instant expiresAt) {
+    }
+
     /** 토큰 검증 실패 시 던지는 예외. */
     public static class InvalidTokenException extends RuntimeException {
         public InvalidTokenException(String message, Throwable cause) {
             super(message, cause);
         }
+
+        public InvalidTokenException(String message) {
+            super(message);
+        }
     }
 }
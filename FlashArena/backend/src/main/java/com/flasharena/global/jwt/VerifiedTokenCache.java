@@ -0,0 +1,132 @@
+package com.flasharena.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 JWT 캐시. 대시보드 폴링/SSE 재연결처럼 같은 토큰이 반복해서 오는 경로가 매번 파서 생성 + HMAC 검증 +
+ * 클레임 파싱을 하지 않도록, 검증 결과를 토큰의 exp 까지만 들고 있는다.
+ * <p>키는 토큰 원문이 아니라 SHA-256 해시 — 메모리 덤프에 토큰이 그대로 남지 않게 한다.
+ * 검증 실패는 캐시하지 않는다 (위조 토큰을 대량으로 보내 캐시를 밀어내는 공격을 막기 위함).
+ * <p>폐기 훅: {@link #revoke} 는 토큰 하나를(로그아웃), {@link #revokeUser} 는 그 시각 이전에 발급된 사용자 토큰
+ * 전부를(전체 로그아웃) 막는다. 폐기 목록은 개수가 아니라 만료로만 줄어든다 — 크기 상한으로 밀려나면 폐기된 토큰이
+ * 다시 통과하기 때문. 서명 검증을 통과한 토큰만 올라가므로 위조 토큰으로 부풀릴 수는 없다.
+ * 폐기 상태는 이 인스턴스 메모리에만 있다 (JWT 자체가 무상태라 다른 인스턴스에는 만료 전까지 유효).
+ * <p>지표: {@code cache.gets{cache=verified-jwt,result=hit|miss}} 등 (Caffeine 통계).
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtProvider jwtProvider;
+    private final Duration maxTtl;
+    private final Cache<String, JwtProvider.VerifiedToken> verified;
+    private final Duration tokenLifetime;
+    private final Cache<String, Instant> revoked;
+    private final Cache<UUID, Instant> revokedUsers;
+
+    public VerifiedTokenCache(JwtProvider jwtProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.jwt.cache.max-size:10000}") long maxSize,
+            @Value("${app.jwt.cache.max-ttl:1h}") Duration maxTtl) {
+        this.jwtProvider = jwtProvider;
+        this.maxTtl = maxTtl;
+        this.tokenLifetime = Duration.ofSeconds(jwtProvider.getExpirationSeconds());
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String hash, JwtProvider.VerifiedToken token) -> untilOrMax(token.expiresAt())))
+                .recordStats()
+                .build();
+        // 폐기 목록은 토큰 자신의 exp 까지 (max-ttl 상한 없음) — 그 뒤엔 서명 검증이 어차피 거절한다.
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(Expiry.creating((String hash, Instant expiresAt) -> until(expiresAt)))
+                .build();
+        // 사용자 단위 컷오프는 그 이전에 발급된 토큰이 모두 만료될 때까지, 즉 토큰 수명만큼만 필요하다.
+        this.revokedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(tokenLifetime)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "verified-jwt");
+    }
+
+    /**
+     * 토큰 검증 (캐시 우선). 유효하지 않거나 만료/폐기된 토큰이면 {@link JwtProvider.InvalidTokenException}.
+     */
+    public JwtProvider.AuthPayload verify(String token) {
+        String hash = hash(token);
+        if (revoked.getIfPresent(hash) != null) {
+            throw new JwtProvider.InvalidTokenException("폐기된 토큰입니다.");
+        }
+        JwtProvider.VerifiedToken result = verified.get(hash, h -> jwtProvider.verify(token));
+        if (result.expiresAt() != null && !Instant.now().isBefore(result.expiresAt())) {
+            // Expiry 가 exp 에 맞춰 지우지만, 경계 시점 조회를 위해 한 번 더 확인한다.
+            verified.invalidate(hash);
+            throw new JwtProvider.InvalidTokenException("유효하지 않거나 만료된 토큰입니다.");
+        }
+        Instant userCutoff = revokedUsers.getIfPresent(result.payload().userId());
+        if (userCutoff != null && (result.issuedAt() == null || !result.issuedAt().isAfter(userCutoff))) {
+            throw new JwtProvider.InvalidTokenException("폐기된 토큰입니다.");
+        }
+        return result.payload();
+    }
+
+    /** 토큰 하나 폐기 (로그아웃 등). 형식이 깨진 토큰이면 아무것도 하지 않는다. */
+    public void revoke(String token) {
+        String hash = hash(token);
+        JwtProvider.VerifiedToken result = verified.getIfPresent(hash);
+        if (result == null) {
+            try {
+                result = jwtProvider.verify(token);
+            } catch (JwtProvider.InvalidTokenException e) {
+                return;
+            }
+        }
+        revoked.put(hash, result.expiresAt() != null ? result.expiresAt() : Instant.now().plus(tokenLifetime));
+        verified.invalidate(hash);
+    }
+
+    /**
+     * 사용자의 지금까지 발급된 토큰을 모두 폐기 (권한 변경/계정 잠금 등).
+     * iat 는 초 단위라 폐기 직후 같은 초에 발급된 토큰도 함께 막힐 수 있다 — 재로그인은 1초 뒤면 된다.
+     */
+    public void revokeUser(UUID userId) {
+        revokedUsers.put(userId, Instant.now());
+        verified.asMap().values().removeIf(token -> token.payload().userId().equals(userId));
+    }
+
+    private static Duration until(Instant expiresAt) {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /** 남은 유효 시간만큼만 캐시한다 (max-ttl 상한, exp 가 없으면 max-ttl). */
+    private Duration untilOrMax(Instant expiresAt) {
+        if (expiresAt == null) {
+            return maxTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
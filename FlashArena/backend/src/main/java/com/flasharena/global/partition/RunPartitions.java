@@ -0,0 +1,87 @@
+package com.flasharena.global.partition;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * run_id 로 LIST 파티셔닝된 테이블(V9)의 파티션 생성/정리 도구.
+ * <p>시뮬레이터 run 마다 전용 파티션({@code <table>_r_<runId hex>})을 만들고, 보관 개수를 넘긴 오래된 run 은
+ * 행을 지우는 대신 파티션째 떼어낸다(DETACH CONCURRENTLY) — 데이터 양과 무관한 메타데이터 작업이라 리셋이 O(1) 이다.
+ * 떼어낸 파티션은 archive 면 독립 테이블로 남기고(조회/덤프용), 아니면 DROP 한다.
+ * <p>테이블 이름은 호출 모듈이 자기 스키마의 것만 넘긴다 (order → orders/outbox, payment → payment_history).
+ * 이 클래스는 어느 도메인의 테이블도 알지 못한다 — 모듈 경계 유지.
+ * <p>⚠️ DETACH ... CONCURRENTLY 는 트랜잭션 블록 안에서 실행할 수 없으므로 @Transactional 없이 auto-commit 으로 돈다.
+ */
+@Component
+public class RunPartitions {
+
+    private static final Logger log = LoggerFactory.getLogger(RunPartitions.class);
+
+    /** 시뮬레이터 밖 트래픽(공개 구매 API 등)의 run_id. V9 의 {@code <table>_live} 파티션으로 들어간다. */
+    public static final UUID LIVE = new UUID(0L, 0L);
+
+    private static final String RUN_PARTITION_INFIX = "_r_";
+
+    private static final String LIST_RUN_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            JOIN pg_namespace n ON n.oid = p.relnamespace
+            WHERE n.nspname = ? AND p.relname = ? AND c.relname LIKE ?
+            ORDER BY c.relname DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RunPartitions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** runId 의 파티션이 없으면 만든다. 부모 인덱스/제약은 자동으로 따라붙는다. */
+    public void create(String schema, String table, UUID runId) {
+        jdbcTemplate.execute(String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES IN ('%s')",
+                qualified(schema, partitionName(table, runId)), qualified(schema, table), runId));
+    }
+
+    /**
+     * 최신 keep 개의 run 파티션만 남기고 나머지를 떼어낸다. live 파티션은 대상이 아니다.
+     * runId 가 v7 이라 파티션 이름(hex)의 사전순 = 생성순이다.
+     *
+     * @param archive true 면 DETACH 만 하고 독립 테이블로 보관, false 면 DROP
+     * @return 떼어낸 파티션 수
+     */
+    public int retainLatest(String schema, String table, int keep, boolean archive) {
+        List<String> partitions = jdbcTemplate.queryForList(LIST_RUN_PARTITIONS_SQL, String.class,
+                schema, table, table.replace("_", "\\_") + "\\_r\\_%");
+        int detached = 0;
+        for (String partition : partitions.subList(Math.min(keep, partitions.size()), partitions.size())) {
+            String name = qualified(schema, partition);
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY",
+                    qualified(schema, table), name));
+            if (!archive) {
+                jdbcTemplate.execute("DROP TABLE " + name);
+            }
+            detached++;
+        }
+        if (detached > 0) {
+            log.info("run 파티션 정리 {}.{}: {}개 {} (보관 {}개)",
+                    schema, table, detached, archive ? "아카이브(DETACH)" : "DROP", keep);
+        }
+        return detached;
+    }
+
+    /** {@code <table>_r_<runId 32hex>}. 식별자 63자 제한 안에 들어간다 (가장 긴 payment_history 도 50자). */
+    static String partitionName(String table, UUID runId) {
+        return table + RUN_PARTITION_INFIX + runId.toString().replace("-", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String qualified(String schema, String table) {
+        return "\"" + schema + "\".\"" + table + "\"";
+    }
+}
@@ -0,0 +1,41 @@
+package com.flasharena.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flasharena.global.context.UserContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 관리자 API({@code /api/admin/**}) 공통 인가. {@link AuthInterceptor} 뒤에 등록되어 UserContext 의 role 이
+ * {@value #ADMIN_ROLE} 가 아니면 403 으로 끊는다 — 컨트롤러마다 권한 검사를 반복하지 않는다.
+ */
+@Component
+public class AdminInterceptor implements HandlerInterceptor {
+
+    public static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final ObjectMapper objectMapper;
+
+    public AdminInterceptor(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (CorsUtils.isPreFlightRequest(request) || ADMIN_ROLE.equals(UserContext.getRole())) {
+            return true;
+        }
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(
+                objectMapper.writeValueAsString(Map.of("error", "FORBIDDEN", "message", "관리자 권한이 필요합니다.")));
+        return false;
+    }
+}
@@ -3,6 +3,7 @@ package com.flasharena.global.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flasharena.global.context.UserContext;
 import com.flasharena.global.jwt.JwtProvider;
+import com.flasharena.global.jwt.VerifiedTokenCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Map;
@@ -19,17 +20,18 @@ import org.springframework.web.servlet.HandlerInterceptor;
  * 다운스트림 서비스에 forward 한다. 여기서는 단일 애플리케이션이므로 이 인터셉터가 그 역할을 흉내내
  * UserContext(ThreadLocal) 와 request attribute(userId / X-User-Id) 에 사용자 UUID 를 채워
  * order / payment 도메인이 읽을 수 있게 한다.
+ * <p>검증은 {@link VerifiedTokenCache} 를 거친다 — 같은 토큰의 반복 요청은 HMAC 검증 없이 캐시 결과를 쓴다.
  */
 @Component
 public class AuthInterceptor implements HandlerInterceptor {
 
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache tokenCache;
     private final ObjectMapper objectMapper;
 
-    public AuthInterceptor(JwtProvider jwtProvider, ObjectMapper objectMapper) {
-        this.jwtProvider = jwtProvider;
+    public AuthInterceptor(VerifiedTokenCache tokenCache, ObjectMapper objectMapper) {
+        this.tokenCache = tokenCache;
         this.objectMapper = objectMapper;
     }
 
@@ -49,7 +51,7 @@ public class AuthInterceptor implements HandlerInterceptor {
 
         String token = header.substring(BEARER_PREFIX.length()).trim();
         try {
-            JwtProvider.AuthPayload payload = jwtProvider.parse(token);
+            JwtProvider.AuthPayload payload = tokenCache.verify(token);
             UserContext.set(payload.userId(), payload.role());
             // 다운스트림(order/payment) 전파용 — 게이트웨이의 X-User-Id forward 를 흉내낸다.
             request.setAttribute("userId", payload.userId());
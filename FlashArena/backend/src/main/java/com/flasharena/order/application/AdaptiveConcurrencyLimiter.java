@@ -0,0 +1,148 @@
+package com.flasharena.order.application;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * OrderProcessor 트랜잭션 앞단의 적응형 동시성 제한기 (gradient + AIMD).
+ * <p>워커 50개(또는 수천 개의 가상 스레드)가 REQUIRES_NEW 트랜잭션을 한꺼번에 열면 Hikari 풀 앞에 줄이 서고,
+ * 대기 시간이 곧 트랜잭션 RTT 로 드러난다. 이 제한기는 그 RTT 를 재서 동시 실행 수 상한(limit)을 스스로 조절한다.
+ * <ul>
+ *   <li>gradient — 장기 RTT(EWMA) 대비 이번 RTT 가 tolerance 배 이상 늘면 limit 를 비례해 줄이고,
+ *       RTT 가 평탄하면 √limit 만큼 늘린다. 갑작스러운 튐은 smoothing 으로 완화한다.</li>
+ *   <li>AIMD — 호출이 예외(커넥션 타임아웃 등)로 끝나면 backoffRatio 만큼 곱으로 줄인다.</li>
+ * </ul>
+ * 상한에 닿은 호출은 기다리지 않고 {@link LimitExceededException} 으로 즉시 거절된다 — 풀 타임아웃까지 매달리는 대신
+ * DB 를 처리량이 가장 좋은 구간에 묶어 두는 것이 목적이다.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int longWindow;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // 아래 두 값은 synchronized(this) 로만 갱신한다 (샘플당 한 번, 트랜잭션 비용에 비하면 무시할 수준).
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${app.limiter.initial-limit:20}") int initialLimit,
+            @Value("${app.limiter.min-limit:4}") int minLimit,
+            @Value("${app.limiter.max-limit:200}") int maxLimit,
+            @Value("${app.limiter.tolerance:1.5}") double tolerance,
+            @Value("${app.limiter.smoothing:0.2}") double smoothing,
+            @Value("${app.limiter.long-window:600}") int longWindow,
+            @Value("${app.limiter.backoff-ratio:0.9}") double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindow = longWindow;
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * 상한 안이면 call 을 실행하고 RTT 를 표본으로 반영한다. 상한이면 실행하지 않고 즉시 거절한다.
+     *
+     * @throws LimitExceededException 동시 실행 수가 현재 limit 에 닿은 경우 (call 은 실행되지 않음)
+     */
+    public <T> T execute(Supplier<T> call) {
+        int inFlightAtStart = tryAcquire();
+        if (inFlightAtStart < 0) {
+            rejected.increment();
+            throw new LimitExceededException(limit);
+        }
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            T result = call.get();
+            completed = true;
+            return result;
+        } finally {
+            inFlight.decrementAndGet();
+            if (completed) {
+                onSample(System.nanoTime() - start, inFlightAtStart);
+            } else {
+                onDropped();
+            }
+        }
+    }
+
+    /** 현재 동시 실행 상한. */
+    public int currentLimit() {
+        return limit;
+    }
+
+    /** 현재 실행 중인 호출 수. */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /** 기동 이후 누적 거절 수. */
+    public long rejectedTotal() {
+        return rejected.sum();
+    }
+
+    /** 자리가 있으면 점유 후 점유 시점의 in-flight 수를, 없으면 -1. */
+    private int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) / longWindow;
+        // 부하가 빠진 뒤 장기 RTT 가 높게 굳어 있으면 limit 가 과하게 커진다 → 빠르게 끌어내린다.
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+        // 수요가 상한의 절반도 안 되면 RTT 가 좋아도 limit 를 키우지 않는다 (쓰지도 않는 여유를 부풀리지 않기 위함).
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        update(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private synchronized void onDropped() {
+        update(estimatedLimit * backoffRatio);
+    }
+
+    private void update(double next) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 동시 실행 상한 초과로 즉시 거절됨. 호출부는 "과부하 거절" 결과로 집계한다.
+     * 과부하 때 쏟아지는 예외이므로 스택 트레이스를 만들지 않는다.
+     */
+    public static class LimitExceededException extends RuntimeException {
+        public LimitExceededException(int limit) {
+            super("동시 실행 상한 초과로 거절 (limit=" + limit + ")", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.flasharena.order.application;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 없는 로그-선형 지연 히스토그램 (µs). 워커 스레드들이 동시에 {@link #record} 하고, 틱 스레드가 {@link #drain} 으로
+ * 지난 틱 분포를 가져가며 비운다.
+ * <p>버킷: 0..15µs 는 1µs 단위, 그 위로는 2의 거듭제곱 구간마다 16칸(상대 오차 ≤ 1/16 ≈ 6%). 약 2^40µs(12일)까지.
+ * 버킷마다 {@link LongAdder}(스레드별 셀로 줄무늬 분산)라 50 워커가 같은 버킷을 때려도 CAS 경합이 한 셀에 몰리지 않는다.
+ * drain 은 셀별 getAndSet(0) 이라 동시 기록은 이번 틱 아니면 다음 틱에 잡히고 유실되지 않는다.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 16;
+    private static final int SUB_BITS = 4;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    void record(long micros) {
+        long value = Math.max(0L, micros);
+        counts[indexOf(value)].increment();
+        max.accumulate(value);
+    }
+
+    /** 지난 drain 이후의 분포를 꺼내고 비운다 (틱 스레드 하나만 부른다). */
+    Snapshot drain() {
+        long[] drained = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            drained[i] = counts[i].sumThenReset();
+            total += drained[i];
+        }
+        return new Snapshot(drained, total, max.getThenReset());
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) ((value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** 버킷의 하한값 (퍼센타일 보고값). */
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub)) << (exponent - SUB_BITS);
+    }
+
+    /** 한 틱의 분포. */
+    record Snapshot(long[] counts, long total, long max) {
+
+        /** q(0..1) 퍼센타일의 버킷 하한값. 표본이 없으면 0. */
+        long percentile(double q) {
+            if (total == 0) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(q * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(lowerBound(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
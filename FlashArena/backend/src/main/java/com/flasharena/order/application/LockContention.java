@@ -0,0 +1,78 @@
+package com.flasharena.order.application;
+
+import com.flasharena.order.domain.LockStrategy;
+import com.flasharena.order.presentation.dto.LockReport;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * REDIS_LOCK run 하나의 락 통계. 워커 스레드들이 락 없이 기록하고, run 이 끝나면 {@link #report()} 로 한 번 모은다.
+ * <p>대기 분포는 {@link LatencyHistogram}, 공정성은 워커(스레드 id)별 누적 대기로 본다 — 가상 스레드 엔진에서는
+ * 시도마다 스레드가 달라 시도별 공정성이 된다.
+ */
+final class LockContention {
+
+    private final LockStrategy strategy;
+    private final int stripes;
+    private final LatencyHistogram waits = new LatencyHistogram();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder expiryIncidents = new LongAdder();
+    private final LongAccumulator maxHoldMicros = new LongAccumulator(Math::max, 0L);
+    private final Map<Long, LongAdder> waitByWorker = new ConcurrentHashMap<>();
+
+    LockContention(LockStrategy strategy, int stripes) {
+        this.strategy = strategy;
+        this.stripes = strategy == LockStrategy.STRIPED ? Math.max(1, stripes) : 1;
+    }
+
+    LockStrategy strategy() {
+        return strategy;
+    }
+
+    int stripes() {
+        return stripes;
+    }
+
+    /** tryLock 한 번의 대기. */
+    void waited(long micros, boolean locked) {
+        waits.record(micros);
+        (locked ? acquired : timedOut).increment();
+        waitByWorker.computeIfAbsent(Thread.currentThread().threadId(), id -> new LongAdder()).add(micros);
+    }
+
+    /** 임계영역 보유 시간. stillHeld 가 false 면 보유 중 lease 가 만료돼 다른 워커가 들어올 수 있었다. */
+    void held(long micros, boolean stillHeld) {
+        maxHoldMicros.accumulate(micros);
+        if (!stillHeld) {
+            expiryIncidents.increment();
+        }
+    }
+
+    long expiryIncidents() {
+        return expiryIncidents.sum();
+    }
+
+    LockReport report() {
+        LatencyHistogram.Snapshot snapshot = waits.drain();
+        double sum = 0;
+        double sumSquares = 0;
+        int workers = 0;
+        for (LongAdder wait : waitByWorker.values()) {
+            double value = wait.sum();
+            sum += value;
+            sumSquares += value * value;
+            workers++;
+        }
+        double fairness = sumSquares == 0 ? 1.0 : sum * sum / (workers * sumSquares);
+        double mean = workers == 0 ? 0 : sum / workers;
+        double variance = workers == 0 ? 0 : Math.max(0, sumSquares / workers - mean * mean);
+        double cv = mean == 0 ? 0 : Math.sqrt(variance) / mean;
+        return new LockReport(strategy, strategy == LockStrategy.STRIPED ? stripes : null,
+                acquired.sum(), timedOut.sum(),
+                snapshot.percentile(0.50), snapshot.percentile(0.90), snapshot.percentile(0.99), snapshot.max(),
+                maxHoldMicros.get(), fairness, cv, expiryIncidents.sum());
+    }
+}
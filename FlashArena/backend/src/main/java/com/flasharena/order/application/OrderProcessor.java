@@ -1,17 +1,19 @@
 package com.flasharena.order.application;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flasharena.global.event.OrderEventCodec;
+import com.flasharena.global.event.OrderEventMessage;
+import com.flasharena.global.event.OrderEventType;
 import com.flasharena.order.domain.OrderEntity;
 import com.flasharena.order.domain.OutboxEvent;
 import com.flasharena.order.domain.Product;
 import com.flasharena.order.infrastructure.OrderRepository;
 import com.flasharena.order.infrastructure.OutboxRepository;
 import com.flasharena.order.infrastructure.ProductRepository;
-import java.time.OffsetDateTime;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,20 +31,24 @@ public class OrderProcessor {
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
     private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final ProductCatalog productCatalog;
+    private final boolean debugJson;
 
     public OrderProcessor(ProductRepository productRepository,
             OrderRepository orderRepository,
             OutboxRepository outboxRepository,
-            ObjectMapper objectMapper) {
+            ProductCatalog productCatalog,
+            @Value("${app.outbox.debug-json:false}") boolean debugJson) {
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
         this.outboxRepository = outboxRepository;
-        this.objectMapper = objectMapper;
+        this.productCatalog = productCatalog;
+        this.debugJson = debugJson;
     }
 
     /**
-     * 매 run 전 재고를 initialStock 으로 리셋하고 기존 주문을 모두 지운다 (재현 가능성 확보).
+     * 매 run 전 재고를 initialStock 으로 리셋한다 (재현 가능성 확보).
+     * 이전 run 의 주문은 지우지 않는다 — 각 run 은 자기 파티션에 쓰고, 오래된 파티션은 {@code RunPartitions} 가 떼어낸다.
      * 자체 트랜잭션으로 동작해야 하므로 별도 빈 메서드로 둔다.
      *
      * @return 시뮬레이션 대상 단일 시드 상품의 id
@@ -52,7 +58,6 @@ public class OrderProcessor {
         Product product = productRepository.findFirstByOrderByCreatedAtAsc()
                 .orElseThrow(() -> new IllegalStateException("시드 상품이 없습니다. \"order\".product 를 확인하세요."));
         UUID productId = product.getId();
-        orderRepository.deleteByProductId(productId);
         product.resetQuantity(initialStock);
         productRepository.save(product);
         return productId;
@@ -64,6 +69,27 @@ public class OrderProcessor {
         return productRepository.findById(productId).orElseThrow().getQuantity();
     }
 
+    /** 현재 재고 조회. 상품이 없으면 empty (공개 구매 API 의 카운터 지연 적재용). */
+    @Transactional(readOnly = true)
+    public Optional<Integer> findStock(UUID productId) {
+        return productRepository.findById(productId).map(Product::getQuantity);
+    }
+
+    /** 단일 시드 상품 id (공개 구매 API 에서 productId 생략 시 대상). */
+    @Transactional(readOnly = true)
+    public UUID defaultProductId() {
+        return productRepository.findFirstByOrderByCreatedAtAsc()
+                .orElseThrow(() -> new IllegalStateException("시드 상품이 없습니다. \"order\".product 를 확인하세요."))
+                .getId();
+    }
+
+    /** REDIS_HOLD 검증용: 이 run 에서 아직 재고를 점유 중인 주문 수(HELD + CONFIRMED). 만료(EXPIRED)분은 재고로 돌아갔다. */
+    @Transactional(readOnly = true)
+    public int liveHoldCount(UUID runId, UUID productId) {
+        return (int) (orderRepository.countByRunIdAndProductIdAndStatus(runId, productId, "HELD")
+                + orderRepository.countByRunIdAndProductIdAndStatus(runId, productId, "CONFIRMED"));
+    }
+
     /**
      * SYNC(No-Lock) 모드 구매 시도. 락도, DB 원자 차감도, {@code WHERE quantity>0} 가드도 없다.
      * 교과서적 read-modify-write lost-update: 읽고 → (경쟁 창을 살짝 벌린 뒤) → 차감 후 저장.
@@ -72,7 +98,7 @@ public class OrderProcessor {
      * @return 구매 성공(CREATED) 여부
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public boolean attemptPurchaseNoLock(UUID productId, UUID userId) {
+    public boolean attemptPurchaseNoLock(UUID runId, UUID productId, UUID userId) {
         Product product = productRepository.findById(productId).orElseThrow();
         int current = product.getQuantity();
 
@@ -80,26 +106,29 @@ public class OrderProcessor {
         Thread.yield();
 
         if (current > 0) {
-            return succeed(product, userId);
+            return succeed(runId, product, userId);
         }
-        fail(productId, userId);
+        fail(runId, productId, userId);
         return false;
     }
 
     /**
      * REDIS_LOCK 모드의 임계영역 본문. 호출부(SimulationService)가 분산 락을 잡은 상태에서만 부른다.
-     * 락이 직렬화를 보장하므로 단순 read → 차감 → 저장으로도 정확하다.
+     * 락이 직렬화를 보장하므로 단순 read → 차감으로도 정확하다.
+     * 엔티티를 올리지 않고 재고만 읽고, 가격은 {@link ProductCatalog} 에서 가져온다.
      *
      * @return 구매 성공(CREATED) 여부
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public boolean attemptPurchaseLocked(UUID productId, UUID userId) {
-        Product product = productRepository.findById(productId).orElseThrow();
+    public boolean attemptPurchaseLocked(UUID runId, UUID productId, UUID userId) {
+        int quantity = productRepository.findQuantityById(productId).orElseThrow();
 
-        if (product.getQuantity() > 0) {
-            return succeed(product, userId);
+        if (quantity > 0) {
+            productRepository.decreaseQuantityAtomic(productId);
+            recordSale(runId, productId, userId, productCatalog.price(productId));
+            return true;
         }
-        fail(productId, userId);
+        fail(runId, productId, userId);
         return false;
     }
 
@@ -111,32 +140,109 @@ public class OrderProcessor {
      * @return 구매 성공(CREATED) 여부
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public boolean settleCounter(UUID productId, UUID userId, boolean won) {
+    public boolean settleCounter(UUID runId, UUID productId, UUID userId, boolean won) {
         if (!won) {
-            fail(productId, userId);
+            fail(runId, productId, userId);
             return false;
         }
-        // 가격만 읽고(불변), 수량은 원자 UPDATE 로 줄인다 → 동시 당첨자끼리도 lost-update 없음.
-        long unitPrice = productRepository.findById(productId).orElseThrow().getPrice();
+        // 가격은 캐시(불변), 수량만 원자 UPDATE 로 DB 에서 줄인다 → 동시 당첨자끼리도 lost-update 없음.
+        long unitPrice = productCatalog.price(productId);
         productRepository.decreaseQuantityAtomic(productId);
-        recordSale(productId, userId, unitPrice);
+        recordSale(runId, productId, userId, unitPrice);
         return true;
     }
 
+    /**
+     * 공개 구매 API 의 REDIS_COUNTER 정산. 게이트 낙첨자는 DB 에 오지 않으므로 당첨자만 처리한다
+     * (시뮬레이터와 달리 FAILED 행을 남기지 않는다 — 낙첨 기록은 결과 허브가 들고 있다).
+     *
+     * @return 생성된 CREATED 주문 id
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UUID settleCounterWin(UUID runId, UUID productId, UUID userId) {
+        long unitPrice = productCatalog.price(productId);
+        productRepository.decreaseQuantityAtomic(productId);
+        return recordSale(runId, productId, userId, unitPrice);
+    }
+
+    /**
+     * REDIS_HOLD 모드 선점. 게이트(Redis DECR)는 호출부에서 이미 판정했다.
+     * 당첨이면 재고를 원자 차감하고 HELD 주문을 남긴다 — 아직 판매가 아니라 "결제 대기 중 자리 확보".
+     * 결제로 진행하는 당첨자(proceedToPay)만 ORDER_HELD(결제 요청) 아웃박스 이벤트를 같은 트랜잭션에 기록한다.
+     * Redis 예약(TTL)은 이 트랜잭션이 커밋된 뒤 호출부가 건다 (트랜잭션 안에서 Redis 를 건드리지 않는다).
+     *
+     * @return 선점된 주문 id. 낙첨이면 null (FAILED 만 기록)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UUID settleHold(UUID runId, UUID productId, UUID userId, boolean won, boolean proceedToPay) {
+        if (!won) {
+            fail(runId, productId, userId);
+            return null;
+        }
+        long unitPrice = productCatalog.price(productId);
+        productRepository.decreaseQuantityAtomic(productId);
+        OrderEntity order = orderRepository.save(OrderEntity.builder()
+                .runId(runId)
+                .userId(userId)
+                .productId(productId)
+                .quantity(1)
+                .status("HELD")
+                .build());
+        if (proceedToPay) {
+            long amount = unitPrice * order.getQuantity();
+            OrderEventMessage event = new OrderEventMessage(OrderEventType.ORDER_HELD, order.getId(), runId,
+                    userId, productId, order.getQuantity(), amount, Instant.now());
+            outboxRepository.save(OutboxEvent.orderHeld(runId, order.getId(), OrderEventCodec.encode(event),
+                    debugPayload(event)));
+        }
+        return order.getId();
+    }
+
+    /**
+     * 결제 완료로 선점을 확정한다 (HELD → CONFIRMED). Redis 예약 삭제에 성공한 호출부만 부른다.
+     *
+     * @return 확정 여부 (이미 확정/만료된 주문이면 false)
+     */
+    @Transactional
+    public boolean confirmHold(UUID orderId) {
+        return orderRepository.transitionStatus(orderId, "HELD", "CONFIRMED") > 0;
+    }
+
+    /**
+     * 만료 배치 반영: HELD 주문들을 EXPIRED 로 전이하고 실제로 전이된 수만큼만 DB 재고를 되돌린다.
+     * 그 사이 확정됐거나 이미 다른 상태인 주문은 전이되지 않으므로 재고도 두 번 돌려주지 않는다.
+     * Redis 카운터 반환(INCRBY)은 스위퍼가 Lua 로 먼저 끝냈고, 여기서는 DB 를 그 결과에 맞춘다.
+     * 주문 상태와 재고가 한 트랜잭션이라 "만료됐는데 재고는 안 돌아온" 중간 상태가 보이지 않는다.
+     *
+     * @return EXPIRED 로 전이된 주문 수
+     */
+    @Transactional
+    public int expireHolds(UUID productId, List<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        int expired = orderRepository.expireHeld(orderIds);
+        if (expired > 0) {
+            productRepository.increaseQuantityAtomic(productId, expired);
+        }
+        return expired;
+    }
+
     /**
      * 구매 성공 처리: 재고 차감 + CREATED 주문 INSERT + ORDER_COMPLETED 아웃박스 INSERT.
      * 세 작업이 같은 트랜잭션에서 원자적으로 커밋된다 → 주문은 있는데 이벤트가 없는 상태가 불가능.
      */
-    private boolean succeed(Product product, UUID userId) {
+    private boolean succeed(UUID runId, Product product, UUID userId) {
         product.decrease();
         productRepository.save(product);
-        recordSale(product.getId(), userId, product.getPrice());
+        recordSale(runId, product.getId(), userId, product.getPrice());
         return true;
     }
 
     /** CREATED 주문 INSERT + ORDER_COMPLETED 아웃박스 INSERT (같은 트랜잭션). 재고 차감은 호출부 책임. */
-    private void recordSale(UUID productId, UUID userId, long unitPrice) {
+    private UUID recordSale(UUID runId, UUID productId, UUID userId, long unitPrice) {
         OrderEntity order = orderRepository.save(OrderEntity.builder()
+                .runId(runId)
                 .userId(userId)
                 .productId(productId)
                 .quantity(1)
@@ -144,13 +250,17 @@ public class OrderProcessor {
                 .build());
 
         long amount = unitPrice * order.getQuantity();
-        String payload = buildPayload(order.getId(), userId, productId, order.getQuantity(), amount);
-        outboxRepository.save(OutboxEvent.orderCompleted(order.getId(), payload));
+        OrderEventMessage event = new OrderEventMessage(OrderEventType.ORDER_COMPLETED, order.getId(), runId,
+                userId, productId, order.getQuantity(), amount, Instant.now());
+        outboxRepository.save(OutboxEvent.orderCompleted(runId, order.getId(), OrderEventCodec.encode(event),
+                debugPayload(event)));
+        return order.getId();
     }
 
     /** 재고 부족 실패: FAILED 주문만 기록 (아웃박스 이벤트는 발행하지 않는다). */
-    private void fail(UUID productId, UUID userId) {
+    private void fail(UUID runId, UUID productId, UUID userId) {
         orderRepository.save(OrderEntity.builder()
+                .runId(runId)
                 .userId(userId)
                 .productId(productId)
                 .quantity(1)
@@ -158,20 +268,8 @@ public class OrderProcessor {
                 .build());
     }
 
-    /** ORDER_COMPLETED 이벤트 페이로드(JSON) 생성. */
-    private String buildPayload(UUID orderId, UUID userId, UUID productId, int quantity, long amount) {
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("orderId", orderId.toString());
-        payload.put("userId", userId.toString());
-        payload.put("productId", productId.toString());
-        payload.put("quantity", quantity);
-        payload.put("amount", amount);
-        payload.put("occurredAt", OffsetDateTime.now().toString());
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (JsonProcessingException e) {
-            // 단순 Map 직렬화라 사실상 발생하지 않지만, 트랜잭션을 롤백시켜 주문/이벤트 원자성을 지킨다.
-            throw new IllegalStateException("아웃박스 페이로드 직렬화 실패 orderId=" + orderId, e);
-        }
+    /** 디버깅 모드(app.outbox.debug-json)에서만 사람이 읽는 JSON 을 같이 남긴다. 발행 원본은 항상 바이너리. */
+    private String debugPayload(OrderEventMessage event) {
+        return debugJson ? OrderEventCodec.toDebugJson(event) : null;
     }
 }
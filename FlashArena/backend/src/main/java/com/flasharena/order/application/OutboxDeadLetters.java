@@ -0,0 +1,96 @@
+package com.flasharena.order.application;
+
+import com.flasharena.global.admin.AdminJobs;
+import com.flasharena.global.event.OrderEventCodec;
+import com.flasharena.order.domain.OutboxEvent;
+import com.flasharena.order.infrastructure.OutboxRepository;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 준-DLQ(FAILED) 조회/재큐잉.
+ * <p>Redis 장애가 길어지면 재시도 상한을 넘긴 이벤트가 FAILED 로 수천 건 쌓인다. 복구 후 한 번에 READY 로 돌리면
+ * 릴레이어·결제 소비자·DB 가 동시에 몰리므로, 배치 단위로 되돌리고 배치 사이를 목표 속도에 맞춰 쉰다.
+ * 재큐잉은 retry_count 를 0 으로 초기화한다 — 다시 실패하면 처음부터 재시도 상한을 적용받는다.
+ */
+@Component
+public class OutboxDeadLetters {
+
+    private static final int MAX_LIST = 500;
+
+    private final OutboxRepository outboxRepository;
+
+    public OutboxDeadLetters(OutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    /** 조회/재큐잉 필터. 모두 선택 — null 이면 조건 없음. createdAt 범위는 [from, to). */
+    public record Filter(UUID runId, String eventType, OffsetDateTime from, OffsetDateTime to) {
+    }
+
+    /** FAILED 행 조회 응답. payload = 디버깅 JSON (바이너리 행은 디코드해서 보여준다). */
+    public record FailedView(UUID id, UUID runId, String eventType, UUID aggregateId, int retryCount,
+                             OffsetDateTime createdAt, String payload) {
+    }
+
+    public record FailedPage(long total, List<FailedView> items) {
+    }
+
+    @Transactional(readOnly = true)
+    public FailedPage list(Filter filter, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIST);
+        List<FailedView> items = outboxRepository
+                .findFailed(filter.runId(), filter.eventType(), filter.from(), filter.to(), size)
+                .stream()
+                .map(OutboxDeadLetters::view)
+                .toList();
+        long total = outboxRepository.countFailed(filter.runId(), filter.eventType(), filter.from(), filter.to());
+        return new FailedPage(total, items);
+    }
+
+    /**
+     * 필터에 맞는 FAILED 행을 batchSize 건씩 READY 로 되돌리는 작업. 배치마다 별도 트랜잭션.
+     *
+     * @param ratePerSecond 초당 목표 건수 (0 이하면 쉬지 않음)
+     * @param max           최대 재큐잉 건수 (0 이하면 제한 없음)
+     */
+    public AdminJobs.Work requeue(Filter filter, int batchSize, int ratePerSecond, long max) {
+        return progress -> {
+            long done = 0;
+            while (!progress.cancelled()) {
+                int limit = max > 0 ? (int) Math.min(batchSize, max - done) : batchSize;
+                if (limit <= 0) {
+                    return;
+                }
+                int requeued = outboxRepository.requeueFailed(
+                        filter.runId(), filter.eventType(), filter.from(), filter.to(), limit);
+                done += requeued;
+                progress.add(requeued);
+                if (requeued < limit) {
+                    return;
+                }
+                long pauseMs = ratePerSecond <= 0 ? 0 : requeued * 1000L / ratePerSecond;
+                progress.pause(pauseMs);
+            }
+        };
+    }
+
+    private static FailedView view(OutboxEvent event) {
+        return new FailedView(event.getId(), event.getRunId(), event.getEventType(), event.getAggregateId(),
+                event.getRetryCount(), event.getCreatedAt(), debugPayload(event));
+    }
+
+    private static String debugPayload(OutboxEvent event) {
+        if (event.getPayload() != null) {
+            return event.getPayload();
+        }
+        try {
+            return OrderEventCodec.toDebugJson(OrderEventCodec.decode(event.getPayloadBin()));
+        } catch (IllegalArgumentException e) {
+            return "(디코드 불가: " + e.getMessage() + ")";
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.flasharena.order.application;
 
+import com.flasharena.global.event.OrderEventCodec;
+import com.flasharena.global.jfr.OutboxRelayEvent;
 import com.flasharena.order.domain.OutboxEvent;
 import com.flasharena.order.infrastructure.OutboxRepository;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -9,8 +12,10 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.ByteRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -20,7 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
  * Message Relayer: "order".outbox 의 READY 이벤트를 주기적으로 Redis Stream(XADD)으로 발행한다.
  * <p>각 틱은 자체 트랜잭션 안에서:
  *   1) READY 배치를 FOR UPDATE SKIP LOCKED 로 잠금 조회(중복 발행 방지),
- *   2) 건별 XADD,
+ *   2) 건별 XADD — payload_bin 이 있으면 해석 없이 필드별 바이너리 엔트리로({@link OrderEventCodec#toStreamFields}),
+ *      V10 이전 행이면 예전 JSON 필드 형식 그대로,
  *   3) XADD 성공(RecordId 반환=스트림이 적재함) → PUBLISHED + published_at,
  *   4) 실패 → retry_count++ (상한 초과 시 FAILED=준-DLQ), 나머지는 READY 로 두고 다음 틱 재시도.
  * <p>⚠️ XADD 성공 = "스트림이 메시지를 받아들였다" 일 뿐, "소비자가 처리했다" 가 아니다.
@@ -31,12 +37,15 @@ public class OutboxRelayer {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxRelayer.class);
 
+    private static final byte[] FIELD_PAYLOAD = "payload".getBytes(StandardCharsets.US_ASCII);
+
     private final OutboxRepository outboxRepository;
     private final StringRedisTemplate redisTemplate;
     private final SimulationLogger simulationLogger;
     private final int batchSize;
     private final int maxRetry;
     private final String streamKey;
+    private final byte[] streamKeyBytes;
 
     public OutboxRelayer(OutboxRepository outboxRepository,
             StringRedisTemplate redisTemplate,
@@ -50,13 +59,17 @@ public class OutboxRelayer {
         this.batchSize = batchSize;
         this.maxRetry = maxRetry;
         this.streamKey = streamKey;
+        this.streamKeyBytes = streamKey.getBytes(StandardCharsets.UTF_8);
     }
 
     @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:500}")
     @Transactional
     public void relay() {
+        OutboxRelayEvent relayEvent = new OutboxRelayEvent();
+        relayEvent.begin();
         List<OutboxEvent> batch = outboxRepository.findReadyBatchForUpdate(batchSize);
         if (batch.isEmpty()) {
+            // 빈 틱은 JFR 에 남기지 않는다 (500ms 마다 쌓이는 잡음).
             return;
         }
 
@@ -64,15 +77,7 @@ public class OutboxRelayer {
         int failed = 0;
         for (OutboxEvent event : batch) {
             try {
-                Map<String, String> fields = new LinkedHashMap<>();
-                fields.put("eventId", event.getId().toString());
-                fields.put("eventType", event.getEventType());
-                fields.put("aggregateType", event.getAggregateType());
-                fields.put("aggregateId", event.getAggregateId().toString());
-                fields.put("payload", event.getPayload());
-
-                RecordId recordId = redisTemplate.opsForStream()
-                        .add(StreamRecords.mapBacked(fields).withStreamKey(streamKey));
+                RecordId recordId = event.getPayloadBin() != null ? publishBinary(event) : publishJson(event);
 
                 if (recordId != null) {
                     // XADD ACK = 스트림이 적재함(소비 완료가 아님). published_at 기록 후 PUBLISHED 전이.
@@ -91,6 +96,8 @@ public class OutboxRelayer {
             }
         }
 
+        relayEvent.finish(batch.size(), published, failed);
+
         if (published > 0 || failed > 0) {
             log.info("아웃박스 릴레이: 발행 {}건, 실패 {}건 → Stream '{}'", published, failed, streamKey);
             if (published > 0) {
@@ -100,6 +107,30 @@ public class OutboxRelayer {
         }
     }
 
+    /**
+     * 바이너리 엔트리 XADD. 디버깅 JSON 이 있으면(app.outbox.debug-json) 같은 엔트리에 {@code payload} 로 함께 싣는다.
+     * StringRedisTemplate 의 문자열 직렬화를 거치면 바이트가 깨지므로 커넥션에 raw bytes 로 직접 보낸다.
+     */
+    private RecordId publishBinary(OutboxEvent event) {
+        Map<byte[], byte[]> fields = OrderEventCodec.toStreamFields(event.getId(), event.getPayloadBin());
+        if (event.getPayload() != null) {
+            fields.put(FIELD_PAYLOAD, event.getPayload().getBytes(StandardCharsets.UTF_8));
+        }
+        ByteRecord record = StreamRecords.rawBytes(fields).withStreamKey(streamKeyBytes);
+        return redisTemplate.execute((RedisCallback<RecordId>) connection -> connection.streamCommands().xAdd(record));
+    }
+
+    /** V10 이전 행(JSON payload 만 있음)은 예전 형식 그대로 발행한다. */
+    private RecordId publishJson(OutboxEvent event) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("eventId", event.getId().toString());
+        fields.put("eventType", event.getEventType());
+        fields.put("aggregateType", event.getAggregateType());
+        fields.put("aggregateId", event.getAggregateId().toString());
+        fields.put("payload", event.getPayload());
+        return redisTemplate.opsForStream().add(StreamRecords.mapBacked(fields).withStreamKey(streamKey));
+    }
+
     /** 재시도 상한 초과 시 FAILED(준-DLQ), 아니면 retry_count 만 증가. */
     private void bumpRetryOrFail(OutboxEvent event) {
         if (event.getRetryCount() + 1 >= maxRetry) {
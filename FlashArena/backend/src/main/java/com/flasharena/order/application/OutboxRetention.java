@@ -0,0 +1,237 @@
+package com.flasharena.order.application;
+
+import com.flasharena.order.domain.OutboxEvent;
+import com.flasharena.order.infrastructure.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스/주문 이벤트 스트림 보존 정책. 정상 상태에서 테이블과 스트림 크기가 유한하게 유지되도록 한다.
+ * <p>테이블: published_at 이 {@code max-age} 를 넘긴 PUBLISHED 행을 {@code chunk-size} 건씩 지운다(archive=true 면 보관 테이블로 이동).
+ *   청크마다 별도 트랜잭션 + SKIP LOCKED 라 락 보유 시간이 짧고, 릴레이어/구매 트랜잭션과 오래 겹치지 않는다.
+ *   한 틱의 청크 수를 제한해 밀린 양이 많아도 여러 틱에 나눠 따라잡는다.
+ * <p>스트림: 모든 소비자 그룹이 지나간 지점 = min(그룹별 last-delivered-id, 그룹별 PEL 최소 id) 이전을 {@code XTRIM MINID ~} 로 잘라낸다.
+ *   미확인(PEL) 엔트리는 재전달(XCLAIM) 대상이라 남긴다. 그룹이 크게 밀리는 비상 상황을 위해 {@code MAXLEN ~} 상한을 따로 둔다.
+ *   최근 {@code app.stream.replay-window} 안의 엔트리는 소비가 끝났어도 남긴다 — 관리자 구간 리플레이
+ *   ({@code POST /api/admin/dead-letters/stream/replay-range})가 읽을 원본이다. MAXLEN 상한은 이 창보다 우선한다.
+ * <p>지표: {@code flasharena.outbox.rows{status}}, {@code flasharena.outbox.purged{mode}},
+ *   {@code flasharena.stream.length}, {@code flasharena.stream.trimmed{policy}}.
+ */
+@Component
+public class OutboxRetention {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRetention.class);
+
+    private final OutboxRepository outboxRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final long chunkPauseMs;
+    private final boolean archive;
+    private final String streamKey;
+    private final long streamMaxLen;
+    private final Duration replayWindow;
+
+    private final Map<String, AtomicLong> rowsByStatus;
+    private final AtomicLong streamLength;
+    private final Counter purged;
+    private final Counter trimmedMinId;
+    private final Counter trimmedMaxLen;
+
+    public OutboxRetention(OutboxRepository outboxRepository,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.retention.max-age:24h}") Duration maxAge,
+            @Value("${app.outbox.retention.chunk-size:500}") int chunkSize,
+            @Value("${app.outbox.retention.max-chunks:200}") int maxChunks,
+            @Value("${app.outbox.retention.chunk-pause-ms:20}") long chunkPauseMs,
+            @Value("${app.outbox.retention.archive:false}") boolean archive,
+            @Value("${app.stream.key:flasharena:order-events}") String streamKey,
+            @Value("${app.stream.max-len:1000000}") long streamMaxLen,
+            @Value("${app.stream.replay-window:1h}") Duration replayWindow) {
+        this.outboxRepository = outboxRepository;
+        this.redisTemplate = redisTemplate;
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.chunkPauseMs = chunkPauseMs;
+        this.archive = archive;
+        this.streamKey = streamKey;
+        this.streamMaxLen = streamMaxLen;
+        this.replayWindow = replayWindow;
+
+        this.rowsByStatus = Map.of(
+                OutboxEvent.STATUS_READY, rowsGauge(meterRegistry, OutboxEvent.STATUS_READY),
+                OutboxEvent.STATUS_PUBLISHED, rowsGauge(meterRegistry, OutboxEvent.STATUS_PUBLISHED),
+                OutboxEvent.STATUS_FAILED, rowsGauge(meterRegistry, OutboxEvent.STATUS_FAILED));
+        this.streamLength = meterRegistry.gauge("flasharena.stream.length", Tags.of("stream", streamKey),
+                new AtomicLong());
+        this.purged = meterRegistry.counter("flasharena.outbox.purged", "mode", archive ? "archived" : "deleted");
+        this.trimmedMinId = meterRegistry.counter("flasharena.stream.trimmed", "stream", streamKey, "policy", "minid");
+        this.trimmedMaxLen = meterRegistry.counter("flasharena.stream.trimmed", "stream", streamKey, "policy", "maxlen");
+    }
+
+    /** 오래된 PUBLISHED 행 정리 + 상태별 행 수 갱신. */
+    @Scheduled(fixedDelayString = "${app.outbox.retention.interval-ms:60000}",
+            initialDelayString = "${app.outbox.retention.interval-ms:60000}")
+    public void purgePublished() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(maxAge);
+        long total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int removed = archive
+                    ? outboxRepository.archivePublishedBefore(cutoff, chunkSize)
+                    : outboxRepository.deletePublishedBefore(cutoff, chunkSize);
+            total += removed;
+            if (removed < chunkSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            purged.increment(total);
+            log.info("아웃박스 보존 정리: PUBLISHED {}건 {} (기준 {})", total, archive ? "보관 이동" : "삭제", cutoff);
+        }
+        refreshRowCounts();
+    }
+
+    /** 소비자 그룹 위치 기준 XTRIM MINID ~ + MAXLEN ~ 상한, 스트림 길이 갱신. */
+    @Scheduled(fixedDelayString = "${app.stream.trim-interval-ms:10000}",
+            initialDelayString = "${app.stream.trim-interval-ms:10000}")
+    public void trimStream() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+                streamLength.set(0);
+                return;
+            }
+            RecordId safeId = trimBoundary();
+            if (safeId != null) {
+                long removed = xtrim("MINID", safeId.getValue());
+                if (removed > 0) {
+                    trimmedMinId.increment(removed);
+                }
+            }
+            Long before = redisTemplate.opsForStream().size(streamKey);
+            if (before != null && before > streamMaxLen) {
+                Long removed = redisTemplate.opsForStream().trim(streamKey, streamMaxLen, true);
+                if (removed != null && removed > 0) {
+                    trimmedMaxLen.increment(removed);
+                    log.warn("스트림 '{}' 길이 상한 초과 → MAXLEN ~ {} 로 {}건 잘라냄 (소비자 그룹 지연 확인 필요)",
+                            streamKey, streamMaxLen, removed);
+                }
+            }
+            Long size = redisTemplate.opsForStream().size(streamKey);
+            streamLength.set(size != null ? size : 0);
+        } catch (RuntimeException e) {
+            // 정리는 다음 틱에 다시 시도하면 된다. 발행/소비 경로에는 영향을 주지 않는다.
+            log.warn("스트림 트리밍 실패 '{}' : {}", streamKey, e.getMessage());
+        }
+    }
+
+    /** 소비 경계와 리플레이 창 시작 중 이른 쪽. 창 안의 엔트리는 소비가 끝났어도 남긴다. */
+    private RecordId trimBoundary() {
+        RecordId consumed = consumedBoundary();
+        if (consumed == null) {
+            return null;
+        }
+        RecordId windowStart = RecordId.of(System.currentTimeMillis() - replayWindow.toMillis(), 0);
+        return isBefore(windowStart, consumed) ? windowStart : consumed;
+    }
+
+    /**
+     * 모든 그룹이 확실히 지나간 id. 그룹이 하나도 없거나 아직 아무것도 전달되지 않았으면 null (자르지 않는다).
+     * 그룹별로 last-delivered-id 와 PEL 최소 id 중 작은 쪽을 구하고, 그 중 가장 작은 값을 쓴다.
+     * MINID 는 이 id 보다 작은 엔트리만 지우므로 경계 엔트리 자체는 남는다.
+     */
+    private RecordId consumedBoundary() {
+        StreamInfo.XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+        if (groups == null || groups.isEmpty()) {
+            return null;
+        }
+        RecordId boundary = null;
+        for (StreamInfo.XInfoGroup group : groups) {
+            RecordId position = RecordId.of(group.lastDeliveredId());
+            if (group.pendingCount() > 0) {
+                PendingMessagesSummary pending = redisTemplate.opsForStream().pending(streamKey, group.groupName());
+                if (pending != null && pending.minRecordId() != null && isBefore(pending.minRecordId(), position)) {
+                    position = pending.minRecordId();
+                }
+            }
+            if (boundary == null || isBefore(position, boundary)) {
+                boundary = position;
+            }
+        }
+        if (boundary == null || (boundary.getTimestamp() == 0 && boundary.getSequence() == 0)) {
+            return null;
+        }
+        return boundary;
+    }
+
+    /**
+     * XTRIM key strategy ~ threshold. StreamOperations 는 MAXLEN 만 지원하므로 MINID 는 명령을 직접 보낸다.
+     * 근사(~) 트리밍이라 Redis 가 노드 단위로만 잘라내 비용이 작고, 경계 근처 엔트리가 조금 더 남을 수 있다.
+     */
+    private long xtrim(String strategy, String threshold) {
+        Object result = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("XTRIM",
+                streamKey.getBytes(StandardCharsets.UTF_8),
+                strategy.getBytes(StandardCharsets.US_ASCII),
+                "~".getBytes(StandardCharsets.US_ASCII),
+                threshold.getBytes(StandardCharsets.US_ASCII)));
+        return result instanceof Long removed ? removed : 0L;
+    }
+
+    private void refreshRowCounts() {
+        List<Object[]> rows = outboxRepository.countByStatus();
+        rowsByStatus.values().forEach(gauge -> gauge.set(0));
+        for (Object[] row : rows) {
+            AtomicLong gauge = rowsByStatus.get((String) row[0]);
+            if (gauge != null) {
+                gauge.set(((Number) row[1]).longValue());
+            }
+        }
+    }
+
+    /** 청크 사이 휴지 — 정리 작업이 DB I/O 를 연속으로 점유하지 않게 한다. 인터럽트되면 이번 틱을 끝낸다. */
+    private boolean pause() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isBefore(RecordId a, RecordId b) {
+        if (a.getTimestamp() != b.getTimestamp()) {
+            return a.getTimestamp() < b.getTimestamp();
+        }
+        return a.getSequence() < b.getSequence();
+    }
+
+    private static AtomicLong rowsGauge(MeterRegistry registry, String status) {
+        return registry.gauge("flasharena.outbox.rows", Tags.of("status", status), new AtomicLong());
+    }
+}
@@ -0,0 +1,79 @@
+package com.flasharena.order.application;
+
+import com.flasharena.order.domain.ProductAttributes;
+import com.flasharena.order.infrastructure.ProductRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 불변 속성(이름/가격) near-cache. 정산 경로가 당첨자마다 가격 하나 때문에 product 를 SELECT 하던 것을 없앤다.
+ * 재고(quantity)는 절대 캐시하지 않는다 — 재고는 항상 DB 원자 UPDATE 로만 다룬다.
+ * <p>이름/가격은 애플리케이션에서 바뀌지 않는다 — {@code Product} 가 두 컬럼을 {@code updatable = false} 로 매핑하고
+ * 수정 API 도 없다. 시드나 직접 SQL 로 고쳤다면 {@code PUBLISH <app.catalog.invalidation-channel> <id|*>} 로
+ * 모든 인스턴스의 로컬 항목을 지운다({@link #evictLocal}). 메시지를 놓친 인스턴스를 위한 안전망으로 항목은
+ * {@code app.catalog.ttl} 뒤에 만료된다.
+ * <p>지표: {@code cache.gets{cache=product-catalog,result=hit|miss}} 등 (Caffeine 통계).
+ */
+@Component
+public class ProductCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCatalog.class);
+
+    /** 전체 무효화 메시지. */
+    public static final String ALL = "*";
+
+    private final ProductRepository productRepository;
+    private final LoadingCache<UUID, ProductAttributes> cache;
+
+    public ProductCatalog(ProductRepository productRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.catalog.max-size:10000}") long maxSize,
+            @Value("${app.catalog.ttl:10m}") Duration ttl) {
+        this.productRepository = productRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-catalog");
+    }
+
+    /**
+     * 캐시된 속성. 없으면 DB 에서 이름/가격만 읽어 채운다(호출 트랜잭션에 참여).
+     *
+     * @throws java.util.NoSuchElementException 상품이 없는 경우 (캐시하지 않는다)
+     */
+    public ProductAttributes get(UUID productId) {
+        return cache.get(productId);
+    }
+
+    public long price(UUID productId) {
+        return get(productId).price();
+    }
+
+    /** pub/sub 수신 처리 — 운영자가 보낸 id 또는 {@code *}. */
+    public void evictLocal(String message) {
+        if (ALL.equals(message)) {
+            cache.invalidateAll();
+            return;
+        }
+        try {
+            cache.invalidate(UUID.fromString(message));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 캐시 무효화 메시지 형식 오류 '{}' → 전체 무효화", message);
+            cache.invalidateAll();
+        }
+    }
+
+    private ProductAttributes load(UUID productId) {
+        return productRepository.findAttributesById(productId).orElseThrow();
+    }
+}
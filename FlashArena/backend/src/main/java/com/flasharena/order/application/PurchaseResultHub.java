@@ -0,0 +1,155 @@
+package com.flasharena.order.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flasharena.order.presentation.dto.PurchaseResult;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 구매 시도(attemptId) 결과 보관 + 대기자 fan-out 허브 (스레드 안전). {@link SimulationStreamHub} 와 같은 방식이다.
+ * <p>대기 수단은 두 가지: SSE({@code event: result} 한 번 후 완료)와 롱폴링({@link DeferredResult}).
+ * 둘 다 서블릿 비동기라 대기 중에도 요청 스레드를 점유하지 않는다.
+ * 정산 완료 시 {@link #publish} 가 결과를 저장하고 등록된 대기자 모두에게 보낸다.
+ * 대기자 등록은 결과 저장 이후에도 올 수 있으므로, 등록 직후 저장된 최종 결과를 다시 확인해 유실을 막는다.
+ */
+@Component
+public class PurchaseResultHub {
+
+    private static final Logger log = LoggerFactory.getLogger(PurchaseResultHub.class);
+
+    // RAM 보호용 결과 보관 상한 (삽입 순서로 오래된 것부터 버린다).
+    private static final int MAX_STORED_RESULTS = 10_000;
+    /** SSE 타임아웃 1분. 정산은 보통 수십 ms 안에 끝난다. */
+    private static final long EMITTER_TIMEOUT_MS = 60 * 1000L;
+
+    private final Map<String, PurchaseResult> results = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PurchaseResult> eldest) {
+            return size() > MAX_STORED_RESULTS;
+        }
+    };
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<String, List<DeferredResult<PurchaseResult>>> pollers = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+
+    public PurchaseResultHub(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /** 결과 저장만 (PENDING 등록용). 대기자에게는 알리지 않는다. */
+    public void store(PurchaseResult result) {
+        synchronized (results) {
+            results.put(result.attemptId(), result);
+        }
+    }
+
+    /** 저장된 결과 조회. 없으면(만료/모르는 id) null. */
+    public PurchaseResult find(String attemptId) {
+        synchronized (results) {
+            return results.get(attemptId);
+        }
+    }
+
+    /** 최종 결과 저장 + 해당 attempt 의 모든 SSE/롱폴링 대기자에게 전달. */
+    public void publish(PurchaseResult result) {
+        store(result);
+        String attemptId = result.attemptId();
+        List<DeferredResult<PurchaseResult>> waiting = pollers.remove(attemptId);
+        if (waiting != null) {
+            for (DeferredResult<PurchaseResult> poller : waiting) {
+                poller.setResult(result);
+            }
+        }
+        List<SseEmitter> list = emitters.remove(attemptId);
+        if (list != null) {
+            sendAndComplete(attemptId, list, result);
+        }
+    }
+
+    /**
+     * 롱폴링 대기. 이미 최종 상태면 즉시 응답하고, 아니면 timeoutMs 동안 기다렸다가 그때의 상태(PENDING)를 돌려준다.
+     */
+    public DeferredResult<PurchaseResult> await(PurchaseResult current, long timeoutMs) {
+        String attemptId = current.attemptId();
+        DeferredResult<PurchaseResult> poller = new DeferredResult<>(timeoutMs);
+        if (current.status().isTerminal()) {
+            poller.setResult(current);
+            return poller;
+        }
+        List<DeferredResult<PurchaseResult>> list = pollers.computeIfAbsent(attemptId, k -> new CopyOnWriteArrayList<>());
+        list.add(poller);
+        poller.onTimeout(() -> poller.setResult(find(attemptId)));
+        poller.onCompletion(() -> remove(pollers, attemptId, poller));
+        // 등록 직전에 publish 가 끝났을 수 있다 — 저장된 최종 결과로 즉시 닫는다.
+        PurchaseResult latest = find(attemptId);
+        if (latest != null && latest.status().isTerminal()) {
+            poller.setResult(latest);
+        }
+        return poller;
+    }
+
+    /** SSE 구독. 최종 결과가 오면 {@code event: result} 한 번을 보내고 완료한다. */
+    public SseEmitter subscribe(PurchaseResult current) {
+        String attemptId = current.attemptId();
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        if (current.status().isTerminal()) {
+            sendAndComplete(attemptId, List.of(emitter), current);
+            return emitter;
+        }
+        List<SseEmitter> list = emitters.computeIfAbsent(attemptId, k -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        emitter.onCompletion(() -> remove(emitters, attemptId, emitter));
+        emitter.onTimeout(() -> {
+            emitter.complete();
+            remove(emitters, attemptId, emitter);
+        });
+        emitter.onError(e -> remove(emitters, attemptId, emitter));
+
+        PurchaseResult latest = find(attemptId);
+        if (latest != null && latest.status().isTerminal() && list.remove(emitter)) {
+            sendAndComplete(attemptId, List.of(emitter), latest);
+        }
+        return emitter;
+    }
+
+    private void sendAndComplete(String attemptId, List<SseEmitter> list, PurchaseResult result) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            log.warn("[purchase {}] result 직렬화 실패", attemptId, e);
+            for (SseEmitter emitter : list) {
+                emitter.completeWithError(e);
+            }
+            return;
+        }
+        for (SseEmitter emitter : list) {
+            try {
+                emitter.send(SseEmitter.event().name("result").data(json));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 이미 끊긴 클라이언트 — 무시.
+            }
+        }
+    }
+
+    private <T> void remove(Map<String, List<T>> map, String attemptId, T waiter) {
+        List<T> list = map.get(attemptId);
+        if (list != null) {
+            list.remove(waiter);
+            if (list.isEmpty()) {
+                map.remove(attemptId, list);
+            }
+        }
+    }
+}
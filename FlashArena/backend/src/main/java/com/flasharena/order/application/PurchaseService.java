@@ -0,0 +1,184 @@
+package com.flasharena.order.application;
+
+import com.flasharena.global.partition.RunPartitions;
+import com.flasharena.order.domain.PurchaseStatus;
+import com.flasharena.order.domain.SimulationMode;
+import com.flasharena.order.presentation.dto.PurchaseResult;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 공개 구매 API 엔진: 요청 스레드에서는 Redis 게이트만 돌리고, DB 정산은 유한한 정산 스테이지에 넘긴다.
+ * <p>흐름:
+ * <ol>
+ *   <li>요청 스레드 — 카운터 DECR 로 당첨/낙첨 판정(인메모리 원자 연산). 낙첨은 DB 를 건드리지 않고 즉시 SOLD_OUT.</li>
+ *   <li>당첨 — attemptId 를 PENDING 으로 등록하고 정산 스테이지에 제출한 뒤 곧바로 202 를 돌려준다.</li>
+ *   <li>정산 스테이지 — 고정 스레드 + 유한 큐. OrderProcessor 트랜잭션으로 주문(또는 선점)을 만들고 결과를 허브로 fan-out.</li>
+ * </ol>
+ * 큐가 가득 차면 무한정 쌓지 않고 REJECTED 로 즉시 거절한다 — DB 커넥션 풀보다 많은 일을 떠안지 않기 위함.
+ * 정산 트랜잭션은 적응형 동시성 제한기를 거치며, DB RTT 가 치솟아 상한에 닿은 경우에도 REJECTED 로 끝난다.
+ * REJECTED/FAILED 로 끝난 당첨자는 DB 재고를 줄이지 않았으므로 확보한 자리를 카운터로 되돌린다(INCR).
+ * <p>게이트 모드는 {@code app.purchase.mode} 로 고른다 (REDIS_COUNTER | REDIS_HOLD). 카운터는 시뮬레이터와 같은 키를 쓰며,
+ * DECR 은 키가 있고 값이 양수일 때만 하는 Lua 라서 키가 없으면(첫 요청, eviction, FLUSH, run 리셋) DB 재고로 SETNX 적재 후
+ * 다시 시도한다. 없는 키에 DECR 하면 -1 로 생겨 이후 모든 요청이 SOLD_OUT 이 되기 때문. 0 이면 줄이지 않고 품절로 답한다.
+ * 주문은 시뮬레이터 run 이 아니므로 live 파티션({@link RunPartitions#LIVE})에 기록된다 — run 정리 대상이 아니다.
+ */
+@Service
+public class PurchaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(PurchaseService.class);
+
+    private final OrderProcessor orderProcessor;
+    private final ReservationService reservationService;
+    private final PurchaseResultHub resultHub;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final StringRedisTemplate redisTemplate;
+    private final SimulationMode mode;
+    private final ThreadPoolExecutor settlement;
+    private volatile UUID defaultProductId;
+
+    public PurchaseService(OrderProcessor orderProcessor,
+            ReservationService reservationService,
+            PurchaseResultHub resultHub,
+            AdaptiveConcurrencyLimiter limiter,
+            StringRedisTemplate redisTemplate,
+            @Value("${app.purchase.mode:REDIS_COUNTER}") SimulationMode mode,
+            @Value("${app.purchase.settlement-threads:8}") int settlementThreads,
+            @Value("${app.purchase.settlement-queue-capacity:1000}") int queueCapacity) {
+        if (mode != SimulationMode.REDIS_COUNTER && mode != SimulationMode.REDIS_HOLD) {
+            throw new IllegalStateException("app.purchase.mode 는 REDIS_COUNTER 또는 REDIS_HOLD 여야 합니다: " + mode);
+        }
+        this.orderProcessor = orderProcessor;
+        this.reservationService = reservationService;
+        this.resultHub = resultHub;
+        this.limiter = limiter;
+        this.redisTemplate = redisTemplate;
+        this.mode = mode;
+        AtomicInteger seq = new AtomicInteger();
+        this.settlement = new ThreadPoolExecutor(settlementThreads, settlementThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "purchase-settle-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 구매 접수. 게이트만 통과시키고 즉시 반환한다 (정산은 비동기).
+     *
+     * @param productId null 이면 단일 시드 상품
+     * @return PENDING(정산 대기) / SOLD_OUT / REJECTED 중 하나
+     */
+    public PurchaseResult accept(UUID productId, UUID userId) {
+        UUID target = productId != null ? productId : defaultProductId();
+        String stockKey = SimulationService.STOCK_KEY_PREFIX + target;
+
+        String attemptId = UUID.randomUUID().toString();
+        PurchaseResult pending = PurchaseResult.pending(attemptId, target, userId);
+
+        Long remaining = decrementIfLoaded(stockKey);
+        if (remaining == null) {
+            loadCounter(target, stockKey);
+            remaining = decrementIfLoaded(stockKey);
+        }
+        if (remaining == null || remaining < 0) {
+            PurchaseResult soldOut = pending.settle(PurchaseStatus.SOLD_OUT, null);
+            resultHub.store(soldOut);
+            return soldOut;
+        }
+
+        resultHub.store(pending);
+        try {
+            settlement.execute(() -> settle(pending, stockKey));
+            return pending;
+        } catch (RejectedExecutionException e) {
+            redisTemplate.opsForValue().increment(stockKey);
+            PurchaseResult rejected = pending.settle(PurchaseStatus.REJECTED, null);
+            resultHub.publish(rejected);
+            return rejected;
+        }
+    }
+
+    /** attemptId 소유자 확인 후 결과 조회. 남의 시도거나 모르는 id 면 null. */
+    public PurchaseResult find(String attemptId, UUID userId) {
+        PurchaseResult result = resultHub.find(attemptId);
+        return result != null && result.userId().equals(userId) ? result : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        settlement.shutdownNow();
+    }
+
+    /** 정산 스테이지 본문: 당첨자 1건을 주문(또는 선점)으로 만든다. */
+    private void settle(PurchaseResult pending, String stockKey) {
+        UUID productId = pending.productId();
+        UUID userId = pending.userId();
+        UUID orderId;
+        try {
+            orderId = limiter.execute(() -> mode == SimulationMode.REDIS_HOLD
+                    ? orderProcessor.settleHold(RunPartitions.LIVE, productId, userId, true, true)
+                    : orderProcessor.settleCounterWin(RunPartitions.LIVE, productId, userId));
+        } catch (AdaptiveConcurrencyLimiter.LimitExceededException e) {
+            // DB 가 느려져 제한기가 상한을 줄인 상태 — 트랜잭션을 열지 않았으니 자리만 돌려주고 거절.
+            redisTemplate.opsForValue().increment(stockKey);
+            resultHub.publish(pending.settle(PurchaseStatus.REJECTED, null));
+            return;
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백돼 DB 재고는 그대로다 → 확보했던 카운터 자리도 돌려준다.
+            log.warn("[purchase {}] 정산 실패: {}", pending.attemptId(), e.getMessage());
+            redisTemplate.opsForValue().increment(stockKey);
+            resultHub.publish(pending.settle(PurchaseStatus.FAILED, null));
+            return;
+        }
+        if (mode == SimulationMode.REDIS_HOLD) {
+            // 커밋 이후 선점 등록. 여기서 실패해도 주문은 이미 HELD 이므로 자리를 되돌리지 않는다.
+            try {
+                reservationService.hold(RunPartitions.LIVE, productId, orderId);
+            } catch (RuntimeException e) {
+                log.error("[purchase {}] 선점 등록 실패 orderId={}", pending.attemptId(), orderId, e);
+            }
+            resultHub.publish(pending.settle(PurchaseStatus.HELD, orderId));
+        } else {
+            resultHub.publish(pending.settle(PurchaseStatus.SUCCEEDED, orderId));
+        }
+    }
+
+    private Long decrementIfLoaded(String stockKey) {
+        return redisTemplate.execute(SimulationService.STOCK_DECREMENT, List.of(stockKey));
+    }
+
+    /** 카운터를 DB 현재 재고로 적재한다 (SETNX: 시뮬레이터나 다른 인스턴스가 먼저 적재했으면 그대로 둔다). */
+    private void loadCounter(UUID productId, String stockKey) {
+        int stock = orderProcessor.findStock(productId)
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다. productId=" + productId));
+        redisTemplate.opsForValue().setIfAbsent(stockKey, Integer.toString(stock));
+    }
+
+    private UUID defaultProductId() {
+        UUID id = defaultProductId;
+        if (id == null) {
+            id = orderProcessor.defaultProductId();
+            defaultProductId = id;
+        }
+        return id;
+    }
+
+    /** 존재하지 않는 상품 구매 시도. 핸들러에서 404 로 매핑. */
+    public static class ProductNotFoundException extends RuntimeException {
+        public ProductNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
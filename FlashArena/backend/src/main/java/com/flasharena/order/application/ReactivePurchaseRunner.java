@@ -0,0 +1,116 @@
+package com.flasharena.order.application;
+
+import com.flasharena.global.event.OrderEventCodec;
+import com.flasharena.global.event.OrderEventMessage;
+import com.flasharena.global.event.OrderEventType;
+import com.flasharena.global.id.UuidV7;
+import com.flasharena.order.infrastructure.ReactiveOrderStore;
+import com.flasharena.order.infrastructure.ReactiveStockGate;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REACTIVE 모드 엔진. REDIS_COUNTER 와 같은 게이트(0 하한 DECR) → 정산(원자 차감 + 주문 + 아웃박스)을
+ * 스레드 풀 대신 논블로킹 파이프라인으로 돌린다: Lettuce 리액티브 DECR → R2DBC 트랜잭션.
+ * <p>시도 생성기는 {@code Flux.range(0, concurrency).flatMap(attempt, maxInFlight)} — 동시에 진행 중인 시도는
+ * maxInFlight 개로 묶이고, 대기 중인 시도는 스레드가 아니라 구독 요청(demand)으로만 존재한다.
+ * 실제 DB 동시성 상한은 R2DBC 풀 크기({@code app.reactive.pool-max-size})다.
+ * <p>적응형 동시성 제한기와 JFR 시도 이벤트는 스레드 단위 API 라 이 엔진에는 걸지 않는다.
+ */
+@Component
+public class ReactivePurchaseRunner {
+
+    private static final int LOG_SAMPLE_INTERVAL = 50;
+
+    private final ReactiveStockGate gate;
+    private final ReactiveOrderStore store;
+    private final ProductCatalog productCatalog;
+    private final SimulationLogger logger;
+    private final boolean debugJson;
+
+    public ReactivePurchaseRunner(ReactiveStockGate gate,
+            ReactiveOrderStore store,
+            ProductCatalog productCatalog,
+            SimulationLogger logger,
+            @Value("${app.outbox.debug-json:false}") boolean debugJson) {
+        this.gate = gate;
+        this.store = store;
+        this.productCatalog = productCatalog;
+        this.logger = logger;
+        this.debugJson = debugJson;
+    }
+
+    /**
+     * concurrency 개 시도를 최대 maxInFlight 개씩 겹쳐 실행하고 모두 끝날 때까지 기다린다 (오케스트레이터 스레드에서 호출).
+     *
+     * @param stockKey 호출부가 초기 재고로 적재해 둔 게이트 카운터 키
+     */
+    public void run(String runId, UUID run, UUID productId, UUID userId, String stockKey, int concurrency,
+            int maxInFlight, SimulationMetrics.Recorder recorder, AtomicInteger successCount, AtomicInteger failCount) {
+        // 가격은 파이프라인에 들어가기 전에 한 번 (캐시 미스면 여기서만 JPA 로 읽는다 — 이벤트 루프를 막지 않도록).
+        long unitPrice = productCatalog.price(productId);
+        Flux.range(0, concurrency)
+                .flatMap(seq -> attempt(runId, run, productId, userId, stockKey, unitPrice, seq, recorder)
+                        .doOnNext(ok -> (ok ? successCount : failCount).incrementAndGet()),
+                        Math.max(1, maxInFlight))
+                .then()
+                .block();
+    }
+
+    private Mono<Boolean> attempt(String runId, UUID run, UUID productId, UUID userId, String stockKey,
+            long unitPrice, int seq, SimulationMetrics.Recorder recorder) {
+        return Mono.defer(() -> {
+            long begin = recorder.begin();
+            // 카운터 자리를 잡았지만 아직 판매가 커밋되지 않은 동안만 true — 이때 난 오류는 자리를 돌려줘야 한다.
+            AtomicBoolean claimed = new AtomicBoolean();
+            return gate.decrement(stockKey)
+                    .map(remaining -> remaining >= 0)
+                    .doOnNext(claimed::set)
+                    .flatMap(won -> won
+                            ? recordSale(run, productId, userId, unitPrice)
+                                    .doOnSuccess(v -> claimed.set(false))
+                                    .thenReturn(true)
+                            : store.recordFailure(UuidV7.next(), run, productId, userId).thenReturn(false))
+                    .doOnNext(ok -> {
+                        recorder.end(begin, ok ? "SUCCESS" : "FAIL");
+                        sample(runId, ok, seq);
+                    })
+                    // 시도 하나의 오류가 run 전체를 끊지 않게 삼킨다. 스레드 엔진의 ERROR 처럼 성공/실패 집계에는 넣지 않는다.
+                    .onErrorResume(e -> {
+                        recorder.end(begin, "ERROR");
+                        if (!claimed.get()) {
+                            return Mono.empty();
+                        }
+                        // R2DBC 트랜잭션이 롤백돼 DB 재고는 그대로다 → 확보했던 카운터 자리도 INCR 로 돌려준다.
+                        return gate.increment(stockKey)
+                                .onErrorResume(ignored -> Mono.empty())
+                                .then(Mono.<Boolean>empty());
+                    });
+        });
+    }
+
+    private Mono<Void> recordSale(UUID run, UUID productId, UUID userId, long unitPrice) {
+        UUID orderId = UuidV7.next();
+        OrderEventMessage event = new OrderEventMessage(OrderEventType.ORDER_COMPLETED, orderId, run,
+                userId, productId, 1, unitPrice, Instant.now());
+        return store.recordSale(orderId, UuidV7.next(), run, productId, userId, OrderEventCodec.encode(event),
+                debugJson ? OrderEventCodec.toDebugJson(event) : null);
+    }
+
+    private void sample(String runId, boolean ok, int seq) {
+        if (seq % LOG_SAMPLE_INTERVAL != 0) {
+            return;
+        }
+        if (ok) {
+            logger.success(runId, String.format("✅ 구매 성공 seq=%d (reactive)", seq));
+        } else {
+            logger.outOfStock(runId, String.format("❌ 재고 부족 실패 seq=%d (reactive)", seq));
+        }
+    }
+}
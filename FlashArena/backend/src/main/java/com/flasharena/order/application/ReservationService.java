@@ -0,0 +1,232 @@
+package com.flasharena.order.application;
+
+import com.flasharena.global.partition.RunPartitions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * REDIS_HOLD 모드의 재고 선점(hold → pay → confirm/expire) 관리자.
+ * <p>선점 = Redis 키 {@code hold:order:{orderId}} (값=만료 시각 epoch ms). 키의 존재가 "아직 결제 대기 중" 이며,
+ * 확정과 만료의 경합은 이 키 위에서 Lua 로 원자적으로 판정된다 — 먼저 손댄 쪽만 이긴다(이중 반환/이중 확정 불가).
+ * <ul>
+ *   <li>확정: payment 결과 스트림(PAYMENT_COMPLETED) → 기한 내면 키 값을 {@code CONFIRMING} 으로 바꿔 선점을
+ *       확보 → DB HELD→CONFIRMED 커밋 → 그 뒤에야 키 DEL. DB 가 실패해도 키가 남아 있으므로 재전달이나
+ *       스위퍼가 확정을 마저 끝낸다 (키부터 지우면 HELD 주문이 어디서도 안 보여 재고가 영구히 묶인다).</li>
+ *   <li>만료: 타이밍 휠 스위퍼가 지나간 슬롯의 예약을 상품별 배치로 묶어 Lua 한 번에
+ *       키 DEL + 지워진 수만큼 카운터 INCRBY → DB 에 EXPIRED 전이 + 재고 반환을 배치 UPDATE 로 반영.
+ *       {@code CONFIRMING} 키는 만료시키지 않고 DB 확정을 재시도한다 (결제는 이미 끝났다).</li>
+ * </ul>
+ * 만료 대상은 휠이 알고 있으므로 DB 나 Redis 를 스캔하지 않는다. 키의 Redis TTL 은 판정용이 아니라
+ * (그러면 스위퍼보다 먼저 사라져 재고가 돌아오지 않는다) 휠을 잃었을 때를 대비한 안전망 GC 다.
+ */
+@Component
+public class ReservationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationService.class);
+
+    private static final String HOLD_KEY_PREFIX = "hold:order:";
+    // 안전망 TTL = 선점 TTL + 여유. 스위퍼가 정상이라면 이 TTL 에 닿기 전에 확정/만료로 지워진다.
+    private static final Duration SAFETY_GRACE = Duration.ofMinutes(10);
+    // 스위퍼가 DB 확정 재시도에 실패했을 때 다시 볼 때까지의 간격.
+    private static final long CONFIRM_RETRY_MS = 5_000;
+
+    /**
+     * 기한 내면 값을 CONFIRMING 으로 바꾸고 1, 이미 CONFIRMING(확정 재시도)이어도 1,
+     * 기한이 지났거나(스위퍼 몫) 이미 지워졌으면 0. 키는 DB 확정이 커밋된 뒤에 지운다.
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+                return 0
+            end
+            if value == 'CONFIRMING' then
+                return 1
+            end
+            if tonumber(value) < tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], 'CONFIRMING', 'KEEPTTL')
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=재고 카운터, KEYS[2..]=hold 키. 아직 남아있는 hold 키만 지우고 그 수만큼 카운터에 되돌린다.
+     * 지워진 hold 키의 위치(1-based, KEYS[2] 가 1)를 돌려준다. CONFIRMING 키는 지우지 않고 안전망 TTL 만
+     * ARGV[1] ms 로 늘린 뒤 음수 위치로 돌려준다 (DB 확정 재시도 대상).
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> EXPIRE_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            local expired = 0
+            for i = 2, #KEYS do
+                local value = redis.call('GET', KEYS[i])
+                if value == 'CONFIRMING' then
+                    redis.call('PEXPIRE', KEYS[i], ARGV[1])
+                    result[#result + 1] = 1 - i
+                elseif value then
+                    redis.call('DEL', KEYS[i])
+                    expired = expired + 1
+                    result[#result + 1] = i - 1
+                end
+            end
+            if expired > 0 then
+                redis.call('INCRBY', KEYS[1], expired)
+            end
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderProcessor orderProcessor;
+    private final SimulationLogger simulationLogger;
+    private final ReservationTimingWheel wheel;
+    private final long ttlMs;
+    private final int sweepBatchSize;
+
+    public ReservationService(StringRedisTemplate redisTemplate,
+            OrderProcessor orderProcessor,
+            SimulationLogger simulationLogger,
+            @Value("${app.hold.ttl-ms:180000}") long ttlMs,
+            @Value("${app.hold.tick-ms:100}") long tickMs,
+            @Value("${app.hold.wheel-size:512}") int wheelSize,
+            @Value("${app.hold.sweep-batch-size:500}") int sweepBatchSize) {
+        this.redisTemplate = redisTemplate;
+        this.orderProcessor = orderProcessor;
+        this.simulationLogger = simulationLogger;
+        this.ttlMs = ttlMs;
+        this.sweepBatchSize = sweepBatchSize;
+        this.wheel = new ReservationTimingWheel(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 선점 등록. HELD 주문 트랜잭션이 커밋된 뒤 호출한다 (결제 요청 이벤트는 릴레이어 폴링을 거쳐야 나가므로
+     * 확정이 이 등록보다 먼저 도착하는 일은 사실상 없다).
+     *
+     * @param runId 시뮬레이터 run id, 공개 구매 API 는 {@link RunPartitions#LIVE}
+     */
+    public void hold(UUID runId, UUID productId, UUID orderId) {
+        long deadline = System.currentTimeMillis() + ttlMs;
+        redisTemplate.opsForValue().set(HOLD_KEY_PREFIX + orderId, Long.toString(deadline),
+                Duration.ofMillis(ttlMs).plus(SAFETY_GRACE));
+        wheel.schedule(runId, productId, orderId, deadline);
+    }
+
+    /**
+     * 결제 완료 → 선점 확정. 멱등: 확정이 끝나면 키가 없어 재전달은 false, DB 단계가 실패했다면
+     * 키가 CONFIRMING 으로 남아 있어 재전달이 DB 확정을 다시 시도한다. DB 예외는 그대로 던진다(미-ACK).
+     *
+     * @return 확정 여부. false 면 이미 확정됐거나 기한을 넘겨 만료(재고 반환) 대상이다.
+     */
+    public boolean confirm(UUID orderId) {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(HOLD_KEY_PREFIX + orderId),
+                Long.toString(System.currentTimeMillis()));
+        if (claimed == null || claimed == 0L) {
+            log.warn("선점 확정 실패(만료 또는 중복) orderId={} — 결제가 기한을 넘겼다면 환불 대상", orderId);
+            return false;
+        }
+        return completeConfirm(orderId);
+    }
+
+    /** DB 확정(자체 트랜잭션, 반환 시점엔 커밋됨) 후 hold 키 삭제. 이미 CONFIRMED 여도 키는 치운다. */
+    private boolean completeConfirm(UUID orderId) {
+        boolean confirmed = orderProcessor.confirmHold(orderId);
+        redisTemplate.delete(HOLD_KEY_PREFIX + orderId);
+        return confirmed;
+    }
+
+    /**
+     * run 리셋: 이전 시뮬레이터 run 의 대기 예약이 새 run 의 카운터로 반환되지 않도록 휠에서 뺀다.
+     * 공개 구매 API 의 선점(LIVE)은 그대로 둔다 — 빼면 만료되지 않아 HELD 주문과 자리가 영영 묶인다.
+     */
+    public void resetRuns() {
+        wheel.removeIf(r -> !RunPartitions.LIVE.equals(r.runId()));
+    }
+
+    /**
+     * 타이밍 휠 스위퍼. 지나간 tick 의 만료 예약을 상품별·배치 크기별로 묶어
+     * Redis(Lua 1회) → DB(UPDATE 2회) 순으로 반환한다.
+     */
+    @Scheduled(fixedDelayString = "${app.hold.tick-ms:100}")
+    public void sweep() {
+        List<ReservationTimingWheel.Reservation> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<ReservationTimingWheel.Reservation>> byProduct = new LinkedHashMap<>();
+        for (ReservationTimingWheel.Reservation r : due) {
+            byProduct.computeIfAbsent(r.productId(), k -> new ArrayList<>()).add(r);
+        }
+        int returned = 0;
+        for (Map.Entry<UUID, List<ReservationTimingWheel.Reservation>> entry : byProduct.entrySet()) {
+            List<ReservationTimingWheel.Reservation> reservations = entry.getValue();
+            for (int from = 0; from < reservations.size(); from += sweepBatchSize) {
+                returned += expireBatch(entry.getKey(),
+                        reservations.subList(from, Math.min(from + sweepBatchSize, reservations.size())));
+            }
+        }
+        if (returned > 0) {
+            simulationLogger.summary("hold-sweeper",
+                    String.format("⏰ 선점 만료: %d건 재고 반환 (대상 %d건)", returned, due.size()));
+        }
+    }
+
+    private int expireBatch(UUID productId, List<ReservationTimingWheel.Reservation> reservations) {
+        List<String> keys = new ArrayList<>(reservations.size() + 1);
+        keys.add(SimulationService.STOCK_KEY_PREFIX + productId);
+        for (ReservationTimingWheel.Reservation r : reservations) {
+            keys.add(HOLD_KEY_PREFIX + r.orderId());
+        }
+        List<UUID> expired = new ArrayList<>();
+        List<ReservationTimingWheel.Reservation> confirming = new ArrayList<>();
+        try {
+            List<?> positions = redisTemplate.execute(EXPIRE_SCRIPT, keys, Long.toString(SAFETY_GRACE.toMillis()));
+            if (positions == null || positions.isEmpty()) {
+                return 0;
+            }
+            for (Object position : positions) {
+                int p = ((Number) position).intValue();
+                if (p > 0) {
+                    expired.add(reservations.get(p - 1).orderId());
+                } else {
+                    confirming.add(reservations.get(-p - 1));
+                }
+            }
+            if (!expired.isEmpty()) {
+                // Redis 카운터는 이미 반환됐다. DB 가 실패하면 카운터와 어긋나므로 크게 남긴다.
+                int transitioned = orderProcessor.expireHolds(productId, expired);
+                if (transitioned != expired.size()) {
+                    log.warn("선점 만료 불일치 productId={} redis={} db={}", productId, expired.size(), transitioned);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("선점 만료 배치 실패 productId={} size={}", productId, reservations.size(), e);
+            return 0;
+        }
+        for (ReservationTimingWheel.Reservation r : confirming) {
+            retryConfirm(r);
+        }
+        return expired.size();
+    }
+
+    /** 결제는 끝났는데 DB 확정이 커밋되지 못한 예약 — 다시 시도하고, 또 실패하면 휠에 다시 건다. */
+    private void retryConfirm(ReservationTimingWheel.Reservation r) {
+        try {
+            completeConfirm(r.orderId());
+            log.info("선점 확정 재시도 성공 orderId={}", r.orderId());
+        } catch (RuntimeException e) {
+            log.warn("선점 확정 재시도 실패 orderId={} : {}", r.orderId(), e.getMessage());
+            wheel.schedule(r.runId(), r.productId(), r.orderId(), System.currentTimeMillis() + CONFIRM_RETRY_MS);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.flasharena.order.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+/**
+ * REDIS_HOLD 예약 만료용 해시드 타이밍 휠 (스레드 안전).
+ * <p>tickMs 간격의 슬롯 wheelSize 개를 원형으로 돌린다. 등록은 만료 tick 의 슬롯 큐에 넣기만 하므로 O(1),
+ * 스위퍼는 지나간 tick 의 슬롯만 비우므로 대기 중인 예약 수(1만 건 이상)와 무관하게 틱당 비용이 일정하다.
+ * DB/Redis 를 주기적으로 스캔해 만료 대상을 찾지 않는 것이 핵심.
+ * <p>휠 한 바퀴(tickMs × wheelSize)보다 긴 TTL 은 절대 만료 tick 을 들고 있다가
+ * 해당 바퀴가 올 때까지 슬롯에 되돌려 넣는다(rounds).
+ * <p>⚠️ 휠은 JVM 메모리에만 있다. 재시작으로 잃은 예약은 Redis 키의 안전망 TTL 이 정리하지만 재고는 돌아오지 않는다.
+ */
+class ReservationTimingWheel {
+
+    /** 만료 대상 1건: 어떤 상품 카운터로 되돌릴지 + 어떤 주문을 만료시킬지 + 어느 run(또는 LIVE)의 선점인지. */
+    record Reservation(UUID runId, UUID productId, UUID orderId, long expireTick) {
+    }
+
+    private final long tickMs;
+    private final Queue<Reservation>[] slots;
+    // 마지막으로 처리한 절대 tick. 스위퍼 스레드만 쓰고, 등록 스레드는 읽기만 한다.
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    ReservationTimingWheel(long tickMs, int wheelSize, long nowMs) {
+        this.tickMs = tickMs;
+        this.slots = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = nowMs / tickMs;
+    }
+
+    /** deadlineMs 에 만료될 예약 등록. 이미 지나간 tick 이면 다음 tick 으로 당긴다. */
+    void schedule(UUID runId, UUID productId, UUID orderId, long deadlineMs) {
+        long tick = Math.max((deadlineMs + tickMs - 1) / tickMs, currentTick + 1);
+        slots[slotOf(tick)].add(new Reservation(runId, productId, orderId, tick));
+    }
+
+    /**
+     * nowMs 까지 지나간 tick 들의 슬롯을 비우고 만료된 예약을 돌려준다. 스위퍼 단일 스레드에서만 호출한다.
+     * 스위퍼가 늦어 여러 tick 이 밀렸어도 최대 한 바퀴만 훑으면 모든 슬롯을 한 번씩 본다.
+     */
+    List<Reservation> advance(long nowMs) {
+        long targetTick = nowMs / tickMs;
+        List<Reservation> expired = new ArrayList<>();
+        long from = Math.max(currentTick + 1, targetTick - slots.length + 1);
+        for (long tick = from; tick <= targetTick; tick++) {
+            drainSlot(slotOf(tick), targetTick, expired);
+        }
+        if (targetTick > currentTick) {
+            currentTick = targetTick;
+        }
+        return expired;
+    }
+
+    /** 조건에 맞는 대기 예약을 버린다 (run 리셋 시 이전 run 예약이 새 카운터로 반환되지 않게). */
+    void removeIf(Predicate<Reservation> filter) {
+        for (Queue<Reservation> slot : slots) {
+            slot.removeIf(filter);
+        }
+    }
+
+    private void drainSlot(int index, long targetTick, List<Reservation> expired) {
+        Queue<Reservation> slot = slots[index];
+        List<Reservation> notYet = new ArrayList<>();
+        Reservation r;
+        while ((r = slot.poll()) != null) {
+            if (r.expireTick() <= targetTick) {
+                expired.add(r);
+            } else {
+                notYet.add(r);
+            }
+        }
+        // 아직 바퀴가 남은 예약은 같은 슬롯으로 되돌린다 (drain 도중 재삽입하면 무한 루프가 되므로 모았다가).
+        slot.addAll(notYet);
+    }
+
+    private int slotOf(long tick) {
+        return (int) (tick % slots.length);
+    }
+}
@@ -0,0 +1,172 @@
+package com.flasharena.order.application;
+
+import com.flasharena.order.presentation.dto.SimulationMetricsTick;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * run 실시간 지표: 워커가 시도마다 {@link Recorder} 에 기록하고, 틱 스레드가 {@value #TICK_MS}ms 마다
+ * 증분을 모아 {@code event: metrics} 로 흘린다 ({@link SimulationStreamHub#pushMetrics}).
+ * <p>기록 경로는 전부 {@link LongAdder}(스레드별 셀) + {@link LatencyHistogram} 이라 락이 없다 — 계측이 경합을 만들어
+ * 시뮬레이션 결과를 바꾸면 안 된다. 틱 계산(증분·퍼센타일)은 틱 스레드 하나가 한다.
+ */
+@Component
+public class SimulationMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationMetrics.class);
+
+    static final long TICK_MS = 100L;
+
+    private final SimulationStreamHub streamHub;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "sim-metrics");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SimulationMetrics(SimulationStreamHub streamHub) {
+        this.streamHub = streamHub;
+    }
+
+    /**
+     * run 지표 기록을 시작하고 틱을 건다.
+     *
+     * @param stockReader     남은 재고 조회 (null 반환 = 모름)
+     * @param stockEveryTicks 몇 틱마다 재고를 새로 읽을지 (DB 조회 모드는 경합 중인 커넥션 풀을 덜 쓰도록 띄엄띄엄)
+     */
+    public Recorder start(String runId, Supplier<Integer> stockReader, int stockEveryTicks) {
+        Recorder recorder = new Recorder(runId, stockReader, Math.max(1, stockEveryTicks));
+        recorder.future = ticker.scheduleAtFixedRate(recorder::tick, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        return recorder;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    /** 한 run 의 기록기. 워커 스레드들이 동시에 부른다. */
+    public final class Recorder {
+
+        private final String runId;
+        private final Supplier<Integer> stockReader;
+        private final int stockEveryTicks;
+        private final long startNanos = System.nanoTime();
+
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder inFlight = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        // 이하 틱 스레드 전용 상태.
+        private volatile ScheduledFuture<?> future;
+        private long lastAttempts;
+        private long lastSuccesses;
+        private long lastFailures;
+        private long lastRejected;
+        private long lastTickNanos = startNanos;
+        private long ticks;
+        private Integer remainingStock;
+        private volatile long peakInFlight;
+
+        private Recorder(String runId, Supplier<Integer> stockReader, int stockEveryTicks) {
+            this.runId = runId;
+            this.stockReader = stockReader;
+            this.stockEveryTicks = stockEveryTicks;
+        }
+
+        /** 시도 시작. 반환값을 {@link #end} 에 넘긴다. */
+        public long begin() {
+            attempts.increment();
+            inFlight.increment();
+            return System.nanoTime();
+        }
+
+        /** 시도 종료. outcome = SUCCESS | FAIL | REJECTED | ERROR (ERROR 는 실패로 센다). */
+        public void end(long beginNanos, String outcome) {
+            inFlight.decrement();
+            latency.record((System.nanoTime() - beginNanos) / 1_000L);
+            switch (outcome) {
+                case "SUCCESS" -> successes.increment();
+                case "REJECTED" -> rejected.increment();
+                default -> failures.increment();
+            }
+        }
+
+        /** 틱마다 샘플한 진행 중 시도 수의 최댓값 ({@link #stop} 뒤에 읽는다). */
+        public long peakInFlight() {
+            return peakInFlight;
+        }
+
+        /** 틱을 멈추고 마지막 틱(남은 증분)을 보낸다. 결과 이벤트 전에 부른다. */
+        public void stop() {
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            // 취소와 겹친 틱이 끝나기를 기다린 뒤 같은 스레드에서 마지막 틱을 돈다 (틱 상태는 틱 스레드 전용).
+            try {
+                ticker.submit(this::tick).get(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.debug("[sim {}] 마지막 지표 틱 실패: {}", runId, e.getMessage());
+            }
+        }
+
+        private void tick() {
+            try {
+                long now = System.nanoTime();
+                double seconds = Math.max(1L, now - lastTickNanos) / 1_000_000_000.0;
+                lastTickNanos = now;
+
+                long totalAttempts = attempts.sum();
+                long totalSuccesses = successes.sum();
+                long totalFailures = failures.sum();
+                long totalRejected = rejected.sum();
+                LatencyHistogram.Snapshot window = latency.drain();
+                long currentInFlight = inFlight.sum();
+                if (currentInFlight > peakInFlight) {
+                    peakInFlight = currentInFlight;
+                }
+
+                if (ticks++ % stockEveryTicks == 0 && streamHub.hasSubscribers(runId)) {
+                    remainingStock = stockReader.get();
+                }
+
+                SimulationMetricsTick tick = new SimulationMetricsTick(
+                        (now - startNanos) / 1_000_000L,
+                        (totalAttempts - lastAttempts) / seconds,
+                        (totalSuccesses - lastSuccesses) / seconds,
+                        (totalFailures - lastFailures) / seconds,
+                        (totalRejected - lastRejected) / seconds,
+                        currentInFlight,
+                        window.total(),
+                        window.percentile(0.50),
+                        window.percentile(0.90),
+                        window.percentile(0.99),
+                        window.max(),
+                        remainingStock);
+                lastAttempts = totalAttempts;
+                lastSuccesses = totalSuccesses;
+                lastFailures = totalFailures;
+                lastRejected = totalRejected;
+
+                streamHub.pushMetrics(runId, tick);
+            } catch (RuntimeException e) {
+                // 예외가 새면 scheduleAtFixedRate 가 이후 틱을 조용히 멈춘다 — 한 틱만 건너뛴다.
+                log.debug("[sim {}] 지표 틱 실패: {}", runId, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.flasharena.order.application;
 
+import com.flasharena.global.id.UuidV7;
+import com.flasharena.global.jfr.LockEvent;
+import com.flasharena.global.jfr.PurchaseAttemptEvent;
+import com.flasharena.global.partition.RunPartitions;
+import com.flasharena.order.domain.LockStrategy;
+import com.flasharena.order.domain.SimulationEngine;
 import com.flasharena.order.domain.SimulationMode;
-import com.flasharena.order.infrastructure.OutboxRepository;
+import com.flasharena.order.presentation.dto.LockReport;
 import com.flasharena.order.presentation.dto.SimulationRequest;
 import com.flasharena.order.presentation.dto.SimulationResult;
 import com.flasharena.payment.application.PaymentResetService;
 import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -16,21 +23,27 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 /**
  * 동시성 시뮬레이터 엔진.
- * <p>매 run 전 재고/주문을 리셋(자체 트랜잭션)한 뒤, concurrency 개의 "1개 구매 시도" 태스크를
+ * <p>매 run 전 재고를 리셋(자체 트랜잭션)하고 run 전용 파티션을 만든 뒤, concurrency 개의 "1개 구매 시도" 태스크를
  * RAM-1GB 제약상 최대 50 스레드 풀에 밀어넣어 Race Condition 을 강제한다.
  * CountDownLatch 시작 게이트로 가능한 한 동시에 출발시켜 경합을 극대화한다.
+ * virtualThreads 요청이면 풀 대신 시도당 가상 스레드를, REACTIVE 모드면 스레드 없이 {@link ReactivePurchaseRunner} 를 쓴다.
+ * 결과에는 엔진 비교용 지표(코어당 초당 시도, 최대 동시 진행, 시도당 할당 바이트)를 함께 싣는다.
  */
 @Service
 public class SimulationService {
@@ -40,23 +53,49 @@ public class SimulationService {
     // RAM 1GB 제약 → 스레드 풀은 50 으로 고정. 그래도 concurrency 개 태스크를 통과시켜 경합을 만든다.
     private static final int MAX_POOL_SIZE = 50;
     private static final String LOCK_KEY_PREFIX = "lock:product:";
-    // REDIS_COUNTER 모드의 게이트키핑 카운터 키. 매 run 전 초기 재고로 적재하고 DECR 로 자리를 나눠 갖는다.
-    private static final String STOCK_KEY_PREFIX = "stock:product:";
+    // REDIS_COUNTER/REDIS_HOLD 모드의 게이트키핑 카운터 키. 매 run 전 초기 재고로 적재하고 DECR 로 자리를 나눠 갖는다.
+    // 선점 만료 시 ReservationService 가 같은 키로 재고를 되돌린다.
+    static final String STOCK_KEY_PREFIX = "stock:product:";
+    /**
+     * 카운터 게이트(시뮬레이터, 공개 구매 API 공용). 키가 없으면 nil, 남은 자리가 없으면 -1 (카운터는 그대로), 있으면 DECR 결과.
+     * 0 에서 멈추므로 낙첨자가 카운터를 음수로 끌어내리지 않는다 — 만료·실패로 돌려받은 자리(INCR/INCRBY)가 곧바로 다시 팔린다.
+     */
+    static final RedisScript<Long> STOCK_DECREMENT = new DefaultRedisScript<>("""
+            local v = tonumber(redis.call('GET', KEYS[1]))
+            if v == nil then
+                return false
+            end
+            if v <= 0 then
+                return -1
+            end
+            return redis.call('DECR', KEYS[1])
+            """, Long.class);
     private static final long LOCK_WAIT_SECONDS = 10L;   // 경합 시 spurious 실패 대신 줄서서 직렬화되도록 넉넉히
     private static final long LOCK_LEASE_SECONDS = 5L;    // 데드락 방지용 자동 해제
     // 버퍼 폭주 방지를 위한 로그 샘플링 간격.
     private static final int LOG_SAMPLE_INTERVAL = 50;
+    // DB 재고 모드(SYNC/REDIS_LOCK)의 실시간 지표 재고 조회 간격(틱). 경합 중인 커넥션 풀을 초당 2회만 쓴다.
+    private static final int DB_STOCK_EVERY_TICKS = 5;
     // SSE 가 끊겨도 폴링으로 결과를 받을 수 있도록 최근 결과를 보관 (RAM 보호용 상한).
     private static final int MAX_STORED_RESULTS = 100;
+    private static final String ORDER_SCHEMA = "order";
+    private static final String ORDERS_TABLE = "orders";
+    private static final String OUTBOX_TABLE = "outbox";
 
     private final OrderProcessor orderProcessor;
+    private final ReservationService reservationService;
+    private final AdaptiveConcurrencyLimiter limiter;
     private final RedissonClient redissonClient;
     private final SimulationLogger logger;
     private final SimulationStreamHub streamHub;
-    private final OutboxRepository outboxRepository;
+    private final SimulationMetrics metrics;
+    private final ReactivePurchaseRunner reactiveRunner;
+    private final RunPartitions runPartitions;
     private final PaymentResetService paymentResetService;
     private final StringRedisTemplate redisTemplate;
     private final String streamKey;
+    private final int retainedRuns;
+    private final boolean archiveRuns;
 
     // run 오케스트레이션 전용 executor (워커 50-풀과 별개). 각 run 1 스레드를 점유한 채 50-풀을 굴린다.
     private final ExecutorService orchestrator = Executors.newCachedThreadPool(r -> {
@@ -74,30 +113,43 @@ public class SimulationService {
     };
 
     public SimulationService(OrderProcessor orderProcessor,
+            ReservationService reservationService,
+            AdaptiveConcurrencyLimiter limiter,
             RedissonClient redissonClient,
             SimulationLogger logger,
             SimulationStreamHub streamHub,
-            OutboxRepository outboxRepository,
+            SimulationMetrics metrics,
+            ReactivePurchaseRunner reactiveRunner,
+            RunPartitions runPartitions,
             PaymentResetService paymentResetService,
             StringRedisTemplate redisTemplate,
-            @Value("${app.stream.key:flasharena:order-events}") String streamKey) {
+            @Value("${app.stream.key:flasharena:order-events}") String streamKey,
+            @Value("${app.partition.retained-runs:3}") int retainedRuns,
+            @Value("${app.partition.archive:false}") boolean archiveRuns) {
         this.orderProcessor = orderProcessor;
+        this.reservationService = reservationService;
+        this.limiter = limiter;
         this.redissonClient = redissonClient;
         this.logger = logger;
         this.streamHub = streamHub;
-        this.outboxRepository = outboxRepository;
+        this.metrics = metrics;
+        this.reactiveRunner = reactiveRunner;
+        this.runPartitions = runPartitions;
         this.paymentResetService = paymentResetService;
         this.redisTemplate = redisTemplate;
         this.streamKey = streamKey;
+        this.retainedRuns = Math.max(1, retainedRuns);
+        this.archiveRuns = archiveRuns;
     }
 
     /**
      * 비동기 실행 진입점. runId 를 미리 만들어 즉시 반환하고, 실제 시뮬레이션은 오케스트레이터 스레드에서 돌린다.
      * 클라이언트는 반환된 runId 로 곧바로 SSE 를 구독할 수 있다.
+     * runId 는 v7 UUID — 파티션 이름의 사전순이 곧 run 순서라 보관 개수 정리가 이름 정렬만으로 끝난다.
      * userId 는 요청 스레드에서 UserContext 로부터 미리 추출해 넘긴다 (풀/오케스트레이터 스레드엔 ThreadLocal 없음).
      */
     public String startAsync(SimulationRequest request, UUID userId) {
-        String runId = UUID.randomUUID().toString();
+        String runId = UuidV7.next().toString();
         orchestrator.submit(() -> {
             try {
                 SimulationResult result = run(runId, request, userId);
@@ -133,23 +185,109 @@ public class SimulationService {
         int concurrency = request.concurrencyOrDefault();
         int initialStock = request.initialStockOrDefault();
         SimulationMode mode = request.mode();
+        int paymentRate = request.paymentRateOrDefault();
+        boolean adaptive = request.adaptiveLimitOrDefault();
+        SimulationEngine engine = mode == SimulationMode.REACTIVE ? SimulationEngine.REACTIVE
+                : request.virtualThreadsOrDefault() ? SimulationEngine.VIRTUAL : SimulationEngine.PLATFORM;
+        LockContention contention = mode == SimulationMode.REDIS_LOCK
+                ? new LockContention(request.lockStrategyOrDefault(), request.lockStripesOrDefault())
+                : null;
+        UUID run = UUID.fromString(runId);
 
+        reservationService.resetRuns();
         UUID productId = orderProcessor.resetForRun(initialStock);
-        resetMessagingResidue();
-        if (mode == SimulationMode.REDIS_COUNTER) {
+        preparePartitions(run);
+        resetStream();
+        if (usesCounterGate(mode)) {
             // 게이트키핑 카운터를 초기 재고로 적재. 이후 DECR 한 번 = '한 자리 차지'.
             redisTemplate.opsForValue().set(STOCK_KEY_PREFIX + productId, Integer.toString(initialStock));
+        } else {
+            // DB 재고만 리셋하는 모드 — 이전 run 의 카운터가 남으면 구매 API 가 옛 값으로 판정하므로 지워서 재적재시킨다.
+            redisTemplate.delete(STOCK_KEY_PREFIX + productId);
+        }
+        if (contention != null && contention.strategy() == LockStrategy.STRIPED) {
+            loadStripes(productId, initialStock, contention.stripes());
         }
         logger.summary(runId, String.format(
-                "🚀 시뮬레이션 시작 mode=%s 동시요청=%d 초기재고=%d", mode, concurrency, initialStock));
+                "🚀 시뮬레이션 시작 mode=%s engine=%s 동시요청=%d 초기재고=%d 적응형제한=%b%s",
+                mode, engine, concurrency, initialStock, adaptive,
+                contention != null ? " 락=" + contention.strategy() : ""));
 
         OffsetDateTime startedAt = OffsetDateTime.now();
         long startNanos = System.nanoTime();
+        long allocatedBefore = totalAllocatedBytes();
 
         AtomicInteger successCount = new AtomicInteger();
         AtomicInteger failCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+        SimulationMetrics.Recorder recorder = metrics.start(runId, stockReader(mode, productId),
+                usesCounterGate(mode) ? 1 : DB_STOCK_EVERY_TICKS);
+
+        if (engine == SimulationEngine.REACTIVE) {
+            try {
+                reactiveRunner.run(runId, run, productId, userId, STOCK_KEY_PREFIX + productId, concurrency,
+                        request.maxInFlightOrDefault(), recorder, successCount, failCount);
+            } finally {
+                recorder.stop();
+            }
+        } else {
+            runOnThreads(engine, runId, run, productId, userId, concurrency, mode, paymentRate, adaptive, contention,
+                    recorder, successCount, failCount, rejectedCount);
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000L;
+        OffsetDateTime finishedAt = OffsetDateTime.now();
+        long allocatedAfter = totalAllocatedBytes();
+
+        int finalStock = orderProcessor.currentStock(productId);
+        int success = successCount.get();
+        int fail = failCount.get();
+        int rejected = rejectedCount.get();
+        Integer concurrencyLimit = adaptive && engine != SimulationEngine.REACTIVE ? limiter.currentLimit() : null;
+        // REDIS_HOLD 는 run 도중 만료된 선점이 재고를 되돌리므로, 성공(선점) 수 대신 살아있는 주문(HELD+CONFIRMED)으로 검증한다.
+        int sold = mode == SimulationMode.REDIS_HOLD ? orderProcessor.liveHoldCount(run, productId) : success;
+        int expectedStock = Math.max(0, initialStock - sold);
+        boolean oversold = sold > initialStock || finalStock < 0 || finalStock != initialStock - sold;
+
+        int attempts = success + fail + rejected;
+        double attemptsPerSecPerCore = attempts * 1000.0 / Math.max(1L, elapsedMs)
+                / Runtime.getRuntime().availableProcessors();
+        Long allocatedPerAttempt = allocatedBefore < 0 || allocatedAfter < 0 || attempts == 0
+                ? null : (allocatedAfter - allocatedBefore) / attempts;
+        LockReport lockReport = contention != null ? contention.report() : null;
+
+        if (oversold) {
+            logger.oversell(runId, String.format(
+                    "⚠️ 오버셀 감지: 성공=%d > 초기재고=%d, 최종재고=%d (기대 %d)",
+                    sold, initialStock, finalStock, initialStock - sold));
+        }
+        logger.summary(runId, String.format(
+                "🏁 종료 성공=%d 실패=%d 거절=%d 최종재고=%d oversold=%b (%dms, 코어당 %.0f회/s, 최대 동시 %d)",
+                success, fail, rejected, finalStock, oversold, elapsedMs, attemptsPerSecPerCore,
+                recorder.peakInFlight()));
+        if (lockReport != null) {
+            logger.summary(runId, String.format(
+                    "🔒 락=%s 대기 p50=%dµs p99=%dµs max=%dµs 공정성=%.2f lease만료=%d",
+                    lockReport.strategy(), lockReport.waitP50Micros(), lockReport.waitP99Micros(),
+                    lockReport.waitMaxMicros(), lockReport.fairnessIndex(), lockReport.expiryIncidents()));
+        }
+
+        return new SimulationResult(runId, mode, engine, concurrency, initialStock,
+                success, fail, rejected, concurrencyLimit, finalStock, expectedStock, oversold,
+                elapsedMs, attemptsPerSecPerCore, recorder.peakInFlight(), allocatedPerAttempt, lockReport,
+                startedAt, finishedAt);
+    }
 
-        ExecutorService pool = Executors.newFixedThreadPool(MAX_POOL_SIZE);
+    /**
+     * 스레드 엔진: concurrency 개 태스크를 PLATFORM(50 고정 풀) 또는 VIRTUAL(시도당 가상 스레드)로 실행한다.
+     * 가상 스레드도 블로킹 구간은 같다 — 동시 진행 수의 실제 상한은 Hikari 풀/분산 락이고, 차이는 대기 중인 시도의 비용이다.
+     */
+    private void runOnThreads(SimulationEngine engine, String runId, UUID run, UUID productId, UUID userId,
+            int concurrency, SimulationMode mode, int paymentRate, boolean adaptive, LockContention contention,
+            SimulationMetrics.Recorder recorder, AtomicInteger successCount, AtomicInteger failCount, AtomicInteger rejectedCount) {
+        ExecutorService pool = engine == SimulationEngine.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(MAX_POOL_SIZE);
         CountDownLatch startGate = new CountDownLatch(1);
         List<Future<?>> futures = new ArrayList<>(concurrency);
         try {
@@ -157,12 +295,36 @@ public class SimulationService {
                 final int seq = i;
                 futures.add(pool.submit(() -> {
                     awaitGate(startGate);
-                    boolean ok = switch (mode) {
-                        case SYNC -> buyNoLock(runId, productId, userId, seq);
-                        case REDIS_LOCK -> buyWithRedisLock(runId, productId, userId, seq);
-                        case REDIS_COUNTER -> buyWithCounter(runId, productId, userId, seq);
-                    };
-                    (ok ? successCount : failCount).incrementAndGet();
+                    // JFR 녹화가 없으면 begin/end/finish 는 사실상 no-op 이고 단계 측정(nanoTime)도 생략된다.
+                    PurchaseAttemptEvent attempt = new PurchaseAttemptEvent();
+                    attempt.begin();
+                    long begin = recorder.begin();
+                    String outcome = "ERROR";
+                    try {
+                        boolean ok = switch (mode) {
+                            case SYNC -> guarded(adaptive,
+                                    () -> buyNoLock(runId, run, productId, userId, seq, attempt));
+                            case REDIS_LOCK -> buyWithRedisLock(runId, run, productId, userId, seq, adaptive,
+                                    contention, attempt);
+                            case REDIS_COUNTER -> guarded(adaptive,
+                                    () -> buyWithCounter(runId, run, productId, userId, seq, attempt));
+                            case REDIS_HOLD -> guarded(adaptive,
+                                    () -> buyWithHold(runId, run, productId, userId, seq, paymentRate, attempt));
+                            case REACTIVE -> throw new IllegalStateException("REACTIVE 는 스레드 엔진으로 돌리지 않는다");
+                        };
+                        (ok ? successCount : failCount).incrementAndGet();
+                        outcome = ok ? "SUCCESS" : "FAIL";
+                    } catch (AdaptiveConcurrencyLimiter.LimitExceededException e) {
+                        // 과부하 거절: 게이트/트랜잭션에 들어가기 전에 끊겼으므로 재고·주문에 흔적이 없다.
+                        rejectedCount.incrementAndGet();
+                        outcome = "REJECTED";
+                        if (seq % LOG_SAMPLE_INTERVAL == 0) {
+                            logger.outOfStock(runId, String.format("🚦 과부하 거절 seq=%d (%s)", seq, e.getMessage()));
+                        }
+                    } finally {
+                        attempt.finish(runId, mode.name(), seq, outcome);
+                        recorder.end(begin, outcome);
+                    }
                 }));
             }
             // 게이트 오픈 — 모든 태스크를 거의 동시에 출발시켜 경합을 극대화한다.
@@ -170,40 +332,44 @@ public class SimulationService {
             joinAll(futures);
         } finally {
             pool.shutdownNow();
+            recorder.stop();
         }
+    }
 
-        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000L;
-        OffsetDateTime finishedAt = OffsetDateTime.now();
-
-        int finalStock = orderProcessor.currentStock(productId);
-        int success = successCount.get();
-        int fail = failCount.get();
-        int expectedStock = Math.max(0, initialStock - success);
-        boolean oversold = success > initialStock || finalStock < 0 || finalStock != initialStock - success;
+    private static boolean usesCounterGate(SimulationMode mode) {
+        return mode == SimulationMode.REDIS_COUNTER || mode == SimulationMode.REDIS_HOLD || mode == SimulationMode.REACTIVE;
+    }
 
-        if (oversold) {
-            logger.oversell(runId, String.format(
-                    "⚠️ 오버셀 감지: 성공=%d > 초기재고=%d, 최종재고=%d (기대 %d)",
-                    success, initialStock, finalStock, initialStock - success));
+    /** JVM 전체 누적 힙 할당 바이트 (종료된 스레드 포함). 지원하지 않거나 꺼져 있으면 -1. */
+    private static long totalAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getTotalThreadAllocatedBytes();
         }
-        logger.summary(runId, String.format(
-                "🏁 종료 성공=%d 실패=%d 최종재고=%d oversold=%b (%dms)",
-                success, fail, finalStock, oversold, elapsedMs));
-
-        return new SimulationResult(runId, mode, concurrency, initialStock,
-                success, fail, finalStock, expectedStock, oversold, elapsedMs, startedAt, finishedAt);
+        return -1L;
     }
 
     /**
-     * 매 run 전 메시징 잔여물을 정리해 재현 가능성을 확보한다.
-     * ⚠️ 이들은 서로 다른 스키마/저장소에 대한 "별개의" 작업이다 — 단일 교차 스키마 트랜잭션이 아니다.
-     *   - outbox 행 삭제(order 스키마, 자체 트랜잭션)
-     *   - payment_history 행 삭제(payment 스키마, 자체 트랜잭션)
-     *   - 스트림은 XTRIM MAXLEN 0 으로 비운다(키를 지우지 않아 소비자 그룹은 유지).
+     * 이 run 의 orders/outbox/payment_history 파티션을 만들고, 보관 개수를 넘긴 이전 run 파티션을 떼어낸다.
+     * 행 DELETE 가 없으므로 이력이 아무리 쌓여도 리셋 비용이 일정하다(카탈로그 작업 + 짧은 잠금).
+     * ⚠️ order/payment 스키마에 대한 "별개의" DDL 이다 — 단일 교차 스키마 트랜잭션이 아니며, payment 쪽은 공개 포트로만 다룬다.
+     * 새 파티션을 먼저 만들고 정리는 나중에 한다 → 정리 중 실패해도 이번 run 은 돈다(다음 run 에서 다시 정리).
      */
-    private void resetMessagingResidue() {
-        outboxRepository.deleteAllOutbox();
-        paymentResetService.resetHistory();
+    private void preparePartitions(UUID run) {
+        runPartitions.create(ORDER_SCHEMA, ORDERS_TABLE, run);
+        runPartitions.create(ORDER_SCHEMA, OUTBOX_TABLE, run);
+        paymentResetService.prepareRun(run);
+        try {
+            runPartitions.retainLatest(ORDER_SCHEMA, ORDERS_TABLE, retainedRuns, archiveRuns);
+            runPartitions.retainLatest(ORDER_SCHEMA, OUTBOX_TABLE, retainedRuns, archiveRuns);
+            paymentResetService.retainRuns(retainedRuns, archiveRuns);
+        } catch (RuntimeException e) {
+            log.warn("[sim {}] 이전 run 파티션 정리 실패(다음 run 에서 재시도): {}", run, e.getMessage());
+        }
+    }
+
+    /** 스트림은 XTRIM MAXLEN 0 으로 비운다(키를 지우지 않아 소비자 그룹은 유지). */
+    private void resetStream() {
         try {
             // 스트림 키를 삭제하면 소비자 그룹까지 사라지므로, 길이만 0 으로 잘라 잔여 메시지를 제거한다.
             redisTemplate.opsForStream().trim(streamKey, 0);
@@ -212,45 +378,206 @@ public class SimulationService {
         }
     }
 
+    /**
+     * 실시간 지표의 남은 재고. 카운터 모드는 Redis 게이트 잔량(음수면 0), DB 모드는 DB 재고 — SYNC 의 음수 재고도 그대로 보인다.
+     * 조회 실패는 null (그 틱은 모름).
+     */
+    private Supplier<Integer> stockReader(SimulationMode mode, UUID productId) {
+        if (usesCounterGate(mode)) {
+            return () -> {
+                try {
+                    String value = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
+                    return value == null ? null : Math.max(0, Integer.parseInt(value));
+                } catch (RuntimeException e) {
+                    return null;
+                }
+            };
+        }
+        return () -> {
+            try {
+                return orderProcessor.currentStock(productId);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        };
+    }
+
     /** SYNC: 락 없이 lost-update 버그를 그대로 노출. */
-    private boolean buyNoLock(String runId, UUID productId, UUID userId, int seq) {
-        boolean ok = orderProcessor.attemptPurchaseNoLock(productId, userId);
+    private boolean buyNoLock(String runId, UUID run, UUID productId, UUID userId, int seq,
+            PurchaseAttemptEvent attempt) {
+        long txStart = attempt.mark();
+        boolean ok = orderProcessor.attemptPurchaseNoLock(run, productId, userId);
+        attempt.transaction(attempt.since(txStart));
         sample(runId, ok, seq);
         return ok;
     }
 
-    /** REDIS_LOCK: 상품 키 분산 락을 잡아 직렬화한 뒤 임계영역을 실행. */
-    private boolean buyWithRedisLock(String runId, UUID productId, UUID userId, int seq) {
-        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + productId);
+    /**
+     * REDIS_LOCK: 상품 키 분산 락을 잡아 직렬화한 뒤 임계영역을 실행. 락 종류는 run 의 {@link LockStrategy} 를 따른다
+     * (PLAIN/WATCHDOG = RLock, FAIR = 공정 락, STRIPED = {@link #buyWithStripedLock}).
+     * 적응형 제한은 락 안쪽의 트랜잭션만 감싼다 (락 대기까지 RTT 로 재면 직렬화 자체를 과부하로 오인한다).
+     */
+    private boolean buyWithRedisLock(String runId, UUID run, UUID productId, UUID userId, int seq,
+            boolean adaptive, LockContention contention, PurchaseAttemptEvent attempt) {
+        if (contention.strategy() == LockStrategy.STRIPED) {
+            return buyWithStripedLock(runId, run, productId, userId, seq, adaptive, contention, attempt);
+        }
+        String lockKey = LOCK_KEY_PREFIX + productId;
+        RLock lock = contention.strategy() == LockStrategy.FAIR
+                ? redissonClient.getFairLock(lockKey)
+                : redissonClient.getLock(lockKey);
+        Boolean ok = withLock(runId, lockKey, lock, seq, contention, attempt, () -> {
+            long txStart = attempt.mark();
+            boolean sold = guarded(adaptive, () -> orderProcessor.attemptPurchaseLocked(run, productId, userId));
+            attempt.transaction(attempt.since(txStart));
+            return sold;
+        });
+        if (ok == null) {
+            return false;
+        }
+        sample(runId, ok, seq);
+        return ok;
+    }
+
+    /**
+     * STRIPED: 재고를 버킷(Redis 키)으로 나눠 두고, seq 로 고른 버킷부터 버킷별 락 안에서 한 자리를 뺀다.
+     * 버킷이 비었으면 다음 버킷으로 넘어가고, 모두 비었으면 낙첨. 자리를 확보한 뒤의 DB 정산은 락 밖에서 한다
+     * (원자 UPDATE 라 동시 당첨자끼리 안전) — 락이 보호하는 건 버킷 잔량의 read-modify-write 뿐이라 보유 시간이 짧다.
+     */
+    private boolean buyWithStripedLock(String runId, UUID run, UUID productId, UUID userId, int seq,
+            boolean adaptive, LockContention contention, PurchaseAttemptEvent attempt) {
+        int stripes = contention.stripes();
+        boolean won = false;
+        for (int i = 0; i < stripes && !won; i++) {
+            int stripe = Math.floorMod(seq + i, stripes);
+            String lockKey = LOCK_KEY_PREFIX + productId + ":" + stripe;
+            String stripeKey = stripeKey(productId, stripe);
+            Boolean taken = withLock(runId, lockKey, redissonClient.getLock(lockKey), seq, contention, attempt,
+                    () -> takeFromStripe(stripeKey));
+            if (taken == null) {
+                return false;
+            }
+            won = taken;
+        }
+        boolean settleWon = won;
+        long txStart = attempt.mark();
+        boolean ok = guarded(adaptive, () -> orderProcessor.settleCounter(run, productId, userId, settleWon));
+        attempt.transaction(attempt.since(txStart));
+        sample(runId, ok, seq);
+        return ok;
+    }
+
+    /** 버킷 락 안에서만 부른다. 일부러 DECR 이 아닌 GET → SET 이다 — 원자성은 락이 책임진다(lease 가 만료되면 깨진다). */
+    private boolean takeFromStripe(String stripeKey) {
+        String value = redisTemplate.opsForValue().get(stripeKey);
+        int remaining = value == null ? 0 : Integer.parseInt(value);
+        if (remaining <= 0) {
+            return false;
+        }
+        redisTemplate.opsForValue().set(stripeKey, Integer.toString(remaining - 1));
+        return true;
+    }
+
+    /** 초기 재고를 버킷에 고르게 나눠 적재 (나머지는 앞쪽 버킷부터 1개씩). */
+    private void loadStripes(UUID productId, int initialStock, int stripes) {
+        for (int i = 0; i < stripes; i++) {
+            int share = initialStock / stripes + (i < initialStock % stripes ? 1 : 0);
+            redisTemplate.opsForValue().set(stripeKey(productId, i), Integer.toString(share));
+        }
+    }
+
+    private static String stripeKey(UUID productId, int stripe) {
+        return STOCK_KEY_PREFIX + productId + ":stripe:" + stripe;
+    }
+
+    /**
+     * 락을 잡고 임계영역을 실행한다. 대기/보유 시간은 run 통계({@link LockContention})와 JFR {@link LockEvent} 로 남는다.
+     * WATCHDOG 은 lease 없이 잡아 Redisson watchdog 이 보유 중 만료를 연장하고, 나머지는 5초 lease 다.
+     * 임계영역이 끝났을 때 이미 락을 잃었으면(lease 만료) 만료 사고로 센다 — 그 사이 다른 워커가 같은 영역에 들어왔을 수 있다.
+     *
+     * @return 임계영역 결과. 대기 시간 안에 못 잡았으면 null
+     */
+    private Boolean withLock(String runId, String lockKey, RLock lock, int seq, LockContention contention,
+            PurchaseAttemptEvent attempt, Supplier<Boolean> criticalSection) {
+        LockEvent lockEvent = new LockEvent();
+        lockEvent.begin();
+        long waitStart = lockEvent.mark();
+        long acquiredAt = 0L;
         boolean locked = false;
+        boolean stillHeld = false;
+        long waitFrom = System.nanoTime();
         try {
-            locked = lock.tryLock(LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+            locked = contention.strategy() == LockStrategy.WATCHDOG
+                    ? lock.tryLock(LOCK_WAIT_SECONDS, TimeUnit.SECONDS)
+                    : lock.tryLock(LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+            acquiredAt = lockEvent.mark();
+            long heldFrom = System.nanoTime();
+            contention.waited((heldFrom - waitFrom) / 1_000L, locked);
+            attempt.lockWait(attempt.since(waitStart));
             if (!locked) {
                 logger.lockFail(runId, String.format("🔒 락 획득 실패 seq=%d (대기 %ds 초과)", seq, LOCK_WAIT_SECONDS));
-                return false;
+                return null;
+            }
+            try {
+                return criticalSection.get();
+            } finally {
+                stillHeld = lock.isHeldByCurrentThread();
+                contention.held((System.nanoTime() - heldFrom) / 1_000L, stillHeld);
+                if (!stillHeld) {
+                    logger.lockFail(runId, String.format(
+                            "⏱️ lease 만료 seq=%d: 임계영역 도중 락을 잃었다 (key=%s)", seq, lockKey));
+                }
             }
-            boolean ok = orderProcessor.attemptPurchaseLocked(productId, userId);
-            sample(runId, ok, seq);
-            return ok;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            return false;
+            return null;
         } finally {
-            if (locked && lock.isHeldByCurrentThread()) {
+            if (stillHeld) {
                 lock.unlock();
             }
+            lockEvent.finish(runId, lockKey, locked, waitStart, acquiredAt);
         }
     }
 
     /**
      * REDIS_COUNTER: Redis 원자 DECR 로 게이트키핑.
-     * 락도 대기도 없이 DECR 한 번으로 당첨/낙첨이 즉시 갈린다(잔여>=0 이면 당첨). 인메모리 연산이라 빠르다.
+     * 락도 대기도 없이 DECR 한 번으로 당첨/낙첨이 즉시 갈린다(잔여>=0 이면 당첨, 0 이면 줄이지 않고 낙첨). 인메모리 연산이라 빠르다.
      * DB 에는 당첨자만 들어가고, 수량 차감도 원자 UPDATE 라 동시 당첨자끼리 lost-update 가 없다.
      */
-    private boolean buyWithCounter(String runId, UUID productId, UUID userId, int seq) {
-        Long remaining = redisTemplate.opsForValue().decrement(STOCK_KEY_PREFIX + productId);
+    private boolean buyWithCounter(String runId, UUID run, UUID productId, UUID userId, int seq,
+            PurchaseAttemptEvent attempt) {
+        long gateStart = attempt.mark();
+        Long remaining = redisTemplate.execute(STOCK_DECREMENT, List.of(STOCK_KEY_PREFIX + productId));
         boolean won = remaining != null && remaining >= 0;
-        boolean ok = orderProcessor.settleCounter(productId, userId, won);
+        long txStart = attempt.mark();
+        attempt.gate(attempt.since(gateStart));
+        boolean ok = orderProcessor.settleCounter(run, productId, userId, won);
+        attempt.transaction(attempt.since(txStart));
+        sample(runId, ok, seq);
+        return ok;
+    }
+
+    /**
+     * REDIS_HOLD: REDIS_COUNTER 와 같은 DECR 게이트로 자리를 잡되, 판매가 아니라 TTL 있는 선점을 만든다.
+     * paymentRate(%) 만큼의 당첨자만 결제로 진행(ORDER_HELD 이벤트 발행)하고, 나머지는 이탈해 만료 → 재고 반환된다.
+     * 선점 등록(Redis)은 HELD 주문 트랜잭션이 커밋된 뒤에 한다.
+     */
+    private boolean buyWithHold(String runId, UUID run, UUID productId, UUID userId, int seq, int paymentRate,
+            PurchaseAttemptEvent attempt) {
+        long gateStart = attempt.mark();
+        Long remaining = redisTemplate.execute(STOCK_DECREMENT, List.of(STOCK_KEY_PREFIX + productId));
+        boolean won = remaining != null && remaining >= 0;
+        boolean proceedToPay = ThreadLocalRandom.current().nextInt(100) < paymentRate;
+        long txStart = attempt.mark();
+        attempt.gate(attempt.since(gateStart));
+        UUID orderId = orderProcessor.settleHold(run, productId, userId, won, proceedToPay);
+        attempt.transaction(attempt.since(txStart));
+        if (orderId != null) {
+            long holdStart = attempt.mark();
+            reservationService.hold(run, productId, orderId);
+            attempt.hold(attempt.since(holdStart));
+        }
+        boolean ok = orderId != null;
         sample(runId, ok, seq);
         return ok;
     }
@@ -267,6 +594,15 @@ public class SimulationService {
         }
     }
 
+    /**
+     * adaptive 면 적응형 동시성 제한기를 거쳐 실행한다. 상한에 닿으면 call 을 실행하지 않고
+     * {@link AdaptiveConcurrencyLimiter.LimitExceededException} 으로 즉시 거절된다.
+     * 카운터 모드에서는 DECR 이전에 거절되므로 자리를 잃지 않는다.
+     */
+    private <T> T guarded(boolean adaptive, Supplier<T> call) {
+        return adaptive ? limiter.execute(call) : call.get();
+    }
+
     private void awaitGate(CountDownLatch gate) {
         try {
             gate.await();
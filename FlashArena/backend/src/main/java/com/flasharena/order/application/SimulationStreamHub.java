@@ -2,6 +2,7 @@ package com.flasharena.order.application;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flasharena.order.presentation.dto.SimulationMetricsTick;
 import com.flasharena.order.presentation.dto.SimulationResult;
 import java.io.IOException;
 import java.util.List;
@@ -16,6 +17,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 /**
  * runId 별 {@link SseEmitter} 구독자를 관리하는 SSE 허브 (스레드 안전).
  * <p>로거가 한 줄 적재할 때마다 {@link #pushLog} 로 살아있는 구독자에게 {@code event: log} 를 흘리고,
+ * {@link SimulationMetrics} 틱마다 {@link #pushMetrics} 로 {@code event: metrics}(SimulationMetricsTick JSON) 를 보내고,
  * run 이 끝나면 {@link #pushResult} 로 {@code event: result}(SimulationResult JSON) 를 보낸 뒤 emitter 를 완료한다.
  * 죽은 클라이언트의 IOException 은 삼키고 해당 emitter 만 제거한다.
  */
@@ -64,6 +66,33 @@ public class SimulationStreamHub {
         }
     }
 
+    public boolean hasSubscribers(String runId) {
+        List<SseEmitter> list = emitters.get(runId);
+        return list != null && !list.isEmpty();
+    }
+
+    /** 살아있는 구독자에게 {@code event: metrics} 한 틱을 전송. 구독자가 없으면 직렬화도 하지 않는다. */
+    public void pushMetrics(String runId, SimulationMetricsTick tick) {
+        List<SseEmitter> list = emitters.get(runId);
+        if (list == null || list.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(tick);
+        } catch (JsonProcessingException e) {
+            log.warn("[sim {}] metrics 직렬화 실패", runId, e);
+            return;
+        }
+        for (SseEmitter emitter : list) {
+            try {
+                emitter.send(SseEmitter.event().name("metrics").data(json));
+            } catch (IOException | IllegalStateException e) {
+                remove(runId, emitter);
+            }
+        }
+    }
+
     /** 결과를 {@code event: result}(JSON) 로 보내고 해당 run 의 모든 emitter 를 완료한다. */
     public void pushResult(String runId, SimulationResult result) {
         List<SseEmitter> list = emitters.remove(runId);
@@ -0,0 +1,19 @@
+package com.flasharena.order.domain;
+
+/**
+ * REDIS_LOCK 모드의 분산 락 전략.
+ * <ul>
+ *   <li>{@link #PLAIN} — {@code RLock.tryLock(10s, 5s lease)} (기본). 대기자는 pub/sub 깨움에 경쟁하고 순서 보장이 없다.
+ *       GC 멈춤 등으로 임계영역이 5초를 넘기면 락이 풀린 채 다른 워커가 들어온다.</li>
+ *   <li>{@link #FAIR} — Redisson 공정 락(FIFO 대기열). 같은 lease 라 만료 위험은 PLAIN 과 같다.</li>
+ *   <li>{@link #WATCHDOG} — lease 없이 잡아 Redisson watchdog 이 보유 중 만료를 계속 연장한다
+ *       (프로세스가 죽으면 lockWatchdogTimeout 뒤 해제).</li>
+ *   <li>{@link #STRIPED} — 재고를 N 개 버킷으로 나눠 버킷마다 별도 락. 같은 상품의 임계영역을 N 개까지 병렬로 돌린다.</li>
+ * </ul>
+ */
+public enum LockStrategy {
+    PLAIN,
+    FAIR,
+    WATCHDOG,
+    STRIPED
+}
@@ -1,9 +1,8 @@
 package com.flasharena.order.domain;
 
+import com.flasharena.global.id.UuidV7Id;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
@@ -17,6 +16,7 @@ import lombok.NoArgsConstructor;
  * "order".orders 매핑 엔티티.
  * ⚠️ 클래스명을 {@code Order} 로 하면 JPQL 예약어 ORDER 와 충돌하므로 {@code OrderEntity} 로 둔다.
  * user_id 는 auth.users.id 를 "타입으로만" 참조(물리 FK 없음). product_id 는 같은 스키마 FK.
+ * 테이블은 run_id 로 LIST 파티셔닝돼 있다(V9) — 시뮬레이터 리셋은 행 DELETE 가 아니라 run 파티션 DETACH/DROP.
  */
 @Entity
 @Table(name = "orders", schema = "order")
@@ -24,11 +24,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderEntity {
 
+    // 시간 순서 v7 UUID (애플리케이션 생성) → PK 인덱스에 순차 INSERT, 버스트 시 페이지 분할/WAL 감소.
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
+    // 파티션 키. 시뮬레이터 runId 또는 RunPartitions.LIVE.
+    @Column(name = "run_id", nullable = false, updatable = false)
+    private UUID runId;
+
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
@@ -38,7 +43,7 @@ public class OrderEntity {
     @Column(name = "quantity", nullable = false)
     private int quantity;
 
-    // CREATED(성공) / FAILED(재고부족 등)
+    // CREATED(성공) / FAILED(재고부족 등) / HELD / CONFIRMED / EXPIRED (REDIS_HOLD 선점)
     @Column(name = "status", nullable = false, length = 20)
     private String status;
 
@@ -46,7 +51,8 @@ public class OrderEntity {
     private OffsetDateTime createdAt;
 
     @Builder
-    private OrderEntity(UUID userId, UUID productId, int quantity, String status) {
+    private OrderEntity(UUID runId, UUID userId, UUID productId, int quantity, String status) {
+        this.runId = runId;
         this.userId = userId;
         this.productId = productId;
         this.quantity = quantity;
@@ -1,9 +1,8 @@
 package com.flasharena.order.domain;
 
+import com.flasharena.global.id.UuidV7Id;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
@@ -18,8 +17,10 @@ import org.hibernate.type.SqlTypes;
  * "order".outbox 매핑 엔티티 (Transactional Outbox).
  * 핵심: orders INSERT 와 이 outbox INSERT 가 같은 order-스키마 로컬 트랜잭션에서 원자적으로 커밋된다.
  * → 교차 스키마 트랜잭션 / Redis dual-write 없이 이벤트 유실 0%.
- * payload 는 JSONB 컬럼 → Hibernate 6 @JdbcTypeCode(JSON) 로 String 에 매핑(round-trip 검증됨).
+ * 발행 원본은 payload_bin(OrderEventCodec 바이너리, V10). payload(JSONB) 는 디버깅용 JSON 또는 V10 이전 행의 원본으로,
+ * Hibernate 6 @JdbcTypeCode(JSON) 로 String 에 매핑(round-trip 검증됨).
  * created_at 은 DB default(now()) 가 채우므로 쓰기를 막는다.
+ * run_id 파티션 키는 주문과 같은 값을 써서 run 정리 시 주문과 함께 떼어진다.
  */
 @Entity
 @Table(name = "outbox", schema = "order")
@@ -31,11 +32,15 @@ public class OutboxEvent {
     public static final String STATUS_PUBLISHED = "PUBLISHED";
     public static final String STATUS_FAILED = "FAILED";
 
+    // v7 UUID: id 순서가 곧 생성 순서라 발행 대기열이 PK 인덱스 끝에 모인다.
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
+    @Column(name = "run_id", nullable = false, updatable = false)
+    private UUID runId;
+
     @Column(name = "aggregate_type", nullable = false, length = 50)
     private String aggregateType;
 
@@ -46,10 +51,14 @@ public class OutboxEvent {
     @Column(name = "event_type", nullable = false, length = 50)
     private String eventType;
 
+    // 디버깅용 JSON. app.outbox.debug-json=false(기본)면 null.
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "payload", nullable = false)
+    @Column(name = "payload")
     private String payload;
 
+    @Column(name = "payload_bin")
+    private byte[] payloadBin;
+
     // READY → 발행 대상 / PUBLISHED → Redis(XADD) 적재 완료 / FAILED → 재시도 초과(준-DLQ)
     @Column(name = "status", nullable = false, length = 20)
     private String status;
@@ -63,17 +72,28 @@ public class OutboxEvent {
     @Column(name = "published_at")
     private OffsetDateTime publishedAt;
 
-    private OutboxEvent(String aggregateType, UUID aggregateId, String eventType, String payload, String status) {
+    private OutboxEvent(UUID runId, String aggregateType, UUID aggregateId, String eventType, byte[] payloadBin,
+            String payload, String status) {
+        this.runId = runId;
         this.aggregateType = aggregateType;
         this.aggregateId = aggregateId;
         this.eventType = eventType;
+        this.payloadBin = payloadBin;
         this.payload = payload;
         this.status = status;
         this.retryCount = 0;
     }
 
     /** 주문 성공(ORDER_COMPLETED) 이벤트를 READY 상태로 생성하는 팩토리. 주문 트랜잭션 안에서 호출한다. */
-    public static OutboxEvent orderCompleted(UUID orderId, String payloadJson) {
-        return new OutboxEvent("ORDER", orderId, "ORDER_COMPLETED", payloadJson, STATUS_READY);
+    public static OutboxEvent orderCompleted(UUID runId, UUID orderId, byte[] payloadBin, String debugJson) {
+        return new OutboxEvent(runId, "ORDER", orderId, "ORDER_COMPLETED", payloadBin, debugJson, STATUS_READY);
+    }
+
+    /**
+     * 재고 선점(ORDER_HELD) 이벤트 = 결제 요청. REDIS_HOLD 모드에서 결제로 진행하는 당첨자만 발행한다.
+     * payment 는 이 이벤트로 결제하고 결과 스트림(PAYMENT_COMPLETED)으로 확정을 되돌려준다.
+     */
+    public static OutboxEvent orderHeld(UUID runId, UUID orderId, byte[] payloadBin, String debugJson) {
+        return new OutboxEvent(runId, "ORDER", orderId, "ORDER_HELD", payloadBin, debugJson, STATUS_READY);
     }
 }
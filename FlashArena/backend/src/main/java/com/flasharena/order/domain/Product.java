@@ -29,10 +29,11 @@ public class Product {
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
-    @Column(name = "name", nullable = false, length = 100)
+    // 이름/가격은 시드 이후 불변 — ProductCatalog 가 무효화 없이 캐시한다.
+    @Column(name = "name", nullable = false, length = 100, updatable = false)
     private String name;
 
-    @Column(name = "price", nullable = false)
+    @Column(name = "price", nullable = false, updatable = false)
     private long price;
 
     // 재고. SYNC 모드에선 lost-update 로 음수까지 깨지는 것을 시연한다.
@@ -0,0 +1,10 @@
+package com.flasharena.order.domain;
+
+import java.util.UUID;
+
+/**
+ * 상품의 불변 속성(이름/가격) 투영. 재고(quantity)는 담지 않는다 — 재고는 항상 DB 에서 원자적으로만 다룬다.
+ * 정산 경로의 near-cache 값으로 쓰인다.
+ */
+public record ProductAttributes(UUID id, String name, long price) {
+}
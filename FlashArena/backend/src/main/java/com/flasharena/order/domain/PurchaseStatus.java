@@ -0,0 +1,26 @@
+package com.flasharena.order.domain;
+
+/**
+ * 공개 구매 API 시도(attempt)의 상태.
+ * <ul>
+ *   <li>{@link #PENDING} — 게이트 통과, 정산 스테이지 대기/처리 중.</li>
+ *   <li>{@link #SUCCEEDED} — 주문 생성 완료 (REDIS_COUNTER).</li>
+ *   <li>{@link #HELD} — 결제 대기 선점 완료 (REDIS_HOLD). 확정/만료는 선점 흐름이 이어서 처리한다.</li>
+ *   <li>{@link #SOLD_OUT} — 게이트에서 낙첨. DB 를 건드리지 않고 즉시 확정된다.</li>
+ *   <li>{@link #REJECTED} — 정산 스테이지 포화 또는 적응형 동시성 제한기 거절. 확보했던 자리는 카운터로 돌려준다.</li>
+ *   <li>{@link #FAILED} — 정산 트랜잭션 오류. 확보했던 자리는 카운터로 돌려준다.</li>
+ * </ul>
+ */
+public enum PurchaseStatus {
+    PENDING,
+    SUCCEEDED,
+    HELD,
+    SOLD_OUT,
+    REJECTED,
+    FAILED;
+
+    /** 더 이상 바뀌지 않는 최종 상태인지. 롱폴링/SSE 는 최종 상태에서 응답을 닫는다. */
+    public boolean isTerminal() {
+        return this != PENDING;
+    }
+}
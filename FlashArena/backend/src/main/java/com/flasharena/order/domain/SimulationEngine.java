@@ -0,0 +1,15 @@
+package com.flasharena.order.domain;
+
+/**
+ * 시뮬레이션 시도를 돌리는 실행 방식.
+ * <ul>
+ *   <li>{@link #PLATFORM} — 50 플랫폼 스레드 고정 풀 (기본). 블로킹 Redis/JPA 호출이 스레드를 점유한다.</li>
+ *   <li>{@link #VIRTUAL} — 시도당 가상 스레드. 블로킹 코드 그대로, 대기 중인 시도는 힙의 스택 청크로만 남는다.</li>
+ *   <li>{@link #REACTIVE} — 스레드 없이 논블로킹 파이프라인 (REACTIVE 모드 전용).</li>
+ * </ul>
+ */
+public enum SimulationEngine {
+    PLATFORM,
+    VIRTUAL,
+    REACTIVE
+}
@@ -7,10 +7,17 @@ package com.flasharena.order.domain;
  *   <li>{@link #REDIS_LOCK} — Redisson 분산 락으로 임계영역을 직렬화하여 정확하지만, 한 명씩 줄세워 느리다.</li>
  *   <li>{@link #REDIS_COUNTER} — Redis 원자 DECR 로 게이트키핑. 락/대기 없이 당첨자만 DB 에 써서
  *       정확하면서도 빠르다(인메모리 원자 연산). 대규모 플래시세일의 현실적 해법.</li>
+ *   <li>{@link #REDIS_HOLD} — REDIS_COUNTER 게이트 + 결제 대기 선점(hold). 당첨은 즉시 판매가 아니라 TTL 있는
+ *       Redis 예약이 되고, 결제 완료 이벤트가 오면 확정(CONFIRMED), 기한 내 결제가 없으면 만료(EXPIRED)되어
+ *       타이밍 휠 스위퍼가 재고를 카운터로 배치 반환한다.</li>
+ *   <li>{@link #REACTIVE} — REDIS_COUNTER 와 같은 게이트·정산을 스레드 풀 없이 논블로킹으로 돌린다
+ *       (Lettuce 리액티브 DECR → R2DBC 트랜잭션). 스레드 엔진(PLATFORM/VIRTUAL)과 처리량·메모리를 비교하는 용도.</li>
  * </ul>
  */
 public enum SimulationMode {
     SYNC,
     REDIS_LOCK,
-    REDIS_COUNTER
+    REDIS_COUNTER,
+    REDIS_HOLD,
+    REACTIVE
 }
@@ -1,16 +1,29 @@
 package com.flasharena.order.infrastructure;
 
 import com.flasharena.order.domain.OrderEntity;
+import java.util.Collection;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
 
-    /** 매 run 시작 전 해당 상품의 주문 내역을 지워 재현 가능성을 확보한다. */
-    @Transactional
-    void deleteByProductId(UUID productId);
+    /** 특정 run/상품/상태의 주문 수를 센다. run_id 조건으로 해당 run 파티션만 스캔한다. */
+    long countByRunIdAndProductIdAndStatus(UUID runId, UUID productId, String status);
 
-    /** 특정 상품/상태(CREATED·FAILED)의 주문 수를 센다. */
-    long countByProductIdAndStatus(UUID productId, String status);
+    /**
+     * 상태 전이 (from → to). 현재 상태가 from 일 때만 바뀌므로 확정/만료가 경합해도 한쪽만 반영된다.
+     *
+     * @return 실제로 전이된 행 수
+     */
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.status = :to WHERE o.id = :id AND o.status = :from")
+    int transitionStatus(@Param("id") UUID id, @Param("from") String from, @Param("to") String to);
+
+    /** 만료 배치: HELD 인 주문들만 EXPIRED 로 일괄 전이 (스위퍼 배치당 UPDATE 1회). */
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.status = 'EXPIRED' WHERE o.id IN :ids AND o.status = 'HELD'")
+    int expireHeld(@Param("ids") Collection<UUID> ids);
 }
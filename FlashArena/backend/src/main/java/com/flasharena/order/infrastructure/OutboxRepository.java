@@ -50,9 +50,110 @@ public interface OutboxRepository extends JpaRepository<OutboxEvent, UUID> {
             """)
     void markFailed(@Param("id") UUID id);
 
-    /** 시뮬레이터 리셋: outbox 잔여물 삭제 (재현 가능성 확보). 자체 트랜잭션. */
+    /**
+     * 보존 기간이 지난 PUBLISHED 행을 published_at 오래된 순으로 limit 건만 삭제한다 (청크 1개 = 트랜잭션 1개).
+     * SKIP LOCKED 라 다른 트랜잭션이 잡고 있는 행은 다음 청크/틱으로 미룬다.
+     *
+     * @return 삭제한 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH doomed AS (
+                SELECT id, run_id FROM "order".outbox
+                WHERE status = 'PUBLISHED' AND published_at < :cutoff
+                ORDER BY published_at ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            DELETE FROM "order".outbox o
+            USING doomed d
+            WHERE o.id = d.id AND o.run_id = d.run_id
+            """, nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    /** {@link #deletePublishedBefore} 와 같되 지운 행을 같은 트랜잭션에서 outbox_archive 로 옮긴다. */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH doomed AS (
+                SELECT id, run_id FROM "order".outbox
+                WHERE status = 'PUBLISHED' AND published_at < :cutoff
+                ORDER BY published_at ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM "order".outbox o
+                USING doomed d
+                WHERE o.id = d.id AND o.run_id = d.run_id
+                RETURNING o.id, o.run_id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload, o.payload_bin,
+                          o.status, o.retry_count, o.created_at, o.published_at
+            )
+            INSERT INTO "order".outbox_archive (id, run_id, aggregate_type, aggregate_id, event_type, payload,
+                                                payload_bin, status, retry_count, created_at, published_at)
+            SELECT id, run_id, aggregate_type, aggregate_id, event_type, payload,
+                   payload_bin, status, retry_count, created_at, published_at
+            FROM moved
+            """, nativeQuery = true)
+    int archivePublishedBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    /** 상태별 행 수 [status, count] — 보존량 지표용 (보존 틱마다 한 번). */
+    @Query(value = "SELECT status, count(*) FROM \"order\".outbox GROUP BY status", nativeQuery = true)
+    List<Object[]> countByStatus();
+
+    /**
+     * FAILED(준-DLQ) 행 조회. 필터는 모두 선택(null 이면 조건 없음). 오래된 순.
+     * (null 파라미터 타입 추론을 위해 CAST 로 감싼다.)
+     */
+    @Query(value = """
+            SELECT * FROM "order".outbox
+            WHERE status = 'FAILED'
+              AND (CAST(:runId AS uuid) IS NULL OR run_id = CAST(:runId AS uuid))
+              AND (CAST(:eventType AS varchar) IS NULL OR event_type = CAST(:eventType AS varchar))
+              AND (CAST(:from AS timestamptz) IS NULL OR created_at >= CAST(:from AS timestamptz))
+              AND (CAST(:to AS timestamptz) IS NULL OR created_at < CAST(:to AS timestamptz))
+            ORDER BY created_at ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OutboxEvent> findFailed(@Param("runId") UUID runId, @Param("eventType") String eventType,
+            @Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT count(*) FROM "order".outbox
+            WHERE status = 'FAILED'
+              AND (CAST(:runId AS uuid) IS NULL OR run_id = CAST(:runId AS uuid))
+              AND (CAST(:eventType AS varchar) IS NULL OR event_type = CAST(:eventType AS varchar))
+              AND (CAST(:from AS timestamptz) IS NULL OR created_at >= CAST(:from AS timestamptz))
+              AND (CAST(:to AS timestamptz) IS NULL OR created_at < CAST(:to AS timestamptz))
+            """, nativeQuery = true)
+    long countFailed(@Param("runId") UUID runId, @Param("eventType") String eventType,
+            @Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+    /**
+     * 필터에 맞는 FAILED 행을 limit 건만 READY + retry_count=0 으로 되돌린다 (배치 1개 = 트랜잭션 1개).
+     * 되돌린 행은 릴레이어가 평소 속도로 다시 발행한다.
+     *
+     * @return 되돌린 행 수
+     */
     @Transactional
     @Modifying
-    @Query("DELETE FROM OutboxEvent o")
-    void deleteAllOutbox();
+    @Query(value = """
+            WITH picked AS (
+                SELECT id, run_id FROM "order".outbox
+                WHERE status = 'FAILED'
+                  AND (CAST(:runId AS uuid) IS NULL OR run_id = CAST(:runId AS uuid))
+                  AND (CAST(:eventType AS varchar) IS NULL OR event_type = CAST(:eventType AS varchar))
+                  AND (CAST(:from AS timestamptz) IS NULL OR created_at >= CAST(:from AS timestamptz))
+                  AND (CAST(:to AS timestamptz) IS NULL OR created_at < CAST(:to AS timestamptz))
+                ORDER BY created_at ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE "order".outbox o
+            SET status = 'READY', retry_count = 0
+            FROM picked p
+            WHERE o.id = p.id AND o.run_id = p.run_id
+            """, nativeQuery = true)
+    int requeueFailed(@Param("runId") UUID runId, @Param("eventType") String eventType,
+            @Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to, @Param("limit") int limit);
 }
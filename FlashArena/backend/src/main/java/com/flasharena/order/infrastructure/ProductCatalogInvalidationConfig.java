@@ -0,0 +1,31 @@
+package com.flasharena.order.infrastructure;
+
+import com.flasharena.order.application.ProductCatalog;
+import java.nio.charset.StandardCharsets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 상품 캐시 무효화 채널 구독 구성. 수신한 id(또는 {@code *})로 {@link ProductCatalog#evictLocal} 을 호출한다.
+ * <p>pub/sub 은 전달 보장이 없다 — 구독이 끊긴 동안의 무효화는 캐시 TTL 이 메운다.
+ */
+@Configuration
+public class ProductCatalogInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer productCatalogInvalidationContainer(
+            RedisConnectionFactory connectionFactory,
+            ProductCatalog productCatalog,
+            @Value("${app.catalog.invalidation-channel:flasharena:catalog:invalidate}") String channel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> productCatalog.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+        return container;
+    }
+}
@@ -1,6 +1,7 @@
 package com.flasharena.order.infrastructure;
 
 import com.flasharena.order.domain.Product;
+import com.flasharena.order.domain.ProductAttributes;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,6 +14,14 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
     /** 시뮬레이터가 사용하는 단일 시드 상품을 가장 먼저 생성된 순으로 조회한다. */
     Optional<Product> findFirstByOrderByCreatedAtAsc();
 
+    /** 불변 속성(이름/가격)만 조회 — 엔티티를 영속성 컨텍스트에 올리지 않는다 (ProductCatalog 캐시 적재용). */
+    @Query("SELECT new com.flasharena.order.domain.ProductAttributes(p.id, p.name, p.price) FROM Product p WHERE p.id = :id")
+    Optional<ProductAttributes> findAttributesById(@Param("id") UUID id);
+
+    /** 재고만 조회 (REDIS_LOCK 임계영역: 락이 직렬화하므로 읽은 값으로 판정 후 원자 차감). */
+    @Query("SELECT p.quantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findQuantityById(@Param("id") UUID id);
+
     /**
      * 재고 1 원자 차감 (read-modify-write 가 아니라 DB 단일 UPDATE).
      * REDIS_COUNTER 모드에서 게이트(DECR)를 통과한 당첨자들이 동시에 호출해도
@@ -21,4 +30,9 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Product p SET p.quantity = p.quantity - 1 WHERE p.id = :id")
     void decreaseQuantityAtomic(@Param("id") UUID id);
+
+    /** 재고 n 원자 반환. REDIS_HOLD 만료 스위퍼가 배치 단위로 선점 재고를 되돌릴 때 쓴다. */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :amount WHERE p.id = :id")
+    void increaseQuantityAtomic(@Param("id") UUID id, @Param("amount") int amount);
 }
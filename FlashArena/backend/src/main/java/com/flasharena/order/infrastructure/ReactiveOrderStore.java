@@ -0,0 +1,125 @@
+package com.flasharena.order.infrastructure;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Statement;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * REACTIVE 모드 정산 저장소 — JPA 대신 R2DBC 커넥션 풀로 "order" 스키마에 직접 쓴다.
+ * <p>{@code OrderProcessor#settleCounter} 와 같은 원자 단위(재고 원자 차감 + CREATED 주문 + ORDER_COMPLETED 아웃박스)를
+ * R2DBC 로컬 트랜잭션 하나로 커밋한다. 커넥션을 기다리는 동안에도 스레드를 붙잡지 않는다.
+ * <p>접속 URL 은 {@code app.reactive.r2dbc-url} 이 비어 있으면 {@code spring.datasource.url} 의 {@code jdbc:} 를
+ * {@code r2dbc:} 로 바꿔 만든다 — 배포 환경에서 DB_URL 만 바꿔도 REACTIVE 모드가 같은 DB 를 본다. 계정도 datasource 와 같다.
+ * <p>⚠️ {@code io.r2dbc.spi.ConnectionFactory} 를 빈으로 내놓지 않는다 — 그 타입의 빈이 있으면 Spring Boot 가
+ * JDBC DataSource 자동 구성을 끄고(JPA 경로가 죽는다) R2DBC 자동 구성도 yml 에서 제외해 두었다. 풀은 이 클래스가 소유한다.
+ */
+@Component
+public class ReactiveOrderStore {
+
+    private static final String DECREASE_STOCK =
+            "UPDATE \"order\".product SET quantity = quantity - 1 WHERE id = $1";
+    private static final String INSERT_ORDER =
+            "INSERT INTO \"order\".orders (id, run_id, user_id, product_id, quantity, status) VALUES ($1, $2, $3, $4, 1, $5)";
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO \"order\".outbox (id, run_id, aggregate_type, aggregate_id, event_type, payload_bin, payload, status)"
+                    + " VALUES ($1, $2, 'ORDER', $3, 'ORDER_COMPLETED', $4, CAST($5 AS JSONB), 'READY')";
+
+    private final ConnectionPool pool;
+
+    public ReactiveOrderStore(
+            @Value("${app.reactive.r2dbc-url:}") String url,
+            @Value("${spring.datasource.url}") String jdbcUrl,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${app.reactive.pool-max-size:20}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl(url, jdbcUrl)).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        // 첫 acquire 때 커넥션을 연다 — REACTIVE 모드를 쓰지 않는 인스턴스는 Postgres 에 커넥션을 더 만들지 않는다.
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(0)
+                .maxSize(Math.max(1, maxSize))
+                .maxIdleTime(Duration.ofMinutes(5))
+                .build());
+    }
+
+    /** 명시한 R2DBC URL, 없으면 JDBC URL 의 {@code jdbc:} 접두사를 {@code r2dbc:} 로 바꾼 것. */
+    static String r2dbcUrl(String url, String jdbcUrl) {
+        if (url != null && !url.isBlank()) {
+            return url;
+        }
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("app.reactive.r2dbc-url 이 없고 spring.datasource.url 이 JDBC URL 이 아닙니다: " + jdbcUrl);
+        }
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+    }
+
+    /** 당첨 정산: 재고 원자 차감 + CREATED 주문 + ORDER_COMPLETED 아웃박스를 한 트랜잭션으로. debugJson 은 null 가능. */
+    public Mono<Void> recordSale(UUID orderId, UUID outboxId, UUID runId, UUID productId, UUID userId,
+            byte[] payloadBin, String debugJson) {
+        return inTransaction(connection -> execute(connection.createStatement(DECREASE_STOCK).bind(0, productId))
+                .then(execute(insertOrder(connection, orderId, runId, productId, userId, "CREATED")))
+                .then(execute(insertOutbox(connection, outboxId, runId, orderId, payloadBin, debugJson))));
+    }
+
+    /** 낙첨: FAILED 주문만 기록 (아웃박스 이벤트 없음). */
+    public Mono<Void> recordFailure(UUID orderId, UUID runId, UUID productId, UUID userId) {
+        return inTransaction(connection ->
+                execute(insertOrder(connection, orderId, runId, productId, userId, "FAILED")));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.dispose();
+    }
+
+    private Statement insertOrder(Connection connection, UUID orderId, UUID runId, UUID productId, UUID userId,
+            String status) {
+        return connection.createStatement(INSERT_ORDER)
+                .bind(0, orderId)
+                .bind(1, runId)
+                .bind(2, userId)
+                .bind(3, productId)
+                .bind(4, status);
+    }
+
+    private Statement insertOutbox(Connection connection, UUID outboxId, UUID runId, UUID orderId,
+            byte[] payloadBin, String debugJson) {
+        Statement statement = connection.createStatement(INSERT_OUTBOX)
+                .bind(0, outboxId)
+                .bind(1, runId)
+                .bind(2, orderId)
+                .bind(3, payloadBin);
+        return debugJson != null ? statement.bind(4, debugJson) : statement.bindNull(4, String.class);
+    }
+
+    private static Mono<Void> execute(Statement statement) {
+        return Mono.from(statement.execute())
+                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                .then();
+    }
+
+    /** 풀에서 커넥션을 빌려 begin → work → commit. 오류면 rollback, 취소든 무엇이든 커넥션은 풀로 돌려준다. */
+    private Mono<Void> inTransaction(Function<Connection, Mono<Void>> work) {
+        return Mono.usingWhen(pool.create(),
+                connection -> Mono.from(connection.beginTransaction())
+                        .then(work.apply(connection))
+                        .then(Mono.from(connection.commitTransaction())),
+                Connection::close,
+                (connection, error) -> Mono.from(connection.rollbackTransaction())
+                        .onErrorResume(e -> Mono.empty())
+                        .then(Mono.from(connection.close())),
+                Connection::close);
+    }
+}
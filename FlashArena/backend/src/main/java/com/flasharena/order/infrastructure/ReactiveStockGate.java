@@ -0,0 +1,99 @@
+package com.flasharena.order.infrastructure;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * REACTIVE 모드 게이트 — Lettuce 리액티브 명령으로 재고 카운터를 DECR 한다. 스레드 엔진과 같은 0 하한 Lua 라
+ * 낙첨자가 카운터를 음수로 끌어내리지 않는다 (돌려준 자리가 다시 팔린다).
+ * <p>이 앱의 {@code RedisConnectionFactory} 는 Redisson starter 가 덮어쓴 것이라, Lettuce 경로를 재려면 클라이언트를 따로 둔다.
+ * 연결 하나를 모든 시도가 공유한다(Lettuce 는 한 연결 위에서 명령을 파이프라이닝). 첫 사용 때 연결한다.
+ * 접속 정보는 Spring 과 같은 {@code spring.data.redis.*} ({@link RedisProperties}) 에서 가져온다 — url 이 있으면 url,
+ * 없으면 host/port/database/username/password/ssl/timeout. 종료 시 연결과 클라이언트를 함께 닫는다.
+ */
+@Component
+public class ReactiveStockGate {
+
+    // SimulationService.STOCK_DECREMENT 와 같은 스크립트: 키 없음 nil, 남은 자리 없음 -1(카운터 그대로), 그 외 DECR 결과.
+    private static final String DECREMENT_IF_POSITIVE = """
+            local v = tonumber(redis.call('GET', KEYS[1]))
+            if v == nil then
+                return false
+            end
+            if v <= 0 then
+                return -1
+            end
+            return redis.call('DECR', KEYS[1])
+            """;
+
+    private final RedisClient client;
+    private volatile StatefulRedisConnection<String, String> connection;
+
+    public ReactiveStockGate(RedisProperties properties) {
+        this.client = RedisClient.create(redisUri(properties));
+    }
+
+    static RedisURI redisUri(RedisProperties properties) {
+        if (properties.getUrl() != null && !properties.getUrl().isBlank()) {
+            return RedisURI.create(properties.getUrl());
+        }
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(properties.getHost())
+                .withPort(properties.getPort())
+                .withDatabase(properties.getDatabase())
+                .withSsl(properties.getSsl().isEnabled());
+        if (properties.getPassword() != null) {
+            if (properties.getUsername() != null) {
+                builder.withAuthentication(properties.getUsername(), properties.getPassword());
+            } else {
+                builder.withPassword(properties.getPassword().toCharArray());
+            }
+        }
+        if (properties.getTimeout() != null) {
+            builder.withTimeout(properties.getTimeout());
+        }
+        return builder.build();
+    }
+
+    /** 남은 자리가 있을 때만 원자 DECR. 결과 >= 0 이면 한 자리 확보, -1 이면 품절(키가 없어도 -1). */
+    public Mono<Long> decrement(String key) {
+        return commands().<Long>eval(DECREMENT_IF_POSITIVE, ScriptOutputType.INTEGER, key)
+                .next()
+                .defaultIfEmpty(-1L);
+    }
+
+    /** 확보했던 자리를 되돌린다 (정산 실패 보상). */
+    public Mono<Long> increment(String key) {
+        return commands().incr(key);
+    }
+
+    private RedisReactiveCommands<String, String> commands() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current == null) {
+            synchronized (this) {
+                current = connection;
+                if (current == null) {
+                    current = client.connect();
+                    connection = current;
+                }
+            }
+        }
+        return current.reactive();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current != null) {
+            current.close();
+        }
+        client.shutdown();
+    }
+}
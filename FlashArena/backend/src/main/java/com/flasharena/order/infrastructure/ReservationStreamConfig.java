@@ -0,0 +1,102 @@
+package com.flasharena.order.infrastructure;
+
+import com.flasharena.order.application.ReservationService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+
+/**
+ * REDIS_HOLD 선점 확정용 결과 스트림 구독 구성 (order 가 소비자).
+ * <p>payment 가 발행한 PAYMENT_COMPLETED 를 소비자 그룹 + 수동 XACK 로 읽어 {@link ReservationService#confirm} 을 호출한다.
+ * 확정은 멱등이라(끝난 뒤엔 hold 키가 없어 false) 재전달돼도 안전하고, DB 단계가 실패해 미-XACK 로 남은 건은
+ * hold 키가 유지되므로 재전달(또는 스위퍼)이 확정을 마저 끝낸다. 구성 방식은 PaymentStreamConfig 와 같다.
+ */
+@Configuration
+public class ReservationStreamConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationStreamConfig.class);
+
+    private final String streamKey;
+    private final String group;
+    private final String consumer;
+
+    public ReservationStreamConfig(
+            @Value("${app.stream.result-key:flasharena:payment-events}") String streamKey,
+            @Value("${app.stream.result-group:order-group}") String group,
+            @Value("${app.stream.result-consumer:order-1}") String consumer) {
+        this.streamKey = streamKey;
+        this.group = group;
+        this.consumer = consumer;
+    }
+
+    /** 스트림이 없으면 만들고(MKSTREAM), 그룹을 생성한다. 이미 있으면(BUSYGROUP) 그대로 둔다. */
+    private void ensureGroup(StringRedisTemplate redisTemplate) {
+        try {
+            redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0"), group);
+            log.info("소비자 그룹 생성 group='{}' stream='{}'", group, streamKey);
+        } catch (Exception e) {
+            String msg = e.getMessage();
+            if (msg != null && msg.contains("BUSYGROUP")) {
+                log.info("소비자 그룹 이미 존재 group='{}' (재사용)", group);
+            } else {
+                log.warn("소비자 그룹 생성 중 예외(무시 가능할 수 있음) group='{}': {}", group, msg);
+            }
+        }
+    }
+
+    @Bean
+    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> reservationStreamContainer(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate,
+            ReservationService reservationService) {
+
+        ensureGroup(redisTemplate);
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(1))
+                        .build();
+
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
+                StreamMessageListenerContainer.create(connectionFactory, options);
+
+        StreamListener<String, MapRecord<String, String, String>> listener = message -> {
+            Map<String, String> fields = message.getValue();
+            try {
+                String orderId = fields.get("orderId");
+                if ("PAYMENT_COMPLETED".equals(fields.get("eventType")) && orderId != null) {
+                    reservationService.confirm(UUID.fromString(orderId));
+                }
+                // 확정 실패(만료/중복)도 재시도해서 바뀔 결과가 아니므로 ACK 한다.
+                redisTemplate.opsForStream().acknowledge(streamKey, group, message.getId());
+            } catch (IllegalArgumentException e) {
+                log.warn("형식 불량 결제 결과 스킵 id={} : {}", message.getId(), fields);
+                redisTemplate.opsForStream().acknowledge(streamKey, group, message.getId());
+            } catch (RuntimeException e) {
+                log.warn("선점 확정 실패(미-XACK, 재전달 대상) id={} : {}", message.getId(), e.getMessage());
+            }
+        };
+
+        container.receive(
+                Consumer.from(group, consumer),
+                StreamOffset.create(streamKey, ReadOffset.lastConsumed()),
+                listener);
+
+        container.start();
+        return container;
+    }
+}
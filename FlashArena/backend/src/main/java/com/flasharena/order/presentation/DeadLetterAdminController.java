@@ -0,0 +1,116 @@
+package com.flasharena.order.presentation;
+
+import com.flasharena.global.admin.AdminJobs;
+import com.flasharena.order.application.OutboxDeadLetters;
+import com.flasharena.order.presentation.dto.ReplayRequest;
+import com.flasharena.payment.application.PaymentDeadLetters;
+import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 데드레터 관리자 API (Bearer + ROLE_ADMIN — {@code AdminInterceptor} 가 확인).
+ * <ul>
+ *   <li>{@code GET  /outbox} — 아웃박스 FAILED(준-DLQ) 조회 (runId/eventType/from/to 필터)</li>
+ *   <li>{@code POST /outbox/requeue} — 필터에 맞는 FAILED 를 배치·속도 제한으로 READY 로 되돌림</li>
+ *   <li>{@code GET  /stream} — 결제 소비자가 형식 불량으로 옮겨 둔 데드레터 스트림 조회</li>
+ *   <li>{@code POST /stream/replay} — 데드레터 [fromId, toId] 를 주 스트림으로 되돌림</li>
+ *   <li>{@code POST /stream/replay-range} — 주 스트림 [fromId, toId] 를 결제 그룹에 다시 흘림 (결제는 멱등).
+ *       소비 완료 구간도 {@code app.stream.replay-window} 동안은 트리밍하지 않고 남긴다. 이미 잘린 시작 id 는 409</li>
+ * </ul>
+ * 일괄 작업은 202 + jobId 로 바로 돌려주고, {@code GET /jobs/{jobId}} 로 진행률을 본다.
+ */
+@RestController
+@RequestMapping("/api/admin/dead-letters")
+public class DeadLetterAdminController {
+
+    private final OutboxDeadLetters outboxDeadLetters;
+    private final PaymentDeadLetters paymentDeadLetters;
+    private final AdminJobs adminJobs;
+
+    public DeadLetterAdminController(OutboxDeadLetters outboxDeadLetters,
+            PaymentDeadLetters paymentDeadLetters,
+            AdminJobs adminJobs) {
+        this.outboxDeadLetters = outboxDeadLetters;
+        this.paymentDeadLetters = paymentDeadLetters;
+        this.adminJobs = adminJobs;
+    }
+
+    @GetMapping("/outbox")
+    public OutboxDeadLetters.FailedPage listOutbox(
+            @RequestParam(required = false) UUID runId,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+        return outboxDeadLetters.list(new OutboxDeadLetters.Filter(runId, eventType, from, to), limit);
+    }
+
+    @PostMapping("/outbox/requeue")
+    public ResponseEntity<AdminJobs.Snapshot> requeueOutbox(@Valid @RequestBody ReplayRequest request) {
+        OutboxDeadLetters.Filter filter =
+                new OutboxDeadLetters.Filter(request.runId(), request.eventType(), request.from(), request.to());
+        return accepted(adminJobs.submit("outbox-requeue", outboxDeadLetters.requeue(filter,
+                request.batchSizeOrDefault(), request.ratePerSecondOrDefault(), request.maxOrDefault())));
+    }
+
+    @GetMapping("/stream")
+    public PaymentDeadLetters.DeadLetterPage listStream(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String reason,
+            @RequestParam(defaultValue = "100") int limit) {
+        return paymentDeadLetters.list(after, reason, limit);
+    }
+
+    @PostMapping("/stream/replay")
+    public ResponseEntity<AdminJobs.Snapshot> replayDeadLetters(@Valid @RequestBody ReplayRequest request) {
+        return accepted(adminJobs.submit("stream-dlq-replay", paymentDeadLetters.replayDeadLetters(
+                request.fromId(), request.toId(), request.batchSizeOrDefault(), request.ratePerSecondOrDefault())));
+    }
+
+    @PostMapping("/stream/replay-range")
+    public ResponseEntity<AdminJobs.Snapshot> replayRange(@Valid @RequestBody ReplayRequest request) {
+        if (request.fromId() == null || request.toId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromId 와 toId 는 필수입니다.");
+        }
+        if (!paymentDeadLetters.isRetained(request.fromId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "fromId 구간은 이미 트리밍됐습니다. 남은 가장 오래된 id="
+                    + paymentDeadLetters.retainedFrom());
+        }
+        return accepted(adminJobs.submit("stream-range-replay", paymentDeadLetters.replayRange(
+                request.fromId(), request.toId(), request.batchSizeOrDefault(), request.ratePerSecondOrDefault())));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public AdminJobs.Snapshot job(@PathVariable String jobId) {
+        AdminJobs.Snapshot snapshot = adminJobs.get(jobId);
+        if (snapshot == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다. jobId=" + jobId);
+        }
+        return snapshot;
+    }
+
+    /** 취소 요청 — 진행 중인 배치를 마친 뒤 멈춘다. */
+    @PostMapping("/jobs/{jobId}/cancel")
+    public ResponseEntity<Void> cancel(@PathVariable String jobId) {
+        if (!adminJobs.cancel(jobId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다. jobId=" + jobId);
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    private static ResponseEntity<AdminJobs.Snapshot> accepted(AdminJobs.Snapshot snapshot) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(snapshot);
+    }
+}
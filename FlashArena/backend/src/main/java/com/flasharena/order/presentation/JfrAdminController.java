@@ -0,0 +1,74 @@
+package com.flasharena.order.presentation;
+
+import com.flasharena.global.jfr.JfrRecordingService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Map;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 시뮬레이터 run 단위 JFR 녹화 관리자 API (Bearer + ROLE_ADMIN — {@code AdminInterceptor} 가 확인).
+ * <p>{@code POST /run} 이 돌려준 runId 로 {@code /start} 를 부르고, run 이 끝나면 {@code /stop} 으로 .jfr 파일을 받는다.
+ * 녹화에는 JDK 기본 이벤트와 함께 구매 시도/락/아웃박스 릴레이/결제 처리 커스텀 이벤트(runId 필드 포함)가 담긴다.
+ */
+@RestController
+@RequestMapping("/api/admin/jfr")
+public class JfrAdminController {
+
+    private final JfrRecordingService recordingService;
+
+    public JfrAdminController(JfrRecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    /** 녹화 시작. 이미 녹화 중이면 409. */
+    @PostMapping("/{runId}/start")
+    public ResponseEntity<Map<String, Object>> start(@PathVariable String runId) throws IOException {
+        boolean started;
+        try {
+            started = recordingService.start(runId);
+        } catch (ParseException e) {
+            throw new IllegalStateException("JFR 기본 설정을 읽을 수 없습니다.", e);
+        }
+        if (!started) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 녹화 중입니다. runId=" + runId);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("runId", runId, "recording", true));
+    }
+
+    /** 녹화 종료 후 .jfr 파일 다운로드. 녹화가 없으면 404. 임시 파일은 전송 후 지운다. */
+    @PostMapping("/{runId}/stop")
+    public ResponseEntity<StreamingResponseBody> stop(@PathVariable String runId) throws IOException {
+        Path file = recordingService.stop(runId);
+        if (file == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "녹화를 찾을 수 없습니다. runId=" + runId);
+        }
+        long size = Files.size(file);
+        StreamingResponseBody body = out -> {
+            try (InputStream in = Files.newInputStream(file)) {
+                in.transferTo(out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("run-" + runId + ".jfr").build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,105 @@
+package com.flasharena.order.presentation;
+
+import com.flasharena.global.context.UserContext;
+import com.flasharena.global.jwt.JwtProvider;
+import com.flasharena.global.jwt.VerifiedTokenCache;
+import com.flasharena.order.application.PurchaseResultHub;
+import com.flasharena.order.application.PurchaseService;
+import com.flasharena.order.presentation.dto.PurchaseRequest;
+import com.flasharena.order.presentation.dto.PurchaseResult;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 공개 구매 API (비동기 접수 + 결과 스트리밍).
+ * <p>{@code POST /purchase} 는 게이트만 통과시키고 202 + attemptId 를 즉시 돌려준다. 최종 결과는
+ * {@code GET /purchase/{attemptId}} 롱폴링 또는 {@code GET /purchase/{attemptId}/stream} SSE 로 받는다.
+ * 스트림 경로는 시뮬레이터 SSE 와 같이 인터셉터에서 제외하고 {@code ?token=<jwt>} 로 직접 검증한다.
+ */
+@RestController
+@RequestMapping("/api/orders")
+public class PurchaseController {
+
+    private static final long MAX_WAIT_MS = 30_000L;
+
+    private final PurchaseService purchaseService;
+    private final PurchaseResultHub resultHub;
+    private final VerifiedTokenCache tokenCache;
+
+    public PurchaseController(PurchaseService purchaseService,
+            PurchaseResultHub resultHub,
+            VerifiedTokenCache tokenCache) {
+        this.purchaseService = purchaseService;
+        this.resultHub = resultHub;
+        this.tokenCache = tokenCache;
+    }
+
+    /**
+     * 구매 접수. 당첨이면 202(PENDING), 낙첨이면 200(SOLD_OUT), 정산 스테이지 포화면 503(REJECTED).
+     * userId 는 요청 스레드의 UserContext 에서 미리 꺼내 정산 스레드로 넘긴다.
+     */
+    @PostMapping("/purchase")
+    public ResponseEntity<PurchaseResult> purchase(@RequestBody(required = false) PurchaseRequest request) {
+        UUID userId = UserContext.getUserId();
+        UUID productId = request != null ? request.productId() : null;
+        PurchaseResult result = purchaseService.accept(productId, userId);
+        HttpStatus status = switch (result.status()) {
+            case PENDING -> HttpStatus.ACCEPTED;
+            case REJECTED -> HttpStatus.SERVICE_UNAVAILABLE;
+            default -> HttpStatus.OK;
+        };
+        return ResponseEntity.status(status).body(result);
+    }
+
+    /**
+     * 롱폴링. 최종 상태가 되면 즉시, 아니면 waitMs(최대 30초) 후 현재 상태(PENDING)로 응답한다.
+     * 대기 중에는 서블릿 비동기로 요청 스레드를 반납한다.
+     */
+    @GetMapping("/purchase/{attemptId}")
+    public DeferredResult<PurchaseResult> result(@PathVariable String attemptId,
+            @RequestParam(name = "waitMs", defaultValue = "10000") long waitMs) {
+        PurchaseResult current = purchaseService.find(attemptId, UserContext.getUserId());
+        if (current == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "구매 시도를 찾을 수 없습니다. attemptId=" + attemptId);
+        }
+        return resultHub.await(current, Math.min(Math.max(waitMs, 1L), MAX_WAIT_MS));
+    }
+
+    /** SSE: 최종 결과를 {@code event: result} 로 한 번 보내고 닫는다. EventSource 용 {@code ?token} 인증. */
+    @GetMapping(value = "/purchase/{attemptId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@PathVariable String attemptId,
+            @RequestParam(name = "token", required = false) String token) {
+        UUID userId = userIdOf(token);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        PurchaseResult current = purchaseService.find(attemptId, userId);
+        if (current == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(resultHub.subscribe(current));
+    }
+
+    private UUID userIdOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            return tokenCache.verify(token).userId();
+        } catch (JwtProvider.InvalidTokenException e) {
+            return null;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.flasharena.order.presentation;
 
 import com.flasharena.global.context.UserContext;
 import com.flasharena.global.jwt.JwtProvider;
+import com.flasharena.global.jwt.VerifiedTokenCache;
 import com.flasharena.order.application.SimulationLogRegistry;
 import com.flasharena.order.application.SimulationService;
 import com.flasharena.order.application.SimulationStreamHub;
@@ -37,16 +38,16 @@ public class SimulatorController {
     private final SimulationService simulationService;
     private final SimulationStreamHub streamHub;
     private final SimulationLogRegistry logRegistry;
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache tokenCache;
 
     public SimulatorController(SimulationService simulationService,
             SimulationStreamHub streamHub,
             SimulationLogRegistry logRegistry,
-            JwtProvider jwtProvider) {
+            VerifiedTokenCache tokenCache) {
         this.simulationService = simulationService;
         this.streamHub = streamHub;
         this.logRegistry = logRegistry;
-        this.jwtProvider = jwtProvider;
+        this.tokenCache = tokenCache;
     }
 
     /**
@@ -68,7 +69,7 @@ public class SimulatorController {
 
     /**
      * SSE 스트림. 먼저 현재 버퍼 스냅샷을 {@code log} 이벤트로 리플레이한 뒤 라이브로 흘리고,
-     * run 종료 시 {@code result} 이벤트를 보내고 완료한다.
+     * 진행 중에는 100ms 마다 {@code metrics} 이벤트(처리량/진행 중/지연 퍼센타일/남은 재고)를, run 종료 시 {@code result} 이벤트를 보내고 완료한다.
      * EventSource 는 헤더를 못 보내므로 {@code ?token} 으로 인증한다 (인터셉터 제외 경로).
      */
     @GetMapping(value = "/stream/{runId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
@@ -109,7 +110,7 @@ public class SimulatorController {
 
     private boolean isValidToken(String token) {
         try {
-            jwtProvider.parse(token);
+            tokenCache.verify(token);
             return true;
         } catch (JwtProvider.InvalidTokenException e) {
             return false;
@@ -0,0 +1,26 @@
+package com.flasharena.order.presentation.dto;
+
+import com.flasharena.order.domain.LockStrategy;
+
+/**
+ * REDIS_LOCK run 의 락 리포트 (다른 모드는 null).
+ * 대기 퍼센타일은 시도별 tryLock 대기(µs, 로그-선형 버킷 하한값), holdMaxMicros 는 최장 보유 시간이다.
+ * fairnessIndex 는 워커(스레드)별 누적 대기의 Jain 지수 — 1 이면 모두 똑같이 기다렸고 1/n 에 가까울수록 한쪽에 몰렸다.
+ * workerWaitCv 는 같은 값들의 변동계수(표준편차/평균).
+ * expiryIncidents 는 임계영역이 끝났을 때 이미 락을 잃었던(lease 만료) 횟수 — 0 이 아니면 그 run 은 직렬화가 깨졌다.
+ * stripes 는 STRIPED 전략의 버킷 수 (그 외 null).
+ */
+public record LockReport(
+        LockStrategy strategy,
+        Integer stripes,
+        long acquired,
+        long timedOut,
+        long waitP50Micros,
+        long waitP90Micros,
+        long waitP99Micros,
+        long waitMaxMicros,
+        long holdMaxMicros,
+        double fairnessIndex,
+        double workerWaitCv,
+        long expiryIncidents) {
+}
@@ -0,0 +1,9 @@
+package com.flasharena.order.presentation.dto;
+
+import java.util.UUID;
+
+/**
+ * 공개 구매 요청. productId 를 생략하면 시뮬레이터와 같은 단일 시드 상품을 산다.
+ */
+public record PurchaseRequest(UUID productId) {
+}
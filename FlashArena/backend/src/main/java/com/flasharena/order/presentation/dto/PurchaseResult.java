@@ -0,0 +1,32 @@
+package com.flasharena.order.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.flasharena.order.domain.PurchaseStatus;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 구매 시도 결과. 202 응답 본문이자 롱폴링/SSE({@code event: result}) 페이로드.
+ * orderId 는 SUCCEEDED/HELD 일 때만 채워지고, settledAt 은 최종 상태가 되면 채워진다.
+ * userId 는 소유자 확인용이라 응답에는 싣지 않는다.
+ */
+public record PurchaseResult(
+        String attemptId,
+        UUID productId,
+        PurchaseStatus status,
+        UUID orderId,
+        OffsetDateTime acceptedAt,
+        OffsetDateTime settledAt,
+        @JsonIgnore UUID userId) {
+
+    public static PurchaseResult pending(String attemptId, UUID productId, UUID userId) {
+        return new PurchaseResult(attemptId, productId, PurchaseStatus.PENDING, null,
+                OffsetDateTime.now(), null, userId);
+    }
+
+    /** 최종 상태로 전이한 사본. */
+    public PurchaseResult settle(PurchaseStatus finalStatus, UUID settledOrderId) {
+        return new PurchaseResult(attemptId, productId, finalStatus, settledOrderId,
+                acceptedAt, OffsetDateTime.now(), userId);
+    }
+}
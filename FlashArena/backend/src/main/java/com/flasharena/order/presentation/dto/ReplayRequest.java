@@ -0,0 +1,52 @@
+package com.flasharena.order.presentation.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 데드레터 재큐잉/리플레이 요청 (관리자 API 공용).
+ * <p>아웃박스 재큐잉은 runId/eventType/from/to 필터를, 스트림 리플레이는 fromId/toId(스트림 id 범위)를 쓴다.
+ * batchSize 건씩 처리하고 배치 사이를 ratePerSecond(초당 건수)에 맞춰 쉰다.
+ */
+public record ReplayRequest(
+        UUID runId,
+        String eventType,
+        OffsetDateTime from,
+        OffsetDateTime to,
+
+        @Pattern(regexp = "-|\\d+-\\d+", message = "fromId 는 스트림 id(ms-seq) 또는 - 여야 합니다.")
+        String fromId,
+
+        @Pattern(regexp = "\\+|\\d+-\\d+", message = "toId 는 스트림 id(ms-seq) 또는 + 여야 합니다.")
+        String toId,
+
+        @Min(value = 1, message = "batchSize 는 1 이상이어야 합니다.")
+        @Max(value = 1000, message = "batchSize 는 1000 이하여야 합니다.")
+        Integer batchSize,
+
+        @Min(value = 0, message = "ratePerSecond 는 0 이상이어야 합니다.")
+        Integer ratePerSecond,
+
+        @Min(value = 0, message = "max 는 0 이상이어야 합니다.")
+        Long max) {
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_RATE_PER_SECOND = 200;
+
+    public int batchSizeOrDefault() {
+        return batchSize != null ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    /** 미지정 시 초당 200건 — 기본 릴레이어 처리량(100건/500ms)과 같다. 0 이면 제한 없음. */
+    public int ratePerSecondOrDefault() {
+        return ratePerSecond != null ? ratePerSecond : DEFAULT_RATE_PER_SECOND;
+    }
+
+    /** 미지정/0 이면 필터에 맞는 전부. */
+    public long maxOrDefault() {
+        return max != null ? max : 0L;
+    }
+}
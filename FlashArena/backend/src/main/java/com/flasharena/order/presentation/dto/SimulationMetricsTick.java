@@ -0,0 +1,21 @@
+package com.flasharena.order.presentation.dto;
+
+/**
+ * SSE {@code event: metrics} 한 틱 (기본 100ms). 대시보드가 run 을 실시간 차트로 그리는 데 쓴다.
+ * 초당 값은 이번 틱 증분을 1초로 환산한 것이고, 지연 퍼센타일(µs)은 이번 틱에 끝난 시도만의 분포다.
+ * remainingStock 은 카운터 모드면 Redis 게이트 잔량, DB 모드면 DB 재고(몇 틱에 한 번 읽어 재사용)이며 모르면 null.
+ */
+public record SimulationMetricsTick(
+        long elapsedMs,
+        double attemptsPerSec,
+        double successesPerSec,
+        double failuresPerSec,
+        double rejectedPerSec,
+        long inFlight,
+        long completed,
+        long p50Micros,
+        long p90Micros,
+        long p99Micros,
+        long maxMicros,
+        Integer remainingStock) {
+}
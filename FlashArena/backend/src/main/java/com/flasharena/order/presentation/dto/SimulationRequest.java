@@ -1,5 +1,6 @@
 package com.flasharena.order.presentation.dto;
 
+import com.flasharena.order.domain.LockStrategy;
 import com.flasharena.order.domain.SimulationMode;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -8,9 +9,14 @@ import jakarta.validation.constraints.NotNull;
 /**
  * 시뮬레이션 실행 요청.
  * concurrency = 동시 요청 수(각 요청은 상품 1개 구매 시도). RAM-1GB 보호를 위해 1..20000 으로 제한.
+ * paymentRate 는 REDIS_HOLD 모드에서만 쓰인다.
+ * adaptiveLimit 이 true 면 OrderProcessor 호출을 적응형 동시성 제한기 뒤에서 실행한다.
+ * virtualThreads 는 스레드 엔진 모드(REACTIVE 외)의 워커를 50-풀 대신 시도당 가상 스레드로 돌린다.
+ * maxInFlight 는 REACTIVE 모드에서 동시에 진행 중인 시도 상한(flatMap 동시성)이다.
+ * lockStrategy/lockStripes 는 REDIS_LOCK 모드의 락 전략과 STRIPED 버킷 수다.
  */
 public record SimulationRequest(
-        @NotNull(message = "mode 는 필수입니다. (SYNC | REDIS_LOCK | REDIS_COUNTER)")
+        @NotNull(message = "mode 는 필수입니다. (SYNC | REDIS_LOCK | REDIS_COUNTER | REDIS_HOLD | REACTIVE)")
         SimulationMode mode,
 
         @Min(value = 1, message = "concurrency 는 1 이상이어야 합니다.")
@@ -18,10 +24,31 @@ public record SimulationRequest(
         Integer concurrency,
 
         @Min(value = 0, message = "initialStock 은 0 이상이어야 합니다.")
-        Integer initialStock) {
+        Integer initialStock,
+
+        @Min(value = 0, message = "paymentRate 는 0 이상이어야 합니다.")
+        @Max(value = 100, message = "paymentRate 는 100 이하여야 합니다.")
+        Integer paymentRate,
+
+        Boolean adaptiveLimit,
+
+        Boolean virtualThreads,
+
+        @Min(value = 1, message = "maxInFlight 는 1 이상이어야 합니다.")
+        @Max(value = 20000, message = "maxInFlight 는 20000 이하여야 합니다.")
+        Integer maxInFlight,
+
+        LockStrategy lockStrategy,
+
+        @Min(value = 1, message = "lockStripes 는 1 이상이어야 합니다.")
+        @Max(value = 64, message = "lockStripes 는 64 이하여야 합니다.")
+        Integer lockStripes) {
 
     private static final int DEFAULT_CONCURRENCY = 1000;
     private static final int DEFAULT_INITIAL_STOCK = 100;
+    private static final int DEFAULT_PAYMENT_RATE = 100;
+    private static final int DEFAULT_MAX_IN_FLIGHT = 256;
+    private static final int DEFAULT_LOCK_STRIPES = 8;
 
     /** 미지정 시 기본값(동시 요청 1000, 초기 재고 100) 적용. */
     public int concurrencyOrDefault() {
@@ -31,4 +58,34 @@ public record SimulationRequest(
     public int initialStockOrDefault() {
         return initialStock != null ? initialStock : DEFAULT_INITIAL_STOCK;
     }
+
+    /** REDIS_HOLD 전용: 선점 후 결제로 진행하는 비율(%). 나머지는 이탈해 TTL 만료로 재고가 반환된다. 기본 100. */
+    public int paymentRateOrDefault() {
+        return paymentRate != null ? paymentRate : DEFAULT_PAYMENT_RATE;
+    }
+
+    /** 미지정 시 false — 기존 모드 시연(락/카운터 비교)을 제한기 거절로 흐리지 않는다. */
+    public boolean adaptiveLimitOrDefault() {
+        return Boolean.TRUE.equals(adaptiveLimit);
+    }
+
+    /** 미지정 시 false — 기존 50 플랫폼 스레드 풀. */
+    public boolean virtualThreadsOrDefault() {
+        return Boolean.TRUE.equals(virtualThreads);
+    }
+
+    /** REACTIVE 전용. 미지정 시 256 — R2DBC 풀(기본 20)을 충분히 채우면서 게이트 대기열을 짧게 둔다. */
+    public int maxInFlightOrDefault() {
+        return maxInFlight != null ? maxInFlight : DEFAULT_MAX_IN_FLIGHT;
+    }
+
+    /** REDIS_LOCK 전용. 미지정 시 PLAIN — 기존 tryLock(10s, 5s lease). */
+    public LockStrategy lockStrategyOrDefault() {
+        return lockStrategy != null ? lockStrategy : LockStrategy.PLAIN;
+    }
+
+    /** STRIPED 전용 버킷 수. 미지정 시 8. */
+    public int lockStripesOrDefault() {
+        return lockStripes != null ? lockStripes : DEFAULT_LOCK_STRIPES;
+    }
 }
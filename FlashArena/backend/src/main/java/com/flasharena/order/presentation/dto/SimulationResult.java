@@ -1,5 +1,6 @@
 package com.flasharena.order.presentation.dto;
 
+import com.flasharena.order.domain.SimulationEngine;
 import com.flasharena.order.domain.SimulationMode;
 import java.time.OffsetDateTime;
 
@@ -8,18 +9,31 @@ import java.time.OffsetDateTime;
  * expectedStock = max(0, initialStock - successCount) 가 올바른 값이며,
  * oversold 는 successCount 초과 / 음수 재고 / 재고 불일치 중 하나라도 발생하면 true.
  * runId 는 Phase 5 SSE 구독 키로 쓰인다.
+ * rejectedCount 는 적응형 동시성 제한기가 과부하로 즉시 거절한 시도 수(성공/실패와 별도),
+ * concurrencyLimit 은 run 종료 시점의 제한기 상한이다 (제한기를 쓰지 않은 run 은 null).
+ * <p>엔진 비교용: engine 은 시도를 돌린 실행 방식, attemptsPerSecPerCore = 전체 시도 / 경과초 / 가용 코어,
+ * peakInFlight 는 100ms 틱으로 샘플한 동시 진행 시도 최댓값, allocatedBytesPerAttempt 는 run 동안 JVM 전체 힙 할당량 /
+ * 시도 수(측정 불가 JVM 이면 null) — 진행 중 시도 하나가 붙잡는 메모리(스택·프레임·콜백 체인)의 근사치다.
+ * lock 은 REDIS_LOCK run 의 락 대기 분포/공정성/lease 만료 리포트다 (그 외 모드는 null).
  */
 public record SimulationResult(
         String runId,
         SimulationMode mode,
+        SimulationEngine engine,
         int concurrency,
         int initialStock,
         int successCount,
         int failCount,
+        int rejectedCount,
+        Integer concurrencyLimit,
         int finalStock,
         int expectedStock,
         boolean oversold,
         long elapsedMs,
+        double attemptsPerSecPerCore,
+        long peakInFlight,
+        Long allocatedBytesPerAttempt,
+        LockReport lock,
         OffsetDateTime startedAt,
         OffsetDateTime finishedAt) {
 }
@@ -1,9 +1,16 @@
 package com.flasharena.payment.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flasharena.global.event.OrderEventCodec;
+import com.flasharena.global.event.OrderEventMessage;
+import com.flasharena.global.event.OrderEventType;
+import com.flasharena.global.jfr.PaymentHandleEvent;
+import com.flasharena.global.partition.RunPartitions;
 import com.flasharena.payment.domain.PaymentHistory;
 import com.flasharena.payment.infrastructure.PaymentHistoryRepository;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,16 +18,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 멱등 소비자: Redis Stream 으로 전달된 ORDER_COMPLETED 이벤트를 결제 이력으로 멱등하게 적재한다.
  * <p>멱등성 보장 순서:
- *   1) existsByOrderId 빠른 경로 → 이미 처리됨이면 스킵(호출부가 XACK).
+ *   1) existsByOrderIdAndRunId 빠른 경로 → 이미 처리됨이면 스킵(호출부가 XACK).
  *   2) INSERT 시도 → DB UNIQUE(uq_payment_history_order_id) 위반(DuplicateKey)이면 "이미 처리됨"으로 간주(스킵).
  *      ← 동시 중복 도착까지 막는 진짜 방어선.
  *   3) 정상 처리 → 호출부가 XACK.
  * <p>중복이 아닌 오류면 예외를 던져 XACK 하지 않게 한다(PEL 에 남아 재전달).
  * payment 는 order 스키마/아웃박스를 절대 조회하지 않는다.
+ * <p>선점 결제 요청(ORDER_HELD)이면 커밋 후 결과 스트림에 PAYMENT_COMPLETED 를 발행해 order 가 선점을 확정하게 한다.
+ * 중복 스킵 경로에서도 다시 발행한다 — 이전 처리의 발행이 실패해 재전달된 경우를 메우기 위함(확정은 멱등).
+ * <p>메시지 형식: 바이너리 엔트리({@link OrderEventCodec}, 기본) 또는 V10 이전의 JSON payload 엔트리. 둘 다 읽는다.
  */
 @Component
 public class PaymentConsumer {
@@ -28,54 +40,122 @@ public class PaymentConsumer {
     private static final Logger log = LoggerFactory.getLogger(PaymentConsumer.class);
 
     private final PaymentHistoryRepository paymentHistoryRepository;
+    private final PaymentResultPublisher resultPublisher;
+    private final PaymentDeadLetters deadLetters;
     private final ObjectMapper objectMapper;
 
-    public PaymentConsumer(PaymentHistoryRepository paymentHistoryRepository, ObjectMapper objectMapper) {
+    public PaymentConsumer(PaymentHistoryRepository paymentHistoryRepository,
+            PaymentResultPublisher resultPublisher,
+            PaymentDeadLetters deadLetters,
+            ObjectMapper objectMapper) {
         this.paymentHistoryRepository = paymentHistoryRepository;
+        this.resultPublisher = resultPublisher;
+        this.deadLetters = deadLetters;
         this.objectMapper = objectMapper;
     }
 
     /**
-     * 한 메시지를 멱등하게 처리한다.
+     * 한 메시지를 멱등하게 처리한다. 형식 불량이면 {@link PaymentDeadLetters} 로 옮기고 true(ACK).
      *
+     * @param messageId 스트림 엔트리 id (데드레터의 원본 id 로 남는다)
      * @return true = 처리(또는 중복 스킵) 완료 → 호출부가 XACK 해야 함.
      *         예외 throw = 비-중복 오류 → XACK 하지 않음(재전달 대상).
      */
     @Transactional
-    public boolean handle(Map<String, String> fields) {
-        String payloadJson = fields.get("payload");
-        if (payloadJson == null) {
-            // 형식 불량 메시지는 재전달해도 소용없으므로 ACK 처리(독이 든 메시지 제거).
-            log.warn("payload 없는 메시지 스킵: {}", fields);
-            return true;
-        }
-
-        UUID orderId;
-        long amount;
+    public boolean handle(String messageId, Map<String, byte[]> fields) {
+        // JFR 녹화가 없으면 begin/finish 는 사실상 no-op.
+        PaymentHandleEvent event = new PaymentHandleEvent();
+        event.begin();
+        String outcome = "ERROR";
+        ParsedPayload parsed = null;
         try {
-            JsonNode node = objectMapper.readTree(payloadJson);
-            orderId = UUID.fromString(node.get("orderId").asText());
-            amount = node.has("amount") ? node.get("amount").asLong() : 0L;
-        } catch (Exception e) {
-            log.warn("payload 파싱 실패 스킵: {} ({})", payloadJson, e.getMessage());
-            return true;
-        }
+            try {
+                parsed = decode(fields);
+            } catch (Exception e) {
+                // 형식 불량 메시지는 재전달해도 소용없으므로 ACK 처리하고, 리플레이할 수 있게 데드레터로 옮긴다.
+                log.warn("형식 불량 메시지 → 데드레터 id={} fields={} ({})", messageId, fields.keySet(), e.getMessage());
+                deadLetters.deadLetter(messageId, fields, e.getClass().getSimpleName() + ": " + e.getMessage());
+                outcome = "MALFORMED";
+                return true;
+            }
+            UUID orderId = parsed.orderId();
+            UUID runId = parsed.runId();
+            long amount = parsed.amount();
+
+            if (OrderEventType.ORDER_HELD.name().equals(parsed.eventType())) {
+                publishResultAfterCommit(orderId);
+            }
+
+            // 1) 빠른 경로: 이미 처리된 주문이면 스킵.
+            if (paymentHistoryRepository.existsByOrderIdAndRunId(orderId, runId)) {
+                log.info("이미 처리된 중복 이벤트, 스킵 orderId={}", orderId);
+                outcome = "DUPLICATE";
+                return true;
+            }
 
-        // 1) 빠른 경로: 이미 처리된 주문이면 스킵.
-        if (paymentHistoryRepository.existsByOrderId(orderId)) {
-            log.info("이미 처리된 중복 이벤트, 스킵 orderId={}", orderId);
-            return true;
+            // 2) INSERT 시도. UNIQUE 위반 시 동시 중복으로 간주하고 스킵(진짜 멱등 방어선).
+            try {
+                paymentHistoryRepository.save(PaymentHistory.paid(orderId, runId, amount));
+                // 3) 정상 처리.
+                log.info("결제 처리 완료 orderId={} amount={}", orderId, amount);
+                outcome = "PAID";
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                log.info("이미 처리된 중복 이벤트(UNIQUE 충돌), 스킵 orderId={}", orderId);
+                outcome = "DUPLICATE";
+                return true;
+            }
+        } finally {
+            event.finish(parsed != null ? parsed.runId().toString() : null,
+                    parsed != null ? parsed.orderId().toString() : null,
+                    parsed != null ? parsed.eventType() : null, outcome);
         }
+    }
 
-        // 2) INSERT 시도. UNIQUE 위반 시 동시 중복으로 간주하고 스킵(진짜 멱등 방어선).
-        try {
-            paymentHistoryRepository.save(PaymentHistory.paid(orderId, amount));
-            // 3) 정상 처리.
-            log.info("결제 처리 완료 orderId={} amount={}", orderId, amount);
-            return true;
-        } catch (DataIntegrityViolationException e) {
-            log.info("이미 처리된 중복 이벤트(UNIQUE 충돌), 스킵 orderId={}", orderId);
-            return true;
+    /**
+     * 스트림 엔트리 → 결제에 필요한 필드. 바이너리 엔트리는 고정 오프셋 디코드, JSON 엔트리는 readTree.
+     * 소비 경로의 핫스팟이라 JMH 벤치마크가 같은 패키지에서 직접 호출한다.
+     *
+     * @throws JsonProcessingException JSON 형식 불량 (필드 누락/UUID·버전 오류는 런타임 예외)
+     */
+    ParsedPayload decode(Map<String, byte[]> fields) throws JsonProcessingException {
+        if (OrderEventCodec.isBinary(fields)) {
+            OrderEventMessage message = OrderEventCodec.fromStreamFields(fields);
+            return new ParsedPayload(message.type().name(), message.orderId(), message.runId(), message.amount());
         }
+        byte[] payload = fields.get("payload");
+        if (payload == null) {
+            throw new IllegalArgumentException("payload 없음");
+        }
+        byte[] eventType = fields.get("eventType");
+        return parse(eventType == null ? null : new String(eventType, StandardCharsets.UTF_8),
+                new String(payload, StandardCharsets.UTF_8));
+    }
+
+    /** V10 이전 JSON payload 파싱. */
+    ParsedPayload parse(String eventType, String payloadJson) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(payloadJson);
+        UUID orderId = UUID.fromString(node.get("orderId").asText());
+        // runId 가 없는 이벤트(V9 이전 발행분)는 live 파티션으로 받는다.
+        UUID runId = node.has("runId") ? UUID.fromString(node.get("runId").asText()) : RunPartitions.LIVE;
+        long amount = node.has("amount") ? node.get("amount").asLong() : 0L;
+        return new ParsedPayload(eventType, orderId, runId, amount);
+    }
+
+    /**
+     * 결제 이력이 커밋된 뒤에만 결과를 발행한다 (롤백된 결제로 선점이 확정되는 일 방지).
+     * 발행 예외는 호출부까지 전파돼 XACK 를 막으므로, 재전달 시 중복 경로에서 다시 발행된다.
+     */
+    private void publishResultAfterCommit(UUID orderId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                resultPublisher.publishCompleted(orderId);
+            }
+        });
+    }
+
+    /** 결제 처리에 필요한 payload 필드만 추린 값. */
+    record ParsedPayload(String eventType, UUID orderId, UUID runId, long amount) {
     }
 }
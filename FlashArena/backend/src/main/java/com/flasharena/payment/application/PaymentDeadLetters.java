@@ -0,0 +1,262 @@
+package com.flasharena.payment.application;
+
+import com.flasharena.global.admin.AdminJobs;
+import com.flasharena.global.event.OrderEventCodec;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 소비 경로의 데드레터 스트림과 리플레이 도구.
+ * <p>형식 불량(독이 든) 메시지는 재전달해도 소용없으므로 소비자가 ACK 하되, 버리지 않고 원본 필드 그대로
+ * {@code app.stream.dead-letter-key} 스트림에 옮겨 둔다 (원본 id/사유/시각은 {@code dlq.*} 필드로 덧붙인다).
+ * <p>리플레이는 모두 "주 스트림 끝에 다시 XADD" 로 한다 — 결제 그룹은 새 엔트리로 받아 처리하고,
+ * 이미 처리된 주문은 payment_history UNIQUE 로 중복 스킵되므로 몇 번을 다시 넣어도 안전하다.
+ * (XGROUP SETID 로 그룹을 되감으면 범위 밖 메시지까지 전부 다시 전달되므로 쓰지 않는다.)
+ * <p>모든 XADD 는 {@code MAXLEN ~} 로 상한을 건다 — 데드레터 스트림은 {@code app.stream.dead-letter-max-len},
+ * 주 스트림 재투입은 보존 정책(OutboxRetention)과 같은 {@code app.stream.max-len}. 리플레이가 상한을 우회하지 않는다.
+ */
+@Component
+public class PaymentDeadLetters {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentDeadLetters.class);
+
+    private static final String F_SOURCE_ID = "dlq.source-id";
+    private static final String F_REASON = "dlq.reason";
+    private static final String F_AT = "dlq.at";
+
+    private static final int MAX_LIST = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final String streamKey;
+    private final String deadLetterKey;
+    private final XAddOptions streamCap;
+    private final XAddOptions deadLetterCap;
+
+    public PaymentDeadLetters(StringRedisTemplate redisTemplate,
+            @Value("${app.stream.key:flasharena:order-events}") String streamKey,
+            @Value("${app.stream.dead-letter-key:flasharena:order-events:dlq}") String deadLetterKey,
+            @Value("${app.stream.max-len:1000000}") long streamMaxLen,
+            @Value("${app.stream.dead-letter-max-len:100000}") long deadLetterMaxLen) {
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey;
+        this.deadLetterKey = deadLetterKey;
+        this.streamCap = XAddOptions.maxlen(streamMaxLen).approximateTrimming(true);
+        this.deadLetterCap = XAddOptions.maxlen(deadLetterMaxLen).approximateTrimming(true);
+    }
+
+    /** 데드레터 엔트리 조회 응답. payload = 바이너리면 디코드한 디버깅 JSON, 아니면 원본 payload 문자열. */
+    public record DeadLetterView(String id, String sourceId, String reason, String deadLetteredAt, String payload) {
+    }
+
+    /** 한 페이지 + 다음 조회 시작 id (없으면 null). */
+    public record DeadLetterPage(List<DeadLetterView> items, String nextAfter) {
+    }
+
+    /**
+     * 원본 메시지를 데드레터 스트림에 옮긴다. 실패해도 예외를 던지지 않는다 — 원본 ACK 를 막으면
+     * 독이 든 메시지가 PEL 에 남아 무한 재전달되므로, 유실을 감수하고 로그로 남긴다.
+     */
+    public void deadLetter(String sourceId, Map<String, byte[]> fields, String reason) {
+        try {
+            Map<byte[], byte[]> entry = new LinkedHashMap<>();
+            fields.forEach((name, value) -> entry.put(bytes(name), value));
+            entry.put(bytes(F_SOURCE_ID), bytes(sourceId));
+            entry.put(bytes(F_REASON), bytes(reason == null ? "unknown" : reason));
+            entry.put(bytes(F_AT), bytes(OffsetDateTime.now().toString()));
+            xadd(deadLetterKey, entry, deadLetterCap);
+        } catch (RuntimeException e) {
+            log.error("데드레터 적재 실패 sourceId={} : {}", sourceId, e.getMessage());
+        }
+    }
+
+    /**
+     * 데드레터 목록 (오래된 순). reasonContains 가 있으면 사유에 그 문자열이 포함된 것만.
+     *
+     * @param after 이 id 다음부터 (null 이면 처음부터)
+     */
+    public DeadLetterPage list(String after, String reasonContains, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIST);
+        List<ByteRecord> records = range(deadLetterKey, after == null ? "-" : next(after), "+", size);
+        List<DeadLetterView> items = new ArrayList<>();
+        for (ByteRecord record : records) {
+            Map<String, byte[]> fields = strings(record.getValue());
+            String reason = text(fields.get(F_REASON));
+            if (reasonContains != null && (reason == null || !reason.contains(reasonContains))) {
+                continue;
+            }
+            items.add(new DeadLetterView(record.getId().getValue(), text(fields.get(F_SOURCE_ID)), reason,
+                    text(fields.get(F_AT)), describe(fields)));
+        }
+        String nextAfter = records.size() == size ? records.get(records.size() - 1).getId().getValue() : null;
+        return new DeadLetterPage(items, nextAfter);
+    }
+
+    /**
+     * 데드레터 [fromId, toId] 를 원본 필드 그대로 주 스트림에 다시 넣고 데드레터에서 지운다 (배치 + 속도 제한).
+     * 소비자 코드를 고친 뒤 형식 불량으로 밀려난 메시지를 되살리는 용도.
+     * toId 가 없으면 시작 시점의 마지막 엔트리까지만 — 다시 형식 불량으로 밀려온 엔트리를 또 돌리지 않는다.
+     */
+    public AdminJobs.Work replayDeadLetters(String fromId, String toId, int batchSize, int ratePerSecond) {
+        return progress -> {
+            String cursor = fromId == null ? "-" : fromId;
+            String end = toId != null ? toId : lastId(deadLetterKey);
+            if (end == null) {
+                return;
+            }
+            while (!progress.cancelled()) {
+                List<ByteRecord> batch = range(deadLetterKey, cursor, end, batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                for (ByteRecord record : batch) {
+                    Map<byte[], byte[]> original = new LinkedHashMap<>();
+                    record.getValue().forEach((name, value) -> {
+                        if (!text(name).startsWith("dlq.")) {
+                            original.put(name, value);
+                        }
+                    });
+                    xadd(streamKey, original, streamCap);
+                    redisTemplate.opsForStream().delete(deadLetterKey, record.getId());
+                }
+                progress.add(batch.size());
+                if (batch.size() < batchSize) {
+                    return;
+                }
+                cursor = next(batch.get(batch.size() - 1).getId().getValue());
+                progress.pause(pauseMillis(batch.size(), ratePerSecond));
+            }
+        };
+    }
+
+    /**
+     * 주 스트림의 [fromId, toId] 엔트리를 복사해 스트림 끝에 다시 넣는다 (배치 + 속도 제한).
+     * Redis 장애 등으로 결제가 누락된 구간을 결제 그룹에 다시 흘려보내는 용도.
+     * 복사본은 끝 id 뒤에 붙으므로 루프는 끝난다 ({@code +} 는 시작 시점의 마지막 id 로 고정).
+     * 주 스트림은 {@code app.stream.replay-window} 보다 오래된 소비 완료 구간이 잘려 나가므로, 호출 전에
+     * {@link #retainedFrom} 으로 시작 id 가 아직 남아 있는지 확인한다.
+     */
+    public AdminJobs.Work replayRange(String fromId, String toId, int batchSize, int ratePerSecond) {
+        return progress -> {
+            String cursor = fromId;
+            String end = "+".equals(toId) ? lastId(streamKey) : toId;
+            if (end == null) {
+                return;
+            }
+            while (!progress.cancelled()) {
+                List<ByteRecord> batch = range(streamKey, cursor, end, batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                for (ByteRecord record : batch) {
+                    xadd(streamKey, new LinkedHashMap<>(record.getValue()), streamCap);
+                }
+                progress.add(batch.size());
+                if (batch.size() < batchSize) {
+                    return;
+                }
+                cursor = next(batch.get(batch.size() - 1).getId().getValue());
+                progress.pause(pauseMillis(batch.size(), ratePerSecond));
+            }
+        };
+    }
+
+    /**
+     * 주 스트림에 남아 있는 가장 오래된 id. fromId 가 이보다 앞이면 그 구간은 이미 트리밍돼 리플레이할 수 없다
+     * (비어 있으면 null).
+     */
+    public String retainedFrom() {
+        List<ByteRecord> first = range(streamKey, "-", "+", 1);
+        return first.isEmpty() ? null : first.get(0).getId().getValue();
+    }
+
+    /** fromId 부터의 구간이 주 스트림에 온전히 남아 있는지. {@code -} 는 "남은 것 전부" 라 항상 참. */
+    public boolean isRetained(String fromId) {
+        if ("-".equals(fromId)) {
+            return true;
+        }
+        String first = retainedFrom();
+        return first != null && !isBefore(RecordId.of(fromId), RecordId.of(first));
+    }
+
+    private List<ByteRecord> range(String key, String from, String to, int count) {
+        List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(bytes(key), Range.closed(from, to), Limit.limit().count(count)));
+        return records == null ? List.of() : records;
+    }
+
+    private String lastId(String key) {
+        List<ByteRecord> last = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRevRange(bytes(key), Range.closed("-", "+"), Limit.limit().count(1)));
+        return last == null || last.isEmpty() ? null : last.get(0).getId().getValue();
+    }
+
+    /** XADD key MAXLEN ~ n — 근사 트리밍이라 노드 단위로만 잘라내 비용이 작다. */
+    private void xadd(String key, Map<byte[], byte[]> fields, XAddOptions cap) {
+        ByteRecord record = StreamRecords.rawBytes(fields).withStreamKey(bytes(key));
+        RecordId id = redisTemplate.execute((RedisCallback<RecordId>) connection ->
+                connection.streamCommands().xAdd(record, cap));
+        if (id == null) {
+            throw new IllegalStateException("XADD 실패: " + key);
+        }
+    }
+
+    /** 디버깅용 본문: 바이너리 엔트리면 디코드해 JSON 으로, 실패하면 사유만 남는다. */
+    private static String describe(Map<String, byte[]> fields) {
+        if (OrderEventCodec.isBinary(fields)) {
+            try {
+                return OrderEventCodec.toDebugJson(OrderEventCodec.fromStreamFields(fields));
+            } catch (IllegalArgumentException e) {
+                return "(디코드 불가: " + e.getMessage() + ")";
+            }
+        }
+        return text(fields.get("payload"));
+    }
+
+    /** 배치 크기와 초당 목표 건수로 배치 사이 휴지 시간을 구한다. */
+    static long pauseMillis(int batchSize, int ratePerSecond) {
+        return ratePerSecond <= 0 ? 0 : batchSize * 1000L / ratePerSecond;
+    }
+
+    private static boolean isBefore(RecordId a, RecordId b) {
+        if (a.getTimestamp() != b.getTimestamp()) {
+            return a.getTimestamp() < b.getTimestamp();
+        }
+        return a.getSequence() < b.getSequence();
+    }
+
+    /** 스트림 id 바로 다음 id (XRANGE 시작을 배타적으로 만들기 위함). */
+    private static String next(String id) {
+        RecordId recordId = RecordId.of(id);
+        return recordId.getTimestamp() + "-" + (recordId.getSequence() + 1);
+    }
+
+    private static Map<String, byte[]> strings(Map<byte[], byte[]> raw) {
+        Map<String, byte[]> fields = new LinkedHashMap<>();
+        raw.forEach((name, value) -> fields.put(text(name), value));
+        return fields;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
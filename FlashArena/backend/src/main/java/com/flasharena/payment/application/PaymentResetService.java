@@ -1,6 +1,7 @@
 package com.flasharena.payment.application;
 
-import com.flasharena.payment.infrastructure.PaymentHistoryRepository;
+import com.flasharena.global.partition.RunPartitions;
+import java.util.UUID;
 import org.springframework.stereotype.Service;
 
 /**
@@ -8,18 +9,31 @@ import org.springframework.stereotype.Service;
  * <p>다른 모듈(order)은 payment 의 내부(infrastructure/domain)를 직접 건드리지 않고
  * 이 application-layer 포트를 통해서만 payment 데이터를 다룬다 — 모듈 경계 유지.
  * 실제 분리(MSA) 시 이 포트는 payment 서비스의 엔드포인트로 승격된다.
+ * <p>결제 이력은 run_id 로 파티셔닝돼 있어(V9) 리셋 = 새 run 파티션 생성 + 오래된 run 파티션 DETACH/DROP 이다.
  */
 @Service
 public class PaymentResetService {
 
-    private final PaymentHistoryRepository paymentHistoryRepository;
+    private static final String SCHEMA = "payment";
+    private static final String HISTORY_TABLE = "payment_history";
 
-    public PaymentResetService(PaymentHistoryRepository paymentHistoryRepository) {
-        this.paymentHistoryRepository = paymentHistoryRepository;
+    private final RunPartitions runPartitions;
+
+    public PaymentResetService(RunPartitions runPartitions) {
+        this.runPartitions = runPartitions;
+    }
+
+    /** run 시작 전: 이 run 의 결제 이력 파티션을 만든다 (payment 스키마, auto-commit DDL). */
+    public void prepareRun(UUID runId) {
+        runPartitions.create(SCHEMA, HISTORY_TABLE, runId);
     }
 
-    /** 시뮬레이터 재현성 확보용: 결제 이력 전체 삭제 (payment 스키마, 자체 트랜잭션). */
-    public void resetHistory() {
-        paymentHistoryRepository.deleteAllHistory();
+    /**
+     * 최신 keep 개 run 의 결제 이력만 남기고 나머지 파티션을 떼어낸다.
+     *
+     * @param archive true 면 DETACH 후 독립 테이블로 보관, false 면 DROP
+     */
+    public void retainRuns(int keep, boolean archive) {
+        runPartitions.retainLatest(SCHEMA, HISTORY_TABLE, keep, archive);
     }
 }
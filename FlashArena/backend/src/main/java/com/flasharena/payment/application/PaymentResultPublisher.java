@@ -0,0 +1,37 @@
+package com.flasharena.payment.application;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 결과(PAYMENT_COMPLETED)를 결과 스트림으로 발행한다.
+ * <p>payment 는 order 를 모르므로 선점 확정을 직접 호출하지 않고, 이벤트로만 되돌려준다.
+ * order 쪽 구독자가 이를 받아 HELD → CONFIRMED 로 확정한다 (확정은 멱등이라 재발행돼도 안전).
+ */
+@Component
+public class PaymentResultPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String resultStreamKey;
+
+    public PaymentResultPublisher(StringRedisTemplate redisTemplate,
+            @Value("${app.stream.result-key:flasharena:payment-events}") String resultStreamKey) {
+        this.redisTemplate = redisTemplate;
+        this.resultStreamKey = resultStreamKey;
+    }
+
+    /** PAYMENT_COMPLETED XADD. 실패하면 예외를 던져 원본 메시지가 XACK 되지 않게 한다(재전달 → 재발행). */
+    public void publishCompleted(UUID orderId) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("eventType", "PAYMENT_COMPLETED");
+        fields.put("orderId", orderId.toString());
+        fields.put("occurredAt", OffsetDateTime.now().toString());
+        redisTemplate.opsForStream().add(StreamRecords.mapBacked(fields).withStreamKey(resultStreamKey));
+    }
+}
@@ -1,9 +1,8 @@
 package com.flasharena.payment.domain;
 
+import com.flasharena.global.id.UuidV7Id;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
@@ -14,7 +13,8 @@ import lombok.NoArgsConstructor;
 
 /**
  * payment.payment_history 매핑 엔티티 (소비자 멱등성 = Inbox).
- * order_id 에 DB UNIQUE(uq_payment_history_order_id) 가 걸려 있어 같은 주문은 한 번만 결제 처리된다.
+ * (order_id, run_id) 에 DB UNIQUE(uq_payment_history_order_id) 가 걸려 있어 같은 주문은 한 번만 결제 처리된다.
+ * run_id 는 파티션 키로, 이벤트 payload 의 값을 그대로 받는다(order 를 조회하지 않음).
  * → exists() 선체크는 빠른 경로일 뿐, 동시 중복 도착 시 진짜 방어선은 이 UNIQUE 제약(DuplicateKey).
  * payment 도메인은 order 스키마/아웃박스를 절대 조회하지 않고 Redis Stream 만 구독한다.
  */
@@ -24,11 +24,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentHistory {
 
+    // v7 UUID: 소비 버스트 때도 PK 인덱스 오른쪽 끝에만 INSERT 된다.
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
+    @Column(name = "run_id", nullable = false, updatable = false)
+    private UUID runId;
+
     // "order".orders.id 를 타입으로만 참조 (물리 FK 없음). 멱등성 키.
     @Column(name = "order_id", nullable = false)
     private UUID orderId;
@@ -42,14 +46,15 @@ public class PaymentHistory {
     @Column(name = "created_at", insertable = false, updatable = false)
     private OffsetDateTime createdAt;
 
-    private PaymentHistory(UUID orderId, long amount, String status) {
+    private PaymentHistory(UUID orderId, UUID runId, long amount, String status) {
         this.orderId = orderId;
+        this.runId = runId;
         this.amount = amount;
         this.status = status;
     }
 
     /** 결제 완료(PAID) 이력 생성 팩토리. */
-    public static PaymentHistory paid(UUID orderId, long amount) {
-        return new PaymentHistory(orderId, amount, "PAID");
+    public static PaymentHistory paid(UUID orderId, UUID runId, long amount) {
+        return new PaymentHistory(orderId, runId, amount, "PAID");
     }
 }
@@ -14,6 +14,7 @@ import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
@@ -25,6 +26,7 @@ import org.springframework.data.redis.stream.StreamMessageListenerContainer.Stre
  *   - StreamMessageListenerContainer 가 XREADGROUP 으로 메시지를 폴링.
  *   - 핸들러 성공 시에만 XACK → 미처리/오류 메시지는 PEL 에 남아 재전달(at-least-once).
  * Pub/Sub 가 아니라 Streams 를 쓰는 이유: 그룹/ACK/미확인 메시지 재전달이 필요하기 때문.
+ * <p>엔트리 값은 바이너리(OrderEventCodec: UUID 16바이트 등)라 값 직렬화만 byte[] 로 받는다 (필드 이름은 문자열).
  */
 @Configuration
 public class PaymentStreamConfig {
@@ -61,26 +63,27 @@ public class PaymentStreamConfig {
     }
 
     @Bean
-    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> paymentStreamContainer(
+    public StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> paymentStreamContainer(
             RedisConnectionFactory connectionFactory,
             StringRedisTemplate redisTemplate,
             PaymentConsumer paymentConsumer) {
 
         ensureGroup(redisTemplate);
 
-        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, byte[]>> options =
                 StreamMessageListenerContainerOptions.builder()
                         .pollTimeout(Duration.ofSeconds(1))
+                        .<String, byte[]>hashValueSerializer(RedisSerializer.byteArray())
                         .build();
 
-        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
+        StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container =
                 StreamMessageListenerContainer.create(connectionFactory, options);
 
         // autoAck=false → 핸들러 성공 시에만 수동 XACK. 실패/예외 메시지는 PEL 에 남아 재전달된다.
-        StreamListener<String, MapRecord<String, String, String>> listener = message -> {
-            Map<String, String> fields = message.getValue();
+        StreamListener<String, MapRecord<String, String, byte[]>> listener = message -> {
+            Map<String, byte[]> fields = message.getValue();
             try {
-                boolean processed = paymentConsumer.handle(fields);
+                boolean processed = paymentConsumer.handle(message.getId().getValue(), fields);
                 if (processed) {
                     redisTemplate.opsForStream().acknowledge(streamKey, group, message.getId());
                 }
@@ -0,0 +1,61 @@
+package com.flasharena.global.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    void next_setsVersion7AndRfcVariant() {
+        UUID id = UuidV7.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void timestampOf_returnsCreationMillis() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(UuidV7.timestampOf(id)).isBetween(before, after + 1);
+    }
+
+    @Test
+    void next_isMonotonicWithinSameMillisecond() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7.next());
+        }
+        for (int i = 1; i < ids.size(); i++) {
+            // UUID.compareTo 는 부호 있는 비교라 상위 비트 순서와 다를 수 있다 → 문자열(=바이트) 순서로 비교.
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    void next_concurrentCallers_produceNoDuplicates() throws InterruptedException {
+        ConcurrentLinkedQueue<UUID> ids = new ConcurrentLinkedQueue<>();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(UuidV7.next());
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(80_000).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,40 @@
+package com.flasharena.order.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void indexOf_lowerBoundIsWithinOneSixteenthOfValue() {
+        for (long value = 0; value < 10_000_000L; value = value * 2 + 7) {
+            long bound = LatencyHistogram.lowerBound(LatencyHistogram.indexOf(value));
+
+            assertThat(bound).isLessThanOrEqualTo(value);
+            assertThat(value - bound).isLessThanOrEqualTo(Math.max(0L, value / 16));
+        }
+    }
+
+    @Test
+    void indexOf_clampsHugeValuesToLastBucket() {
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    void drain_returnsPercentilesAndResets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 100L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.drain();
+
+        assertThat(snapshot.total()).isEqualTo(100);
+        assertThat(snapshot.max()).isEqualTo(10_000L);
+        // 버킷 하한값으로 보고하므로 실제 값보다 최대 1/16 작다.
+        assertThat(snapshot.percentile(0.50)).isBetween(5_000L * 15 / 16, 5_000L);
+        assertThat(snapshot.percentile(0.99)).isBetween(9_900L * 15 / 16, 9_900L);
+        assertThat(histogram.drain().total()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.flasharena.order.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flasharena.order.infrastructure.OrderRepository;
+import com.flasharena.order.infrastructure.OutboxRepository;
+import com.flasharena.order.infrastructure.ProductRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrderProcessorTest {
+
+    private final UUID productId = UUID.randomUUID();
+    private final List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    private ProductRepository productRepository;
+    private OrderRepository orderRepository;
+    private OrderProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        orderRepository = mock(OrderRepository.class);
+        processor = new OrderProcessor(productRepository, orderRepository, mock(OutboxRepository.class),
+                mock(ProductCatalog.class), false);
+    }
+
+    @Test
+    void expireHolds_restoresOnlyTransitionedOrders() {
+        // 3건 중 1건은 그 사이 확정돼 HELD 가 아니다
+        when(orderRepository.expireHeld(orderIds)).thenReturn(2);
+
+        int expired = processor.expireHolds(productId, orderIds);
+
+        assertThat(expired).isEqualTo(2);
+        verify(productRepository).increaseQuantityAtomic(productId, 2);
+    }
+
+    @Test
+    void expireHolds_nothingTransitioned_leavesStockAlone() {
+        when(orderRepository.expireHeld(orderIds)).thenReturn(0);
+
+        int expired = processor.expireHolds(productId, orderIds);
+
+        assertThat(expired).isZero();
+        verify(productRepository, never()).increaseQuantityAtomic(any(), anyInt());
+    }
+}
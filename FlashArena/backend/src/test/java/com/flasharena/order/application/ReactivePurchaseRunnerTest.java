@@ -0,0 +1,81 @@
+package com.flasharena.order.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flasharena.order.infrastructure.ReactiveOrderStore;
+import com.flasharena.order.infrastructure.ReactiveStockGate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.publisher.Mono;
+
+class ReactivePurchaseRunnerTest {
+
+    private static final String STOCK_KEY = "stock:product:test";
+
+    private final UUID run = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicInteger failCount = new AtomicInteger();
+
+    private ReactiveStockGate gate;
+    private ReactiveOrderStore store;
+    private ReactivePurchaseRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        gate = mock(ReactiveStockGate.class);
+        store = mock(ReactiveOrderStore.class);
+        runner = new ReactivePurchaseRunner(gate, store, mock(ProductCatalog.class), mock(SimulationLogger.class), false);
+        when(gate.increment(STOCK_KEY)).thenReturn(Mono.just(1L));
+    }
+
+    @Test
+    void attempt_saleFailsAfterWinning_givesSeatBack() {
+        when(gate.decrement(STOCK_KEY)).thenReturn(Mono.just(0L));
+        when(store.recordSale(any(), any(), any(), any(), any(), any(), isNull()))
+                .thenReturn(Mono.error(new DataAccessResourceFailureException("r2dbc down")));
+
+        runOnce();
+
+        verify(gate).increment(STOCK_KEY);
+        assertThat(successCount).hasValue(0);
+        assertThat(failCount).hasValue(0);
+    }
+
+    @Test
+    void attempt_saleCommitted_keepsSeat() {
+        when(gate.decrement(STOCK_KEY)).thenReturn(Mono.just(0L));
+        when(store.recordSale(any(), any(), any(), any(), any(), any(), isNull())).thenReturn(Mono.empty());
+
+        runOnce();
+
+        verify(gate, never()).increment(anyString());
+        assertThat(successCount).hasValue(1);
+    }
+
+    @Test
+    void attempt_soldOut_recordsFailureWithoutCompensation() {
+        when(gate.decrement(STOCK_KEY)).thenReturn(Mono.just(-1L));
+        when(store.recordFailure(any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        runOnce();
+
+        verify(gate, never()).increment(anyString());
+        assertThat(failCount).hasValue(1);
+    }
+
+    private void runOnce() {
+        runner.run("run", run, productId, UUID.randomUUID(), STOCK_KEY, 1, 1,
+                mock(SimulationMetrics.Recorder.class), successCount, failCount);
+    }
+}
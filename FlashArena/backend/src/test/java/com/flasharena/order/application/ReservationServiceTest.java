@@ -0,0 +1,69 @@
+package com.flasharena.order.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class ReservationServiceTest {
+
+    private final UUID orderId = UUID.randomUUID();
+    private final String holdKey = "hold:order:" + orderId;
+
+    private StringRedisTemplate redisTemplate;
+    private OrderProcessor orderProcessor;
+    private ReservationService service;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        orderProcessor = mock(OrderProcessor.class);
+        service = new ReservationService(redisTemplate, orderProcessor, mock(SimulationLogger.class),
+                180_000, 100, 512, 500);
+        // 선점 확보(CLAIM) 성공 — 기한 내이거나 이전 시도가 남긴 CONFIRMING
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(1L);
+    }
+
+    @Test
+    void confirm_dbFailure_keepsHoldKeyForRedelivery() {
+        when(orderProcessor.confirmHold(orderId)).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThatThrownBy(() -> service.confirm(orderId)).isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(redisTemplate, never()).delete(holdKey);
+    }
+
+    @Test
+    void confirm_redeliveryAfterDbFailure_confirmsThenDeletesHoldKey() {
+        when(orderProcessor.confirmHold(orderId))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(true);
+        assertThatThrownBy(() -> service.confirm(orderId)).isInstanceOf(DataAccessResourceFailureException.class);
+
+        boolean confirmed = service.confirm(orderId);
+
+        assertThat(confirmed).isTrue();
+        verify(redisTemplate).delete(holdKey);
+    }
+
+    @Test
+    void confirm_holdGone_skipsDb() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(0L);
+
+        assertThat(service.confirm(orderId)).isFalse();
+
+        verify(orderProcessor, never()).confirmHold(any());
+    }
+}
@@ -0,0 +1,43 @@
+package com.flasharena.order.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flasharena.global.partition.RunPartitions;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ReservationTimingWheelTest {
+
+    private final UUID productId = UUID.randomUUID();
+
+    @Test
+    void advance_returnsOnlyPassedDeadlines() {
+        ReservationTimingWheel wheel = new ReservationTimingWheel(100, 8, 0);
+        UUID due = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        wheel.schedule(RunPartitions.LIVE, productId, due, 300);
+        // 한 바퀴(800ms) 넘게 남은 예약은 같은 슬롯에 있어도 나오지 않는다
+        wheel.schedule(RunPartitions.LIVE, productId, later, 1_100);
+
+        assertThat(wheel.advance(500))
+                .extracting(ReservationTimingWheel.Reservation::orderId)
+                .containsExactly(due);
+        assertThat(wheel.advance(1_100))
+                .extracting(ReservationTimingWheel.Reservation::orderId)
+                .containsExactly(later);
+    }
+
+    @Test
+    void removeIf_dropsSimulationRunsButKeepsLiveHolds() {
+        ReservationTimingWheel wheel = new ReservationTimingWheel(100, 8, 0);
+        UUID live = UUID.randomUUID();
+        wheel.schedule(RunPartitions.LIVE, productId, live, 300);
+        wheel.schedule(UUID.randomUUID(), productId, UUID.randomUUID(), 300);
+
+        wheel.removeIf(r -> !RunPartitions.LIVE.equals(r.runId()));
+
+        assertThat(wheel.advance(500))
+                .extracting(ReservationTimingWheel.Reservation::orderId)
+                .containsExactly(live);
+    }
+}
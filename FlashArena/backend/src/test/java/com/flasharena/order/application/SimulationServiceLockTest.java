@@ -0,0 +1,189 @@
+package com.flasharena.order.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flasharena.global.partition.RunPartitions;
+import com.flasharena.order.domain.LockStrategy;
+import com.flasharena.order.domain.SimulationMode;
+import com.flasharena.order.presentation.dto.LockReport;
+import com.flasharena.order.presentation.dto.SimulationRequest;
+import com.flasharena.order.presentation.dto.SimulationResult;
+import com.flasharena.payment.application.PaymentResetService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * REDIS_LOCK run 의 락 경로(withLock / buyWithStripedLock / takeFromStripe)와 LockReport 집계.
+ * Redis 값은 맵, Redisson 락은 키별 ReentrantLock 으로 흉내 낸다 — 임계영역 직렬화는 실제로 일어난다.
+ */
+class SimulationServiceLockTest {
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final Map<String, RLock> locks = new ConcurrentHashMap<>();
+    private final List<String> lockRequests = new CopyOnWriteArrayList<>();
+
+    private OrderProcessor orderProcessor;
+    private RedissonClient redissonClient;
+    private SimulationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        orderProcessor = mock(OrderProcessor.class);
+        redissonClient = mock(RedissonClient.class);
+        SimulationMetrics metrics = mock(SimulationMetrics.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+
+        when(orderProcessor.resetForRun(anyInt())).thenReturn(productId);
+        when(orderProcessor.settleCounter(any(), eq(productId), eq(userId), anyBoolean()))
+                .thenAnswer(inv -> inv.getArgument(3));
+        when(metrics.start(anyString(), any(), anyInt())).thenReturn(mock(SimulationMetrics.Recorder.class));
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.get(anyString())).thenAnswer(inv -> values.get(inv.<String>getArgument(0)));
+        doAnswer(inv -> values.put(inv.getArgument(0), inv.getArgument(1))).when(ops).set(anyString(), anyString());
+        // 목 스텁은 워커 스레드에서 만들지 않도록 미리 만들어 둔다.
+        locks.put("lock:product:" + productId, reentrant(new ReentrantLock()));
+        for (int stripe = 0; stripe < 4; stripe++) {
+            locks.put(lockKey(stripe), reentrant(new ReentrantLock()));
+        }
+        when(redissonClient.getLock(anyString())).thenAnswer(inv -> {
+            String key = inv.getArgument(0);
+            lockRequests.add(key);
+            return locks.get(key);
+        });
+
+        service = new SimulationService(orderProcessor, mock(ReservationService.class),
+                mock(AdaptiveConcurrencyLimiter.class), redissonClient, mock(SimulationLogger.class),
+                mock(SimulationStreamHub.class), metrics, mock(ReactivePurchaseRunner.class),
+                mock(RunPartitions.class), mock(PaymentResetService.class), redisTemplate,
+                "flasharena:order-events", 3, false);
+    }
+
+    @Test
+    void striped_everyStripeEmpty_visitsEachStripeOnceThenLoses() {
+        SimulationResult result = run(LockStrategy.STRIPED, 1, 0, 4);
+
+        assertThat(lockRequests).containsExactly(lockKey(0), lockKey(1), lockKey(2), lockKey(3));
+        verify(orderProcessor).settleCounter(any(), eq(productId), eq(userId), eq(false));
+        assertThat(result.successCount()).isZero();
+        assertThat(result.failCount()).isEqualTo(1);
+        LockReport report = result.lock();
+        assertThat(report.stripes()).isEqualTo(4);
+        assertThat(report.acquired()).isEqualTo(4);
+        assertThat(report.timedOut()).isZero();
+        assertThat(report.expiryIncidents()).isZero();
+    }
+
+    @Test
+    void striped_emptyStartStripe_fallsBackToStripeWithStock() {
+        // 재고 1 → 버킷 0 에만 1개. seq 1 은 빈 버킷 1 에서 시작해 버킷 0 으로 넘어가야 한다.
+        SimulationResult result = run(LockStrategy.STRIPED, 2, 1, 2);
+
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failCount()).isEqualTo(1);
+        assertThat(values).containsEntry(stripeKey(0), "0").containsEntry(stripeKey(1), "0");
+        // 두 시도 모두 버킷 0 을 잠근다: seq 0 은 시작 버킷으로, seq 1 은 대체 버킷으로.
+        assertThat(lockRequests).filteredOn(lockKey(0)::equals).hasSize(2);
+        assertThat(lockRequests).contains(lockKey(1));
+        assertThat(result.lock().acquired()).isEqualTo(lockRequests.size());
+    }
+
+    @Test
+    void striped_stockSpreadOverStripes_sellsExactlyInitialStock() {
+        SimulationResult result = run(LockStrategy.STRIPED, 20, 5, 4);
+
+        assertThat(result.successCount()).isEqualTo(5);
+        assertThat(result.failCount()).isEqualTo(15);
+        for (int stripe = 0; stripe < 4; stripe++) {
+            assertThat(values).containsEntry(stripeKey(stripe), "0");
+        }
+        assertThat(result.lock().expiryIncidents()).isZero();
+    }
+
+    @Test
+    void striped_lockWaitTimesOut_losesWithoutSettling() throws Exception {
+        RLock busy = mock(RLock.class);
+        when(busy.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+        doReturn(busy).when(redissonClient).getLock(anyString());
+
+        SimulationResult result = run(LockStrategy.STRIPED, 1, 2, 2);
+
+        verify(orderProcessor, never()).settleCounter(any(), any(), any(), anyBoolean());
+        verify(busy, never()).unlock();
+        assertThat(result.failCount()).isEqualTo(1);
+        assertThat(result.lock().acquired()).isZero();
+        assertThat(result.lock().timedOut()).isEqualTo(1);
+    }
+
+    @Test
+    void plain_leaseExpiredInCriticalSection_countsIncidentAndSkipsUnlock() throws Exception {
+        RLock expiring = mock(RLock.class);
+        when(expiring.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(expiring.isHeldByCurrentThread()).thenReturn(false);
+        doReturn(expiring).when(redissonClient).getLock(anyString());
+        when(orderProcessor.attemptPurchaseLocked(any(), eq(productId), eq(userId))).thenReturn(true);
+
+        SimulationResult result = run(LockStrategy.PLAIN, 1, 1, 1);
+
+        verify(expiring, never()).unlock();
+        assertThat(result.successCount()).isEqualTo(1);
+        LockReport report = result.lock();
+        assertThat(report.stripes()).isNull();
+        assertThat(report.acquired()).isEqualTo(1);
+        assertThat(report.expiryIncidents()).isEqualTo(1);
+    }
+
+    private SimulationResult run(LockStrategy strategy, int concurrency, int initialStock, int stripes) {
+        when(orderProcessor.currentStock(productId)).thenReturn(initialStock);
+        SimulationRequest request = new SimulationRequest(SimulationMode.REDIS_LOCK, concurrency, initialStock,
+                null, null, null, null, strategy, stripes);
+        return service.run(UUID.randomUUID().toString(), request, userId);
+    }
+
+    private String lockKey(int stripe) {
+        return "lock:product:" + productId + ":" + stripe;
+    }
+
+    private String stripeKey(int stripe) {
+        return SimulationService.STOCK_KEY_PREFIX + productId + ":stripe:" + stripe;
+    }
+
+    /** tryLock/isHeldByCurrentThread/unlock 를 실제 ReentrantLock 에 위임하는 RLock. */
+    private static RLock reentrant(ReentrantLock lock) throws InterruptedException {
+        RLock rLock = mock(RLock.class);
+        when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(inv -> lock.tryLock(inv.<Long>getArgument(0), inv.<TimeUnit>getArgument(2)));
+        when(rLock.isHeldByCurrentThread()).thenAnswer(inv -> lock.isHeldByCurrentThread());
+        doAnswer(inv -> {
+            lock.unlock();
+            return null;
+        }).when(rLock).unlock();
+        return rLock;
+    }
+}
@@ -0,0 +1,23 @@
+-- =============================================================
+-- FlashArena :: V10 - 아웃박스 payload 를 고정 길이 바이너리(OrderEventCodec v1)로
+-- -------------------------------------------------------------
+-- 이전: OrderProcessor 가 Map → JSON 직렬화 → JSONB 저장, 릴레이어가 그 문자열을 스트림 필드로 복사,
+--       payment 가 readTree 로 다시 파싱. 이벤트당 약 300바이트 + 양 끝 JSON 비용.
+-- 이후: payload_bin(86바이트, 버전 바이트 포함)에 저장하고, 릴레이어는 해석 없이 필드별 XADD 엔트리로 나눠 싣는다.
+--       UUID 는 36자 문자열 대신 16바이트.
+--
+-- payload(JSONB) 는 디버깅용으로만 남는다: app.outbox.debug-json=true 일 때만 채워지고, 그때는 스트림에도 함께 실린다.
+-- 기존 행(payload 만 있음)은 릴레이어가 예전 JSON 형식 그대로 발행하고, 소비자는 두 형식을 모두 읽는다.
+-- =============================================================
+
+BEGIN;
+
+ALTER TABLE "order".outbox ADD COLUMN payload_bin BYTEA;
+ALTER TABLE "order".outbox ALTER COLUMN payload DROP NOT NULL;
+ALTER TABLE "order".outbox ADD CONSTRAINT ck_outbox_payload_present
+    CHECK (payload_bin IS NOT NULL OR payload IS NOT NULL);
+
+COMMENT ON COLUMN "order".outbox.payload_bin IS 'OrderEventCodec 바이너리 (첫 바이트=버전). 발행 원본';
+COMMENT ON COLUMN "order".outbox.payload     IS '디버깅용 JSON (app.outbox.debug-json=true 일 때만) 또는 V10 이전 행의 원본';
+
+COMMIT;
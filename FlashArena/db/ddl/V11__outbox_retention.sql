@@ -0,0 +1,39 @@
+-- =============================================================
+-- FlashArena :: V11 - 아웃박스 보존 정책 (PUBLISHED 행 정리/보관)
+-- -------------------------------------------------------------
+-- 이전: PUBLISHED 행은 시뮬레이터 리셋(run 파티션 DROP) 외에는 지워지지 않아 live 파티션이 무한히 자란다.
+-- 이후: OutboxRetention 이 published_at 이 보존 기간(app.outbox.retention.max-age)을 넘긴 PUBLISHED 행을
+--       작은 청크(청크마다 별도 트랜잭션)로 DELETE 하거나, archive=true 면 outbox_archive 로 옮긴다.
+--
+-- idx_outbox_published_at: 청크 선택(published_at 오래된 순 LIMIT n)이 전체 스캔 없이 인덱스 범위만 읽게 한다.
+-- READY/FAILED 행은 대상이 아니다 (미발행 / DLQ 재처리 대상).
+-- =============================================================
+
+BEGIN;
+
+CREATE INDEX idx_outbox_published_at
+    ON "order".outbox (published_at)
+    WHERE status = 'PUBLISHED';
+
+CREATE TABLE "order".outbox_archive (
+    id              UUID         NOT NULL,
+    run_id          UUID         NOT NULL,
+    aggregate_type  VARCHAR(50)  NOT NULL,
+    aggregate_id    UUID         NOT NULL,
+    event_type      VARCHAR(50)  NOT NULL,
+    payload         JSONB,
+    payload_bin     BYTEA,
+    status          VARCHAR(20)  NOT NULL,
+    retry_count     INT          NOT NULL,
+    created_at      TIMESTAMPTZ  NOT NULL,
+    published_at    TIMESTAMPTZ,
+    archived_at     TIMESTAMPTZ  NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_outbox_archive PRIMARY KEY (id, run_id)
+);
+
+CREATE INDEX idx_outbox_archive_published_at ON "order".outbox_archive (published_at);
+
+COMMENT ON TABLE "order".outbox_archive IS '보존 기간이 지난 PUBLISHED 아웃박스 행 보관소 (app.outbox.retention.archive=true 일 때만 적재)';
+
+COMMIT;
@@ -0,0 +1,12 @@
+-- =============================================================
+-- FlashArena :: V7 - REDIS_HOLD 재고 선점 상태
+-- -------------------------------------------------------------
+-- 선점(hold) 은 Redis 예약(TTL) + 타이밍 휠 스위퍼로 관리하므로 스키마 변경은 없다.
+-- orders.status 에 새 값이 생기는 것만 문서화한다 (VARCHAR(20) 이라 CHECK 제약 없음).
+--   HELD      : 게이트 통과, 결제 대기 중 (재고 점유)
+--   CONFIRMED : 기한 내 결제 완료로 확정
+--   EXPIRED   : 기한 초과 → 재고가 카운터/DB 로 반환됨
+-- 만료 대상은 애플리케이션이 알고 있어 DB 를 스캔하지 않는다 → 추가 인덱스 불필요.
+-- =============================================================
+
+COMMENT ON COLUMN "order".orders.status IS 'CREATED(성공) / FAILED(재고부족 등) / HELD(선점·결제대기) / CONFIRMED(선점 확정) / EXPIRED(선점 만료·재고 반환)';
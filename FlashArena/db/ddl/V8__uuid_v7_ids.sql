@@ -0,0 +1,19 @@
+-- =============================================================
+-- FlashArena :: V8 - orders / outbox / payment_history PK 를 시간 순서 UUID(v7) 로
+-- -------------------------------------------------------------
+-- 애플리케이션(UuidV7, Hibernate @UuidV7Id)이 INSERT 직전에 v7 UUID 를 채운다.
+-- 랜덤 v4(gen_random_uuid) 는 버스트 INSERT 를 B-tree 전체에 흩뿌려 페이지 분할·WAL 을 키우지만,
+-- v7 은 앞 48비트가 밀리초 타임스탬프라 항상 인덱스 오른쪽 끝에 붙는다.
+--
+-- 컬럼 타입(UUID)은 그대로이므로 데이터 이관은 없다. DEFAULT gen_random_uuid() 는 지운다 —
+-- 남겨 두면 id 를 빠뜨린 INSERT 가 조용히 v4 를 받아 인덱스 지역성이 깨진다. 수동 INSERT 도 id 를 직접 넣는다.
+-- (V9 가 이 테이블들을 파티션 테이블로 다시 만들 때도 id 에는 DEFAULT 를 두지 않는다.)
+-- =============================================================
+
+ALTER TABLE "order".orders          ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE "order".outbox          ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE payment.payment_history ALTER COLUMN id DROP DEFAULT;
+
+COMMENT ON COLUMN "order".orders.id            IS 'UUIDv7 (앱 생성, 시간 순서). DEFAULT 없음';
+COMMENT ON COLUMN "order".outbox.id            IS 'UUIDv7 (앱 생성, 시간 순서). DEFAULT 없음';
+COMMENT ON COLUMN payment.payment_history.id   IS 'UUIDv7 (앱 생성, 시간 순서). DEFAULT 없음';
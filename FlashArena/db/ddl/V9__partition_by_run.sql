@@ -0,0 +1,137 @@
+-- =============================================================
+-- FlashArena :: V9 - orders / outbox / payment_history 를 run_id 로 LIST 파티셔닝
+-- -------------------------------------------------------------
+-- 목적: 시뮬레이터 리셋을 "행 단위 DELETE" 에서 "파티션 DETACH/DROP" 으로 바꾼다.
+--   - 이전: deleteByProductId(SELECT 후 엔티티별 DELETE) + DELETE FROM outbox + DELETE FROM payment_history
+--           → 이력이 쌓일수록 느려지고, 죽은 튜플이 vacuum 폭풍을 만든다.
+--   - 이후: run 시작 시 그 run 전용 파티션을 만들고, 보관 개수를 넘긴 오래된 run 파티션은
+--           DETACH CONCURRENTLY 후 DROP(또는 아카이브로 남김) → 데이터 양과 무관한 O(1) 메타데이터 작업.
+--
+-- 파티션 규칙:
+--   - run 파티션: <table>_r_<runId 32hex>  FOR VALUES IN ('<runId>')   — 앱(RunPartitionManager)이 생성/정리
+--   - live 파티션: <table>_live FOR VALUES IN ('00000000-0000-0000-0000-000000000000')
+--       공개 구매 API 등 시뮬레이터 밖 트래픽. DEFAULT 파티션은 쓰지 않는다
+--       (DEFAULT 가 있으면 새 파티션 생성 때마다 DEFAULT 전체 스캔 + DETACH CONCURRENTLY 불가).
+--
+-- ⚠️ 파티션 테이블의 PK/UNIQUE 는 파티션 키를 포함해야 한다.
+--   PK 는 (id, run_id) 순서 → id 단독 조회(markPublished, 상태 전이)도 인덱스 선두 컬럼을 탄다.
+--   payment_history 멱등성 키는 (order_id, run_id) — order id 는 v7 로 전역 유일이라 의미는 그대로다.
+--
+-- 기존 데이터는 모두 live 파티션으로 옮긴다 (모두 시뮬레이터 잔여물이라 다음 리셋 대상이기도 하다).
+-- =============================================================
+
+BEGIN;
+
+-- -------------------------------------------------------------
+-- "order".orders
+-- -------------------------------------------------------------
+ALTER TABLE "order".orders RENAME TO orders_legacy;
+ALTER INDEX "order".orders_pkey RENAME TO orders_legacy_pkey;
+DROP INDEX IF EXISTS "order".idx_orders_product_id;
+DROP INDEX IF EXISTS "order".idx_orders_user_id;
+
+CREATE TABLE "order".orders (
+    id          UUID         NOT NULL,
+    run_id      UUID         NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    user_id     UUID         NOT NULL,
+    product_id  UUID         NOT NULL,
+    quantity    INT          NOT NULL DEFAULT 1,
+    status      VARCHAR(20)  NOT NULL DEFAULT 'CREATED',
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_orders PRIMARY KEY (id, run_id),
+    CONSTRAINT fk_orders_product_run
+        FOREIGN KEY (product_id) REFERENCES "order".product (id)
+) PARTITION BY LIST (run_id);
+
+CREATE TABLE "order".orders_live PARTITION OF "order".orders
+    FOR VALUES IN ('00000000-0000-0000-0000-000000000000');
+
+INSERT INTO "order".orders (id, run_id, user_id, product_id, quantity, status, created_at)
+SELECT id, '00000000-0000-0000-0000-000000000000', user_id, product_id, quantity, status, created_at
+FROM "order".orders_legacy;
+
+DROP TABLE "order".orders_legacy;
+
+-- 부모에 만든 인덱스는 모든(이후 생성될) 파티션에 자동 전파된다.
+CREATE INDEX idx_orders_run_status  ON "order".orders (run_id, status);
+CREATE INDEX idx_orders_product_id  ON "order".orders (product_id);
+CREATE INDEX idx_orders_user_id     ON "order".orders (user_id);
+
+COMMENT ON COLUMN "order".orders.run_id IS '파티션 키. 시뮬레이터 runId(UUIDv7) 또는 live(nil UUID)';
+COMMENT ON COLUMN "order".orders.status IS 'CREATED(성공) / FAILED(재고부족 등) / HELD(선점·결제대기) / CONFIRMED(선점 확정) / EXPIRED(선점 만료·재고 반환)';
+
+-- -------------------------------------------------------------
+-- "order".outbox
+-- -------------------------------------------------------------
+ALTER TABLE "order".outbox RENAME TO outbox_legacy;
+ALTER INDEX "order".outbox_pkey RENAME TO outbox_legacy_pkey;
+DROP INDEX IF EXISTS "order".idx_outbox_status_ready;
+
+CREATE TABLE "order".outbox (
+    id              UUID         NOT NULL,
+    run_id          UUID         NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    aggregate_type  VARCHAR(50)  NOT NULL DEFAULT 'ORDER',
+    aggregate_id    UUID         NOT NULL,
+    event_type      VARCHAR(50)  NOT NULL,
+    payload         JSONB        NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'READY',
+    retry_count     INT          NOT NULL DEFAULT 0,
+    created_at      TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    published_at    TIMESTAMPTZ,
+
+    CONSTRAINT pk_outbox PRIMARY KEY (id, run_id)
+) PARTITION BY LIST (run_id);
+
+CREATE TABLE "order".outbox_live PARTITION OF "order".outbox
+    FOR VALUES IN ('00000000-0000-0000-0000-000000000000');
+
+INSERT INTO "order".outbox (id, run_id, aggregate_type, aggregate_id, event_type, payload,
+                           status, retry_count, created_at, published_at)
+SELECT id, '00000000-0000-0000-0000-000000000000', aggregate_type, aggregate_id, event_type, payload,
+       status, retry_count, created_at, published_at
+FROM "order".outbox_legacy;
+
+DROP TABLE "order".outbox_legacy;
+
+CREATE INDEX idx_outbox_status_ready
+    ON "order".outbox (created_at)
+    WHERE status = 'READY';
+
+COMMENT ON COLUMN "order".outbox.run_id IS '파티션 키. 주문과 같은 run 파티션에 묶여 함께 DETACH/DROP 된다';
+
+-- -------------------------------------------------------------
+-- payment.payment_history
+-- -------------------------------------------------------------
+ALTER TABLE payment.payment_history RENAME TO payment_history_legacy;
+ALTER INDEX payment.payment_history_pkey RENAME TO payment_history_legacy_pkey;
+DROP INDEX IF EXISTS payment.uq_payment_history_order_id;
+
+CREATE TABLE payment.payment_history (
+    id          UUID         NOT NULL,
+    run_id      UUID         NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    order_id    UUID         NOT NULL,
+    amount      BIGINT       NOT NULL DEFAULT 0,
+    status      VARCHAR(20)  NOT NULL DEFAULT 'PAID',
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_payment_history PRIMARY KEY (id, run_id)
+) PARTITION BY LIST (run_id);
+
+CREATE TABLE payment.payment_history_live PARTITION OF payment.payment_history
+    FOR VALUES IN ('00000000-0000-0000-0000-000000000000');
+
+INSERT INTO payment.payment_history (id, run_id, order_id, amount, status, created_at)
+SELECT id, '00000000-0000-0000-0000-000000000000', order_id, amount, status, created_at
+FROM payment.payment_history_legacy;
+
+DROP TABLE payment.payment_history_legacy;
+
+-- ⭐ 멱등성 키 (파티션 키 포함 필수). 같은 run 안의 같은 주문은 한 번만 결제된다.
+CREATE UNIQUE INDEX uq_payment_history_order_id
+    ON payment.payment_history (order_id, run_id);
+
+COMMENT ON COLUMN payment.payment_history.run_id   IS '파티션 키. 이벤트 payload 의 runId 를 그대로 받는다 (order 를 조회하지 않음)';
+COMMENT ON COLUMN payment.payment_history.order_id IS '멱등성 키(run_id 와 함께 UNIQUE). DuplicateKey → 이미 처리됨';
+
+COMMIT;
@@ -0,0 +1,27 @@
+import { useEffect, useState, type ImgHTMLAttributes } from 'react'
+
+interface Props extends Omit<ImgHTMLAttributes<HTMLImageElement>, 'src'> {
+  /** Preferred source, e.g. a thumbnail derivative that may not exist yet. */
+  src: string | null | undefined
+  /** Used when src is missing or fails to load (the original image). */
+  fallbackSrc: string
+}
+
+/** <img> that switches to fallbackSrc once if the preferred derivative 404s. */
+export function FallbackImage({ src, fallbackSrc, ...rest }: Props) {
+  const [current, setCurrent] = useState(src ?? fallbackSrc)
+
+  useEffect(() => {
+    setCurrent(src ?? fallbackSrc)
+  }, [src, fallbackSrc])
+
+  return (
+    <img
+      {...rest}
+      src={current}
+      onError={() => {
+        if (current !== fallbackSrc) setCurrent(fallbackSrc)
+      }}
+    />
+  )
+}
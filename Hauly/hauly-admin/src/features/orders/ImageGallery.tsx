@@ -2,12 +2,17 @@ import { useEffect, useState } from 'react'
 import { createPortal } from 'react-dom'
 import { ChevronLeft, ChevronRight, X } from 'lucide-react'
 import { useTranslation } from 'react-i18next'
+import { FallbackImage } from './FallbackImage'
 
 interface Props {
+  /** Originals — also the fallback while a derivative is missing. */
   urls: string[]
+  /** Same order as urls: tiles use thumbnails, the lightbox uses display-size images. */
+  thumbnailUrls?: string[]
+  displayUrls?: string[]
 }
 
-export function ImageGallery({ urls }: Props) {
+export function ImageGallery({ urls, thumbnailUrls, displayUrls }: Props) {
   const { t } = useTranslation()
   const [openAt, setOpenAt] = useState<number | null>(null)
 
@@ -36,8 +41,9 @@ export function ImageGallery({ urls }: Props) {
             className="w-20 h-20 rounded-md border overflow-hidden bg-muted hover:opacity-80"
             aria-label={t('image.aria.zoom', { n: i + 1 })}
           >
-            <img
-              src={url}
+            <FallbackImage
+              src={thumbnailUrls?.[i]}
+              fallbackSrc={url}
               alt=""
               loading="lazy"
               decoding="async"
@@ -89,8 +95,9 @@ export function ImageGallery({ urls }: Props) {
               </button>
             </>
           )}
-          <img
-            src={urls[openAt]}
+          <FallbackImage
+            src={displayUrls?.[openAt]}
+            fallbackSrc={urls[openAt]}
             alt=""
             onClick={(e) => e.stopPropagation()}
             className="max-w-[90vw] max-h-[90vh] object-contain"
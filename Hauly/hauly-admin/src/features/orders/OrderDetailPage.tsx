@@ -216,7 +216,11 @@ export default function OrderDetailPage() {
                   {item.requestImageUrls && item.requestImageUrls.length > 0 && (
                     <tr className="border-b">
                       <td colSpan={6} className="py-2 px-2">
-                        <ImageGallery urls={item.requestImageUrls} />
+                        <ImageGallery
+                          urls={item.requestImageUrls}
+                          thumbnailUrls={item.requestImageThumbnailUrls}
+                          displayUrls={item.requestImageDisplayUrls}
+                        />
                       </td>
                     </tr>
                   )}
@@ -361,7 +365,11 @@ export default function OrderDetailPage() {
           </CardHeader>
           <CardContent>
             {order.purchaseProofUrls.length > 0 ? (
-              <ImageGallery urls={order.purchaseProofUrls} />
+              <ImageGallery
+                urls={order.purchaseProofUrls}
+                thumbnailUrls={order.purchaseProofThumbnailUrls}
+                displayUrls={order.purchaseProofDisplayUrls}
+              />
             ) : (
               <p className="text-sm text-muted-foreground">—</p>
             )}
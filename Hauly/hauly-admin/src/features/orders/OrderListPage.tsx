@@ -20,6 +20,7 @@ import {
 import { useDebounced } from './useDebounced'
 import { formatMoney } from './money'
 import { ImageLightbox } from './ImageLightbox'
+import { FallbackImage } from './FallbackImage'
 import type { OrderSortOption } from '@/lib/api/orders'
 
 const SORT_OPTIONS: Array<{ value: OrderSortOption; labelKey: string }> = [
@@ -27,6 +28,7 @@ const SORT_OPTIONS: Array<{ value: OrderSortOption; labelKey: string }> = [
   { value: 'createdAt-asc', labelKey: 'order.list.sort.created_asc' },
   { value: 'fulfillmentStatus-asc', labelKey: 'order.list.sort.fulfillment' },
   { value: 'productName-asc', labelKey: 'order.list.sort.product_name' },
+  { value: 'relevance-desc', labelKey: 'order.list.sort.relevance' },
 ]
 
 export default function OrderListPage() {
@@ -168,8 +170,9 @@ export default function OrderListPage() {
                                 className="w-10 h-10 shrink-0 rounded border overflow-hidden bg-muted hover:opacity-80"
                                 aria-label={t('image.aria.zoom', { n: 1 })}
                               >
-                                <img
-                                  src={o.firstImageUrl}
+                                <FallbackImage
+                                  src={o.firstImageThumbnailUrl}
+                                  fallbackSrc={o.firstImageUrl}
                                   alt=""
                                   loading="lazy"
                                   decoding="async"
@@ -303,8 +306,9 @@ export default function OrderListPage() {
                             className="w-12 h-12 shrink-0 rounded border overflow-hidden bg-muted hover:opacity-80"
                             aria-label={t('image.aria.zoom', { n: 1 })}
                           >
-                            <img
-                              src={o.firstImageUrl}
+                            <FallbackImage
+                              src={o.firstImageThumbnailUrl}
+                              fallbackSrc={o.firstImageUrl}
                               alt=""
                               loading="lazy"
                               decoding="async"
@@ -36,6 +36,8 @@ export interface OrderListItem {
   itemCount: number
   firstProductName: string | null
   firstImageUrl: string | null
+  /** 320px thumbnail of the same image — may 404 until generated; fall back to firstImageUrl. */
+  firstImageThumbnailUrl: string | null
   koreanCourier: string | null
   koreanTrackingNo: string | null
   shippingAddressLabel: string | null
@@ -59,6 +61,8 @@ export interface OrderItemDetail {
   unitPriceCurrency: CurrencyCode | null
   requestImageKeys: string[]
   requestImageUrls: string[]
+  requestImageThumbnailUrls: string[]
+  requestImageDisplayUrls: string[]
 }
 
 export interface OrderStatusLogEntry {
@@ -91,6 +95,8 @@ export interface OrderDetail {
   paidAmountKrw: string | null
   purchaseProofKeys: string[]
   purchaseProofUrls: string[]
+  purchaseProofThumbnailUrls: string[]
+  purchaseProofDisplayUrls: string[]
   recipientName: string | null
   recipientPhone: string | null
   postalCode: string | null
@@ -200,6 +206,7 @@ export type OrderSortOption =
   | 'createdAt-asc'
   | 'fulfillmentStatus-asc'
   | 'productName-asc'
+  | 'relevance-desc'
 
 export async function listOrders(params: {
   status?: FulfillmentStatus
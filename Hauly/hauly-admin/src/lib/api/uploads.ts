@@ -5,18 +5,54 @@ export interface TempUploadResponse {
   url: string
 }
 
+type PresignResponse =
+  | {
+      tempKey: string
+      uploadUrl: string
+      uploadHeaders: Record<string, string>
+      contentType: string
+      alreadyStored?: false
+    }
+  | { tempKey: string; url: string; alreadyStored: true }
+
+/**
+ * Direct upload: ask the backend for a signed PUT URL, send the bytes straight to storage
+ * (S3, or the backend's local endpoint in dev), then confirm so the server can verify the object.
+ * The PUT must carry exactly the headers the server signed; the browser sets Content-Length.
+ *
+ * The file's SHA-256 goes along with the presign request. When content-addressed storage is on,
+ * the server either reports the bytes as already stored (no upload at all) or pins the hash so
+ * storage rejects a body that doesn't match.
+ */
 export async function uploadTempImage(file: File): Promise<TempUploadResponse> {
-  const form = new FormData()
-  form.append('file', file)
-  const { data } = await apiClient.post<TempUploadResponse>(
-    '/intake/uploads/temp',
-    form,
-    { headers: { 'Content-Type': 'multipart/form-data' } },
-  )
+  const { data: slot } = await apiClient.post<PresignResponse>('/intake/uploads/temp/presign', {
+    contentType: file.type,
+    size: file.size,
+    fileName: file.name,
+    sha256: await sha256Hex(file),
+  })
+  if (slot.alreadyStored) {
+    return { tempKey: slot.tempKey, url: slot.url }
+  }
+  const put = await fetch(slot.uploadUrl, {
+    method: 'PUT',
+    headers: slot.uploadHeaders,
+    body: file,
+  })
+  if (!put.ok) {
+    throw new Error(`upload failed (${put.status})`)
+  }
+  const { data } = await apiClient.post<TempUploadResponse>('/intake/uploads/temp/complete', {
+    tempKey: slot.tempKey,
+  })
   return data
 }
 
 export async function deleteTempImage(tempKey: string): Promise<void> {
+  // Content-addressed blobs are shared; unreferenced ones are garbage-collected server-side.
+  if (tempKey.startsWith('cas/')) {
+    return
+  }
   // tempKey looks like "temp/123/abc.jpg" — strip the leading "temp/" segment for the path.
   if (!tempKey.startsWith('temp/')) {
     throw new Error('invalid temp key')
@@ -24,3 +60,8 @@ export async function deleteTempImage(tempKey: string): Promise<void> {
   const path = tempKey.substring('temp/'.length)
   await apiClient.delete(`/intake/uploads/temp/${path}`)
 }
+
+async function sha256Hex(file: File): Promise<string> {
+  const digest = await crypto.subtle.digest('SHA-256', await file.arrayBuffer())
+  return Array.from(new Uint8Array(digest), (b) => b.toString(16).padStart(2, '0')).join('')
+}
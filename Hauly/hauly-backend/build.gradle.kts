@@ -56,6 +56,10 @@ dependencies {
     // AWS SDK S3 (BOM-managed)
     implementation("software.amazon.awssdk:s3")
 
+    // ImageIO plugins (SPI) — CMYK/YCCK JPEG and WebP decoding for image derivatives
+    runtimeOnly("com.twelvemonkeys.imageio:imageio-jpeg:3.12.0")
+    runtimeOnly("com.twelvemonkeys.imageio:imageio-webp:3.12.0")
+
     // Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -6,16 +6,25 @@ import com.hauly.intake.order.application.command.ChangePaymentStatusCommand;
 import com.hauly.intake.order.application.command.CreateOrderCommand;
 import com.hauly.intake.order.application.command.ForceFulfillmentStatusCommand;
 import com.hauly.intake.order.application.command.ForcePaymentStatusCommand;
+import com.hauly.intake.order.application.query.OrderCursorPage;
 import com.hauly.intake.order.application.query.OrderDetailView;
+import com.hauly.intake.order.application.query.OrderListCursor;
 import com.hauly.intake.order.application.query.OrderListItemView;
 import com.hauly.intake.order.domain.model.FulfillmentStatus;
 import com.hauly.intake.order.domain.model.Order;
+import com.hauly.intake.order.domain.model.OrderListEntry;
 import com.hauly.intake.order.domain.model.OrderType;
 import com.hauly.intake.order.domain.model.OrderStatusLog;
 import com.hauly.intake.order.domain.model.OrderItem;
+import com.hauly.intake.order.domain.repository.OrderKeyset;
+import com.hauly.intake.order.domain.repository.OrderListViewRepository;
 import com.hauly.intake.order.domain.repository.OrderRepository;
 import com.hauly.intake.order.domain.service.OrderNoGenerator;
+import com.hauly.platform.storage.application.BlobPromotionService;
+import com.hauly.platform.storage.application.ContentAddressedStorageService;
+import com.hauly.platform.storage.domain.BlobMove;
 import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.model.CasBlob;
 import com.hauly.shared.customer.application.CustomerLookupService;
 import com.hauly.shared.customer.application.command.IdentifyCustomerCommand;
 import com.hauly.shared.customer.domain.model.Customer;
@@ -24,6 +33,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -33,29 +43,46 @@ import java.util.UUID;
 /**
  * Application service orchestrating the INTAKE order use cases.
  * - createOrder: identify-or-create customer, build aggregate, persist, assign order_no, flush logs.
- * - listOrders / getOrder: read models for the admin SPA.
+ * - listOrders / scrollOrders / getOrder: read models for the admin SPA (offset and keyset paging).
+ *   The list reads the order_list_view read model, which every list-visible mutation here
+ *   refreshes in its own transaction.
  * - changeFulfillmentStatus / changePaymentStatus: state machine transitions with audit logging.
+ * Uploaded images are stored under their permanent keys right away; the temp → permanent object
+ * moves are handed to BlobPromotionService and run after commit. Content-addressed uploads
+ * ({@code cas/{sha256}}) are referenced as-is through ContentAddressedStorageService.
+ * Callers run {@link #checkUploads} first, so the transactions never wait on object lookups.
  */
 @Service
 @Transactional
 public class IntakeOrderService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final OrderRepository orderRepository;
+    private final OrderListViewRepository orderListViewRepository;
     private final CustomerLookupService customerLookupService;
     private final OrderNoGenerator orderNoGenerator;
     private final BlobStorage blobStorage;
     private final DepositService depositService;
+    private final BlobPromotionService blobPromotionService;
+    private final ContentAddressedStorageService contentStore;
 
     public IntakeOrderService(OrderRepository orderRepository,
+                              OrderListViewRepository orderListViewRepository,
                               CustomerLookupService customerLookupService,
                               OrderNoGenerator orderNoGenerator,
                               BlobStorage blobStorage,
-                              DepositService depositService) {
+                              DepositService depositService,
+                              BlobPromotionService blobPromotionService,
+                              ContentAddressedStorageService contentStore) {
         this.orderRepository = orderRepository;
+        this.orderListViewRepository = orderListViewRepository;
         this.customerLookupService = customerLookupService;
         this.orderNoGenerator = orderNoGenerator;
         this.blobStorage = blobStorage;
         this.depositService = depositService;
+        this.blobPromotionService = blobPromotionService;
+        this.contentStore = contentStore;
     }
 
     public OrderDetailView createOrder(CreateOrderCommand cmd, Long createdBy) {
@@ -78,14 +105,9 @@ public class IntakeOrderService {
 
         // Validate that any temp image keys belong to the caller — prevents one user from
         // attaching another user's uploads. Keys are namespaced as `temp/{userId}/...`.
-        String tempPrefix = "temp/" + createdBy + "/";
         for (CreateOrderCommand.Item item : cmd.items()) {
             if (item.tempImageKeys() == null) continue;
-            for (String key : item.tempImageKeys()) {
-                if (key == null || !key.startsWith(tempPrefix)) {
-                    throw new IllegalArgumentException("invalid temp image key: " + key);
-                }
-            }
+            item.tempImageKeys().forEach(key -> validateUploadKey(key, createdBy));
         }
 
         Customer customer = customerLookupService.findOrCreate(new IdentifyCustomerCommand(
@@ -120,27 +142,22 @@ public class IntakeOrderService {
         // Replace placeholder order_no with HL-yyyy-#### derived from id
         order.assignOrderNo(orderNoGenerator.generate(order.getId()));
 
-        // Promote temp image keys → permanent. Items now have IDs.
+        // Assign permanent image keys now that items have IDs; objects move after commit.
         // Positional pairing: cmd.items().get(i) ↔ order.getItems().get(i).
         List<OrderItem> savedItems = order.getItems();
         for (int i = 0; i < cmd.items().size(); i++) {
             List<String> tempKeys = cmd.items().get(i).tempImageKeys();
             if (tempKeys == null || tempKeys.isEmpty()) continue;
             OrderItem entityItem = savedItems.get(i);
-            List<String> permanentKeys = new ArrayList<>(tempKeys.size());
-            for (String tempKey : tempKeys) {
-                String ext = extractExt(tempKey);
-                String permanentKey = "orders/" + order.getId() + "/items/" + entityItem.getId()
-                        + "/" + UUID.randomUUID() + "." + ext;
-                blobStorage.copy(tempKey, permanentKey);
-                blobStorage.delete(tempKey);
-                permanentKeys.add(permanentKey);
-            }
-            entityItem.setRequestImageKeys(permanentKeys);
+            entityItem.setRequestImageKeys(attachUploads(
+                    "orders/" + order.getId() + "/items/" + entityItem.getId() + "/", tempKeys));
         }
         order = orderRepository.save(order);
 
         flushPendingLogs(order);
+        // findOrCreate may have renamed an existing customer — keep their other list rows in step.
+        orderListViewRepository.renameCustomer(customer.getId(), customer.getName());
+        orderListViewRepository.refresh(order);
 
         List<OrderStatusLog> history = orderRepository.findStatusLogsByOrderId(order.getId());
         return OrderDetailView.from(
@@ -148,6 +165,48 @@ public class IntakeOrderService {
                 history, blobStorage);
     }
 
+    /**
+     * Pre-flight for image-attaching use cases, outside any transaction: every key must be the
+     * caller's own temp upload (or a {@code cas/} key) and every temp object must still exist.
+     * Storage lookups run in parallel; a swept or foreign key fails with IllegalArgumentException.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void checkUploads(List<String> uploadKeys, Long actorId) {
+        if (uploadKeys == null || uploadKeys.isEmpty()) return;
+        uploadKeys.forEach(key -> validateUploadKey(key, actorId));
+        blobPromotionService.requireSources(uploadKeys);
+    }
+
+    /**
+     * Permanent keys for uploaded images, in order. A temp key gets a fresh key under {@code prefix}
+     * and a move scheduled for after commit; a content-addressed key is kept and gains a reference.
+     */
+    private List<String> attachUploads(String prefix, List<String> uploadKeys) {
+        List<String> permanent = new ArrayList<>(uploadKeys.size());
+        List<BlobMove> moves = new ArrayList<>();
+        List<String> shared = new ArrayList<>();
+        for (String key : uploadKeys) {
+            if (CasBlob.isContentKey(key)) {
+                shared.add(key);
+                permanent.add(key);
+            } else {
+                String permanentKey = prefix + UUID.randomUUID() + "." + extractExt(key);
+                moves.add(new BlobMove(key, permanentKey));
+                permanent.add(permanentKey);
+            }
+        }
+        contentStore.retain(shared);
+        blobPromotionService.schedule(moves);
+        return permanent;
+    }
+
+    /** {@code temp/{actorId}/...} (the caller's own upload) or a shared {@code cas/{sha256}} key. */
+    private static void validateUploadKey(String key, Long actorId) {
+        if (key == null || !(key.startsWith("temp/" + actorId + "/") || CasBlob.isContentKey(key))) {
+            throw new IllegalArgumentException("invalid temp image key: " + key);
+        }
+    }
+
     private static String extractExt(String key) {
         int dot = key.lastIndexOf('.');
         return (dot >= 0 && dot < key.length() - 1) ? key.substring(dot + 1) : "bin";
@@ -158,20 +217,45 @@ public class IntakeOrderService {
                                                String sort, String dir,
                                                int page, int size) {
         String safeQ = q == null ? "" : q.trim();
-        Page<Order> orders;
-        if ("productName".equals(sort)) {
-            // Custom JPQL — productName lives on OrderItem, not Order. Direction fixed ASC.
-            orders = orderRepository.findAllByFilterSortByProductName(
-                    filter, safeQ, PageRequest.of(page, size));
-        } else {
-            Sort sortObj = Sort.by(parseDirection(dir), parseSortField(sort));
-            orders = orderRepository.findAllByFilter(
-                    filter, safeQ, PageRequest.of(page, size, sortObj));
+        // "relevance" = unsorted → best match first (newest first when there's no search term).
+        Pageable pageable = "relevance".equals(sort)
+                ? PageRequest.of(page, size)
+                : PageRequest.of(page, size, Sort.by(parseDirection(dir), parseSortField(sort)));
+        return orderListViewRepository.findAll(filter, safeQ, pageable)
+                .map(e -> OrderListItemView.from(e, blobStorage));
+    }
+
+    /**
+     * Cursor (keyset) variant of {@link #listOrders}: each page seeks past the previous page's last
+     * (sort value, id) instead of skipping OFFSET rows, so page 500 costs the same as page 1.
+     * Fetches size+1 rows to learn whether a next page exists without a COUNT. The total is the
+     * planner's estimate and only computed when asked for.
+     */
+    @Transactional(readOnly = true)
+    public OrderCursorPage scrollOrders(FulfillmentStatus filter, String q,
+                                        String sort, String dir, String cursor,
+                                        int size, boolean withTotal) {
+        String safeQ = q == null ? "" : q.trim();
+        int limit = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        OrderKeyset.SortField field = parseKeysetField(sort);
+        boolean ascending = parseDirection(dir) == Sort.Direction.ASC;
+        OrderKeyset keyset = OrderListCursor.decode(cursor, field, ascending);
+
+        List<OrderListEntry> rows = orderListViewRepository.findPageAfter(filter, safeQ, keyset, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<OrderListEntry> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        List<OrderListItemView> items = new ArrayList<>(pageRows.size());
+        for (OrderListEntry e : pageRows) {
+            items.add(OrderListItemView.from(e, blobStorage));
         }
-        return orders.map(o -> {
-            Customer c = customerLookupService.getById(o.getCustomerId());
-            return OrderListItemView.from(o, c.getName(), blobStorage);
-        });
+        String next = null;
+        if (hasMore) {
+            OrderListEntry last = pageRows.get(pageRows.size() - 1);
+            next = OrderListCursor.encode(field, ascending, last.getOrderId(), keysetValue(last, field));
+        }
+        Long total = withTotal ? orderListViewRepository.estimateCount(filter, safeQ) : null;
+        return new OrderCursorPage(items, next, total);
     }
 
     private static Sort.Direction parseDirection(String dir) {
@@ -182,11 +266,30 @@ public class IntakeOrderService {
     private static String parseSortField(String sort) {
         if (sort == null) return "createdAt";
         return switch (sort) {
-            case "fulfillmentStatus", "orderNo", "createdAt" -> sort;
+            case "fulfillmentStatus", "orderNo", "createdAt", "productName" -> sort;
             default -> "createdAt";
         };
     }
 
+    /** Same whitelist as {@link #parseSortField}, mapped onto the indexed keyset columns. */
+    private static OrderKeyset.SortField parseKeysetField(String sort) {
+        return switch (parseSortField(sort)) {
+            case "fulfillmentStatus" -> OrderKeyset.SortField.FULFILLMENT_STATUS;
+            case "orderNo" -> OrderKeyset.SortField.ORDER_NO;
+            case "productName" -> OrderKeyset.SortField.PRODUCT_NAME;
+            default -> OrderKeyset.SortField.CREATED_AT;
+        };
+    }
+
+    private static Object keysetValue(OrderListEntry entry, OrderKeyset.SortField field) {
+        return switch (field) {
+            case CREATED_AT -> entry.getCreatedAt();
+            case ORDER_NO -> entry.getOrderNo();
+            case FULFILLMENT_STATUS -> entry.getFulfillmentStatus();
+            case PRODUCT_NAME -> entry.getFirstProductName();
+        };
+    }
+
     @Transactional(readOnly = true)
     public OrderDetailView getOrder(Long id) {
         Order order = loadOrder(id);
@@ -204,18 +307,10 @@ public class IntakeOrderService {
             if (cmd.paidAmountKrw() != null) {
                 order.recordPaidAmountKrw(cmd.paidAmountKrw());
             }
-            // 결제 증빙 임시 키 → 영구 키 이동.
+            // 결제 증빙 임시 키 → 영구 키 이동 (객체 이동은 커밋 후).
             List<String> proofTemp = cmd.proofTempKeys();
             if (proofTemp != null && !proofTemp.isEmpty()) {
-                List<String> permanent = new ArrayList<>(proofTemp.size());
-                for (String tempKey : proofTemp) {
-                    String ext = extractExt(tempKey);
-                    String permanentKey = "orders/" + order.getId() + "/proof/"
-                            + UUID.randomUUID() + "." + ext;
-                    blobStorage.copy(tempKey, permanentKey);
-                    blobStorage.delete(tempKey);
-                    permanent.add(permanentKey);
-                }
+                List<String> permanent = attachUploads("orders/" + order.getId() + "/proof/", proofTemp);
                 // 기존 키와 합쳐서 누적 (재차 PURCHASED 진입 시 추가만).
                 List<String> existing = new ArrayList<>(order.getPurchaseProofKeys());
                 existing.addAll(permanent);
@@ -223,6 +318,7 @@ public class IntakeOrderService {
             }
         }
         order = orderRepository.save(order);
+        orderListViewRepository.refresh(order);
         flushPendingLogs(order);
         applyDepositSideEffects(order.getId(), cmd.target(), cmd.paidAmountKrw(), actorId);
         return getOrder(order.getId());
@@ -244,6 +340,7 @@ public class IntakeOrderService {
                 logisticsThDomesticAmount, logisticsThDomesticCurrency,
                 krwPerThb);
         orderRepository.save(order);
+        orderListViewRepository.refresh(order);
         return getOrder(orderId);
     }
 
@@ -259,6 +356,7 @@ public class IntakeOrderService {
         java.math.BigDecimal oldPaid = order.getPaidAmountKrw();
         order.overridePaidAmountKrw(newPaidAmount);
         orderRepository.save(order);
+        orderListViewRepository.refresh(order);
         if (oldPaid == null) {
             depositService.recordPurchase(orderId, newPaidAmount, actorId);
         } else if (oldPaid.compareTo(newPaidAmount) != 0) {
@@ -274,6 +372,7 @@ public class IntakeOrderService {
         Order order = loadOrder(orderId);
         order.updateTracking(courier, trackingNo);
         orderRepository.save(order);
+        orderListViewRepository.refresh(order);
         return getOrder(orderId);
     }
 
@@ -286,21 +385,8 @@ public class IntakeOrderService {
             throw new IllegalArgumentException("proof_keys_required");
         }
         Order order = loadOrder(orderId);
-        String tempPrefix = "temp/" + actorId + "/";
-        for (String key : proofTempKeys) {
-            if (key == null || !key.startsWith(tempPrefix)) {
-                throw new IllegalArgumentException("invalid temp image key: " + key);
-            }
-        }
-        List<String> permanent = new ArrayList<>(proofTempKeys.size());
-        for (String tempKey : proofTempKeys) {
-            String ext = extractExt(tempKey);
-            String permanentKey = "orders/" + order.getId() + "/proof/"
-                    + UUID.randomUUID() + "." + ext;
-            blobStorage.copy(tempKey, permanentKey);
-            blobStorage.delete(tempKey);
-            permanent.add(permanentKey);
-        }
+        proofTempKeys.forEach(key -> validateUploadKey(key, actorId));
+        List<String> permanent = attachUploads("orders/" + order.getId() + "/proof/", proofTempKeys);
         List<String> existing = new ArrayList<>(order.getPurchaseProofKeys());
         existing.addAll(permanent);
         order.recordPurchaseProofKeys(existing);
@@ -311,7 +397,12 @@ public class IntakeOrderService {
     /** Hard-delete an order. Irreversible. ADMIN-only — gate enforced at the controller. */
     public void deleteOrder(Long orderId) {
         // Existence check first so a not-found returns 404 instead of silently no-op'ing.
-        loadOrder(orderId);
+        Order order = loadOrder(orderId);
+        // 공유(cas/) 이미지는 참조만 반납 — 마지막 참조였다면 유예 후 GC 가 지운다.
+        List<String> shared = new ArrayList<>();
+        order.getItems().forEach(i -> i.getRequestImageKeys().stream().filter(CasBlob::isContentKey).forEach(shared::add));
+        order.getPurchaseProofKeys().stream().filter(CasBlob::isContentKey).forEach(shared::add);
+        contentStore.release(shared);
         orderRepository.deleteOrderAndLogs(orderId);
     }
 
@@ -319,6 +410,7 @@ public class IntakeOrderService {
         Order order = loadOrder(cmd.orderId());
         order.changePaymentStatus(cmd.target(), actorId, cmd.note());
         order = orderRepository.save(order);
+        orderListViewRepository.refresh(order);
         flushPendingLogs(order);
         return getOrder(order.getId());
     }
@@ -331,6 +423,7 @@ public class IntakeOrderService {
         Order order = loadOrder(cmd.orderId());
         order.forceChangeFulfillmentStatus(cmd.target(), actorId, cmd.reason().trim());
         order = orderRepository.save(order);
+        orderListViewRepository.refresh(order);
         flushPendingLogs(order);
         // Force jumps don't carry a paid amount — only the auto-refund-on-cancel hook fires.
         applyDepositSideEffects(order.getId(), cmd.target(), null, actorId);
@@ -345,6 +438,7 @@ public class IntakeOrderService {
         Order order = loadOrder(cmd.orderId());
         order.forceChangePaymentStatus(cmd.target(), actorId, cmd.reason().trim());
         order = orderRepository.save(order);
+        orderListViewRepository.refresh(order);
         flushPendingLogs(order);
         return getOrder(order.getId());
     }
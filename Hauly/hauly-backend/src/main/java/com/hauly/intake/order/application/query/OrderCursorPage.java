@@ -0,0 +1,16 @@
+package com.hauly.intake.order.application.query;
+
+import java.util.List;
+
+/**
+ * One page of the cursor-paginated order list.
+ * nextCursor: opaque token for the following page, null on the last page.
+ * approximateTotal: planner row estimate for the same filter — only when requested, otherwise null.
+ * It comes from table statistics, so it can be off by a few percent (or more right after bulk changes).
+ */
+public record OrderCursorPage(
+        List<OrderListItemView> items,
+        String nextCursor,
+        Long approximateTotal
+) {
+}
@@ -8,6 +8,7 @@ import com.hauly.intake.order.domain.model.OrderType;
 import com.hauly.intake.order.domain.model.PaymentStatus;
 import com.hauly.intake.order.domain.model.StatusDimension;
 import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.ImageDerivative;
 
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -22,6 +23,8 @@ import java.util.Set;
  *
  * Image URLs are resolved at view-construction time via {@link BlobStorage#presignedGetUrl}
  * so the frontend can render &lt;img src&gt; directly without an extra round trip.
+ * Each image list comes with parallel thumbnail / display lists ({@link ImageDerivative});
+ * a derivative can 404 while it is being generated, so the originals stay as the fallback.
  */
 public record OrderDetailView(
         Long id,
@@ -42,6 +45,8 @@ public record OrderDetailView(
         BigDecimal paidAmountKrw,
         List<String> purchaseProofKeys,
         List<String> purchaseProofUrls,
+        List<String> purchaseProofThumbnailUrls,
+        List<String> purchaseProofDisplayUrls,
         String recipientName,
         String recipientPhone,
         String postalCode,
@@ -76,17 +81,18 @@ public record OrderDetailView(
             BigDecimal unitPriceAmount,
             String unitPriceCurrency,
             List<String> requestImageKeys,
-            List<String> requestImageUrls
+            List<String> requestImageUrls,
+            List<String> requestImageThumbnailUrls,
+            List<String> requestImageDisplayUrls
     ) {
         static Item from(OrderItem item, BlobStorage storage) {
             List<String> keys = item.getRequestImageKeys();
-            List<String> urls = keys.stream()
-                    .map(k -> storage.presignedGetUrl(k, IMAGE_URL_TTL))
-                    .toList();
             return new Item(item.getId(), item.getProductName(), item.getProductUrl(),
                     item.getQuantity(), item.getCategoryId(), item.getAttributes(),
                     item.getUnitPriceAmount(), item.getUnitPriceCurrency(),
-                    keys, urls);
+                    keys, urls(keys, null, storage),
+                    urls(keys, ImageDerivative.THUMBNAIL, storage),
+                    urls(keys, ImageDerivative.DISPLAY, storage));
         }
     }
 
@@ -131,9 +137,9 @@ public record OrderDetailView(
                 order.getKoreanCourier(),
                 order.getPaidAmountKrw(),
                 order.getPurchaseProofKeys(),
-                order.getPurchaseProofKeys().stream()
-                        .map(k -> storage.presignedGetUrl(k, IMAGE_URL_TTL))
-                        .toList(),
+                urls(order.getPurchaseProofKeys(), null, storage),
+                urls(order.getPurchaseProofKeys(), ImageDerivative.THUMBNAIL, storage),
+                urls(order.getPurchaseProofKeys(), ImageDerivative.DISPLAY, storage),
                 order.getRecipientName(),
                 order.getRecipientPhone(),
                 order.getPostalCode(),
@@ -154,4 +160,11 @@ public record OrderDetailView(
                 order.getUpdatedAt()
         );
     }
+
+    /** Presigned URLs for {@code keys}, or for their {@code derivative} when non-null. */
+    private static List<String> urls(List<String> keys, ImageDerivative derivative, BlobStorage storage) {
+        return keys.stream()
+                .map(k -> storage.presignedGetUrl(derivative == null ? k : derivative.keyFor(k), IMAGE_URL_TTL))
+                .toList();
+    }
 }
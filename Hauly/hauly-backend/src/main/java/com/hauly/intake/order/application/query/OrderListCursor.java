@@ -0,0 +1,72 @@
+package com.hauly.intake.order.application.query;
+
+import com.hauly.intake.order.domain.model.FulfillmentStatus;
+import com.hauly.intake.order.domain.repository.OrderKeyset;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque cursor codec for the order list: base64url("sort|dir|id|value").
+ * The sort and direction are baked in so a cursor can't be replayed against a different ordering.
+ * Clients must treat the token as opaque — the format may change.
+ */
+public final class OrderListCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private OrderListCursor() {
+    }
+
+    /** Cursor pointing just past the given row. */
+    public static String encode(OrderKeyset.SortField field, boolean ascending, Long id, Object value) {
+        String raw = field.name() + "|" + (ascending ? "asc" : "desc") + "|" + id + "|" + format(field, value);
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor issued for the same sort/direction. A null/blank cursor means the first page.
+     *
+     * @throws IllegalArgumentException malformed cursor, or one issued for a different sort/direction
+     */
+    public static OrderKeyset decode(String cursor, OrderKeyset.SortField field, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return OrderKeyset.first(field, ascending);
+        }
+        String[] parts;
+        try {
+            parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid_cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("invalid_cursor");
+        }
+        if (!parts[0].equals(field.name()) || !parts[1].equals(ascending ? "asc" : "desc")) {
+            throw new IllegalArgumentException("cursor_sort_mismatch");
+        }
+        try {
+            return new OrderKeyset(field, ascending, parse(field, parts[3]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid_cursor");
+        }
+    }
+
+    private static String format(OrderKeyset.SortField field, Object value) {
+        return switch (field) {
+            case CREATED_AT -> ((OffsetDateTime) value).toString();
+            case ORDER_NO, PRODUCT_NAME -> (String) value;
+            case FULFILLMENT_STATUS -> ((FulfillmentStatus) value).name();
+        };
+    }
+
+    private static Object parse(OrderKeyset.SortField field, String value) {
+        return switch (field) {
+            case CREATED_AT -> OffsetDateTime.parse(value);
+            case ORDER_NO, PRODUCT_NAME -> value;
+            case FULFILLMENT_STATUS -> FulfillmentStatus.valueOf(value);
+        };
+    }
+}
@@ -1,23 +1,22 @@
 package com.hauly.intake.order.application.query;
 
 import com.hauly.intake.order.domain.model.FulfillmentStatus;
-import com.hauly.intake.order.domain.model.Order;
-import com.hauly.intake.order.domain.model.OrderItem;
+import com.hauly.intake.order.domain.model.OrderListEntry;
 import com.hauly.intake.order.domain.model.OrderType;
 import com.hauly.intake.order.domain.model.PaymentStatus;
 import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.ImageDerivative;
 
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
  * Read model for the order list page.
  * totalsByCurrency: per-currency sum of unit_price_amount × quantity, keyed by ISO code.
  * Items without a currency are excluded; an order with no priced items returns an empty map.
+ * Built straight from the denormalized {@link OrderListEntry} row — no order, item or customer loads.
  */
 public record OrderListItemView(
         Long id,
@@ -32,6 +31,8 @@ public record OrderListItemView(
         String firstProductName,
         // 첫 번째 상품의 첫 번째 이미지 (presigned). 없으면 null.
         String firstImageUrl,
+        // 같은 이미지의 320px 썸네일. 목록은 이걸 그리고, 아직 없으면(404) firstImageUrl 로 대체.
+        String firstImageThumbnailUrl,
         String koreanCourier,
         String koreanTrackingNo,
         String shippingAddressLabel,
@@ -46,44 +47,33 @@ public record OrderListItemView(
     /** TTL for presigned URLs in the list — short list paint window. */
     private static final Duration IMAGE_URL_TTL = Duration.ofMinutes(15);
 
-    public static OrderListItemView from(Order order, String customerName, BlobStorage storage) {
-        Map<String, BigDecimal> totals = new LinkedHashMap<>();
-        for (OrderItem item : order.getItems()) {
-            BigDecimal amount = item.getUnitPriceAmount();
-            String currency = item.getUnitPriceCurrency();
-            if (amount == null || currency == null) continue;
-            BigDecimal line = amount.multiply(BigDecimal.valueOf(item.getQuantity()));
-            totals.merge(currency, line, BigDecimal::add);
-        }
-        String firstName = null;
-        String firstImageUrl = null;
-        if (!order.getItems().isEmpty()) {
-            OrderItem first = order.getItems().get(0);
-            firstName = first.getProductName();
-            List<String> keys = first.getRequestImageKeys();
-            if (keys != null && !keys.isEmpty()) {
-                firstImageUrl = storage.presignedGetUrl(keys.get(0), IMAGE_URL_TTL);
-            }
-        }
+    public static OrderListItemView from(OrderListEntry entry, BlobStorage storage) {
+        String imageKey = entry.getFirstImageKey();
+        String firstImageUrl = imageKey == null ? null : storage.presignedGetUrl(imageKey, IMAGE_URL_TTL);
+        String thumbnailUrl = imageKey == null
+                ? null
+                : storage.presignedGetUrl(ImageDerivative.THUMBNAIL.keyFor(imageKey), IMAGE_URL_TTL);
         return new OrderListItemView(
-                order.getId(),
-                order.getOrderNo(),
-                order.getCustomerId(),
-                customerName,
-                order.getOrderType(),
-                order.getFulfillmentStatus(),
-                order.getPaymentStatus(),
-                order.getItems().size(),
-                firstName,
+                entry.getOrderId(),
+                entry.getOrderNo(),
+                entry.getCustomerId(),
+                entry.getCustomerName(),
+                entry.getOrderType(),
+                entry.getFulfillmentStatus(),
+                entry.getPaymentStatus(),
+                entry.getItemCount(),
+                // '' 은 상품 없는 주문 (정렬/커서용 NOT NULL) — 응답은 예전처럼 null
+                entry.getFirstProductName().isEmpty() ? null : entry.getFirstProductName(),
                 firstImageUrl,
-                order.getKoreanCourier(),
-                order.getKoreanTrackingNo(),
-                order.getShippingAddressLabel(),
-                order.getPaidAmountKrw(),
-                totals,
-                order.getNetProfitKrw(),
-                order.getNetProfitThb(),
-                order.getCreatedAt()
+                thumbnailUrl,
+                entry.getKoreanCourier(),
+                entry.getKoreanTrackingNo(),
+                entry.getShippingAddressLabel(),
+                entry.getPaidAmountKrw(),
+                entry.getTotalsByCurrency(),
+                entry.getNetProfitKrw(),
+                entry.getNetProfitThb(),
+                entry.getCreatedAt()
         );
     }
 }
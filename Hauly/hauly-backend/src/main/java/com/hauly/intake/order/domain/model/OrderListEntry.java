@@ -0,0 +1,109 @@
+package com.hauly.intake.order.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Denormalized order-list row (read model, V39). One per order, rebuilt from the Order aggregate,
+ * its items and the customer in the same transaction as every list-visible mutation.
+ * Read-only through JPA — rows are written by {@code OrderListViewRepository#refresh}.
+ */
+@Entity
+@Immutable
+@Table(name = "order_list_view")
+public class OrderListEntry {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "order_no", nullable = false, length = 20)
+    private String orderNo;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "customer_name", nullable = false, length = 64)
+    private String customerName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_type", nullable = false, length = 16)
+    private OrderType orderType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "fulfillment_status", nullable = false, length = 32)
+    private FulfillmentStatus fulfillmentStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false, length = 32)
+    private PaymentStatus paymentStatus;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    /** '' when the order has no items. */
+    @Column(name = "first_product_name", nullable = false, length = 255)
+    private String firstProductName;
+
+    @Column(name = "first_image_key", length = 255)
+    private String firstImageKey;
+
+    @Column(name = "korean_courier", length = 32)
+    private String koreanCourier;
+
+    @Column(name = "korean_tracking_no", length = 500)
+    private String koreanTrackingNo;
+
+    @Column(name = "shipping_address_label", length = 64)
+    private String shippingAddressLabel;
+
+    @Column(name = "paid_amount_krw", precision = 15, scale = 2)
+    private BigDecimal paidAmountKrw;
+
+    // 통화별 SUM(unit_price_amount × quantity). 가격 없는 주문은 빈 맵.
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "totals_by_currency", columnDefinition = "jsonb", nullable = false)
+    private Map<String, BigDecimal> totalsByCurrency;
+
+    @Column(name = "net_profit_krw", precision = 15, scale = 2)
+    private BigDecimal netProfitKrw;
+
+    @Column(name = "net_profit_thb", precision = 15, scale = 2)
+    private BigDecimal netProfitThb;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    /** JPA only. */
+    protected OrderListEntry() {}
+
+    public Long getOrderId() { return orderId; }
+    public String getOrderNo() { return orderNo; }
+    public Long getCustomerId() { return customerId; }
+    public String getCustomerName() { return customerName; }
+    public OrderType getOrderType() { return orderType; }
+    public FulfillmentStatus getFulfillmentStatus() { return fulfillmentStatus; }
+    public PaymentStatus getPaymentStatus() { return paymentStatus; }
+    public int getItemCount() { return itemCount; }
+    public String getFirstProductName() { return firstProductName; }
+    public String getFirstImageKey() { return firstImageKey; }
+    public String getKoreanCourier() { return koreanCourier; }
+    public String getKoreanTrackingNo() { return koreanTrackingNo; }
+    public String getShippingAddressLabel() { return shippingAddressLabel; }
+    public BigDecimal getPaidAmountKrw() { return paidAmountKrw; }
+    public Map<String, BigDecimal> getTotalsByCurrency() { return totalsByCurrency; }
+    public BigDecimal getNetProfitKrw() { return netProfitKrw; }
+    public BigDecimal getNetProfitThb() { return netProfitThb; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
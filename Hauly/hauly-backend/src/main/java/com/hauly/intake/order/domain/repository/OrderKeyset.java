@@ -0,0 +1,25 @@
+package com.hauly.intake.order.domain.repository;
+
+/**
+ * Keyset (seek) position for the order list — rows strictly after {@code (afterValue, afterId)}
+ * in {@code (field, id)} order. Both are null for the first page.
+ * afterValue type per field: CREATED_AT → OffsetDateTime, ORDER_NO → String,
+ * FULFILLMENT_STATUS → FulfillmentStatus, PRODUCT_NAME → String.
+ */
+public record OrderKeyset(SortField field, boolean ascending, Object afterValue, Long afterId) {
+
+    public enum SortField {
+        CREATED_AT,
+        ORDER_NO,
+        FULFILLMENT_STATUS,
+        PRODUCT_NAME
+    }
+
+    public static OrderKeyset first(SortField field, boolean ascending) {
+        return new OrderKeyset(field, ascending, null, null);
+    }
+
+    public boolean isFirstPage() {
+        return afterId == null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hauly.intake.order.domain.repository;
+
+import com.hauly.intake.order.domain.model.FulfillmentStatus;
+import com.hauly.intake.order.domain.model.Order;
+import com.hauly.intake.order.domain.model.OrderListEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Order-list read model — domain interface. Writes keep {@code order_list_view} in step with the
+ * Order aggregate; reads serve list, search and sort from that one table.
+ */
+public interface OrderListViewRepository {
+
+    /**
+     * Re-project one order into the list view (insert or replace). Call after every list-visible
+     * mutation, inside the same transaction. Net profit comes from the aggregate, the rest from SQL.
+     */
+    void refresh(Order order);
+
+    /** Propagate a customer rename to every list row of that customer. */
+    void renameCustomer(Long customerId, String name);
+
+    /**
+     * Filtered page. Sort: createdAt / orderNo / fulfillmentStatus / productName (first item).
+     * An unsorted pageable with a search term ranks by match similarity; without one, newest first.
+     */
+    Page<OrderListEntry> findAll(FulfillmentStatus status, String q, Pageable pageable);
+
+    /** Keyset page — up to {@code limit} rows strictly after the keyset position in (field, id) order. */
+    List<OrderListEntry> findPageAfter(FulfillmentStatus status, String q, OrderKeyset keyset, int limit);
+
+    /** Planner row estimate for the same filter (EXPLAIN, no COUNT scan). Approximate by design. */
+    long estimateCount(FulfillmentStatus status, String q);
+}
@@ -3,8 +3,6 @@ package com.hauly.intake.order.domain.repository;
 import com.hauly.intake.order.domain.model.FulfillmentStatus;
 import com.hauly.intake.order.domain.model.Order;
 import com.hauly.intake.order.domain.model.OrderStatusLog;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.util.Collection;
@@ -21,10 +19,6 @@ public interface OrderRepository {
 
     Optional<Order> findById(Long id);
 
-    Page<Order> findAllByFilter(FulfillmentStatus status, String q, Pageable pageable);
-
-    Page<Order> findAllByFilterSortByProductName(FulfillmentStatus status, String q, Pageable pageable);
-
     List<OrderStatusLog> findStatusLogsByOrderId(Long orderId);
 
     OrderStatusLog saveStatusLog(OrderStatusLog log);
@@ -0,0 +1,241 @@
+package com.hauly.intake.order.infrastructure.persistence;
+
+import com.hauly.intake.order.domain.model.FulfillmentStatus;
+import com.hauly.intake.order.domain.model.Order;
+import com.hauly.intake.order.domain.model.OrderListEntry;
+import com.hauly.intake.order.domain.repository.OrderKeyset;
+import com.hauly.intake.order.domain.repository.OrderListViewRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Native-SQL adapter for the {@code order_list_view} read model (V39).
+ * Writes re-run one projection query per order (items and customer aggregated in SQL);
+ * reads are single-table and index-backed — see the index list in V39.
+ */
+@Component
+public class OrderListViewRepositoryImpl implements OrderListViewRepository {
+
+    /** First line of the EXPLAIN plan: "... (cost=0.00..1.05 rows=42 width=8)". */
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    /**
+     * Rebuilds one row from "order" / order_item / customer. Same projection as the V39 backfill,
+     * except net profit, which is bound from {@link Order#getNetProfitKrw()} so the formula has one home.
+     */
+    private static final String REFRESH = """
+            INSERT INTO order_list_view (
+                order_id, order_no, customer_id, customer_name, order_type, fulfillment_status, payment_status,
+                item_count, first_product_name, first_image_key, korean_courier, korean_tracking_no,
+                shipping_address_label, paid_amount_krw, totals_by_currency, net_profit_krw, net_profit_thb,
+                search_text, created_at, refreshed_at)
+            SELECT o.id, o.order_no, o.customer_id, COALESCE(c.name, ''), o.order_type, o.fulfillment_status,
+                   o.payment_status, s.item_count, COALESCE(f.product_name, ''), f.request_image_keys ->> 0,
+                   o.korean_courier, o.korean_tracking_no, o.shipping_address_label, o.paid_amount_krw,
+                   COALESCE(t.totals, CAST('{}' AS jsonb)),
+                   CAST(:netProfitKrw AS NUMERIC), CAST(:netProfitThb AS NUMERIC),
+                   LOWER(CONCAT_WS(E'\\n', o.order_no, s.product_names)), o.created_at, now()
+            FROM "order" o
+            LEFT JOIN customer c ON c.id = o.customer_id
+            CROSS JOIN LATERAL (SELECT COUNT(*) AS item_count,
+                                       string_agg(i.product_name, E'\\n' ORDER BY i.id) AS product_names
+                                FROM order_item i WHERE i.order_id = o.id) s
+            LEFT JOIN LATERAL (SELECT i.product_name, i.request_image_keys
+                               FROM order_item i WHERE i.order_id = o.id
+                               ORDER BY i.id LIMIT 1) f ON TRUE
+            LEFT JOIN LATERAL (SELECT jsonb_object_agg(x.currency, x.total) AS totals
+                               FROM (SELECT i.unit_price_currency AS currency,
+                                            SUM(i.unit_price_amount * i.quantity) AS total
+                                     FROM order_item i
+                                     WHERE i.order_id = o.id
+                                       AND i.unit_price_currency IS NOT NULL
+                                       AND i.unit_price_amount IS NOT NULL
+                                     GROUP BY i.unit_price_currency) x) t ON TRUE
+            WHERE o.id = :orderId
+            ON CONFLICT (order_id) DO UPDATE SET
+                order_no = EXCLUDED.order_no,
+                customer_id = EXCLUDED.customer_id,
+                customer_name = EXCLUDED.customer_name,
+                order_type = EXCLUDED.order_type,
+                fulfillment_status = EXCLUDED.fulfillment_status,
+                payment_status = EXCLUDED.payment_status,
+                item_count = EXCLUDED.item_count,
+                first_product_name = EXCLUDED.first_product_name,
+                first_image_key = EXCLUDED.first_image_key,
+                korean_courier = EXCLUDED.korean_courier,
+                korean_tracking_no = EXCLUDED.korean_tracking_no,
+                shipping_address_label = EXCLUDED.shipping_address_label,
+                paid_amount_krw = EXCLUDED.paid_amount_krw,
+                totals_by_currency = EXCLUDED.totals_by_currency,
+                net_profit_krw = EXCLUDED.net_profit_krw,
+                net_profit_thb = EXCLUDED.net_profit_thb,
+                search_text = EXCLUDED.search_text,
+                refreshed_at = EXCLUDED.refreshed_at
+            """;
+
+    private final EntityManager entityManager;
+
+    public OrderListViewRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void refresh(Order order) {
+        // The projection reads the base tables — push pending order/item changes first.
+        entityManager.flush();
+        entityManager.createNativeQuery(REFRESH)
+                .setParameter("orderId", order.getId())
+                .setParameter("netProfitKrw", decimal(order.getNetProfitKrw()))
+                .setParameter("netProfitThb", decimal(order.getNetProfitThb()))
+                .executeUpdate();
+    }
+
+    @Override
+    public void renameCustomer(Long customerId, String name) {
+        entityManager.createNativeQuery("""
+                        UPDATE order_list_view SET customer_name = :name, refreshed_at = now()
+                        WHERE customer_id = :customerId AND customer_name <> :name
+                        """)
+                .setParameter("customerId", customerId)
+                .setParameter("name", name)
+                .executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<OrderListEntry> findAll(FulfillmentStatus status, String q, Pageable pageable) {
+        StringBuilder where = new StringBuilder();
+        appendFilter(where, status, q);
+
+        StringBuilder sql = new StringBuilder("SELECT v.* FROM order_list_view v").append(where).append(" ORDER BY ");
+        if (pageable.getSort().isUnsorted()) {
+            if (hasQuery(q)) {
+                // 필드 중 가장 가까운 쪽 기준, 동점이면 최신 주문 먼저
+                sql.append("GREATEST(word_similarity(LOWER(:q), v.search_text),")
+                        .append(" word_similarity(LOWER(:q), LOWER(v.customer_name))) DESC, ");
+            }
+            sql.append("v.created_at DESC, v.order_id DESC");
+        } else {
+            Sort.Order order = pageable.getSort().iterator().next();
+            String direction = order.isAscending() ? "ASC" : "DESC";
+            sql.append("v.").append(sortColumn(order.getProperty())).append(' ').append(direction)
+                    .append(", v.order_id ").append(direction);
+        }
+        sql.append(" LIMIT :limit OFFSET :offset");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), OrderListEntry.class);
+        bindFilter(query, status, q);
+        query.setParameter("limit", pageable.getPageSize());
+        query.setParameter("offset", pageable.getOffset());
+        List<OrderListEntry> content = query.getResultList();
+
+        Query count = entityManager.createNativeQuery("SELECT COUNT(*) FROM order_list_view v" + where);
+        bindFilter(count, status, q);
+        long total = ((Number) count.getSingleResult()).longValue();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * The seek predicate is a row-value comparison — {@code (col, id) < (:v, :id)} — so Postgres
+     * starts from the (col, order_id) index and stops after {@code limit} rows, however deep the page.
+     * Only whitelisted column names reach the SQL.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<OrderListEntry> findPageAfter(FulfillmentStatus status, String q, OrderKeyset keyset, int limit) {
+        String column = sortColumn(keyset.field());
+        String direction = keyset.ascending() ? "ASC" : "DESC";
+        StringBuilder sql = new StringBuilder("SELECT v.* FROM order_list_view v");
+        appendFilter(sql, status, q);
+        if (!keyset.isFirstPage()) {
+            sql.append(" AND (v.").append(column).append(", v.order_id) ")
+                    .append(keyset.ascending() ? '>' : '<').append(" (:afterValue, :afterId)");
+        }
+        sql.append(" ORDER BY v.").append(column).append(' ').append(direction)
+                .append(", v.order_id ").append(direction)
+                .append(" LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), OrderListEntry.class);
+        bindFilter(query, status, q);
+        if (!keyset.isFirstPage()) {
+            // fulfillment_status is a VARCHAR column — bind the name, not the enum
+            Object afterValue = keyset.afterValue() instanceof FulfillmentStatus s ? s.name() : keyset.afterValue();
+            query.setParameter("afterValue", afterValue);
+            query.setParameter("afterId", keyset.afterId());
+        }
+        query.setParameter("limit", limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public long estimateCount(FulfillmentStatus status, String q) {
+        StringBuilder sql = new StringBuilder("EXPLAIN SELECT 1 FROM order_list_view v");
+        appendFilter(sql, status, q);
+        Query query = entityManager.createNativeQuery(sql.toString());
+        bindFilter(query, status, q);
+        List<?> plan = query.getResultList();
+        if (plan.isEmpty()) return 0L;
+        Matcher m = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+        return m.find() ? Long.parseLong(m.group(1)) : 0L;
+    }
+
+    /**
+     * Status equality plus substring search over order no / product names (search_text) and
+     * customer name. Both LIKEs hit trigram GIN indexes on the same table. Always emits WHERE.
+     */
+    private static void appendFilter(StringBuilder sql, FulfillmentStatus status, String q) {
+        sql.append(" WHERE TRUE");
+        if (status != null) {
+            sql.append(" AND v.fulfillment_status = :status");
+        }
+        if (hasQuery(q)) {
+            sql.append(" AND (v.search_text LIKE '%' || LOWER(:q) || '%'")
+                    .append(" OR LOWER(v.customer_name) LIKE '%' || LOWER(:q) || '%')");
+        }
+    }
+
+    private static void bindFilter(Query query, FulfillmentStatus status, String q) {
+        if (status != null) query.setParameter("status", status.name());
+        if (hasQuery(q)) query.setParameter("q", q);
+    }
+
+    private static boolean hasQuery(String q) {
+        return q != null && !q.isEmpty();
+    }
+
+    /** Typed so a null binds as NUMERIC rather than an untyped parameter. */
+    private static TypedParameterValue<BigDecimal> decimal(BigDecimal value) {
+        return new TypedParameterValue<>(StandardBasicTypes.BIG_DECIMAL, value);
+    }
+
+    /** Pageable property → column, same whitelist as the service. */
+    private static String sortColumn(String property) {
+        return switch (property) {
+            case "orderNo" -> "order_no";
+            case "fulfillmentStatus" -> "fulfillment_status";
+            case "productName" -> "first_product_name";
+            default -> "created_at";
+        };
+    }
+
+    private static String sortColumn(OrderKeyset.SortField field) {
+        return switch (field) {
+            case CREATED_AT -> "created_at";
+            case ORDER_NO -> "order_no";
+            case FULFILLMENT_STATUS -> "fulfillment_status";
+            case PRODUCT_NAME -> "first_product_name";
+        };
+    }
+}
@@ -4,8 +4,6 @@ import com.hauly.intake.order.domain.model.FulfillmentStatus;
 import com.hauly.intake.order.domain.model.Order;
 import com.hauly.intake.order.domain.model.OrderStatusLog;
 import com.hauly.intake.order.domain.repository.OrderRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -42,16 +40,6 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orders.findById(id);
     }
 
-    @Override
-    public Page<Order> findAllByFilter(FulfillmentStatus status, String q, Pageable pageable) {
-        return orders.findAllByFilter(status, q, pageable);
-    }
-
-    @Override
-    public Page<Order> findAllByFilterSortByProductName(FulfillmentStatus status, String q, Pageable pageable) {
-        return orders.findAllByFilterSortByProductName(status, q, pageable);
-    }
-
     @Override
     public List<OrderStatusLog> findStatusLogsByOrderId(Long orderId) {
         return logs.findByOrderIdOrderByCreatedAtAsc(orderId);
@@ -0,0 +1,8 @@
+package com.hauly.intake.order.presentation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/** POST /api/intake/uploads/temp/complete — 직접 업로드를 끝낸 temp 키. */
+public record CompleteTempUploadRequest(
+        @NotBlank String tempKey
+) {}
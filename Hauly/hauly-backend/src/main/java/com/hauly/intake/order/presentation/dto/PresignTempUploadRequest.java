@@ -0,0 +1,16 @@
+package com.hauly.intake.order.presentation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * POST /api/intake/uploads/temp/presign — 업로드할 파일의 타입/크기를 먼저 알려준다.
+ * 발급된 PUT URL 은 이 값과 정확히 같은 Content-Type / Content-Length 로만 쓸 수 있다.
+ * sha256 (hex) 은 선택 — 내용 주소 저장소가 켜져 있을 때만 쓰인다.
+ */
+public record PresignTempUploadRequest(
+        @NotBlank String contentType,
+        @Positive long size,
+        String fileName,
+        String sha256
+) {}
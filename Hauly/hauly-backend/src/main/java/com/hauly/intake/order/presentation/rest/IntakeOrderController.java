@@ -6,6 +6,7 @@ import com.hauly.intake.order.application.command.ChangePaymentStatusCommand;
 import com.hauly.intake.order.application.command.CreateOrderCommand;
 import com.hauly.intake.order.application.command.ForceFulfillmentStatusCommand;
 import com.hauly.intake.order.application.command.ForcePaymentStatusCommand;
+import com.hauly.intake.order.application.query.OrderCursorPage;
 import com.hauly.intake.order.application.query.OrderDetailView;
 import com.hauly.intake.order.domain.model.OrderType;
 import com.hauly.intake.order.application.query.OrderListItemView;
@@ -66,6 +67,12 @@ public class IntakeOrderController {
                 ? OrderType.INDIVIDUAL
                 : OrderType.valueOf(request.orderType());
 
+        // 이미지 존재 확인은 트랜잭션 밖에서 병렬로 — 주문 트랜잭션은 스토리지를 기다리지 않는다.
+        intakeOrderService.checkUploads(items.stream()
+                .filter(i -> i.tempImageKeys() != null)
+                .flatMap(i -> i.tempImageKeys().stream())
+                .toList(), userId);
+
         OrderDetailView detail = intakeOrderService.createOrder(new CreateOrderCommand(
                 request.customerName(),
                 request.customerLineId(),
@@ -97,6 +104,22 @@ public class IntakeOrderController {
         return ResponseEntity.ok(intakeOrderService.listOrders(status, q, sort, dir, page, size));
     }
 
+    /**
+     * Keyset-paginated list. Pass the previous response's {@code nextCursor} back as {@code cursor};
+     * a null {@code nextCursor} means the last page. {@code withTotal=true} adds an approximate count.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<OrderCursorPage> scroll(
+            @RequestParam(required = false) FulfillmentStatus status,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(defaultValue = "desc") String dir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(intakeOrderService.scrollOrders(status, q, sort, dir, cursor, size, withTotal));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<OrderDetailView> get(@PathVariable Long id) {
         return ResponseEntity.ok(intakeOrderService.getOrder(id));
@@ -108,6 +131,9 @@ public class IntakeOrderController {
             @PathVariable Long id,
             @Valid @RequestBody ChangeFulfillmentStatusRequest request,
             @AuthenticationPrincipal Long userId) {
+        if (request.target() == FulfillmentStatus.PURCHASED) {
+            intakeOrderService.checkUploads(request.proofTempKeys(), userId);
+        }
         return ResponseEntity.ok(intakeOrderService.changeFulfillmentStatus(
                 new ChangeFulfillmentStatusCommand(
                         id, request.target(), request.note(),
@@ -175,6 +201,7 @@ public class IntakeOrderController {
             @PathVariable Long id,
             @Valid @RequestBody AddPurchaseProofsRequest request,
             @AuthenticationPrincipal Long userId) {
+        intakeOrderService.checkUploads(request.proofTempKeys(), userId);
         return ResponseEntity.ok(intakeOrderService.addPurchaseProofs(
                 id, request.proofTempKeys(), userId));
     }
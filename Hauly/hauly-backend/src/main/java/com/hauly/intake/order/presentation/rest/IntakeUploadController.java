@@ -1,35 +1,49 @@
 package com.hauly.intake.order.presentation.rest;
 
+import com.hauly.intake.order.presentation.dto.CompleteTempUploadRequest;
+import com.hauly.intake.order.presentation.dto.PresignTempUploadRequest;
+import com.hauly.platform.storage.application.ContentAddressedStorageService;
+import com.hauly.platform.storage.domain.BlobMetadata;
 import com.hauly.platform.storage.domain.BlobStorage;
-import org.springframework.http.MediaType;
+import com.hauly.platform.storage.domain.PresignedUpload;
+import com.hauly.platform.storage.domain.model.CasBlob;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 /**
  * Temporary upload endpoint used by the order-create flow.
  *
- * Flow:
- * 1. Client uploads each image as the user picks it → POST /api/intake/uploads/temp
- * 2. Server stores under {@code temp/{userId}/{uuid}.{ext}} and returns {tempKey, url}
- * 3. Client collects the tempKeys per item; on order create they go in the request body
- * 4. {@link com.hauly.intake.order.application.IntakeOrderService#createOrder} copies each
- *    temp key under {@code orders/{orderId}/items/{itemId}/{uuid}.{ext}} and deletes the temp.
- * 5. Orphan temp files are cleaned by a scheduled cron after 24h.
+ * Flow (image bytes never pass through this server):
+ * 1. Client asks for an upload slot as the user picks each image → POST /api/intake/uploads/temp/presign
+ *    with {contentType, size, sha256}. Server picks {@code temp/{userId}/{uuid}.{ext}} — or
+ *    {@code cas/{sha256}} when content addressing is on — and returns {tempKey, uploadUrl,
+ *    uploadHeaders}; the URL only accepts that exact Content-Type and size (and digest, for cas/).
+ * 2. Client PUTs the file body straight to uploadUrl with uploadHeaders (S3, or the local serving
+ *    controller in dev).
+ * 3. Client confirms → POST /api/intake/uploads/temp/complete {tempKey}. Server HEADs the object,
+ *    re-checks type and size, and returns {tempKey, url}.
+ * 4. Client collects the tempKeys per item; on order create they go in the request body
+ * 5. {@link com.hauly.intake.order.application.IntakeOrderService#createOrder} assigns
+ *    {@code orders/{orderId}/items/{itemId}/{uuid}.{ext}} and moves the object after commit;
+ *    a {@code cas/} key is referenced as-is (ref count +1, nothing moves).
+ * 6. Orphan temp files are deleted by {@link com.hauly.platform.storage.application.TempUploadSweeper}
+ *    once they are older than 24h (hauly.storage.temp-sweep.max-age).
  */
 @RestController
 @RequestMapping("/api/intake/uploads")
@@ -39,33 +53,102 @@ public class IntakeUploadController {
     private static final Set<String> ALLOWED_TYPES = Set.of(
             "image/jpeg", "image/jpg", "image/png", "image/webp", "image/heic", "image/heif");
     private static final Duration TEMP_URL_TTL = Duration.ofMinutes(30);
+    private static final Duration UPLOAD_URL_TTL = Duration.ofMinutes(10);
+    // client compresses >5MB; allow some slack for HEIC etc. (was the multipart limit)
+    private static final long MAX_UPLOAD_BYTES = 8L * 1024 * 1024;
 
     private final BlobStorage storage;
+    private final ContentAddressedStorageService contentStore;
 
-    public IntakeUploadController(BlobStorage storage) {
+    public IntakeUploadController(BlobStorage storage, ContentAddressedStorageService contentStore) {
         this.storage = storage;
+        this.contentStore = contentStore;
     }
 
-    @PostMapping(value = "/temp", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<Map<String, String>> uploadTemp(
-            @RequestParam("file") MultipartFile file,
-            @AuthenticationPrincipal Long userId) throws IOException {
+    /**
+     * With content addressing enabled and a {@code sha256} in the request, the key is
+     * {@code cas/{sha256}}; if that content is already stored the response has
+     * {@code alreadyStored=true} and a {@code url} instead of an upload slot (skip steps 2–3).
+     */
+    @PostMapping("/temp/presign")
+    public ResponseEntity<Map<String, Object>> presignTemp(
+            @Valid @RequestBody PresignTempUploadRequest request,
+            @AuthenticationPrincipal Long userId) {
 
-        String contentType = file.getContentType();
-        if (contentType == null || !ALLOWED_TYPES.contains(contentType.toLowerCase(Locale.ROOT))) {
+        String contentType = request.contentType().toLowerCase(Locale.ROOT);
+        if (!ALLOWED_TYPES.contains(contentType)) {
             return ResponseEntity.badRequest().body(Map.of(
                     "error", "unsupported_type",
-                    "contentType", contentType == null ? "" : contentType));
+                    "contentType", request.contentType()));
         }
-        if (file.isEmpty()) {
-            return ResponseEntity.badRequest().body(Map.of("error", "empty_file"));
+        if (request.size() > MAX_UPLOAD_BYTES) {
+            return ResponseEntity.badRequest().body(Map.of("error", "file_too_large"));
         }
 
-        String ext = extensionFor(contentType, file.getOriginalFilename());
+        if (contentStore.isEnabled() && request.sha256() != null) {
+            String sha256 = request.sha256().toLowerCase(Locale.ROOT);
+            if (!CasBlob.isValidHash(sha256)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "invalid_sha256"));
+            }
+            String key = CasBlob.keyOf(sha256);
+            Optional<PresignedUpload> slot = contentStore.prepareUpload(sha256, contentType, request.size(), UPLOAD_URL_TTL);
+            if (slot.isEmpty()) {
+                return ResponseEntity.ok(Map.of(
+                        "tempKey", key,
+                        "alreadyStored", true,
+                        "url", storage.presignedGetUrl(key, TEMP_URL_TTL)));
+            }
+            return ResponseEntity.ok(slotResponse(key, slot.get(), contentType));
+        }
+
+        String ext = extensionFor(contentType, request.fileName());
         String tempKey = "temp/" + userId + "/" + UUID.randomUUID() + "." + ext;
+        PresignedUpload slot = storage.presignedPut(tempKey, contentType, request.size(), null, UPLOAD_URL_TTL);
+        return ResponseEntity.ok(slotResponse(tempKey, slot, contentType));
+    }
+
+    /**
+     * Confirm a direct upload. The signed URL already pinned type and size; the HEAD here makes
+     * sure the object actually landed and guards against a store that did not enforce them.
+     * A rejected object is deleted (a {@code cas/} object only if nothing registered it yet);
+     * an accepted {@code cas/} object is registered for reference counting.
+     */
+    @PostMapping("/temp/complete")
+    public ResponseEntity<Map<String, String>> completeTemp(
+            @Valid @RequestBody CompleteTempUploadRequest request,
+            @AuthenticationPrincipal Long userId) {
 
-        try (var in = file.getInputStream()) {
-            storage.put(tempKey, in, file.getSize(), contentType);
+        String tempKey = request.tempKey();
+        boolean contentAddressed = CasBlob.isContentKey(tempKey);
+        // cas 키는 내용 해시라 소유자가 없다 — 같은 내용이면 누가 올렸든 같은 객체.
+        if (!contentAddressed && !tempKey.startsWith("temp/" + userId + "/")) {
+            return ResponseEntity.status(403).build();
+        }
+        Optional<BlobMetadata> head = storage.head(tempKey);
+        if (head.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "upload_not_found"));
+        }
+        BlobMetadata meta = head.get();
+        String error = null;
+        if (meta.contentLength() == 0) {
+            error = "empty_file";
+        } else if (meta.contentLength() > MAX_UPLOAD_BYTES) {
+            error = "file_too_large";
+        } else if (meta.contentType() != null
+                && !ALLOWED_TYPES.contains(meta.contentType().toLowerCase(Locale.ROOT))) {
+            // 로컬 구현은 타입을 추정하므로 모를 수 있음 → 그때는 presign 단계 검증을 믿는다.
+            error = "unsupported_type";
+        }
+        if (error != null) {
+            if (contentAddressed) {
+                contentStore.discardUnregistered(tempKey);
+            } else {
+                storage.delete(tempKey);
+            }
+            return ResponseEntity.badRequest().body(Map.of("error", error));
+        }
+        if (contentAddressed) {
+            contentStore.confirmUpload(tempKey, meta);
         }
 
         String url = storage.presignedGetUrl(tempKey, TEMP_URL_TTL);
@@ -97,6 +180,15 @@ public class IntakeUploadController {
         return ResponseEntity.noContent().build();
     }
 
+    private static Map<String, Object> slotResponse(String key, PresignedUpload slot, String contentType) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("tempKey", key);
+        body.put("uploadUrl", slot.url());
+        body.put("uploadHeaders", slot.headers());
+        body.put("contentType", contentType);
+        return body;
+    }
+
     private static String extensionFor(String contentType, String originalName) {
         if (originalName != null) {
             int dot = originalName.lastIndexOf('.');
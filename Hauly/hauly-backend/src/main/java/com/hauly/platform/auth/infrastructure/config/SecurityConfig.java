@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -67,6 +68,8 @@ public class SecurityConfig {
                     "/actuator/health",
                     "/error"
                 ).permitAll()
+                // 로컬 프로필 직접 업로드 — 서명된 쿼리스트링이 인증 수단 (S3 presigned PUT 과 동일)
+                .requestMatchers(HttpMethod.PUT, "/api/intake/uploads/serve/**").permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(
@@ -0,0 +1,223 @@
+package com.hauly.platform.storage.application;
+
+import com.hauly.platform.storage.domain.BlobMove;
+import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.event.BlobPromoted;
+import com.hauly.platform.storage.domain.event.BlobPromotionsScheduled;
+import com.hauly.platform.storage.domain.model.BlobPromotion;
+import com.hauly.platform.storage.domain.model.CasBlob;
+import com.hauly.platform.storage.domain.repository.BlobPromotionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves uploaded objects from their temp key to the permanent key outside the business transaction.
+ *
+ * <p>Callers record the permanent keys on their aggregate and call {@link #schedule} in the same
+ * transaction; that writes one {@code blob_promotion} row per move. After commit every move runs
+ * in parallel on a virtual-thread executor (at most {@code max-concurrency} storage calls in flight),
+ * so request latency no longer grows with the number of images and no DB connection is held across
+ * storage round-trips. A moved row is deleted; a failed one is retried by {@link #sweep} with
+ * exponential backoff until {@link #MAX_ATTEMPTS}, then left as FAILED for manual follow-up.
+ * Each completed move publishes {@link BlobPromoted} (image derivatives hang off it).
+ *
+ * <p>Until its move completes, a permanent key returns 404 — clients see the image a moment later.
+ */
+@Service
+public class BlobPromotionService {
+
+    private static final Logger log = LoggerFactory.getLogger(BlobPromotionService.class);
+
+    /** Sweep rounds (each with {@link #QUICK_TRIES} tries) before a row is marked FAILED. */
+    static final int MAX_ATTEMPTS = 10;
+    private static final int QUICK_TRIES = 3;
+    private static final Duration QUICK_BACKOFF = Duration.ofMillis(200);
+    private static final Duration SWEEP_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_SWEEP_BACKOFF = Duration.ofHours(1);
+    // 커밋 직후 시도가 진행 중인 행을 스윕이 먼저 집어가지 않도록 두는 유예.
+    private static final Duration AFTER_COMMIT_GRACE = Duration.ofMinutes(5);
+    private static final int SWEEP_BATCH = 100;
+
+    private final BlobPromotionRepository promotionRepository;
+    private final BlobStorage blobStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+
+    public BlobPromotionService(BlobPromotionRepository promotionRepository,
+                                BlobStorage blobStorage,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${hauly.storage.promotion.max-concurrency:16}") int maxConcurrency) {
+        this.promotionRepository = promotionRepository;
+        this.blobStorage = blobStorage;
+        this.eventPublisher = eventPublisher;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blob-promote-", 0).factory());
+        this.inFlight = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Fail fast on temp uploads that are already gone — call before opening the transaction that
+     * {@link #schedule}s their moves, so no DB connection waits on storage. The keys are checked in
+     * parallel on the promotion executor; a missing one raises {@link IllegalArgumentException}.
+     * Content-addressed keys are skipped — {@link ContentAddressedStorageService#retain} checks
+     * them against their DB row.
+     *
+     * <p>A key seen here stays safe until commit: {@link TempUploadSweeper} only removes uploads
+     * older than its max age (default 1 day) that have no {@code blob_promotion} row.
+     */
+    public void requireSources(Collection<String> uploadKeys) {
+        List<String> missing = uploadKeys.stream()
+                .filter(key -> !CasBlob.isContentKey(key))
+                .distinct()
+                .map(key -> CompletableFuture.supplyAsync(() -> existsBounded(key) ? null : key, executor))
+                .toList().stream() // 전부 제출한 뒤에 기다린다
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("temp image not found: " + missing.get(0));
+        }
+    }
+
+    /**
+     * Record the moves in the caller's transaction; they run once it commits. Makes no storage
+     * calls — sources are expected to have passed {@link #requireSources} beforehand.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(List<BlobMove> moves) {
+        if (moves.isEmpty()) return;
+        OffsetDateTime sweepAfter = OffsetDateTime.now().plus(AFTER_COMMIT_GRACE);
+        List<BlobPromotionsScheduled.Item> items = new ArrayList<>(moves.size());
+        for (BlobMove move : moves) {
+            BlobPromotion saved = promotionRepository.save(
+                    BlobPromotion.pending(move.sourceKey(), move.targetKey(), sweepAfter));
+            items.add(new BlobPromotionsScheduled.Item(saved.getId(), saved.getSourceKey(), saved.getTargetKey()));
+        }
+        eventPublisher.publishEvent(new BlobPromotionsScheduled(items));
+    }
+
+    /** Fire-and-forget: the committing request thread returns immediately. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduled(BlobPromotionsScheduled event) {
+        for (BlobPromotionsScheduled.Item item : event.items()) {
+            executor.execute(() -> promote(item));
+        }
+    }
+
+    /**
+     * Reconciliation: retries rows whose after-commit attempt failed or never ran (crash, restart).
+     * Waits for the batch so runs never overlap on one instance; the move itself is idempotent,
+     * so overlap across instances is harmless.
+     */
+    @Scheduled(fixedDelayString = "${hauly.storage.promotion.sweep-interval:PT1M}")
+    public void sweep() {
+        List<BlobPromotion> due = promotionRepository.findDue(OffsetDateTime.now(), SWEEP_BATCH);
+        if (due.isEmpty()) return;
+        log.info("Retrying {} pending blob promotion(s)", due.size());
+        CompletableFuture<?>[] runs = due.stream()
+                .map(p -> new BlobPromotionsScheduled.Item(p.getId(), p.getSourceKey(), p.getTargetKey()))
+                .map(item -> CompletableFuture.runAsync(() -> promote(item), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(runs).join();
+    }
+
+    private boolean existsBounded(String key) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking " + key, e);
+        }
+        try {
+            return blobStorage.exists(key);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 남은 작업은 행이 DB 에 있으니 다음 기동 후 스윕이 마저 처리한다.
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void promote(BlobPromotionsScheduled.Item item) {
+        RuntimeException last = null;
+        for (int attempt = 0; attempt < QUICK_TRIES; attempt++) {
+            try {
+                if (attempt > 0) Thread.sleep(QUICK_BACKOFF.multipliedBy(1L << (attempt - 1)));
+                inFlight.acquire();
+                try {
+                    move(item.sourceKey(), item.targetKey());
+                } finally {
+                    inFlight.release();
+                }
+                promotionRepository.deleteById(item.promotionId());
+                eventPublisher.publishEvent(new BlobPromoted(item.targetKey()));
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                last = e;
+            }
+        }
+        recordFailure(item, last);
+    }
+
+    /**
+     * Copy then delete, safe to repeat: if the source is already gone the move finished
+     * on an earlier run (copy done, row delete lost) as long as the target exists.
+     */
+    private void move(String sourceKey, String targetKey) {
+        if (blobStorage.exists(sourceKey)) {
+            blobStorage.copy(sourceKey, targetKey);
+            blobStorage.delete(sourceKey);
+        } else if (!blobStorage.exists(targetKey)) {
+            throw new IllegalStateException("Neither source nor target exists: " + sourceKey + " → " + targetKey);
+        }
+    }
+
+    private void recordFailure(BlobPromotionsScheduled.Item item, RuntimeException error) {
+        try {
+            promotionRepository.findById(item.promotionId()).ifPresent(p -> {
+                Duration backoff = SWEEP_BACKOFF.multipliedBy(1L << Math.min(p.getAttempts(), 6));
+                if (backoff.compareTo(MAX_SWEEP_BACKOFF) > 0) backoff = MAX_SWEEP_BACKOFF;
+                p.recordFailure(String.valueOf(error), OffsetDateTime.now().plus(backoff), MAX_ATTEMPTS);
+                promotionRepository.save(p);
+                if (p.getStatus() == BlobPromotion.Status.FAILED) {
+                    log.error("Blob promotion {} gave up after {} attempts: {} → {}",
+                            p.getId(), p.getAttempts(), p.getSourceKey(), p.getTargetKey(), error);
+                } else {
+                    log.warn("Blob promotion {} failed (attempt {}), retrying after {}: {}",
+                            p.getId(), p.getAttempts(), backoff, error.toString());
+                }
+            });
+        } catch (RuntimeException e) {
+            // 기록 실패해도 행은 PENDING 으로 남아 유예 후 스윕 대상이 된다.
+            log.warn("Could not record failure for blob promotion {}", item.promotionId(), e);
+        }
+    }
+}
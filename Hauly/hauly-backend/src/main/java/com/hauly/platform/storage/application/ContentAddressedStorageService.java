@@ -0,0 +1,171 @@
+package com.hauly.platform.storage.application;
+
+import com.hauly.platform.storage.domain.BlobMetadata;
+import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.ImageDerivative;
+import com.hauly.platform.storage.domain.PresignedUpload;
+import com.hauly.platform.storage.domain.event.ContentBlobStored;
+import com.hauly.platform.storage.domain.model.CasBlob;
+import com.hauly.platform.storage.domain.repository.CasBlobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Content-addressed upload layer ({@code hauly.storage.cas.enabled}, off by default).
+ *
+ * <p>The client sends the SHA-256 of the file when it asks for an upload slot. If those bytes are
+ * already stored, no upload happens at all; otherwise the slot targets {@code cas/{sha256}} with the
+ * digest pinned, so the store hashes the body while receiving it and rejects a mismatch. Orders
+ * then reference the {@code cas/} key directly — attaching an image is a ref-count increment
+ * ({@link #retain}), with no copy and no after-commit promotion.
+ *
+ * <p>{@link #collectGarbage} deletes blobs that have had no references for
+ * {@code hauly.storage.cas.gc-grace} (default 1 day — also covers uploads never attached to an order).
+ *
+ * <p>Metrics: {@code blob.cas.dedup-hits}, {@code blob.cas.collected}.
+ */
+@Service
+public class ContentAddressedStorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedStorageService.class);
+
+    private static final int GC_BATCH = 500;
+
+    private final CasBlobRepository casBlobRepository;
+    private final BlobStorage blobStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration gcGrace;
+    private final Counter dedupHits;
+    private final Counter collected;
+
+    public ContentAddressedStorageService(CasBlobRepository casBlobRepository,
+                                          BlobStorage blobStorage,
+                                          ApplicationEventPublisher eventPublisher,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${hauly.storage.cas.enabled:false}") boolean enabled,
+                                          @Value("${hauly.storage.cas.gc-grace:P1D}") Duration gcGrace) {
+        this.casBlobRepository = casBlobRepository;
+        this.blobStorage = blobStorage;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.gcGrace = gcGrace;
+        this.dedupHits = Counter.builder("blob.cas.dedup-hits")
+                .description("Uploads skipped because the same content was already stored")
+                .register(meterRegistry);
+        this.collected = Counter.builder("blob.cas.collected")
+                .description("Unreferenced content-addressed blobs deleted by GC")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Upload slot for content with digest {@code sha256}, or empty if it is already stored
+     * (the caller can use {@code cas/{sha256}} right away).
+     */
+    @Transactional
+    public Optional<PresignedUpload> prepareUpload(String sha256, String contentType, long size, Duration ttl) {
+        String key = CasBlob.keyOf(sha256);
+        Optional<CasBlob> existing = casBlobRepository.findById(sha256);
+        // 참조 0 인 행은 유예 시각을 갱신해야 GC 와 경합하지 않는다 — 갱신 실패(방금 수거됨)면 다시 올린다.
+        if (existing.isPresent()
+                && (existing.get().getRefCount() > 0 || casBlobRepository.touchUnreferenced(sha256) == 1)) {
+            dedupHits.increment();
+            return Optional.empty();
+        }
+        return Optional.of(blobStorage.presignedPut(key, contentType, size, sha256, ttl));
+    }
+
+    /** Register a finished direct upload to {@code key} (already verified by HEAD). */
+    @Transactional
+    public void confirmUpload(String key, BlobMetadata meta) {
+        String hash = CasBlob.hashOf(key);
+        String contentType = meta.contentType() == null ? "application/octet-stream" : meta.contentType();
+        if (casBlobRepository.insertIfAbsent(hash, contentType, meta.contentLength()) == 1) {
+            eventPublisher.publishEvent(new ContentBlobStored(key, contentType));
+        } else {
+            casBlobRepository.touchUnreferenced(hash);
+        }
+    }
+
+    /** Drop an object that failed verification — only if nothing registered it (it may be shared). */
+    @Transactional
+    public void discardUnregistered(String key) {
+        if (casBlobRepository.findById(CasBlob.hashOf(key)).isEmpty()) {
+            blobStorage.delete(key);
+        }
+    }
+
+    /** One reference per occurrence of each {@code cas/} key, in the caller's transaction. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void retain(Collection<String> keys) {
+        countByHash(keys).forEach((hash, count) -> {
+            if (casBlobRepository.retain(hash, count) == 0) {
+                throw new IllegalArgumentException("unknown content key: " + CasBlob.KEY_PREFIX + hash);
+            }
+        });
+    }
+
+    /** Undo {@link #retain} for the same keys (e.g. order deletion). */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Collection<String> keys) {
+        countByHash(keys).forEach((hash, count) -> {
+            if (casBlobRepository.release(hash, count) == 0) {
+                log.warn("Content blob {} had fewer than {} references to release", hash, count);
+            }
+        });
+    }
+
+    /**
+     * Deletes blobs unreferenced for longer than the grace period, batch by batch. The row goes
+     * first (conditionally, so a concurrent retain wins); then the object and its derivatives.
+     */
+    @Scheduled(fixedDelayString = "${hauly.storage.cas.gc-interval:PT1H}")
+    public void collectGarbage() {
+        OffsetDateTime before = OffsetDateTime.now().minus(gcGrace);
+        List<String> batch;
+        do {
+            batch = casBlobRepository.findCollectable(before, GC_BATCH);
+            for (String hash : batch) {
+                if (casBlobRepository.deleteIfCollectable(hash, before) == 0) continue;
+                String key = CasBlob.keyOf(hash);
+                try {
+                    blobStorage.delete(key);
+                    for (ImageDerivative d : ImageDerivative.values()) {
+                        blobStorage.delete(d.keyFor(key));
+                    }
+                    collected.increment();
+                } catch (RuntimeException e) {
+                    // 행은 이미 없음 — 같은 내용이 다시 올라오면 덮어써지고, 아니면 객체만 남는다.
+                    log.warn("Content blob {} unregistered but object delete failed: {}", key, e.toString());
+                }
+            }
+        } while (batch.size() == GC_BATCH);
+    }
+
+    private static Map<String, Integer> countByHash(Collection<String> keys) {
+        return keys.stream()
+                .map(CasBlob::hashOf)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.summingInt(k -> 1)));
+    }
+}
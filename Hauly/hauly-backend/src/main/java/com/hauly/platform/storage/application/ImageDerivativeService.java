@@ -0,0 +1,146 @@
+package com.hauly.platform.storage.application;
+
+import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.ImageDerivative;
+import com.hauly.platform.storage.domain.event.BlobPromoted;
+import com.hauly.platform.storage.domain.event.ContentBlobStored;
+import com.hauly.platform.storage.domain.service.ImageResizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates the {@link ImageDerivative} renditions for each promoted (or newly content-addressed)
+ * image, so list and detail pages load a ~20KB thumbnail / ~300KB display JPEG instead of the
+ * multi-MB original.
+ *
+ * <p>Decoding is CPU- and heap-heavy (a 12MP photo is ~48MB as pixels, less with the subsampled
+ * read in {@link ImageResizer#decode}), so work runs on a small fixed pool
+ * ({@code hauly.storage.derivatives.workers}, default 2) behind a bounded queue. When the queue is
+ * full the submitting promotion thread does the work itself — back-pressure rather than dropping.
+ *
+ * <p>Formats without an ImageIO reader (HEIC/HEIF unless a plugin is added) are skipped before the
+ * original is downloaded — counted as {@code unsupported} — and clients fall back to the original.
+ *
+ * <p>Metrics: {@code blob.derivatives{result=ok|unsupported|error}} timer.
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    // 기본 JDK 에 리더가 없는 이미지 포맷 — 건너뛰되 다른 확장자처럼 무시하지 않고 unsupported 로 센다.
+    private static final Set<String> READERLESS_IMAGE_SUFFIXES = Set.of("heic", "heif", "avif");
+    private static final int DECODE_EDGE = ImageDerivative.DISPLAY.maxEdge();
+
+    private final BlobStorage blobStorage;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    public ImageDerivativeService(BlobStorage blobStorage,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${hauly.storage.derivatives.workers:2}") int workers,
+                                  @Value("${hauly.storage.derivatives.queue-capacity:200}") int queueCapacity) {
+        this.blobStorage = blobStorage;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "blob-derive-" + seq.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @EventListener
+    public void onPromoted(BlobPromoted event) {
+        if (ImageDerivative.isDerivativeKey(event.key())) return;
+        int dot = event.key().lastIndexOf('.');
+        if (dot < 0) return;
+        String suffix = event.key().substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (ImageIO.getImageReadersBySuffix(suffix).hasNext()) {
+            executor.execute(() -> generate(event.key()));
+        } else if (READERLESS_IMAGE_SUFFIXES.contains(suffix)) {
+            skipUnsupported(event.key());
+        }
+    }
+
+    /** Content-addressed keys have no extension — go by the uploaded content type. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentStored(ContentBlobStored event) {
+        if (!event.contentType().startsWith("image/")) return;
+        if (ImageIO.getImageReadersByMIMEType(event.contentType()).hasNext()) {
+            executor.execute(() -> generate(event.key()));
+        } else {
+            skipUnsupported(event.key());
+        }
+    }
+
+    /** Build and store every derivative of {@code key}. Idempotent — existing derivatives are overwritten. */
+    public void generate(String key) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "error";
+        try {
+            byte[] original;
+            try (InputStream in = blobStorage.get(key)) {
+                original = in.readAllBytes();
+            }
+            BufferedImage decoded = ImageResizer.decode(original, DECODE_EDGE);
+            if (decoded == null) {
+                result = "unsupported";
+                log.debug("No image reader for {}, derivatives skipped", key);
+                return;
+            }
+            original = null; // 디코딩 후엔 원본 바이트 불필요 — 큰 배열을 일찍 놓아준다
+            for (ImageDerivative derivative : ImageDerivative.values()) {
+                byte[] jpeg = ImageResizer.encodeJpeg(
+                        ImageResizer.fit(decoded, derivative.maxEdge()), derivative.jpegQuality());
+                blobStorage.put(derivative.keyFor(key), new ByteArrayInputStream(jpeg), jpeg.length, "image/jpeg");
+            }
+            result = "ok";
+        } catch (Exception e) {
+            log.warn("Derivative generation failed for {}: {}", key, e.toString());
+        } finally {
+            sample.stop(timer(result));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void skipUnsupported(String key) {
+        log.debug("No image reader for {}, derivatives skipped", key);
+        timer("unsupported").record(Duration.ZERO);
+    }
+
+    private Timer timer(String result) {
+        return Timer.builder("blob.derivatives")
+                .description("Image derivative generation per original")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
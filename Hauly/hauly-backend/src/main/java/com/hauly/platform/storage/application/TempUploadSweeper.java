@@ -0,0 +1,118 @@
+package com.hauly.platform.storage.application;
+
+import com.hauly.platform.storage.domain.BlobEntry;
+import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.repository.BlobPromotionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Deletes orphaned direct uploads under {@code temp/} — images uploaded for an order form that was
+ * never submitted, or removed from it after upload.
+ *
+ * <p>Anything older than {@code hauly.storage.temp-sweep.max-age} (default 1 day, far beyond the
+ * upload URL ttl) is an orphan unless a {@code blob_promotion} row still names it as its source:
+ * those are waiting to be moved (or FAILED and kept for follow-up) and are left alone. The age
+ * cutoff also covers orders still being submitted: their uploads passed
+ * {@link BlobPromotionService#requireSources} moments before the rows are inserted, far inside max-age.
+ *
+ * <p>The listing is streamed page by page and expired keys are deleted in batches of
+ * {@value #BATCH} (one S3 DeleteObjects call each), so memory stays at one batch however large
+ * {@code temp/} has grown.
+ *
+ * <p>Metrics: {@code blob.temp-sweep.scanned}, {@code blob.temp-sweep.deleted},
+ * {@code blob.temp-sweep.retained} (expired but still pending promotion) — they advance per batch,
+ * so a long first sweep shows progress while it runs.
+ */
+@Service
+public class TempUploadSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(TempUploadSweeper.class);
+
+    static final String TEMP_PREFIX = "temp/";
+    private static final int BATCH = 1000;
+
+    private final BlobStorage blobStorage;
+    private final BlobPromotionRepository promotionRepository;
+    private final Duration maxAge;
+    private final Counter scanned;
+    private final Counter deleted;
+    private final Counter retained;
+
+    public TempUploadSweeper(BlobStorage blobStorage,
+                             BlobPromotionRepository promotionRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${hauly.storage.temp-sweep.max-age:P1D}") Duration maxAge) {
+        this.blobStorage = blobStorage;
+        this.promotionRepository = promotionRepository;
+        this.maxAge = maxAge;
+        this.scanned = Counter.builder("blob.temp-sweep.scanned")
+                .description("Temp upload objects listed by the sweeper")
+                .register(meterRegistry);
+        this.deleted = Counter.builder("blob.temp-sweep.deleted")
+                .description("Orphaned temp upload objects deleted")
+                .register(meterRegistry);
+        this.retained = Counter.builder("blob.temp-sweep.retained")
+                .description("Expired temp upload objects kept because a promotion still references them")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${hauly.storage.temp-sweep.interval:PT1H}")
+    public void sweep() {
+        sweepOlderThan(Instant.now().minus(maxAge));
+    }
+
+    /** Delete temp objects last modified before {@code cutoff}. Returns how many were deleted. */
+    public int sweepOlderThan(Instant cutoff) {
+        long listed = 0;
+        int removed = 0;
+        List<String> expired = new ArrayList<>(BATCH);
+        try (Stream<BlobEntry> listing = blobStorage.list(TEMP_PREFIX)) {
+            Iterator<BlobEntry> it = listing.iterator();
+            while (it.hasNext()) {
+                BlobEntry entry = it.next();
+                listed++;
+                scanned.increment();
+                if (!entry.lastModified().isBefore(cutoff)) continue;
+                expired.add(entry.key());
+                if (expired.size() == BATCH) {
+                    removed += deleteOrphans(expired);
+                    expired.clear();
+                }
+            }
+        }
+        if (!expired.isEmpty()) {
+            removed += deleteOrphans(expired);
+        }
+        if (removed > 0) {
+            log.info("Temp sweep deleted {} orphaned upload(s) of {} listed", removed, listed);
+        }
+        return removed;
+    }
+
+    private int deleteOrphans(List<String> expired) {
+        Set<String> pending = new HashSet<>(promotionRepository.findSourceKeysIn(expired));
+        List<String> orphans = pending.isEmpty()
+                ? expired
+                : expired.stream().filter(k -> !pending.contains(k)).toList();
+        retained.increment(expired.size() - orphans.size());
+        if (orphans.isEmpty()) return 0;
+        int n = blobStorage.deleteAll(orphans);
+        deleted.increment(n);
+        return n;
+    }
+}
@@ -0,0 +1,7 @@
+package com.hauly.platform.storage.domain;
+
+import java.time.Instant;
+
+/** One object as reported by a {@link BlobStorage#list} listing. */
+public record BlobEntry(String key, long contentLength, Instant lastModified) {
+}
@@ -0,0 +1,5 @@
+package com.hauly.platform.storage.domain;
+
+/** What a HEAD on a stored object reports. {@code contentType} may be null if the store does not know it. */
+public record BlobMetadata(long contentLength, String contentType) {
+}
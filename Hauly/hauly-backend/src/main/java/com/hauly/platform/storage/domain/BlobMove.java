@@ -0,0 +1,5 @@
+package com.hauly.platform.storage.domain;
+
+/** One intended object move: copy {@code sourceKey} to {@code targetKey}, then delete the source. */
+public record BlobMove(String sourceKey, String targetKey) {
+}
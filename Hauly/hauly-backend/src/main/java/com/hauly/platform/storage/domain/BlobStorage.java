@@ -2,6 +2,9 @@ package com.hauly.platform.storage.domain;
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Storage abstraction for binary objects (images, documents).
@@ -15,6 +18,9 @@ public interface BlobStorage {
     /** Store an object under the given key. Existing object at that key is overwritten. */
     void put(String key, InputStream data, long contentLength, String contentType);
 
+    /** Open an object for reading. The caller closes the stream. */
+    InputStream get(String key);
+
     /**
      * Returns a URL the frontend can use to GET the object directly.
      * - Local impl: a path on this server, e.g. "/api/intake/uploads/serve/{key}".
@@ -22,12 +28,39 @@ public interface BlobStorage {
      */
     String presignedGetUrl(String key, Duration ttl);
 
+    /**
+     * Returns a slot the client can PUT the object body to directly, bypassing this server.
+     * The upload must send exactly {@code contentType} and {@code contentLength}; both are part
+     * of the signature, so any other type or size is rejected by the store. With a non-null
+     * {@code sha256} (lowercase hex) the store also hashes the body while receiving it and
+     * rejects a mismatch, so the stored bytes are guaranteed to have that digest.
+     * - Local impl: a signed path on this server (PUT /api/intake/uploads/serve/{key}?...).
+     * - S3 impl: an absolute S3 presigned PUT URL valid for {@code ttl} (x-amz-checksum-sha256).
+     */
+    PresignedUpload presignedPut(String key, String contentType, long contentLength, String sha256, Duration ttl);
+
     /** Copy an object from one key to another (idempotent: target overwritten). */
     void copy(String sourceKey, String destinationKey);
 
     /** Delete an object. No-op if absent. */
     void delete(String key);
 
+    /**
+     * Delete many objects, batched per store round-trip (S3 DeleteObjects takes up to 1000 keys).
+     * Absent keys count as deleted. Returns how many keys were deleted; a key the store refuses is
+     * logged and left out of the count.
+     */
+    int deleteAll(Collection<String> keys);
+
+    /**
+     * Every object whose key starts with {@code prefix}, fetched lazily page by page — the full
+     * listing is never held in memory. The caller closes the stream. Order is unspecified.
+     */
+    Stream<BlobEntry> list(String prefix);
+
     /** Check whether an object exists. */
     boolean exists(String key);
+
+    /** Size and content type of an object (a HEAD request on S3), or empty if absent. */
+    Optional<BlobMetadata> head(String key);
 }
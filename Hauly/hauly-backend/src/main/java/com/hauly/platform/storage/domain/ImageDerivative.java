@@ -0,0 +1,45 @@
+package com.hauly.platform.storage.domain;
+
+/**
+ * Downscaled JPEG renditions generated for every promoted image (see ImageDerivativeService).
+ *
+ * Keys are derived from the original key, so views can point at a derivative without a lookup:
+ * {@code orders/1/items/2/abc.heic} → {@code orders/1/items/2/abc.thumb.jpg}. A derivative may be
+ * missing (not generated yet, undecodable format, or uploaded before derivatives existed) —
+ * clients fall back to the original URL.
+ */
+public enum ImageDerivative {
+
+    /** List rows and gallery tiles. */
+    THUMBNAIL("thumb", 320, 0.80f),
+    /** Lightbox / detail viewing. */
+    DISPLAY("display", 1600, 0.85f);
+
+    private final String suffix;
+    private final int maxEdge;
+    private final float jpegQuality;
+
+    ImageDerivative(String suffix, int maxEdge, float jpegQuality) {
+        this.suffix = suffix;
+        this.maxEdge = maxEdge;
+        this.jpegQuality = jpegQuality;
+    }
+
+    public String keyFor(String originalKey) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "." + suffix + ".jpg";
+    }
+
+    /** True for keys produced by {@link #keyFor} — never derive from a derivative. */
+    public static boolean isDerivativeKey(String key) {
+        for (ImageDerivative d : values()) {
+            if (key.endsWith("." + d.suffix + ".jpg")) return true;
+        }
+        return false;
+    }
+
+    public int maxEdge() { return maxEdge; }
+    public float jpegQuality() { return jpegQuality; }
+}
@@ -0,0 +1,10 @@
+package com.hauly.platform.storage.domain;
+
+import java.util.Map;
+
+/**
+ * A direct-upload slot: PUT the body to {@code url} sending exactly {@code headers}
+ * (Content-Type, and the checksum header when one was pinned). Content-Length is set by the client.
+ */
+public record PresignedUpload(String url, Map<String, String> headers) {
+}
@@ -0,0 +1,5 @@
+package com.hauly.platform.storage.domain.event;
+
+/** An uploaded object now sits at its permanent {@code key}. Published from the promotion worker thread. */
+public record BlobPromoted(String key) {
+}
@@ -0,0 +1,12 @@
+package com.hauly.platform.storage.domain.event;
+
+import java.util.List;
+
+/**
+ * Published when promotion rows are written; handled after the surrounding transaction commits,
+ * so objects are only moved once the rows that reference their target keys are durable.
+ */
+public record BlobPromotionsScheduled(List<Item> items) {
+
+    public record Item(Long promotionId, String sourceKey, String targetKey) {}
+}
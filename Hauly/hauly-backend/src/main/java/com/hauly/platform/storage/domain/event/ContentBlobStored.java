@@ -0,0 +1,5 @@
+package com.hauly.platform.storage.domain.event;
+
+/** A new content-addressed object was registered at {@code key} (first upload of those bytes). */
+public record ContentBlobStored(String key, String contentType) {
+}
@@ -0,0 +1,88 @@
+package com.hauly.platform.storage.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A pending temp → permanent object move. Written in the business transaction that already
+ * references {@code targetKey}; executed after commit and deleted once the move succeeds.
+ */
+@Entity
+@Table(name = "blob_promotion")
+public class BlobPromotion {
+
+    public enum Status { PENDING, FAILED }
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_key", nullable = false, length = 255)
+    private String sourceKey;
+
+    @Column(name = "target_key", nullable = false, unique = true, length = 255)
+    private String targetKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    /** JPA only. */
+    protected BlobPromotion() {}
+
+    /**
+     * @param sweepAfter when the reconciliation sweep may pick this up if the after-commit
+     *                   attempt never reports back (crash, shutdown)
+     */
+    public static BlobPromotion pending(String sourceKey, String targetKey, OffsetDateTime sweepAfter) {
+        BlobPromotion p = new BlobPromotion();
+        p.sourceKey = sourceKey;
+        p.targetKey = targetKey;
+        p.status = Status.PENDING;
+        p.nextAttemptAt = sweepAfter;
+        p.createdAt = OffsetDateTime.now();
+        return p;
+    }
+
+    /** Count a failed attempt; gives up (FAILED) once {@code maxAttempts} is reached. */
+    public void recordFailure(String error, OffsetDateTime retryAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.nextAttemptAt = retryAt;
+        if (attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+        }
+    }
+
+    public Long getId() { return id; }
+    public String getSourceKey() { return sourceKey; }
+    public String getTargetKey() { return targetKey; }
+    public Status getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public String getLastError() { return lastError; }
+    public OffsetDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,75 @@
+package com.hauly.platform.storage.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+import java.util.regex.Pattern;
+
+/**
+ * One content-addressed object, stored once under {@code cas/{sha256}} and shared by every order
+ * image with the same bytes. {@code refCount} counts those references; rows are written through
+ * {@code CasBlobRepository}'s atomic updates, never by mutating this entity.
+ */
+@Entity
+@Table(name = "cas_blob")
+public class CasBlob {
+
+    public static final String KEY_PREFIX = "cas/";
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(name = "content_type", nullable = false, length = 64)
+    private String contentType;
+
+    @Column(name = "content_length", nullable = false)
+    private long contentLength;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "unreferenced_since")
+    private OffsetDateTime unreferencedSince;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    /** JPA only. */
+    protected CasBlob() {}
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && SHA256_HEX.matcher(hash).matches();
+    }
+
+    public static String keyOf(String hash) {
+        if (!isValidHash(hash)) {
+            throw new IllegalArgumentException("invalid_sha256: " + hash);
+        }
+        return KEY_PREFIX + hash;
+    }
+
+    /** True for a well-formed {@code cas/{sha256}} key. */
+    public static boolean isContentKey(String key) {
+        return key != null && key.startsWith(KEY_PREFIX) && isValidHash(key.substring(KEY_PREFIX.length()));
+    }
+
+    public static String hashOf(String key) {
+        if (!isContentKey(key)) {
+            throw new IllegalArgumentException("invalid content key: " + key);
+        }
+        return key.substring(KEY_PREFIX.length());
+    }
+
+    public String getHash() { return hash; }
+    public String getKey() { return KEY_PREFIX + hash; }
+    public String getContentType() { return contentType; }
+    public long getContentLength() { return contentLength; }
+    public int getRefCount() { return refCount; }
+    public OffsetDateTime getUnreferencedSince() { return unreferencedSince; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
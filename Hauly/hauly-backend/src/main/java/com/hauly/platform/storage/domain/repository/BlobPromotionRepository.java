@@ -0,0 +1,27 @@
+package com.hauly.platform.storage.domain.repository;
+
+import com.hauly.platform.storage.domain.model.BlobPromotion;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Domain repository interface for BlobPromotion.
+ * Plain Java — no Spring/JPA imports.
+ */
+public interface BlobPromotionRepository {
+
+    BlobPromotion save(BlobPromotion promotion);
+
+    Optional<BlobPromotion> findById(Long id);
+
+    /** PENDING rows whose next attempt is due, oldest first. */
+    List<BlobPromotion> findDue(OffsetDateTime now, int limit);
+
+    /** Those of {@code sourceKeys} that still have a row (PENDING or FAILED) — their objects are not orphans. */
+    List<String> findSourceKeysIn(Collection<String> sourceKeys);
+
+    void deleteById(Long id);
+}
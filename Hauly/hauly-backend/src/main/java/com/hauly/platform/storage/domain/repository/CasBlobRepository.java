@@ -0,0 +1,35 @@
+package com.hauly.platform.storage.domain.repository;
+
+import com.hauly.platform.storage.domain.model.CasBlob;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Domain repository interface for CasBlob.
+ * Reference counts only change through the single-statement updates below, so concurrent
+ * orders sharing an image never lose an increment.
+ */
+public interface CasBlobRepository {
+
+    Optional<CasBlob> findById(String hash);
+
+    /** Insert an unreferenced row; 0 if the hash is already registered. */
+    int insertIfAbsent(String hash, String contentType, long contentLength);
+
+    /** Restart the GC grace period of an unreferenced row (re-upload of known content). */
+    int touchUnreferenced(String hash);
+
+    /** +{@code count} references; 0 if the hash is unknown. */
+    int retain(String hash, int count);
+
+    /** -{@code count} references (never below zero); 0 if unknown or not that many held. */
+    int release(String hash, int count);
+
+    /** Hashes unreferenced since before {@code before}, oldest first. */
+    List<String> findCollectable(OffsetDateTime before, int limit);
+
+    /** Delete the row if it is still collectable; 1 if deleted. */
+    int deleteIfCollectable(String hash, OffsetDateTime before);
+}
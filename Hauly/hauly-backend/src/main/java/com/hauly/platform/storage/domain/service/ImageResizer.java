@@ -0,0 +1,177 @@
+package com.hauly.platform.storage.domain.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Plain ImageIO decode → orient → downscale → JPEG encode. Stateless; safe to share across threads.
+ *
+ * Formats are whatever ImageIO readers are on the classpath (JDK: JPEG/PNG/GIF/BMP; TwelveMonkeys
+ * adds CMYK JPEG and WebP). {@link #decode} returns null for anything else (e.g. HEIC).
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {}
+
+    /**
+     * Decode {@code data}, subsampling while reading so the decoded image is no larger than needed
+     * for {@code maxEdge} — a 4000×3000 photo for a 1600px target decodes at 2000×1500, a quarter
+     * of the pixels. EXIF orientation is applied. Returns null if no reader supports the format.
+     */
+    public static BufferedImage decode(byte[] data, int maxEdge) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longest / maxEdge);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return orient(reader.read(0, param), ExifOrientation.read(data));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** Scale to fit within {@code maxEdge} (never up) onto an opaque RGB canvas — JPEG has no alpha. */
+    public static BufferedImage fit(BufferedImage src, int maxEdge) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(src.getWidth(), src.getHeight()));
+        BufferedImage current = src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+        int targetW = Math.max(1, (int) Math.round(w * scale));
+        int targetH = Math.max(1, (int) Math.round(h * scale));
+        // 한 번에 크게 줄이면 bilinear 가 픽셀을 건너뛰어 계단이 생김 → 절반씩 단계적으로.
+        do {
+            w = Math.max(targetW, w / 2);
+            h = Math.max(targetH, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, w, h);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w > targetW || h > targetH);
+        return current;
+    }
+
+    /** JPEG at {@code quality} (0..1), progressive so large renditions paint early. */
+    public static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /** Apply an EXIF orientation (1..8) so phone photos come out upright. */
+    static BufferedImage orient(BufferedImage src, int orientation) {
+        if (orientation <= 1 || orientation > 8) return src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { t.translate(w, 0); t.scale(-1, 1); }
+            case 3 -> { t.translate(w, h); t.rotate(Math.PI); }
+            case 4 -> { t.translate(0, h); t.scale(1, -1); }
+            case 5 -> { t.rotate(Math.PI / 2); t.scale(1, -1); }
+            case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }
+            case 7 -> { t.scale(-1, 1); t.translate(-h, 0); t.translate(0, w); t.rotate(3 * Math.PI / 2); }
+            case 8 -> { t.translate(0, w); t.rotate(3 * Math.PI / 2); }
+            default -> { }
+        }
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, out.getWidth(), out.getHeight());
+            g.drawImage(src, t, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /** Minimal JPEG APP1/Exif scan for tag 0x0112. Anything unexpected → 1 (as-is). */
+    static final class ExifOrientation {
+
+        private ExifOrientation() {}
+
+        static int read(byte[] d) {
+            if (d.length < 4 || (d[0] & 0xFF) != 0xFF || (d[1] & 0xFF) != 0xD8) return 1;
+            int pos = 2;
+            while (pos + 4 <= d.length && (d[pos] & 0xFF) == 0xFF) {
+                int marker = d[pos + 1] & 0xFF;
+                int len = u16(d, pos + 2, false);
+                if (marker == 0xDA || len < 2) break;                    // start of scan — no more headers
+                int seg = pos + 4;
+                if (marker == 0xE1 && seg + 14 <= d.length
+                        && d[seg] == 'E' && d[seg + 1] == 'x' && d[seg + 2] == 'i' && d[seg + 3] == 'f') {
+                    return fromTiff(d, seg + 6, Math.min(d.length, pos + 2 + len));
+                }
+                pos += 2 + len;
+            }
+            return 1;
+        }
+
+        private static int fromTiff(byte[] d, int tiff, int end) {
+            if (tiff + 8 > end) return 1;
+            boolean le = d[tiff] == 'I';
+            // 부호 없는 32비트 오프셋 — int 로 자르면 음수가 되어 배열 밖을 읽으므로 long 으로 검사한다.
+            long offset = u32(d, tiff + 4, le);
+            if (offset < 8 || tiff + offset + 2 > end) return 1;
+            int ifd = tiff + (int) offset;
+            int entries = u16(d, ifd, le);
+            for (int i = 0; i < entries; i++) {
+                int e = ifd + 2 + i * 12;
+                if (e + 12 > end) break;
+                if (u16(d, e, le) == 0x0112) return u16(d, e + 8, le);
+            }
+            return 1;
+        }
+
+        private static int u16(byte[] d, int p, boolean le) {
+            int a = d[p] & 0xFF, b = d[p + 1] & 0xFF;
+            return le ? (b << 8) | a : (a << 8) | b;
+        }
+
+        private static long u32(byte[] d, int p, boolean le) {
+            long hi = u16(d, le ? p + 2 : p, le);
+            long lo = u16(d, le ? p : p + 2, le);
+            return (hi << 16) | lo;
+        }
+    }
+}
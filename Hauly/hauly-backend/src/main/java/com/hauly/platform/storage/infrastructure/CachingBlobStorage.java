@@ -0,0 +1,162 @@
+package com.hauly.platform.storage.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hauly.platform.storage.domain.BlobEntry;
+import com.hauly.platform.storage.domain.BlobMetadata;
+import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.PresignedUpload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * {@link BlobStorage} decorator that reuses presigned GET URLs.
+ *
+ * <p>Each key is signed once for {@code issueTtl} (or the caller's ttl if longer) and the URL is
+ * served from a Caffeine cache until {@code safetyMargin} before it expires — as long as it still
+ * covers the caller's requested ttl. Besides saving the SigV4 work per image per request, returning
+ * the same URL across page loads lets browsers reuse their cached image.
+ *
+ * <p>Writes to a key (put / copy target / delete / deleteAll) drop its cached URL. Keep {@code issueTtl} within
+ * the signing credentials' lifetime — a URL signed with role credentials stops working when they expire.
+ *
+ * <p>Metrics: {@code cache.gets{cache=blob.presigned-url,result=hit|miss}} etc. via
+ * {@link CaffeineCacheMetrics}, plus {@code blob.presigned-url.resigned} for cached URLs that were
+ * too close to expiry for the requested ttl.
+ */
+public class CachingBlobStorage implements BlobStorage {
+
+    static final String CACHE_NAME = "blob.presigned-url";
+
+    private final BlobStorage delegate;
+    private final Duration issueTtl;
+    private final Duration safetyMargin;
+    private final Clock clock;
+    private final Cache<String, SignedUrl> urls;
+    private final Counter resigned;
+
+    public CachingBlobStorage(BlobStorage delegate, Duration issueTtl, Duration safetyMargin,
+                              long maximumSize, MeterRegistry registry) {
+        this(delegate, issueTtl, safetyMargin, maximumSize, registry, Clock.systemUTC());
+    }
+
+    CachingBlobStorage(BlobStorage delegate, Duration issueTtl, Duration safetyMargin,
+                       long maximumSize, MeterRegistry registry, Clock clock) {
+        if (!issueTtl.minus(safetyMargin).isPositive()) {
+            throw new IllegalArgumentException("issueTtl must be longer than safetyMargin");
+        }
+        this.delegate = delegate;
+        this.issueTtl = issueTtl;
+        this.safetyMargin = safetyMargin;
+        this.clock = clock;
+        this.urls = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilSafetyMargin(safetyMargin, clock))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, urls, CACHE_NAME);
+        this.resigned = Counter.builder("blob.presigned-url.resigned")
+                .description("Cached presigned URLs re-signed because they would expire within the requested ttl")
+                .register(registry);
+    }
+
+    @Override
+    public InputStream get(String key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public String presignedGetUrl(String key, Duration ttl) {
+        Instant now = clock.instant();
+        SignedUrl cached = urls.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.expiresAt().isBefore(now.plus(ttl).plus(safetyMargin))) {
+                return cached.url();
+            }
+            resigned.increment();
+        }
+        Duration signFor = ttl.compareTo(issueTtl) > 0 ? ttl : issueTtl;
+        SignedUrl fresh = new SignedUrl(delegate.presignedGetUrl(key, signFor), now.plus(signFor));
+        urls.put(key, fresh);
+        return fresh.url();
+    }
+
+    @Override
+    public void put(String key, InputStream data, long contentLength, String contentType) {
+        delegate.put(key, data, contentLength, contentType);
+        urls.invalidate(key);
+    }
+
+    /** Not cached — every upload gets a fresh key. */
+    @Override
+    public PresignedUpload presignedPut(String key, String contentType, long contentLength, String sha256,
+                                        Duration ttl) {
+        return delegate.presignedPut(key, contentType, contentLength, sha256, ttl);
+    }
+
+    @Override
+    public void copy(String sourceKey, String destinationKey) {
+        delegate.copy(sourceKey, destinationKey);
+        urls.invalidate(destinationKey);
+    }
+
+    @Override
+    public void delete(String key) {
+        delegate.delete(key);
+        urls.invalidate(key);
+    }
+
+    @Override
+    public int deleteAll(Collection<String> keys) {
+        int deleted = delegate.deleteAll(keys);
+        urls.invalidateAll(keys);
+        return deleted;
+    }
+
+    @Override
+    public Stream<BlobEntry> list(String prefix) {
+        return delegate.list(prefix);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return delegate.exists(key);
+    }
+
+    @Override
+    public Optional<BlobMetadata> head(String key) {
+        return delegate.head(key);
+    }
+
+    private record SignedUrl(String url, Instant expiresAt) {}
+
+    /** Evicts each entry safetyMargin before its own signature expires. */
+    private record UntilSafetyMargin(Duration safetyMargin, Clock clock) implements Expiry<String, SignedUrl> {
+
+        @Override
+        public long expireAfterCreate(String key, SignedUrl value, long currentTime) {
+            Duration left = Duration.between(clock.instant(), value.expiresAt()).minus(safetyMargin);
+            return Math.max(0L, left.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, SignedUrl value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, SignedUrl value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
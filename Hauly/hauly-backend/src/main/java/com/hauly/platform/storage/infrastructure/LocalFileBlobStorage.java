@@ -1,17 +1,39 @@
 package com.hauly.platform.storage.infrastructure;
 
+import com.hauly.platform.storage.domain.BlobEntry;
+import com.hauly.platform.storage.domain.BlobMetadata;
 import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.PresignedUpload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Filesystem-backed blob storage for local/dev profiles.
@@ -19,12 +41,24 @@ import java.time.Duration;
  * {@code /api/intake/uploads/serve/...} (see {@link com.hauly.platform.storage.presentation.LocalUploadServingController}).
  *
  * The {@code ttl} on {@link #presignedGetUrl} is ignored — the URL is just a path on this server.
+ *
+ * Direct uploads mirror S3: {@link #presignedPut} returns a PUT path on the same controller,
+ * HMAC-signed over key / expiry / content type / length / sha256 with a per-process random key
+ * (URLs die with the process, which is fine for dev). The controller checks it via
+ * {@link #verifyPutSignature} before writing; with a pinned sha256 it writes through
+ * {@link #putVerified}, so a body with the wrong digest never lands on the key.
  */
 public class LocalFileBlobStorage implements BlobStorage {
 
     private static final Logger log = LoggerFactory.getLogger(LocalFileBlobStorage.class);
 
+    private static final String SERVE_PATH = "/api/intake/uploads/serve";
+    private static final String HMAC = "HmacSHA256";
+    // 검증 전 본문을 받는 곳. 키 공간(temp/, cas/, orders/) 밖이라 list/serve 대상 키와 섞이지 않는다.
+    private static final String STAGING_DIR = ".staging";
+
     private final Path rootDir;
+    private final SecretKeySpec signingKey;
 
     public LocalFileBlobStorage(Path rootDir) {
         try {
@@ -33,6 +67,9 @@ public class LocalFileBlobStorage implements BlobStorage {
             throw new IllegalStateException("Cannot initialize local upload directory: " + rootDir, e);
         }
         this.rootDir = rootDir.toAbsolutePath().normalize();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.signingKey = new SecretKeySpec(secret, HMAC);
         log.info("LocalFileBlobStorage rooted at {}", this.rootDir);
     }
 
@@ -47,16 +84,75 @@ public class LocalFileBlobStorage implements BlobStorage {
         }
     }
 
+    /**
+     * Store {@code data} under {@code key} only if its SHA-256 is {@code sha256} (lowercase hex).
+     * The body is hashed while it is written to a private staging file, which is moved onto the key
+     * only after the digest matches — an existing object at {@code key} (possibly shared) is never
+     * touched by a bad upload. Returns false, leaving nothing behind, on a mismatch.
+     */
+    public boolean putVerified(String key, InputStream data, String sha256) {
+        Path target = resolveSafe(key);
+        Path staging = rootDir.resolve(STAGING_DIR).resolve(UUID.randomUUID().toString());
+        try {
+            Files.createDirectories(staging.getParent());
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(data, digest)) {
+                Files.copy(in, staging);
+            }
+            if (!sha256.equals(HexFormat.of().formatHex(digest.digest()))) {
+                return false;
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(staging, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write " + key, e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        } finally {
+            try {
+                Files.deleteIfExists(staging);
+            } catch (IOException e) {
+                log.warn("Could not remove staging file {}: {}", staging, e.toString());
+            }
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        try {
+            return Files.newInputStream(resolveSafe(key));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + key, e);
+        }
+    }
+
     @Override
     public String presignedGetUrl(String key, Duration ttl) {
         // For local dev we serve through Spring; ignore ttl.
-        // URL-encode each path segment so spaces / unicode survive.
-        String[] parts = key.split("/");
-        StringBuilder sb = new StringBuilder("/api/intake/uploads/serve");
-        for (String p : parts) {
-            sb.append('/').append(URLEncoder.encode(p, StandardCharsets.UTF_8).replace("+", "%20"));
-        }
-        return sb.toString();
+        return servePath(key);
+    }
+
+    @Override
+    public PresignedUpload presignedPut(String key, String contentType, long contentLength, String sha256,
+                                        Duration ttl) {
+        resolveSafe(key);
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        String url = servePath(key)
+                + "?expires=" + expires
+                + "&type=" + encode(contentType)
+                + "&length=" + contentLength
+                + (sha256 == null ? "" : "&sha256=" + sha256)
+                + "&signature=" + sign(key, expires, contentType, contentLength, sha256);
+        return new PresignedUpload(url, Map.of("Content-Type", contentType));
+    }
+
+    /** True if the query parameters of a {@link #presignedPut} URL match {@code key} and have not expired. */
+    public boolean verifyPutSignature(String key, long expires, String contentType, long contentLength,
+                                      String sha256, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) return false;
+        byte[] expected = sign(key, expires, contentType, contentLength, sha256).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
     }
 
     @Override
@@ -80,11 +176,98 @@ public class LocalFileBlobStorage implements BlobStorage {
         }
     }
 
+    @Override
+    public int deleteAll(Collection<String> keys) {
+        int deleted = 0;
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolveSafe(key));
+                deleted++;
+            } catch (IOException e) {
+                log.warn("Delete failed for {}: {}", key, e.toString());
+            }
+        }
+        return deleted;
+    }
+
+    /** Lazy {@link Files#walk} of the prefix's directory; files are stat'ed one at a time as the stream advances. */
+    @Override
+    public Stream<BlobEntry> list(String prefix) {
+        int slash = prefix.lastIndexOf('/');
+        Path dir = slash < 0 ? rootDir : resolveSafe(prefix.substring(0, slash));
+        if (!Files.isDirectory(dir)) return Stream.empty();
+        try {
+            return Files.walk(dir)
+                    .map(this::entryOf)
+                    .flatMap(Optional::stream)
+                    .filter(e -> e.key().startsWith(prefix));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list " + prefix, e);
+        }
+    }
+
     @Override
     public boolean exists(String key) {
         return Files.exists(resolveSafe(key));
     }
 
+    @Override
+    public Optional<BlobMetadata> head(String key) {
+        Path file = resolveSafe(key);
+        if (!Files.isRegularFile(file)) return Optional.empty();
+        try {
+            // 로컬 파일엔 업로드 당시 Content-Type 이 없으니 확장자로, 없으면(cas/ 키) 앞 바이트로 추정.
+            String type = URLConnection.guessContentTypeFromName(file.getFileName().toString());
+            if (type == null) {
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                    type = URLConnection.guessContentTypeFromStream(in);
+                }
+            }
+            return Optional.of(new BlobMetadata(Files.size(file), type));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to stat " + key, e);
+        }
+    }
+
+    private Optional<BlobEntry> entryOf(Path file) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attrs.isRegularFile()) return Optional.empty();
+            String key = rootDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+            return Optional.of(new BlobEntry(key, attrs.size(), attrs.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty(); // 나열과 stat 사이에 지워짐
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stat " + file, e);
+        }
+    }
+
+    /** URL-encode each path segment so spaces / unicode survive. */
+    private static String servePath(String key) {
+        StringBuilder sb = new StringBuilder(SERVE_PATH);
+        for (String p : key.split("/")) {
+            sb.append('/').append(encode(p));
+        }
+        return sb.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private String sign(String key, long expires, String contentType, long contentLength, String sha256) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(signingKey);
+            String payload = key + "\n" + expires + "\n" + contentType + "\n" + contentLength
+                    + "\n" + (sha256 == null ? "" : sha256);
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+
     /** Resolve and reject anything that escapes the root directory (path traversal). */
     private Path resolveSafe(String key) {
         if (key == null || key.isBlank() || key.startsWith("/") || key.contains("..")) {
@@ -1,20 +1,41 @@
 package com.hauly.platform.storage.infrastructure;
 
+import com.hauly.platform.storage.domain.BlobEntry;
+import com.hauly.platform.storage.domain.BlobMetadata;
 import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.PresignedUpload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * S3-backed blob storage. Active under the prod profile.
@@ -25,6 +46,9 @@ public class S3BlobStorage implements BlobStorage {
 
     private static final Logger log = LoggerFactory.getLogger(S3BlobStorage.class);
 
+    /** DeleteObjects limit per request. */
+    private static final int DELETE_BATCH = 1000;
+
     private final S3Client client;
     private final S3Presigner presigner;
     private final String bucket;
@@ -46,6 +70,12 @@ public class S3BlobStorage implements BlobStorage {
                 RequestBody.fromInputStream(data, contentLength));
     }
 
+    @Override
+    public InputStream get(String key) {
+        validate(key);
+        return client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
     @Override
     public String presignedGetUrl(String key, Duration ttl) {
         validate(key);
@@ -55,6 +85,31 @@ public class S3BlobStorage implements BlobStorage {
                 .build()).url().toString();
     }
 
+    @Override
+    public PresignedUpload presignedPut(String key, String contentType, long contentLength, String sha256,
+                                        Duration ttl) {
+        validate(key);
+        // content-type / content-length (+ checksum) 가 서명 헤더에 들어가므로 다른 값으로 올리면 S3 가 403,
+        // 본문 해시가 다르면 400 BadDigest.
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(b -> {
+                    b.bucket(bucket).key(key).contentType(contentType).contentLength(contentLength);
+                    if (sha256 != null) {
+                        b.checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)));
+                    }
+                })
+                .build());
+        // 브라우저가 직접 넣을 수 없는 host / content-length 는 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host") && !name.equalsIgnoreCase("content-length")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), headers);
+    }
+
     @Override
     public void copy(String sourceKey, String destinationKey) {
         validate(sourceKey);
@@ -71,6 +126,32 @@ public class S3BlobStorage implements BlobStorage {
         client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
     }
 
+    @Override
+    public int deleteAll(Collection<String> keys) {
+        int deleted = 0;
+        List<ObjectIdentifier> batch = new ArrayList<>(Math.min(keys.size(), DELETE_BATCH));
+        for (String key : keys) {
+            validate(key);
+            batch.add(ObjectIdentifier.builder().key(key).build());
+            if (batch.size() == DELETE_BATCH) {
+                deleted += deleteBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleted += deleteBatch(batch);
+        }
+        return deleted;
+    }
+
+    /** ListObjectsV2 paginator — the next page (up to 1000 keys) is fetched only when the stream reaches it. */
+    @Override
+    public Stream<BlobEntry> list(String prefix) {
+        return client.listObjectsV2Paginator(ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).build())
+                .contents().stream()
+                .map(o -> new BlobEntry(o.key(), o.size(), o.lastModified()));
+    }
+
     @Override
     public boolean exists(String key) {
         validate(key);
@@ -82,6 +163,27 @@ public class S3BlobStorage implements BlobStorage {
         }
     }
 
+    @Override
+    public Optional<BlobMetadata> head(String key) {
+        validate(key);
+        try {
+            HeadObjectResponse head = client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new BlobMetadata(head.contentLength(), head.contentType()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    private int deleteBatch(List<ObjectIdentifier> batch) {
+        // quiet 모드: 응답엔 실패한 키만 온다
+        DeleteObjectsResponse response = client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder().objects(batch).quiet(true).build())
+                .build());
+        response.errors().forEach(e -> log.warn("Delete failed for {}: {} {}", e.key(), e.code(), e.message()));
+        return batch.size() - response.errors().size();
+    }
+
     private static void validate(String key) {
         if (key == null || key.isBlank() || key.startsWith("/") || key.contains("..")) {
             throw new IllegalArgumentException("Invalid storage key: " + key);
@@ -1,6 +1,7 @@
 package com.hauly.platform.storage.infrastructure;
 
 import com.hauly.platform.storage.domain.BlobStorage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -11,11 +12,14 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 /**
  * Storage wiring — switches implementation by {@code hauly.storage.type}:
  *  - {@code local} (default): {@link LocalFileBlobStorage} rooted at {@code hauly.storage.local.root}
- *  - {@code s3}: {@link S3BlobStorage} pointing at {@code hauly.storage.s3.bucket}
+ *  - {@code s3}: {@link S3BlobStorage} pointing at {@code hauly.storage.s3.bucket}, wrapped in
+ *    {@link CachingBlobStorage} so presigned GET URLs are reused ({@code hauly.storage.s3.url-cache.*}).
+ *    Local URLs are plain paths with nothing to sign, so the local impl is not wrapped.
  */
 @Configuration
 public class StorageConfig {
@@ -32,10 +36,15 @@ public class StorageConfig {
     @ConditionalOnProperty(name = "hauly.storage.type", havingValue = "s3")
     public BlobStorage s3BlobStorage(
             @Value("${hauly.storage.s3.bucket}") String bucket,
-            @Value("${hauly.storage.s3.region:ap-northeast-2}") String region) {
+            @Value("${hauly.storage.s3.region:ap-northeast-2}") String region,
+            @Value("${hauly.storage.s3.url-cache.issue-ttl:PT1H}") Duration issueTtl,
+            @Value("${hauly.storage.s3.url-cache.safety-margin:PT5M}") Duration safetyMargin,
+            @Value("${hauly.storage.s3.url-cache.maximum-size:20000}") long maximumSize,
+            MeterRegistry meterRegistry) {
         Region awsRegion = Region.of(region);
         S3Client client = S3Client.builder().region(awsRegion).build();
         S3Presigner presigner = S3Presigner.builder().region(awsRegion).build();
-        return new S3BlobStorage(client, presigner, bucket);
+        return new CachingBlobStorage(new S3BlobStorage(client, presigner, bucket),
+                issueTtl, safetyMargin, maximumSize, meterRegistry);
     }
 }
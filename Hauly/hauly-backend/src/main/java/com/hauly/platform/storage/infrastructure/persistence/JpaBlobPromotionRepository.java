@@ -0,0 +1,38 @@
+package com.hauly.platform.storage.infrastructure.persistence;
+
+import com.hauly.platform.storage.domain.model.BlobPromotion;
+import com.hauly.platform.storage.domain.repository.BlobPromotionRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA implementation of BlobPromotionRepository.
+ */
+@Repository
+public interface JpaBlobPromotionRepository
+        extends JpaRepository<BlobPromotion, Long>, BlobPromotionRepository {
+
+    @Query("""
+            SELECT p FROM BlobPromotion p
+            WHERE p.status = com.hauly.platform.storage.domain.model.BlobPromotion.Status.PENDING
+              AND p.nextAttemptAt <= :now
+            ORDER BY p.nextAttemptAt
+            """)
+    List<BlobPromotion> findDue(@Param("now") OffsetDateTime now, Limit limit);
+
+    @Override
+    default List<BlobPromotion> findDue(OffsetDateTime now, int limit) {
+        return findDue(now, Limit.of(limit));
+    }
+
+    @Override
+    @Query("SELECT p.sourceKey FROM BlobPromotion p WHERE p.sourceKey IN :sourceKeys")
+    List<String> findSourceKeysIn(@Param("sourceKeys") Collection<String> sourceKeys);
+}
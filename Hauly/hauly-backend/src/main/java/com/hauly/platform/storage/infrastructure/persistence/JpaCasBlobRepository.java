@@ -0,0 +1,74 @@
+package com.hauly.platform.storage.infrastructure.persistence;
+
+import com.hauly.platform.storage.domain.model.CasBlob;
+import com.hauly.platform.storage.domain.repository.CasBlobRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA implementation of CasBlobRepository.
+ */
+@Repository
+public interface JpaCasBlobRepository extends JpaRepository<CasBlob, String>, CasBlobRepository {
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO cas_blob (hash, content_type, content_length, ref_count, unreferenced_since)
+            VALUES (:hash, :contentType, :contentLength, 0, now())
+            ON CONFLICT (hash) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash,
+                       @Param("contentType") String contentType,
+                       @Param("contentLength") long contentLength);
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query("UPDATE CasBlob b SET b.unreferencedSince = CURRENT_TIMESTAMP WHERE b.hash = :hash AND b.refCount = 0")
+    int touchUnreferenced(@Param("hash") String hash);
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query("UPDATE CasBlob b SET b.refCount = b.refCount + :count, b.unreferencedSince = NULL WHERE b.hash = :hash")
+    int retain(@Param("hash") String hash, @Param("count") int count);
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE cas_blob
+            SET ref_count = ref_count - :count,
+                unreferenced_since = CASE WHEN ref_count = :count THEN now() ELSE unreferenced_since END
+            WHERE hash = :hash AND ref_count >= :count
+            """, nativeQuery = true)
+    int release(@Param("hash") String hash, @Param("count") int count);
+
+    @Query("""
+            SELECT b.hash FROM CasBlob b
+            WHERE b.refCount = 0 AND b.unreferencedSince < :before
+            ORDER BY b.unreferencedSince
+            """)
+    List<String> findCollectable(@Param("before") OffsetDateTime before, Limit limit);
+
+    @Override
+    default List<String> findCollectable(OffsetDateTime before, int limit) {
+        return findCollectable(before, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CasBlob b WHERE b.hash = :hash AND b.refCount = 0 AND b.unreferencedSince < :before")
+    int deleteIfCollectable(@Param("hash") String hash, @Param("before") OffsetDateTime before);
+}
@@ -6,13 +6,16 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMapping.*;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.HandlerMapping;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +27,9 @@ import java.nio.file.Path;
  * Serves files from {@link LocalFileBlobStorage} for the local/dev profile.
  * Active only when a LocalFileBlobStorage bean exists (i.e. {@code hauly.storage.type=local}).
  *
+ * PUT is the local stand-in for an S3 presigned PUT: no login, the signed query string
+ * from {@link LocalFileBlobStorage#presignedPut} is the credential (permitted in SecurityConfig).
+ *
  * The S3 profile uses presigned URLs that bypass this controller entirely.
  */
 @RestController
@@ -39,14 +45,7 @@ public class LocalUploadServingController {
 
     @GetMapping("/**")
     public ResponseEntity<Resource> serve(HttpServletRequest request) throws Exception {
-        // Strip the controller's prefix to get the storage key.
-        String fullPath = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
-        if (fullPath == null) fullPath = request.getRequestURI();
-        String prefix = "/api/intake/uploads/serve/";
-        int idx = fullPath.indexOf(prefix);
-        String key = (idx >= 0) ? fullPath.substring(idx + prefix.length()) : fullPath;
-        // Decode each segment
-        key = java.net.URLDecoder.decode(key, java.nio.charset.StandardCharsets.UTF_8);
+        String key = keyOf(request);
 
         Path file = storage.rootDir().resolve(key).normalize();
         if (!file.startsWith(storage.rootDir()) || !Files.exists(file) || !Files.isRegularFile(file)) {
@@ -62,4 +61,42 @@ public class LocalUploadServingController {
                 .header(HttpHeaders.CACHE_CONTROL, "private, max-age=3600")
                 .body(new FileSystemResource(file));
     }
+
+    /**
+     * Same checks S3 applies to a presigned PUT: signature, expiry, exact Content-Type and length,
+     * and — when a sha256 was pinned — the digest of the body, verified before it reaches the key.
+     */
+    @PutMapping("/**")
+    public ResponseEntity<Void> upload(@RequestParam long expires,
+                                       @RequestParam String type,
+                                       @RequestParam long length,
+                                       @RequestParam(required = false) String sha256,
+                                       @RequestParam String signature,
+                                       HttpServletRequest request) throws Exception {
+        String key = keyOf(request);
+        if (!storage.verifyPutSignature(key, expires, type, length, sha256, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (!type.equalsIgnoreCase(request.getContentType()) || request.getContentLengthLong() != length) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (sha256 == null) {
+            storage.put(key, request.getInputStream(), length, type);
+        } else if (!storage.putVerified(key, request.getInputStream(), sha256)) {
+            // S3 의 BadDigest 처럼 거절 — 같은 해시로 이미 저장된 (공유) 객체는 건드리지 않는다.
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    /** Strip the controller's prefix to get the storage key. */
+    private static String keyOf(HttpServletRequest request) {
+        String fullPath = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        if (fullPath == null) fullPath = request.getRequestURI();
+        String prefix = "/api/intake/uploads/serve/";
+        int idx = fullPath.indexOf(prefix);
+        String key = (idx >= 0) ? fullPath.substring(idx + prefix.length()) : fullPath;
+        // Decode each segment
+        return java.net.URLDecoder.decode(key, java.nio.charset.StandardCharsets.UTF_8);
+    }
 }
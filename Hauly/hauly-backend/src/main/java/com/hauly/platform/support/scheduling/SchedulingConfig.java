@@ -0,0 +1,12 @@
+package com.hauly.platform.support.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (e.g. blob promotion reconciliation).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,11 @@
+-- =============================================================
+-- V36__order_fulfillment_created_index.sql
+-- 상태 필터 + createdAt 정렬용 (fulfillment_status, created_at, id) 인덱스 — 기존 idx_order_fulfillment_created 대체.
+-- id 를 동률 해소 키로 달아 두면 (정렬 컬럼, id) 로 "마지막으로 본 행 다음" 을 인덱스 한 번 탐색으로 찾는다.
+-- 대시보드가 쓴다. 목록 keyset 페이지네이션은 V39 의 order_list_view 인덱스가 맡는다.
+-- =============================================================
+
+CREATE INDEX idx_order_fulfillment_created_id
+    ON "order" (fulfillment_status, created_at, id);
+
+DROP INDEX IF EXISTS idx_order_fulfillment_created;
@@ -0,0 +1,10 @@
+-- =============================================================
+-- V37__order_search_trigram.sql
+-- 주문 검색(주문번호 / 상품명 / 고객명) 용 pg_trgm 확장.
+-- 검색은 LOWER(col) LIKE '%q%' 라 B-tree 로는 못 탄다 → trigram GIN 인덱스가 필요하다.
+-- GIN(gin_trgm_ops) 은 LIKE/ILIKE 중간 일치와 similarity() 순위 계산을 모두 지원한다.
+-- 인덱스는 목록 읽기 모델(order_list_view, V39) 위에만 만든다 — 원본 테이블에 두면
+-- order_item 삽입마다 GIN 갱신 비용만 든다.
+-- =============================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,9 @@
+-- =============================================================
+-- V38__seed_order_sort_relevance_label.sql
+-- 주문 목록 "관련도순" 정렬 라벨 (검색어가 있을 때 trigram 유사도 순).
+-- =============================================================
+
+INSERT INTO i18n_message (message_key, lang_code, message, context, is_system) VALUES
+    ('order.list.sort.relevance', 'ko', '관련도순',          'admin', true),
+    ('order.list.sort.relevance', 'en', 'Best match',       'admin', true),
+    ('order.list.sort.relevance', 'th', 'ตรงที่สุด',          'admin', true);
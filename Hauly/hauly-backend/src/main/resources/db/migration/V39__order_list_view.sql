@@ -0,0 +1,95 @@
+-- =============================================================
+-- V39__order_list_view.sql
+-- 주문 목록 전용 읽기 모델 (CQRS). 목록/검색/정렬이 이 테이블 하나만 읽는다.
+-- 고객명, 첫 상품(이름/이미지), 상품 수, 통화별 합계, 순수익을 미리 계산해 둔다.
+-- IntakeOrderService 의 변경(생성/상태/재무/결제금액/트래킹)과 같은 트랜잭션에서 행을 다시 만든다
+-- (OrderListViewRepositoryImpl#refresh). 주문 삭제는 FK ON DELETE CASCADE 로 함께 지워진다.
+--
+-- 검색: search_text = LOWER(order_no + 상품명들), customer_name 은 별도 컬럼.
+-- 고객명 변경 시 customer_id 로 UPDATE 한 번에 끝나게 search_text 에 넣지 않는다.
+-- 두 컬럼 모두 trigram GIN → 같은 테이블이라 BitmapOr 로 합쳐진다.
+-- =============================================================
+
+CREATE TABLE order_list_view (
+    order_id               BIGINT         PRIMARY KEY REFERENCES "order"(id) ON DELETE CASCADE,
+    order_no               VARCHAR(20)    NOT NULL,
+    customer_id            BIGINT         NOT NULL,
+    customer_name          VARCHAR(64)    NOT NULL,
+    order_type             VARCHAR(16)    NOT NULL,
+    fulfillment_status     VARCHAR(32)    NOT NULL,
+    payment_status         VARCHAR(32)    NOT NULL,
+    item_count             INT            NOT NULL,
+    first_product_name     VARCHAR(255)   NOT NULL,   -- 상품 없으면 '' (keyset 비교에 NULL 이 끼지 않도록)
+    first_image_key        VARCHAR(255),
+    korean_courier         VARCHAR(32),
+    korean_tracking_no     VARCHAR(500),
+    shipping_address_label VARCHAR(64),
+    paid_amount_krw        NUMERIC(15, 2),
+    totals_by_currency     JSONB          NOT NULL DEFAULT '{}'::jsonb,
+    net_profit_krw         NUMERIC(15, 2),
+    net_profit_thb         NUMERIC(15, 2),
+    search_text            TEXT           NOT NULL,
+    created_at             TIMESTAMPTZ    NOT NULL,
+    refreshed_at           TIMESTAMPTZ    NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_olv_created
+    ON order_list_view (created_at, order_id);
+CREATE INDEX idx_olv_fulfillment_created
+    ON order_list_view (fulfillment_status, created_at, order_id);
+CREATE INDEX idx_olv_fulfillment
+    ON order_list_view (fulfillment_status, order_id);
+CREATE INDEX idx_olv_order_no
+    ON order_list_view (order_no, order_id);
+CREATE INDEX idx_olv_first_product
+    ON order_list_view (first_product_name, order_id);
+CREATE INDEX idx_olv_customer
+    ON order_list_view (customer_id);
+CREATE INDEX idx_olv_search_trgm
+    ON order_list_view USING gin (search_text gin_trgm_ops);
+CREATE INDEX idx_olv_customer_name_trgm
+    ON order_list_view USING gin (LOWER(customer_name) gin_trgm_ops);
+
+-- 기존 주문 백필. 순수익 식은 Order#getNetProfitKrw / getNetProfitThb 와 동일
+-- (매출 + 실결제금액 필수, 물류비 미입력은 0, THB 값은 환율 없으면 NULL).
+INSERT INTO order_list_view (
+    order_id, order_no, customer_id, customer_name, order_type, fulfillment_status, payment_status,
+    item_count, first_product_name, first_image_key, korean_courier, korean_tracking_no,
+    shipping_address_label, paid_amount_krw, totals_by_currency, net_profit_krw, net_profit_thb,
+    search_text, created_at)
+SELECT o.id, o.order_no, o.customer_id, COALESCE(c.name, ''), o.order_type, o.fulfillment_status,
+       o.payment_status, s.item_count, COALESCE(f.product_name, ''), f.request_image_keys ->> 0,
+       o.korean_courier, o.korean_tracking_no, o.shipping_address_label, o.paid_amount_krw,
+       COALESCE(t.totals, '{}'::jsonb), p.net_krw, ROUND(p.net_krw / NULLIF(o.krw_per_thb, 0), 2),
+       LOWER(CONCAT_WS(E'\n', o.order_no, s.product_names)), o.created_at
+FROM "order" o
+LEFT JOIN customer c ON c.id = o.customer_id
+CROSS JOIN LATERAL (SELECT COUNT(*) AS item_count,
+                           string_agg(i.product_name, E'\n' ORDER BY i.id) AS product_names
+                    FROM order_item i WHERE i.order_id = o.id) s
+LEFT JOIN LATERAL (SELECT i.product_name, i.request_image_keys
+                   FROM order_item i WHERE i.order_id = o.id
+                   ORDER BY i.id LIMIT 1) f ON TRUE
+LEFT JOIN LATERAL (SELECT jsonb_object_agg(x.currency, x.total) AS totals
+                   FROM (SELECT i.unit_price_currency AS currency,
+                                SUM(i.unit_price_amount * i.quantity) AS total
+                         FROM order_item i
+                         WHERE i.order_id = o.id
+                           AND i.unit_price_currency IS NOT NULL
+                           AND i.unit_price_amount IS NOT NULL
+                         GROUP BY i.unit_price_currency) x) t ON TRUE
+CROSS JOIN LATERAL (
+    SELECT CASE WHEN o.paid_amount_krw IS NULL OR o.customer_revenue_amount IS NULL THEN NULL
+           ELSE (CASE o.customer_revenue_currency
+                     WHEN 'KRW' THEN o.customer_revenue_amount
+                     WHEN 'THB' THEN ROUND(o.customer_revenue_amount * o.krw_per_thb, 2) END)
+                - o.paid_amount_krw
+                - (CASE WHEN o.logistics_kr_to_th_amount IS NULL THEN 0
+                        WHEN o.logistics_kr_to_th_currency = 'KRW' THEN o.logistics_kr_to_th_amount
+                        WHEN o.logistics_kr_to_th_currency = 'THB'
+                            THEN ROUND(o.logistics_kr_to_th_amount * o.krw_per_thb, 2) END)
+                - (CASE WHEN o.logistics_th_domestic_amount IS NULL THEN 0
+                        WHEN o.logistics_th_domestic_currency = 'KRW' THEN o.logistics_th_domestic_amount
+                        WHEN o.logistics_th_domestic_currency = 'THB'
+                            THEN ROUND(o.logistics_th_domestic_amount * o.krw_per_thb, 2) END)
+           END AS net_krw) p;
@@ -0,0 +1,24 @@
+-- =============================================================
+-- V40__blob_promotion.sql
+-- temp → 영구 키 이동(promotion) 작업 큐.
+-- 주문 트랜잭션은 영구 키를 주문/상품에 바로 기록하고 여기에 이동할 쌍만 남긴다.
+-- 실제 S3 copy + delete 는 커밋 후 비동기로 병렬 실행 (BlobPromotionService).
+-- 성공한 행은 삭제. 실패하면 attempts/next_attempt_at 갱신 → 1분 주기 스윕이 재시도,
+-- 최대 시도 초과 시 FAILED 로 남겨 수동 확인.
+-- =============================================================
+
+CREATE TABLE blob_promotion (
+    id              BIGSERIAL     PRIMARY KEY,
+    source_key      VARCHAR(255)  NOT NULL,
+    target_key      VARCHAR(255)  NOT NULL UNIQUE,
+    status          VARCHAR(16)   NOT NULL,            -- 'PENDING' | 'FAILED'
+    attempts        INT           NOT NULL DEFAULT 0,
+    last_error      TEXT,
+    next_attempt_at TIMESTAMPTZ   NOT NULL,
+    created_at      TIMESTAMPTZ   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_blob_promotion_due
+    ON blob_promotion (status, next_attempt_at);
+CREATE INDEX idx_blob_promotion_source
+    ON blob_promotion (source_key);
@@ -0,0 +1,22 @@
+-- =============================================================
+-- V41__cas_blob.sql
+-- 내용 주소(content-addressed) 저장소 메타데이터 (hauly.storage.cas.enabled).
+-- 객체는 S3 키 cas/{sha256 hex} 에 한 번만 저장되고, 주문/증빙이 그 키를 직접 참조한다.
+-- ref_count = 그 키를 참조하는 주문 이미지 수. 주문 생성 시 +n, 주문 삭제 시 -n.
+-- 업로드만 되고 아직 참조 없는 행(ref_count=0)은 unreferenced_since 로부터 유예 후 GC 가
+-- 행 → 객체(+파생 이미지) 순으로 지운다 (ContentAddressedStorageService#collectGarbage).
+-- =============================================================
+
+CREATE TABLE cas_blob (
+    hash               VARCHAR(64)   PRIMARY KEY,          -- 소문자 hex SHA-256
+    content_type       VARCHAR(64)   NOT NULL,
+    content_length     BIGINT        NOT NULL,
+    ref_count          INT           NOT NULL DEFAULT 0 CHECK (ref_count >= 0),
+    unreferenced_since TIMESTAMPTZ,                        -- ref_count = 0 이 된 시각, 참조 중이면 NULL
+    created_at         TIMESTAMPTZ   NOT NULL DEFAULT now()
+);
+
+-- GC 후보만 담는 부분 인덱스
+CREATE INDEX idx_cas_blob_unreferenced
+    ON cas_blob (unreferenced_since)
+    WHERE ref_count = 0;
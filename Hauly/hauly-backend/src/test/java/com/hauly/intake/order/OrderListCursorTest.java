@@ -0,0 +1,68 @@
+package com.hauly.intake.order;
+
+import com.hauly.intake.order.application.query.OrderListCursor;
+import com.hauly.intake.order.domain.model.FulfillmentStatus;
+import com.hauly.intake.order.domain.repository.OrderKeyset;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderListCursorTest {
+
+    @Test
+    void decode_blankCursor_returnsFirstPage() {
+        OrderKeyset keyset = OrderListCursor.decode(" ", OrderKeyset.SortField.CREATED_AT, false);
+
+        assertThat(keyset.isFirstPage()).isTrue();
+        assertThat(keyset.field()).isEqualTo(OrderKeyset.SortField.CREATED_AT);
+    }
+
+    @Test
+    void roundTrip_createdAt_preservesValueAndId() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2026-03-01T10:15:30.123456+09:00");
+        String cursor = OrderListCursor.encode(OrderKeyset.SortField.CREATED_AT, false, 42L, createdAt);
+
+        OrderKeyset keyset = OrderListCursor.decode(cursor, OrderKeyset.SortField.CREATED_AT, false);
+
+        assertThat(keyset.afterId()).isEqualTo(42L);
+        assertThat(keyset.afterValue()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void roundTrip_orderNoWithSeparator_preservesValue() {
+        String cursor = OrderListCursor.encode(OrderKeyset.SortField.ORDER_NO, true, 7L, "HL|2026-0001");
+
+        OrderKeyset keyset = OrderListCursor.decode(cursor, OrderKeyset.SortField.ORDER_NO, true);
+
+        assertThat(keyset.afterValue()).isEqualTo("HL|2026-0001");
+    }
+
+    @Test
+    void roundTrip_fulfillmentStatus_returnsEnum() {
+        FulfillmentStatus status = FulfillmentStatus.values()[0];
+        String cursor = OrderListCursor.encode(OrderKeyset.SortField.FULFILLMENT_STATUS, true, 3L, status);
+
+        OrderKeyset keyset = OrderListCursor.decode(cursor, OrderKeyset.SortField.FULFILLMENT_STATUS, true);
+
+        assertThat(keyset.afterValue()).isEqualTo(status);
+    }
+
+    @Test
+    void decode_differentDirection_throwsMismatch() {
+        String cursor = OrderListCursor.encode(OrderKeyset.SortField.ORDER_NO, true, 7L, "HL-1");
+
+        assertThatThrownBy(() -> OrderListCursor.decode(cursor, OrderKeyset.SortField.ORDER_NO, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cursor_sort_mismatch");
+    }
+
+    @Test
+    void decode_garbage_throwsInvalidCursor() {
+        assertThatThrownBy(() -> OrderListCursor.decode("%%%not-base64", OrderKeyset.SortField.CREATED_AT, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid_cursor");
+    }
+}
@@ -0,0 +1,213 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.application.BlobPromotionService;
+import com.hauly.platform.storage.domain.BlobMove;
+import com.hauly.platform.storage.domain.event.BlobPromoted;
+import com.hauly.platform.storage.domain.event.BlobPromotionsScheduled;
+import com.hauly.platform.storage.domain.model.BlobPromotion;
+import com.hauly.platform.storage.domain.repository.BlobPromotionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class BlobPromotionServiceTest {
+
+    private static final String SOURCE = "temp/1/a.jpg";
+    private static final String TARGET = "orders/1/items/2/a.jpg";
+    // BlobPromotionService.MAX_ATTEMPTS
+    private static final int MAX_ATTEMPTS = 10;
+
+    private InMemoryPromotions repository;
+    private InMemoryBlobStorage storage;
+    private List<Object> events;
+    private BlobPromotionService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPromotions();
+        storage = new InMemoryBlobStorage();
+        events = new CopyOnWriteArrayList<>();
+        service = new BlobPromotionService(repository, storage, events::add, 4);
+    }
+
+    @Test
+    void schedule_recordsRowsAndPublishesWithoutTouchingStorage() {
+        // 존재 확인은 requireSources 에서 끝났으므로 트랜잭션 안에서는 스토리지를 보지 않는다.
+        service.schedule(List.of(new BlobMove(SOURCE, TARGET)));
+
+        BlobPromotion row = repository.only();
+        assertThat(row.getStatus()).isEqualTo(BlobPromotion.Status.PENDING);
+        assertThat(row.getNextAttemptAt()).isAfter(OffsetDateTime.now());
+        assertThat(events).containsExactly(new BlobPromotionsScheduled(
+                List.of(new BlobPromotionsScheduled.Item(row.getId(), SOURCE, TARGET))));
+    }
+
+    @Test
+    void requireSources_allPresent_passes() {
+        storage.store(SOURCE, "image");
+        storage.store("temp/1/b.jpg", "image");
+
+        assertThatCode(() -> service.requireSources(List.of(SOURCE, "temp/1/b.jpg", "cas/" + "a".repeat(64))))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void requireSources_sourceAlreadySwept_rejected() {
+        storage.store(SOURCE, "image");
+
+        assertThatThrownBy(() -> service.requireSources(List.of(SOURCE, "temp/1/gone.jpg")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("temp/1/gone.jpg");
+    }
+
+    @Test
+    void sweep_duePendingRow_movedAndDeleted() {
+        storage.store(SOURCE, "image");
+        repository.save(BlobPromotion.pending(SOURCE, TARGET, OffsetDateTime.now().minusMinutes(1)));
+
+        service.sweep();
+
+        assertThat(storage.keys()).containsExactly(TARGET);
+        assertThat(repository.rows).isEmpty();
+        assertThat(events).containsExactly(new BlobPromoted(TARGET));
+    }
+
+    @Test
+    void sweep_rowNotYetDue_leftAlone() {
+        storage.store(SOURCE, "image");
+        repository.save(BlobPromotion.pending(SOURCE, TARGET, OffsetDateTime.now().plusMinutes(5)));
+
+        service.sweep();
+
+        assertThat(storage.keys()).containsExactly(SOURCE);
+        assertThat(repository.rows).hasSize(1);
+    }
+
+    @Test
+    void sweep_afterPartialMove_completesWithoutCopying() {
+        // 이전 실행에서 복사·원본 삭제까지 끝났지만 행 삭제가 유실된 상태.
+        storage.store(TARGET, "image");
+        repository.save(BlobPromotion.pending(SOURCE, TARGET, OffsetDateTime.now().minusMinutes(1)));
+        storage.failCopies(Integer.MAX_VALUE);
+
+        service.sweep();
+
+        assertThat(storage.keys()).containsExactly(TARGET);
+        assertThat(repository.rows).isEmpty();
+        assertThat(events).containsExactly(new BlobPromoted(TARGET));
+    }
+
+    @Test
+    void sweep_transientCopyFailure_succeedsWithinQuickTries() {
+        storage.store(SOURCE, "image");
+        repository.save(BlobPromotion.pending(SOURCE, TARGET, OffsetDateTime.now().minusMinutes(1)));
+        storage.failCopies(2);
+
+        service.sweep();
+
+        assertThat(storage.keys()).containsExactly(TARGET);
+        assertThat(repository.rows).isEmpty();
+    }
+
+    @Test
+    void sweep_persistentFailure_recordsAttemptAndBacksOff() {
+        storage.store(SOURCE, "image");
+        repository.save(BlobPromotion.pending(SOURCE, TARGET, OffsetDateTime.now().minusMinutes(1)));
+        storage.failCopies(Integer.MAX_VALUE);
+
+        service.sweep();
+
+        BlobPromotion row = repository.only();
+        assertThat(row.getStatus()).isEqualTo(BlobPromotion.Status.PENDING);
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(row.getLastError()).contains("copy failed");
+        assertThat(row.getNextAttemptAt())
+                .isCloseTo(OffsetDateTime.now().plusMinutes(1), within(10, ChronoUnit.SECONDS));
+        assertThat(storage.keys()).containsExactly(SOURCE);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void sweep_failureOnLastAttempt_marksFailedAndKeepsSource() {
+        storage.store(SOURCE, "image");
+        BlobPromotion p = BlobPromotion.pending(SOURCE, TARGET, OffsetDateTime.now().minusMinutes(1));
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            p.recordFailure("earlier", OffsetDateTime.now().minusMinutes(1), MAX_ATTEMPTS);
+        }
+        repository.save(p);
+        storage.failCopies(Integer.MAX_VALUE);
+
+        service.sweep();
+
+        BlobPromotion row = repository.only();
+        assertThat(row.getStatus()).isEqualTo(BlobPromotion.Status.FAILED);
+        assertThat(row.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(storage.exists(SOURCE)).isTrue();
+
+        // FAILED 행은 더 이상 스윕 대상이 아니다.
+        storage.failCopies(0);
+        service.sweep();
+        assertThat(repository.only().getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    /** Map-backed repository; ids are assigned on first save as the IDENTITY column would. */
+    private static final class InMemoryPromotions implements BlobPromotionRepository {
+
+        final Map<Long, BlobPromotion> rows = new ConcurrentHashMap<>();
+        private final AtomicLong ids = new AtomicLong();
+
+        BlobPromotion only() {
+            assertThat(rows).hasSize(1);
+            return rows.values().iterator().next();
+        }
+
+        @Override
+        public BlobPromotion save(BlobPromotion promotion) {
+            if (promotion.getId() == null) {
+                ReflectionTestUtils.setField(promotion, "id", ids.incrementAndGet());
+            }
+            rows.put(promotion.getId(), promotion);
+            return promotion;
+        }
+
+        @Override
+        public Optional<BlobPromotion> findById(Long id) {
+            return Optional.ofNullable(rows.get(id));
+        }
+
+        @Override
+        public List<BlobPromotion> findDue(OffsetDateTime now, int limit) {
+            return rows.values().stream()
+                    .filter(p -> p.getStatus() == BlobPromotion.Status.PENDING && !p.getNextAttemptAt().isAfter(now))
+                    .sorted(Comparator.comparing(BlobPromotion::getNextAttemptAt))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public List<String> findSourceKeysIn(Collection<String> sourceKeys) {
+            return rows.values().stream().map(BlobPromotion::getSourceKey).filter(sourceKeys::contains).toList();
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            rows.remove(id);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.domain.model.BlobPromotion;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlobPromotionTest {
+
+    private final OffsetDateTime now = OffsetDateTime.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void pending_startsWithNoAttempts() {
+        BlobPromotion p = BlobPromotion.pending("temp/1/a.jpg", "orders/1/items/2/a.jpg", now);
+
+        assertThat(p.getStatus()).isEqualTo(BlobPromotion.Status.PENDING);
+        assertThat(p.getAttempts()).isZero();
+        assertThat(p.getNextAttemptAt()).isEqualTo(now);
+    }
+
+    @Test
+    void recordFailure_belowMax_staysPendingAndReschedules() {
+        BlobPromotion p = BlobPromotion.pending("temp/1/a.jpg", "orders/1/items/2/a.jpg", now);
+
+        p.recordFailure("timeout", now.plusMinutes(2), 3);
+
+        assertThat(p.getStatus()).isEqualTo(BlobPromotion.Status.PENDING);
+        assertThat(p.getAttempts()).isEqualTo(1);
+        assertThat(p.getNextAttemptAt()).isEqualTo(now.plusMinutes(2));
+        assertThat(p.getLastError()).isEqualTo("timeout");
+    }
+
+    @Test
+    void recordFailure_reachingMax_marksFailed() {
+        BlobPromotion p = BlobPromotion.pending("temp/1/a.jpg", "orders/1/items/2/a.jpg", now);
+
+        p.recordFailure("e1", now, 2);
+        p.recordFailure("e2", now, 2);
+
+        assertThat(p.getStatus()).isEqualTo(BlobPromotion.Status.FAILED);
+        assertThat(p.getLastError()).isEqualTo("e2");
+    }
+
+    @Test
+    void recordFailure_longError_isTruncated() {
+        BlobPromotion p = BlobPromotion.pending("temp/1/a.jpg", "orders/1/items/2/a.jpg", now);
+
+        p.recordFailure("x".repeat(5000), now, 10);
+
+        assertThat(p.getLastError()).hasSize(1000);
+    }
+}
@@ -0,0 +1,139 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.domain.BlobEntry;
+import com.hauly.platform.storage.domain.BlobMetadata;
+import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.PresignedUpload;
+import com.hauly.platform.storage.infrastructure.CachingBlobStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingBlobStorageTest {
+
+    private CountingStorage delegate;
+    private SimpleMeterRegistry registry;
+    private CachingBlobStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingStorage();
+        registry = new SimpleMeterRegistry();
+        storage = new CachingBlobStorage(delegate, Duration.ofHours(1), Duration.ofMinutes(5), 100, registry);
+    }
+
+    @Test
+    void presignedGetUrl_sameKeyTwice_signsOnceWithIssueTtl() {
+        String first = storage.presignedGetUrl("orders/1/a.jpg", Duration.ofMinutes(15));
+        String second = storage.presignedGetUrl("orders/1/a.jpg", Duration.ofMinutes(15));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(delegate.signedTtls).containsExactly(Duration.ofHours(1));
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void presignedGetUrl_requestedTtlBeyondCachedExpiry_resigns() {
+        storage.presignedGetUrl("orders/1/a.jpg", Duration.ofMinutes(15));
+
+        storage.presignedGetUrl("orders/1/a.jpg", Duration.ofHours(2));
+
+        assertThat(delegate.signedTtls).containsExactly(Duration.ofHours(1), Duration.ofHours(2));
+        assertThat(registry.get("blob.presigned-url.resigned").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void delete_invalidatesCachedUrl() {
+        storage.presignedGetUrl("orders/1/a.jpg", Duration.ofMinutes(15));
+
+        storage.delete("orders/1/a.jpg");
+        storage.presignedGetUrl("orders/1/a.jpg", Duration.ofMinutes(15));
+
+        assertThat(delegate.signedTtls).hasSize(2);
+    }
+
+    @Test
+    void copy_invalidatesDestinationOnly() {
+        storage.presignedGetUrl("temp/1/a.jpg", Duration.ofMinutes(15));
+        storage.presignedGetUrl("orders/1/a.jpg", Duration.ofMinutes(15));
+
+        storage.copy("temp/1/a.jpg", "orders/1/a.jpg");
+        storage.presignedGetUrl("temp/1/a.jpg", Duration.ofMinutes(15));
+        storage.presignedGetUrl("orders/1/a.jpg", Duration.ofMinutes(15));
+
+        assertThat(delegate.signedTtls).hasSize(3);
+    }
+
+    @Test
+    void constructor_marginNotShorterThanIssueTtl_throws() {
+        assertThatThrownBy(() -> new CachingBlobStorage(
+                delegate, Duration.ofMinutes(5), Duration.ofMinutes(5), 100, registry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** Records every signing call; each URL is unique so reuse is observable. */
+    private static final class CountingStorage implements BlobStorage {
+
+        final List<Duration> signedTtls = new ArrayList<>();
+
+        @Override
+        public void put(String key, InputStream data, long contentLength, String contentType) {
+        }
+
+        @Override
+        public InputStream get(String key) {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public String presignedGetUrl(String key, Duration ttl) {
+            signedTtls.add(ttl);
+            return "https://bucket.example/" + key + "?sig=" + signedTtls.size();
+        }
+
+        @Override
+        public PresignedUpload presignedPut(String key, String contentType, long contentLength, String sha256,
+                                            Duration ttl) {
+            return new PresignedUpload("https://bucket.example/" + key + "?put", java.util.Map.of());
+        }
+
+        @Override
+        public void copy(String sourceKey, String destinationKey) {
+        }
+
+        @Override
+        public void delete(String key) {
+        }
+
+        @Override
+        public int deleteAll(Collection<String> keys) {
+            return keys.size();
+        }
+
+        @Override
+        public Stream<BlobEntry> list(String prefix) {
+            return Stream.empty();
+        }
+
+        @Override
+        public boolean exists(String key) {
+            return true;
+        }
+
+        @Override
+        public Optional<BlobMetadata> head(String key) {
+            return Optional.of(new BlobMetadata(1L, "image/jpeg"));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.domain.ImageDerivative;
+import com.hauly.platform.storage.domain.model.CasBlob;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CasBlobTest {
+
+    private static final String HASH = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    @Test
+    void keyOf_roundTripsThroughHashOf() {
+        String key = CasBlob.keyOf(HASH);
+
+        assertThat(key).isEqualTo("cas/" + HASH);
+        assertThat(CasBlob.isContentKey(key)).isTrue();
+        assertThat(CasBlob.hashOf(key)).isEqualTo(HASH);
+    }
+
+    @Test
+    void keyOf_rejectsUppercaseOrShortHash() {
+        assertThatThrownBy(() -> CasBlob.keyOf(HASH.toUpperCase()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CasBlob.keyOf(HASH.substring(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void isContentKey_excludesTempAndDerivativeKeys() {
+        assertThat(CasBlob.isContentKey("temp/1/" + HASH)).isFalse();
+        assertThat(CasBlob.isContentKey(ImageDerivative.THUMBNAIL.keyFor("cas/" + HASH))).isFalse();
+        assertThat(CasBlob.isContentKey("cas/../" + HASH)).isFalse();
+        assertThat(CasBlob.isContentKey(null)).isFalse();
+    }
+}
@@ -0,0 +1,220 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.application.ContentAddressedStorageService;
+import com.hauly.platform.storage.domain.BlobMetadata;
+import com.hauly.platform.storage.domain.ImageDerivative;
+import com.hauly.platform.storage.domain.event.ContentBlobStored;
+import com.hauly.platform.storage.domain.model.CasBlob;
+import com.hauly.platform.storage.domain.repository.CasBlobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentAddressedStorageServiceTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String KEY = CasBlob.keyOf(HASH);
+    private static final Duration GRACE = Duration.ofDays(1);
+
+    private InMemoryCasBlobs repository;
+    private InMemoryBlobStorage storage;
+    private SimpleMeterRegistry registry;
+    private List<Object> events;
+    private ContentAddressedStorageService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryCasBlobs();
+        storage = new InMemoryBlobStorage();
+        registry = new SimpleMeterRegistry();
+        events = new ArrayList<>();
+        service = new ContentAddressedStorageService(repository, storage, events::add, registry, true, GRACE);
+
+        storage.store(KEY, "image");
+        storage.store(ImageDerivative.THUMBNAIL.keyFor(KEY), "thumb");
+        storage.store(ImageDerivative.DISPLAY.keyFor(KEY), "display");
+    }
+
+    @Test
+    void confirmUpload_registersOnceAndPublishesOnce() {
+        service.confirmUpload(KEY, new BlobMetadata(5, "image/jpeg"));
+        service.confirmUpload(KEY, new BlobMetadata(5, "image/jpeg"));
+
+        assertThat(repository.refCount(HASH)).isZero();
+        assertThat(events).containsExactly(new ContentBlobStored(KEY, "image/jpeg"));
+    }
+
+    @Test
+    void retain_countsEveryOccurrence() {
+        service.confirmUpload(KEY, new BlobMetadata(5, "image/jpeg"));
+
+        service.retain(List.of(KEY, KEY));
+
+        assertThat(repository.refCount(HASH)).isEqualTo(2);
+    }
+
+    @Test
+    void retain_unknownKey_throws() {
+        assertThatThrownBy(() -> service.retain(List.of(KEY)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(KEY);
+    }
+
+    @Test
+    void release_moreThanHeld_leavesCountUntouched() {
+        service.confirmUpload(KEY, new BlobMetadata(5, "image/jpeg"));
+        service.retain(List.of(KEY));
+
+        service.release(List.of(KEY, KEY));
+
+        assertThat(repository.refCount(HASH)).isEqualTo(1);
+    }
+
+    @Test
+    void collectGarbage_referencedBlob_kept() {
+        service.confirmUpload(KEY, new BlobMetadata(5, "image/jpeg"));
+        service.retain(List.of(KEY, KEY));
+        service.release(List.of(KEY));
+        repository.age(HASH, GRACE.multipliedBy(2));
+
+        service.collectGarbage();
+
+        assertThat(repository.refCount(HASH)).isEqualTo(1);
+        assertThat(storage.exists(KEY)).isTrue();
+    }
+
+    @Test
+    void collectGarbage_releasedToZeroWithinGrace_kept() {
+        service.confirmUpload(KEY, new BlobMetadata(5, "image/jpeg"));
+        service.retain(List.of(KEY));
+        service.release(List.of(KEY));
+
+        service.collectGarbage();
+
+        assertThat(repository.refCount(HASH)).isZero();
+        assertThat(storage.exists(KEY)).isTrue();
+    }
+
+    @Test
+    void collectGarbage_releasedToZeroPastGrace_deletesRowObjectAndDerivatives() {
+        service.confirmUpload(KEY, new BlobMetadata(5, "image/jpeg"));
+        service.retain(List.of(KEY));
+        service.release(List.of(KEY));
+        repository.age(HASH, GRACE.multipliedBy(2));
+
+        service.collectGarbage();
+
+        assertThat(repository.isRegistered(HASH)).isFalse();
+        assertThat(storage.keys()).isEmpty();
+        assertThat(registry.counter("blob.cas.collected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void collectGarbage_retainedAgainAfterRelease_kept() {
+        service.confirmUpload(KEY, new BlobMetadata(5, "image/jpeg"));
+        service.retain(List.of(KEY));
+        service.release(List.of(KEY));
+        repository.age(HASH, GRACE.multipliedBy(2));
+        service.retain(List.of(KEY));
+
+        service.collectGarbage();
+
+        assertThat(repository.refCount(HASH)).isEqualTo(1);
+        assertThat(storage.exists(KEY)).isTrue();
+    }
+
+    /** Mirrors the conditional updates of JpaCasBlobRepository on a map. */
+    private static final class InMemoryCasBlobs implements CasBlobRepository {
+
+        private static final class Row {
+            int refCount;
+            OffsetDateTime unreferencedSince = OffsetDateTime.now();
+        }
+
+        private final Map<String, Row> rows = new HashMap<>();
+
+        int refCount(String hash) {
+            return rows.get(hash).refCount;
+        }
+
+        boolean isRegistered(String hash) {
+            return rows.containsKey(hash);
+        }
+
+        /** Backdate the unreferenced-since mark, as if the grace period had been running that long. */
+        void age(String hash, Duration by) {
+            Row row = rows.get(hash);
+            row.unreferencedSince = row.unreferencedSince.minus(by);
+        }
+
+        @Override
+        public Optional<CasBlob> findById(String hash) {
+            throw new UnsupportedOperationException("not needed by these tests");
+        }
+
+        @Override
+        public int insertIfAbsent(String hash, String contentType, long contentLength) {
+            return rows.putIfAbsent(hash, new Row()) == null ? 1 : 0;
+        }
+
+        @Override
+        public int touchUnreferenced(String hash) {
+            Row row = rows.get(hash);
+            if (row == null || row.refCount > 0) return 0;
+            row.unreferencedSince = OffsetDateTime.now();
+            return 1;
+        }
+
+        @Override
+        public int retain(String hash, int count) {
+            Row row = rows.get(hash);
+            if (row == null) return 0;
+            row.refCount += count;
+            row.unreferencedSince = null;
+            return 1;
+        }
+
+        @Override
+        public int release(String hash, int count) {
+            Row row = rows.get(hash);
+            if (row == null || row.refCount < count) return 0;
+            row.refCount -= count;
+            if (row.refCount == 0) row.unreferencedSince = OffsetDateTime.now();
+            return 1;
+        }
+
+        @Override
+        public List<String> findCollectable(OffsetDateTime before, int limit) {
+            return rows.entrySet().stream()
+                    .filter(e -> collectable(e.getValue(), before))
+                    .sorted(Comparator.comparing(e -> e.getValue().unreferencedSince))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        @Override
+        public int deleteIfCollectable(String hash, OffsetDateTime before) {
+            Row row = rows.get(hash);
+            if (row == null || !collectable(row, before)) return 0;
+            rows.remove(hash);
+            return 1;
+        }
+
+        private static boolean collectable(Row row, OffsetDateTime before) {
+            return row.refCount == 0 && row.unreferencedSince.isBefore(before);
+        }
+    }
+}
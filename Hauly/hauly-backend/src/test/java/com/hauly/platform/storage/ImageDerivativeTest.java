@@ -0,0 +1,90 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.application.ImageDerivativeService;
+import com.hauly.platform.storage.domain.ImageDerivative;
+import com.hauly.platform.storage.domain.event.BlobPromoted;
+import com.hauly.platform.storage.domain.event.ContentBlobStored;
+import com.hauly.platform.storage.domain.service.ImageResizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageDerivativeTest {
+
+    @Test
+    void keyFor_replacesExtensionWithSuffix() {
+        assertThat(ImageDerivative.THUMBNAIL.keyFor("orders/1/items/2/abc.heic"))
+                .isEqualTo("orders/1/items/2/abc.thumb.jpg");
+        assertThat(ImageDerivative.DISPLAY.keyFor("orders/1.x/proof/abc"))
+                .isEqualTo("orders/1.x/proof/abc.display.jpg");
+    }
+
+    @Test
+    void isDerivativeKey_onlyForGeneratedKeys() {
+        assertThat(ImageDerivative.isDerivativeKey("orders/1/items/2/abc.thumb.jpg")).isTrue();
+        assertThat(ImageDerivative.isDerivativeKey("orders/1/items/2/abc.jpg")).isFalse();
+    }
+
+    @Test
+    void fit_largeImage_scalesLongestEdgeKeepingAspect() {
+        BufferedImage scaled = ImageResizer.fit(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 320);
+
+        assertThat(scaled.getWidth()).isEqualTo(320);
+        assertThat(scaled.getHeight()).isEqualTo(240);
+    }
+
+    @Test
+    void fit_smallImage_neverUpscales() {
+        BufferedImage scaled = ImageResizer.fit(new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB), 320);
+
+        assertThat(scaled.getWidth()).isEqualTo(200);
+        assertThat(scaled.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Test
+    void decode_subsamplesToAtLeastTargetEdge() throws Exception {
+        byte[] jpeg = ImageResizer.encodeJpeg(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), 0.8f);
+
+        BufferedImage decoded = ImageResizer.decode(jpeg, 600);
+
+        assertThat(decoded.getWidth()).isBetween(600, 1000);
+    }
+
+    @Test
+    void decode_unknownFormat_returnsNull() throws Exception {
+        assertThat(ImageResizer.decode("not an image".getBytes(), 320)).isNull();
+    }
+
+    @Test
+    void decode_exifIfdOffsetOutOfRange_keepsImageAsIs() throws Exception {
+        byte[] jpeg = ImageResizer.encodeJpeg(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), 0.8f);
+        // APP1 "Exif" 세그먼트: 빅엔디언 TIFF 헤더, IFD 오프셋 0xFFFFFFF0 (int 로 자르면 음수).
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x10, 'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0};
+        byte[] withExif = new byte[jpeg.length + app1.length];
+        System.arraycopy(jpeg, 0, withExif, 0, 2);
+        System.arraycopy(app1, 0, withExif, 2, app1.length);
+        System.arraycopy(jpeg, 2, withExif, 2 + app1.length, jpeg.length - 2);
+
+        BufferedImage decoded = ImageResizer.decode(withExif, 320);
+
+        assertThat(decoded.getWidth()).isEqualTo(40);
+        assertThat(decoded.getHeight()).isEqualTo(20);
+    }
+
+    @Test
+    void onPromoted_formatWithoutReader_skippedBeforeDownload() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // 원본이 없으니 내려받으려 했다면 error 로 기록됐을 것이다.
+        ImageDerivativeService service = new ImageDerivativeService(new InMemoryBlobStorage(), registry, 1, 1);
+
+        service.onPromoted(new BlobPromoted("orders/1/items/2/abc.heic"));
+        service.onContentStored(new ContentBlobStored("cas/" + "a".repeat(64), "image/heic"));
+
+        assertThat(registry.get("blob.derivatives").tag("result", "unsupported").timer().count()).isEqualTo(2);
+    }
+}
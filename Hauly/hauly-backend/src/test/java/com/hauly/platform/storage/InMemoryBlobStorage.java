@@ -0,0 +1,113 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.domain.BlobEntry;
+import com.hauly.platform.storage.domain.BlobMetadata;
+import com.hauly.platform.storage.domain.BlobStorage;
+import com.hauly.platform.storage.domain.PresignedUpload;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/** Map-backed {@link BlobStorage} for service tests; {@link #failCopies} injects copy failures. */
+final class InMemoryBlobStorage implements BlobStorage {
+
+    private record Stored(byte[] data, String contentType, Instant lastModified) {
+    }
+
+    private final Map<String, Stored> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger failingCopies = new AtomicInteger();
+
+    /** Put raw bytes, as a direct upload would. */
+    void store(String key, String content) {
+        store(key, content, Instant.now());
+    }
+
+    void store(String key, String content, Instant lastModified) {
+        objects.put(key, new Stored(content.getBytes(), "application/octet-stream", lastModified));
+    }
+
+    /** The next {@code n} {@link #copy} calls throw, as an unreachable store would. */
+    void failCopies(int n) {
+        failingCopies.set(n);
+    }
+
+    Collection<String> keys() {
+        return List.copyOf(objects.keySet());
+    }
+
+    @Override
+    public void put(String key, InputStream data, long contentLength, String contentType) {
+        try {
+            objects.put(key, new Stored(data.readAllBytes(), contentType, Instant.now()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        Stored stored = objects.get(key);
+        if (stored == null) throw new IllegalStateException("no such key: " + key);
+        return new ByteArrayInputStream(stored.data());
+    }
+
+    @Override
+    public String presignedGetUrl(String key, Duration ttl) {
+        return "mem://" + key;
+    }
+
+    @Override
+    public PresignedUpload presignedPut(String key, String contentType, long contentLength, String sha256, Duration ttl) {
+        return new PresignedUpload("mem://" + key, Map.of("Content-Type", contentType));
+    }
+
+    @Override
+    public void copy(String sourceKey, String destinationKey) {
+        if (failingCopies.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new IllegalStateException("copy failed: " + sourceKey);
+        }
+        Stored stored = objects.get(sourceKey);
+        if (stored == null) throw new IllegalStateException("no such key: " + sourceKey);
+        objects.put(destinationKey, new Stored(stored.data(), stored.contentType(), Instant.now()));
+    }
+
+    @Override
+    public void delete(String key) {
+        objects.remove(key);
+    }
+
+    @Override
+    public int deleteAll(Collection<String> keys) {
+        keys.forEach(objects::remove);
+        return keys.size();
+    }
+
+    @Override
+    public Stream<BlobEntry> list(String prefix) {
+        return objects.entrySet().stream()
+                .filter(e -> e.getKey().startsWith(prefix))
+                .map(e -> new BlobEntry(e.getKey(), e.getValue().data().length, e.getValue().lastModified()));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return objects.containsKey(key);
+    }
+
+    @Override
+    public Optional<BlobMetadata> head(String key) {
+        return Optional.ofNullable(objects.get(key))
+                .map(s -> new BlobMetadata(s.data().length, s.contentType()));
+    }
+}
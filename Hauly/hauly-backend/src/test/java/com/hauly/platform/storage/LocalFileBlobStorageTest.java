@@ -0,0 +1,137 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.domain.BlobEntry;
+import com.hauly.platform.storage.infrastructure.LocalFileBlobStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LocalFileBlobStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileBlobStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalFileBlobStorage(root);
+    }
+
+    @Test
+    void presignedPut_signatureVerifiesForSameParameters() {
+        Map<String, String> q = query(storage.presignedPut("temp/1/a.jpg", "image/jpeg", 123, null, Duration.ofMinutes(10)).url());
+
+        assertThat(storage.verifyPutSignature("temp/1/a.jpg", Long.parseLong(q.get("expires")),
+                q.get("type"), Long.parseLong(q.get("length")), null, q.get("signature"))).isTrue();
+    }
+
+    @Test
+    void verifyPutSignature_otherKeyTypeOrLength_rejected() {
+        Map<String, String> q = query(storage.presignedPut("temp/1/a.jpg", "image/jpeg", 123, null, Duration.ofMinutes(10)).url());
+        long expires = Long.parseLong(q.get("expires"));
+
+        assertThat(storage.verifyPutSignature("temp/2/a.jpg", expires, "image/jpeg", 123, null, q.get("signature"))).isFalse();
+        assertThat(storage.verifyPutSignature("temp/1/a.jpg", expires, "image/png", 123, null, q.get("signature"))).isFalse();
+        assertThat(storage.verifyPutSignature("temp/1/a.jpg", expires, "image/jpeg", 999, null, q.get("signature"))).isFalse();
+    }
+
+    @Test
+    void verifyPutSignature_expired_rejected() {
+        Map<String, String> q = query(storage.presignedPut("temp/1/a.jpg", "image/jpeg", 123, null, Duration.ofSeconds(-5)).url());
+
+        assertThat(storage.verifyPutSignature("temp/1/a.jpg", Long.parseLong(q.get("expires")),
+                "image/jpeg", 123, null, q.get("signature"))).isFalse();
+    }
+
+    @Test
+    void head_reportsSizeOrEmptyWhenAbsent() {
+        storage.put("temp/1/a.jpg", new ByteArrayInputStream(new byte[42]), 42, "image/jpeg");
+
+        assertThat(storage.head("temp/1/a.jpg")).hasValueSatisfying(m -> {
+            assertThat(m.contentLength()).isEqualTo(42);
+            assertThat(m.contentType()).isEqualTo("image/jpeg");
+        });
+        assertThat(storage.head("temp/1/missing.jpg")).isEmpty();
+    }
+
+    @Test
+    void list_returnsFilesUnderPrefixAsKeys() {
+        storage.put("temp/1/a.jpg", new ByteArrayInputStream(new byte[3]), 3, "image/jpeg");
+        storage.put("temp/2/b.png", new ByteArrayInputStream(new byte[5]), 5, "image/png");
+        storage.put("orders/1/c.jpg", new ByteArrayInputStream(new byte[7]), 7, "image/jpeg");
+
+        try (Stream<BlobEntry> listing = storage.list("temp/")) {
+            assertThat(listing.toList())
+                    .extracting(BlobEntry::key, BlobEntry::contentLength)
+                    .containsExactlyInAnyOrder(
+                            tuple("temp/1/a.jpg", 3L),
+                            tuple("temp/2/b.png", 5L));
+        }
+        try (Stream<BlobEntry> listing = storage.list("missing/")) {
+            assertThat(listing).isEmpty();
+        }
+    }
+
+    @Test
+    void deleteAll_countsAbsentKeysAsDeleted() {
+        storage.put("temp/1/a.jpg", new ByteArrayInputStream(new byte[3]), 3, "image/jpeg");
+
+        assertThat(storage.deleteAll(List.of("temp/1/a.jpg", "temp/1/missing.jpg"))).isEqualTo(2);
+        assertThat(storage.exists("temp/1/a.jpg")).isFalse();
+    }
+
+    @Test
+    void putVerified_wrongDigest_leavesExistingObjectIntact() throws Exception {
+        byte[] original = "shared".getBytes(StandardCharsets.UTF_8);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(original));
+        storage.put("cas/" + hash, new ByteArrayInputStream(original), original.length, "image/jpeg");
+
+        assertThat(storage.putVerified("cas/" + hash, new ByteArrayInputStream(new byte[]{1, 2, 3}), hash)).isFalse();
+
+        try (InputStream in = storage.get("cas/" + hash)) {
+            assertThat(in.readAllBytes()).isEqualTo(original);
+        }
+        try (Stream<Path> staged = Files.list(root.resolve(".staging"))) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
+    @Test
+    void putVerified_matchingDigest_storesUnderKey() throws Exception {
+        byte[] body = "fresh".getBytes(StandardCharsets.UTF_8);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+
+        assertThat(storage.putVerified("cas/" + hash, new ByteArrayInputStream(body), hash)).isTrue();
+
+        try (InputStream in = storage.get("cas/" + hash)) {
+            assertThat(in.readAllBytes()).isEqualTo(body);
+        }
+    }
+
+    private static Map<String, String> query(String url) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : url.substring(url.indexOf('?') + 1).split("&")) {
+            int eq = pair.indexOf('=');
+            params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
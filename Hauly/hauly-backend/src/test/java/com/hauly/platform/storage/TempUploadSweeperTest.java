@@ -0,0 +1,105 @@
+package com.hauly.platform.storage;
+
+import com.hauly.platform.storage.application.TempUploadSweeper;
+import com.hauly.platform.storage.domain.model.BlobPromotion;
+import com.hauly.platform.storage.domain.repository.BlobPromotionRepository;
+import com.hauly.platform.storage.infrastructure.LocalFileBlobStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TempUploadSweeperTest {
+
+    @TempDir
+    Path root;
+
+    private final Instant now = Instant.parse("2026-01-02T00:00:00Z");
+    private LocalFileBlobStorage storage;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalFileBlobStorage(root);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void sweep_deletesExpiredTempOnly() throws Exception {
+        upload("temp/1/old.jpg", now.minus(Duration.ofHours(30)));
+        upload("temp/1/fresh.jpg", now.minus(Duration.ofHours(1)));
+        upload("orders/1/items/2/old.jpg", now.minus(Duration.ofHours(30)));
+
+        int deleted = sweeper(Set.of()).sweepOlderThan(now.minus(Duration.ofDays(1)));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(storage.exists("temp/1/old.jpg")).isFalse();
+        assertThat(storage.exists("temp/1/fresh.jpg")).isTrue();
+        assertThat(storage.exists("orders/1/items/2/old.jpg")).isTrue();
+        assertThat(registry.get("blob.temp-sweep.scanned").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void sweep_keepsSourcesOfPendingPromotions() throws Exception {
+        upload("temp/1/moving.jpg", now.minus(Duration.ofHours(30)));
+        upload("temp/1/orphan.jpg", now.minus(Duration.ofHours(30)));
+
+        sweeper(Set.of("temp/1/moving.jpg")).sweepOlderThan(now.minus(Duration.ofDays(1)));
+
+        assertThat(storage.exists("temp/1/moving.jpg")).isTrue();
+        assertThat(storage.exists("temp/1/orphan.jpg")).isFalse();
+        assertThat(registry.get("blob.temp-sweep.retained").counter().count()).isEqualTo(1.0);
+    }
+
+    private TempUploadSweeper sweeper(Set<String> promotionSources) {
+        return new TempUploadSweeper(storage, new SourceKeysOnly(promotionSources), registry, Duration.ofDays(1));
+    }
+
+    private void upload(String key, Instant lastModified) throws Exception {
+        storage.put(key, new ByteArrayInputStream(new byte[4]), 4, "image/jpeg");
+        Files.setLastModifiedTime(root.resolve(key), FileTime.from(lastModified));
+    }
+
+    /** Only answers which temp keys still have a promotion row. */
+    private record SourceKeysOnly(Set<String> sources) implements BlobPromotionRepository {
+
+        @Override
+        public List<String> findSourceKeysIn(Collection<String> sourceKeys) {
+            return sourceKeys.stream().filter(sources::contains).toList();
+        }
+
+        @Override
+        public BlobPromotion save(BlobPromotion promotion) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<BlobPromotion> findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<BlobPromotion> findDue(OffsetDateTime now, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}